@@ -0,0 +1,46 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Runs all (or the matching) benchmarks in throughput mode with the GC profiler enabled, which
+ * reports the allocation rate next to the operations per second.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BenchmarkRunner
+{
+    /**
+     * Private due to utility class.
+     */
+    private BenchmarkRunner ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Start the benchmarks.
+     *
+     * @param args Optional regular expression to select benchmarks, e.g. "PadGrid"
+     * @throws RunnerException Error running the benchmarks
+     */
+    public static void main (final String [] args) throws RunnerException
+    {
+        final Options options = new OptionsBuilder ().include (args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage ().getName () + ".*").addProfiler (GCProfiler.class).timeUnit (TimeUnit.SECONDS).warmupIterations (3).warmupTime (TimeValue.seconds (1)).measurementIterations (5).measurementTime (TimeValue.seconds (1)).forks (1).resultFormat (ResultFormatType.CSV).result ("benchmark-results.csv").build ();
+        new Runner (options).run ();
+    }
+}
@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.daw.DAWColors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures the lookup of the nearest DAW color ID, which is done for each track and clip color on
+ * every flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class DAWColorsBenchmark
+{
+    private int step;
+
+
+    /**
+     * Lookup a different color on each call.
+     *
+     * @return The color ID
+     */
+    @Benchmark
+    public String getColorIndex ()
+    {
+        this.step++;
+        return DAWColors.getColorIndex ((this.step & 0xFF) / 255.0, (this.step >> 8 & 0xFF) / 255.0, (this.step >> 16 & 0xFF) / 255.0);
+    }
+}
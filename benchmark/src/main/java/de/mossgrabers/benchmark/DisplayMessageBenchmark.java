@@ -0,0 +1,80 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures the encoding of a Push 2 display frame as it is done by the track and device modes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class DisplayMessageBenchmark
+{
+    private static final double [] COLOR  = new double []
+    {
+        0.5,
+        0.2,
+        0.8
+    };
+
+    private final DisplayMessage   reused = new DisplayMessage ();
+    private int                    frame;
+
+
+    /**
+     * A frame of the track mode with 8 channel elements.
+     *
+     * @return The encoded data
+     */
+    @Benchmark
+    public byte [] channelFrame ()
+    {
+        this.frame++;
+        final DisplayMessage message = new DisplayMessage ();
+        for (int i = 0; i < 8; i++)
+            message.addChannelElement ("Menu " + i, i == 0, "Track " + i, ChannelType.AUDIO, COLOR, i == 1, (this.frame + i * 100) % 1024, 512, "-3.2 dB", 512, 512, "C", this.frame % 1024, false, i == 2, false, 1);
+        return message.getData ();
+    }
+
+
+    /**
+     * A frame of the device parameter mode with 8 parameter elements.
+     *
+     * @return The encoded data
+     */
+    @Benchmark
+    public byte [] parameterFrame ()
+    {
+        this.frame++;
+        final DisplayMessage message = new DisplayMessage ();
+        for (int i = 0; i < 8; i++)
+            message.addParameterElement ("Page " + i, i == 0, "Device", ChannelType.EFFECT, COLOR, false, "Param " + i, (this.frame + i * 100) % 1024, "50.0 %", i == 3, 512);
+        return message.getData ();
+    }
+
+
+    /**
+     * A frame of the track mode encoded into a recycled message as done by the Push display.
+     *
+     * @return The encoded data
+     */
+    @Benchmark
+    public byte [] reusedChannelFrame ()
+    {
+        this.frame++;
+        this.reused.reset ();
+        for (int i = 0; i < 8; i++)
+            this.reused.addChannelElement ("Menu " + i, i == 0, "Track " + i, ChannelType.AUDIO, COLOR, i == 1, (this.frame + i * 100) % 1024, 512, "-3.2 dB", 512, 512, "C", this.frame % 1024, false, i == 2, false, 1);
+        return this.reused.getData ();
+    }
+}
@@ -0,0 +1,99 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.fake.MappedFileFrameSink;
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+import de.mossgrabers.controller.push.display.DisplayRenderer;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+
+
+/**
+ * Measures rendering a Push 2 display frame of the device parameter mode into a memory mapped file.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class DisplayRendererBenchmark
+{
+    private static final double [] COLOR   = new double []
+    {
+        0.5,
+        0.2,
+        0.8
+    };
+
+    private final DisplayMessage   message = new DisplayMessage ();
+    private MappedFileFrameSink    sink;
+    private DisplayRenderer        renderer;
+    private int                    frame;
+
+
+    /**
+     * Create the renderer.
+     *
+     * @throws IOException Could not create the file
+     */
+    @Setup(Level.Trial)
+    public void setup () throws IOException
+    {
+        this.sink = new MappedFileFrameSink ();
+        this.renderer = new DisplayRenderer (1024, this.sink);
+    }
+
+
+    /**
+     * Close and delete the file.
+     *
+     * @throws IOException Could not close the file
+     */
+    @TearDown(Level.Trial)
+    public void tearDown () throws IOException
+    {
+        this.sink.close ();
+    }
+
+
+    /**
+     * One knob is turned, only its column is rendered.
+     */
+    @Benchmark
+    public void oneParameterChanged ()
+    {
+        this.render (1);
+    }
+
+
+    /**
+     * All knobs are turned, all columns are rendered.
+     */
+    @Benchmark
+    public void allParametersChanged ()
+    {
+        this.render (8);
+    }
+
+
+    private void render (final int changedParameters)
+    {
+        this.frame++;
+        this.message.reset ();
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = i < changedParameters ? (this.frame + i * 100) % 1024 : 512;
+            this.message.addParameterElement ("Page " + i, i == 0, "Device", ChannelType.EFFECT, COLOR, false, "Param " + i, value, "50.0 %", false, value);
+        }
+        this.renderer.render (this.message.getData ());
+    }
+}
@@ -0,0 +1,53 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Reports the midi messages and bytes which were sent during an iteration as secondary results.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class MidiCounters
+{
+    /** The number of sent midi messages. */
+    public long midiMessages;
+    /** The number of sent midi bytes. */
+    public long midiBytes;
+
+
+    /**
+     * Reset the counters before each iteration.
+     */
+    @Setup(Level.Iteration)
+    public void reset ()
+    {
+        this.midiMessages = 0;
+        this.midiBytes = 0;
+    }
+
+
+    /**
+     * Take over the counts from the output and reset it.
+     *
+     * @param output The output
+     */
+    public void collect (final CountingMidiOutput output)
+    {
+        this.midiMessages += output.getMessages ();
+        this.midiBytes += output.getBytes ();
+        output.reset ();
+    }
+}
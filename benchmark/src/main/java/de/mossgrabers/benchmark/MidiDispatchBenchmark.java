@@ -0,0 +1,180 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.fake.BenchmarkControlSurface;
+import de.mossgrabers.benchmark.fake.BenchmarkView;
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.utils.ButtonEvent;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Measures the dispatching of incoming midi messages to the commands of the active view.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class MidiDispatchBenchmark
+{
+    private static final Integer    VIEW_ID    = Integer.valueOf (0);
+    private static final int        NUM_KNOBS  = 16;
+    private static final int        FIRST_KNOB = 20;
+    private static final int        BUTTON     = 85;
+
+    private CountingHost            host;
+    private BenchmarkControlSurface surface;
+    private Blackhole               blackhole;
+    private int                     step;
+
+
+    /**
+     * Reports the host tasks which were scheduled during an iteration as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HostCounters
+    {
+        /** The number of tasks scheduled with the host. */
+        public long scheduledTasks;
+
+
+        /**
+         * Reset the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset ()
+        {
+            this.scheduledTasks = 0;
+        }
+
+
+        /**
+         * Take over the counts from the host and reset it.
+         *
+         * @param host The host
+         */
+        public void collect (final CountingHost host)
+        {
+            this.scheduledTasks += host.getScheduledTasks ();
+            host.reset ();
+            host.clearScheduledTasks ();
+        }
+    }
+
+
+    /**
+     * Create the surface with one view and register a button and 16 knobs.
+     *
+     * @param bh The JMH blackhole to consume the command executions
+     */
+    @Setup(Level.Trial)
+    public void setup (final Blackhole bh)
+    {
+        this.blackhole = bh;
+
+        final ColorManager colorManager = new ColorManager ();
+        colorManager.registerColor (PadGrid.GRID_OFF, 0);
+        this.host = new CountingHost ();
+        this.surface = new BenchmarkControlSurface (this.host, colorManager, new CountingMidiOutput (), new int []
+        {
+            BUTTON
+        });
+
+        final BenchmarkView view = new BenchmarkView (this.surface);
+        this.surface.getViewManager ().registerView (VIEW_ID, view);
+        this.surface.getViewManager ().setActiveView (VIEW_ID);
+
+        final Integer buttonCommand = Integer.valueOf (1);
+        view.registerTriggerCommand (buttonCommand, new ConsumingTriggerCommand ());
+        this.surface.assignTriggerCommand (BUTTON, buttonCommand);
+
+        for (int i = 0; i < NUM_KNOBS; i++)
+        {
+            final Integer knobCommand = Integer.valueOf (100 + i);
+            view.registerContinuousCommand (knobCommand, value -> this.blackhole.consume (value));
+            this.surface.assignContinuousCommand (FIRST_KNOB + i, knobCommand);
+        }
+    }
+
+
+    /**
+     * A relative encoder tick, sweeping over all knobs.
+     */
+    @Benchmark
+    public void encoderTick ()
+    {
+        this.step++;
+        this.surface.receiveMidi (0xB0, FIRST_KNOB + this.step % NUM_KNOBS, this.step % 2 == 0 ? 1 : 127);
+    }
+
+
+    /**
+     * A button press and release.
+     *
+     * @param counters Collects the scheduled host tasks
+     */
+    @Benchmark
+    public void buttonPressRelease (final HostCounters counters)
+    {
+        this.surface.receiveMidi (0xB0, BUTTON, 127);
+        this.surface.receiveMidi (0xB0, BUTTON, 0);
+        counters.collect (this.host);
+    }
+
+
+    /**
+     * A pad roll, hitting and releasing all pads of the grid.
+     *
+     * @param counters Collects the scheduled host tasks
+     */
+    @Benchmark
+    public void gridNoteOnOff (final HostCounters counters)
+    {
+        this.step++;
+        final int note = 36 + this.step % 64;
+        this.surface.receiveMidi (0x90, note, 100);
+        this.surface.receiveMidi (0x80, note, 0);
+        counters.collect (this.host);
+    }
+
+
+    private class ConsumingTriggerCommand implements TriggerCommand
+    {
+        /** {@inheritDoc} */
+        @Override
+        public void execute (final ButtonEvent event)
+        {
+            MidiDispatchBenchmark.this.blackhole.consume (event);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeNormal (final ButtonEvent event)
+        {
+            this.execute (event);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeShifted (final ButtonEvent event)
+        {
+            this.execute (event);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingOpenSoundControlServer;
+import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures the caching and encoding of OSC values in the writer for a surface with 8 tracks and 8
+ * clips per track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class OpenSoundControlWriterBenchmark
+{
+    private CountingHost    host;
+    private BenchmarkWriter writer;
+    private int             frame;
+
+
+    /**
+     * Reports the OSC messages and bytes which were sent during an iteration as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class OscCounters
+    {
+        /** The number of sent OSC messages. */
+        public long oscMessages;
+        /** The (estimated) number of sent OSC bytes. */
+        public long oscBytes;
+
+
+        /**
+         * Reset the counters before each iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset ()
+        {
+            this.oscMessages = 0;
+            this.oscBytes = 0;
+        }
+
+
+        /**
+         * Take over the counts from the server and reset it.
+         *
+         * @param server The server
+         */
+        public void collect (final CountingOpenSoundControlServer server)
+        {
+            this.oscMessages += server.getMessages ();
+            this.oscBytes += server.getBytes ();
+            server.reset ();
+        }
+    }
+
+
+    /**
+     * Create the writer.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        this.host = new CountingHost ();
+        this.writer = new BenchmarkWriter (this.host);
+    }
+
+
+    /**
+     * Nothing has changed since the last flush, the common case.
+     *
+     * @param counters Collects the sent OSC data
+     */
+    @Benchmark
+    public void flushUnchanged (final OscCounters counters)
+    {
+        this.writer.flush (false);
+        counters.collect (this.host.getOscServer ());
+    }
+
+
+    /**
+     * The volume of all tracks changes, e.g. during playback with automation.
+     *
+     * @param counters Collects the sent OSC data
+     */
+    @Benchmark
+    public void flushVolumesChanged (final OscCounters counters)
+    {
+        this.frame++;
+        this.writer.setVolumeOffset (this.frame);
+        this.writer.flush (false);
+        counters.collect (this.host.getOscServer ());
+    }
+
+
+    /**
+     * Sends all values.
+     *
+     * @param counters Collects the sent OSC data
+     */
+    @Benchmark
+    public void flushDump (final OscCounters counters)
+    {
+        this.writer.flush (true);
+        counters.collect (this.host.getOscServer ());
+    }
+
+
+    /**
+     * Writes the same addresses as the OSC surface does for the tracks and clips of a track bank.
+     */
+    private static class BenchmarkWriter extends AbstractOpenSoundControlWriter
+    {
+        private int volumeOffset;
+
+
+        /**
+         * Constructor.
+         *
+         * @param host The host
+         */
+        public BenchmarkWriter (final CountingHost host)
+        {
+            super (host, null, host.connectToOSCServer ("127.0.0.1", 9000), new BenchmarkConfiguration ());
+        }
+
+
+        /**
+         * Set an offset which is added to all volumes.
+         *
+         * @param volumeOffset The offset
+         */
+        public void setVolumeOffset (final int volumeOffset)
+        {
+            this.volumeOffset = volumeOffset;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void flush (final boolean dump)
+        {
+            for (int t = 0; t < 8; t++)
+            {
+                final String trackAddress = "/track/" + (t + 1) + "/";
+                this.sendOSC (trackAddress + "exists", true, dump);
+                this.sendOSC (trackAddress + "name", "Track " + (t + 1), dump);
+                this.sendOSC (trackAddress + "volume", (t * 16 + this.volumeOffset) % 128, dump);
+                this.sendOSC (trackAddress + "volumeStr", "-" + t + ".0 dB", dump);
+                this.sendOSC (trackAddress + "pan", 64, dump);
+                this.sendOSC (trackAddress + "mute", false, dump);
+                this.sendOSC (trackAddress + "solo", false, dump);
+                this.sendOSC (trackAddress + "recarm", false, dump);
+                this.sendOSC (trackAddress + "vu", 0, dump);
+                this.sendOSCColor (trackAddress + "color", 0.5, 0.2, 0.8, dump);
+                for (int s = 0; s < 8; s++)
+                {
+                    final String clipAddress = trackAddress + "clip/" + (s + 1) + "/";
+                    this.sendOSC (clipAddress + "name", "", dump);
+                    this.sendOSC (clipAddress + "isSelected", false, dump);
+                    this.sendOSC (clipAddress + "hasContent", s % 2 == 0, dump);
+                    this.sendOSC (clipAddress + "isPlaying", false, dump);
+                    this.sendOSC (clipAddress + "isRecording", false, dump);
+                    this.sendOSC (clipAddress + "isPlayingQueued", false, dump);
+                    this.sendOSC (clipAddress + "isRecordingQueued", false, dump);
+                    this.sendOSCColor (clipAddress + "color", 0.5, 0.2, 0.8, dump);
+                }
+            }
+            this.flush ();
+        }
+    }
+
+
+    /**
+     * An OSC configuration with disabled logging.
+     */
+    private static class BenchmarkConfiguration implements IOpenSoundControlConfiguration
+    {
+        /** {@inheritDoc} */
+        @Override
+        public boolean shouldLogInputCommands ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean shouldLogOutputCommands ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean filterHeartbeatMessages ()
+        {
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getSendHost ()
+        {
+            return "127.0.0.1";
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getSendPort ()
+        {
+            return 9000;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxBundleSize ()
+        {
+            return 8192;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean useTimeTags ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getSendPolicies ()
+        {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,90 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.fake.BenchmarkControlSurface;
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures flushing the pad grid, which happens on every flush of the host.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@State(Scope.Thread)
+public class PadGridBenchmark
+{
+    private CountingMidiOutput output;
+    private PadGrid            padGrid;
+    private int                frame;
+
+
+    /**
+     * Create the grid.
+     */
+    @Setup(Level.Trial)
+    public void setup ()
+    {
+        final ColorManager colorManager = new ColorManager ();
+        colorManager.registerColor (PadGrid.GRID_OFF, 0);
+        this.output = new CountingMidiOutput ();
+        this.padGrid = new BenchmarkControlSurface (new CountingHost (), colorManager, this.output, new int [0]).getPadGrid ();
+    }
+
+
+    /**
+     * Nothing has changed since the last flush, the common case.
+     *
+     * @param counters Collects the sent midi
+     */
+    @Benchmark
+    public void flushUnchanged (final MidiCounters counters)
+    {
+        this.padGrid.flush ();
+        counters.collect (this.output);
+    }
+
+
+    /**
+     * All 64 pads change their color, e.g. on a page change.
+     *
+     * @param counters Collects the sent midi
+     */
+    @Benchmark
+    public void flushAllChanged (final MidiCounters counters)
+    {
+        this.frame++;
+        for (int i = 0; i < 64; i++)
+            this.padGrid.light (36 + i, (i + this.frame) % 128);
+        this.padGrid.flush ();
+        counters.collect (this.output);
+    }
+
+
+    /**
+     * All 64 pads toggle between blinking and not blinking, e.g. playing clips in the session.
+     *
+     * @param counters Collects the sent midi
+     */
+    @Benchmark
+    public void flushAllBlinking (final MidiCounters counters)
+    {
+        this.frame++;
+        final boolean fast = this.frame % 2 == 0;
+        for (int i = 0; i < 64; i++)
+            this.padGrid.light (36 + i, 5, 21, fast);
+        this.padGrid.flush ();
+        counters.collect (this.output);
+    }
+}
@@ -0,0 +1,49 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.PadGridImpl;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * A control surface without a midi input. Midi messages are injected by the benchmark instead.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BenchmarkControlSurface extends AbstractControlSurface<Configuration>
+{
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param colorManager The color manager
+     * @param output The midi output
+     * @param buttons All midi CC which should be treated as a button
+     */
+    public BenchmarkControlSurface (final IHost host, final ColorManager colorManager, final IMidiOutput output, final int [] buttons)
+    {
+        super (host, null, colorManager, output, null, buttons);
+
+        this.pads = new PadGridImpl (colorManager, output);
+    }
+
+
+    /**
+     * Inject a midi message as if it was received from the midi input.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public void receiveMidi (final int status, final int data1, final int data2)
+    {
+        this.handleMidi (status, data1, data2);
+    }
+}
@@ -0,0 +1,68 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.configuration.Configuration;
+import de.mossgrabers.framework.view.AbstractView;
+
+
+/**
+ * A view which lights the pads with a rotating pattern and counts received grid notes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BenchmarkView extends AbstractView<BenchmarkControlSurface, Configuration>
+{
+    private int  frame;
+    private long gridNotes;
+
+
+    /**
+     * Constructor.
+     *
+     * @param surface The surface
+     */
+    public BenchmarkView (final BenchmarkControlSurface surface)
+    {
+        super ("Benchmark", surface, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void drawGrid ()
+    {
+        this.frame++;
+        for (int i = 0; i < 64; i++)
+            this.surface.getPadGrid ().light (36 + i, (i + this.frame) % 128);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void onGridNote (final int note, final int velocity)
+    {
+        this.gridNotes++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateNoteMapping ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Get the number of received grid notes.
+     *
+     * @return The number of notes
+     */
+    public long getGridNotes ()
+    {
+        return this.gridNotes;
+    }
+}
@@ -0,0 +1,327 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+
+/**
+ * A host which runs outside of a DAW. Scheduled tasks are collected and only executed when
+ * requested, delays are measured with a virtual clock. Console output is discarded but all calls
+ * are counted.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CountingHost implements IHost
+{
+    private final PriorityQueue<ScheduledTask>   tasks     = new PriorityQueue<> ();
+    private final CountingOpenSoundControlServer oscServer = new CountingOpenSoundControlServer ();
+
+    private IOpenSoundControlCallback            oscCallback;
+    private long                                 time;
+    private long                                 taskCounter;
+    private long                                 scheduledTasks;
+    private long                                 printedLines;
+    private long                                 datagrams;
+    private long                                 datagramBytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Benchmark";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasClips ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPinning ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCrossfader ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumDevice ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        this.scheduledTasks++;
+        this.tasks.add (new ScheduledTask (task, this.time + delay, this.taskCounter++));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        this.printedLines++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Exception ex)
+    {
+        this.printedLines++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        this.printedLines++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        this.printedLines++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        return this.oscServer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createOSCServer (final IOpenSoundControlCallback callback, final int port)
+    {
+        this.oscCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        return new SimpleOpenSoundControlMessage (address, values);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendDatagramPacket (final String hostAddress, final int port, final byte [] data)
+    {
+        this.datagrams++;
+        this.datagramBytes += data.length;
+    }
+
+
+    /**
+     * Execute all tasks which were scheduled since the last call, independent of their delay.
+     */
+    public void runScheduledTasks ()
+    {
+        final List<ScheduledTask> pending = new ArrayList<> (this.tasks);
+        this.tasks.clear ();
+        pending.sort (null);
+        for (final ScheduledTask task: pending)
+            task.task.run ();
+    }
+
+
+    /**
+     * Advance the virtual clock and execute all tasks which are due. The clock is set to the time
+     * of each task while it is executed, so that tasks which are scheduled by executed tasks are
+     * delayed from that time and are also executed if they are due.
+     *
+     * @param milliseconds The time to advance in milliseconds
+     */
+    public void advanceTime (final long milliseconds)
+    {
+        final long end = this.time + milliseconds;
+        while (!this.tasks.isEmpty () && this.tasks.peek ().time <= end)
+        {
+            final ScheduledTask scheduledTask = this.tasks.poll ();
+            this.time = Math.max (this.time, scheduledTask.time);
+            scheduledTask.task.run ();
+        }
+        this.time = end;
+    }
+
+
+    /**
+     * Get the virtual time.
+     *
+     * @return The time in milliseconds since the creation of the host
+     */
+    public long getTime ()
+    {
+        return this.time;
+    }
+
+
+    /**
+     * Discard all tasks which were scheduled since the last call.
+     */
+    public void clearScheduledTasks ()
+    {
+        this.tasks.clear ();
+    }
+
+
+    /**
+     * Get the OSC server which is returned for all connections.
+     *
+     * @return The OSC server
+     */
+    public CountingOpenSoundControlServer getOscServer ()
+    {
+        return this.oscServer;
+    }
+
+
+    /**
+     * Simulate a received OSC message. It is handed to the callback of the created OSC server.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public void receiveOSC (final String address, final List<Object> values)
+    {
+        if (this.oscCallback != null)
+            this.oscCallback.handle (new SimpleOpenSoundControlMessage (address, values));
+    }
+
+
+    /**
+     * Get the number of scheduled tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getScheduledTasks ()
+    {
+        return this.scheduledTasks;
+    }
+
+
+    /**
+     * Get the number of lines printed to the console.
+     *
+     * @return The number of lines
+     */
+    public long getPrintedLines ()
+    {
+        return this.printedLines;
+    }
+
+
+    /**
+     * Get the number of sent datagrams.
+     *
+     * @return The number of datagrams
+     */
+    public long getDatagrams ()
+    {
+        return this.datagrams;
+    }
+
+
+    /**
+     * Get the number of bytes sent via datagrams.
+     *
+     * @return The number of bytes
+     */
+    public long getDatagramBytes ()
+    {
+        return this.datagramBytes;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.scheduledTasks = 0;
+        this.printedLines = 0;
+        this.datagrams = 0;
+        this.datagramBytes = 0;
+        this.oscServer.reset ();
+    }
+
+
+    /**
+     * A task waiting for its execution time.
+     */
+    private static class ScheduledTask implements Comparable<ScheduledTask>
+    {
+        final Runnable task;
+        final long     time;
+        final long     order;
+
+
+        /**
+         * Constructor.
+         *
+         * @param task The task to execute
+         * @param time The virtual time at which to execute the task
+         * @param order Tasks with the same time are executed in the order of scheduling
+         */
+        ScheduledTask (final Runnable task, final long time, final long order)
+        {
+            this.task = task;
+            this.time = time;
+            this.order = order;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo (final ScheduledTask other)
+        {
+            final int result = Long.compare (this.time, other.time);
+            return result == 0 ? Long.compare (this.order, other.order) : result;
+        }
+    }
+}
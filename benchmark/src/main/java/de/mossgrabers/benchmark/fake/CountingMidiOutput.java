@@ -0,0 +1,150 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * A midi output which does not send anything but counts the messages and bytes which would have
+ * been sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CountingMidiOutput implements IMidiOutput
+{
+    private long messages;
+    private long bytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCC (final int cc, final int value)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCCEx (final int channel, final int cc, final int value)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNote (final int note, final int velocity)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNoteEx (final int channel, final int note, final int velocity)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int data1, final int data2)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int data1, final int data2)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int channel, final int data1, final int data2)
+    {
+        this.countShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.messages++;
+        this.bytes += data.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        // Formatted as "F0 7E ... F7", 3 characters per byte except for the last one
+        this.messages++;
+        this.bytes += (data.trim ().length () + 1) / 3;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendIdentityRequest ()
+    {
+        this.sendSysex ("F0 7E 7F 06 01 F7");
+    }
+
+
+    /**
+     * Get the number of sent messages.
+     *
+     * @return The number of messages
+     */
+    public long getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /**
+     * Get the number of sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.messages = 0;
+        this.bytes = 0;
+    }
+
+
+    private void countShort ()
+    {
+        this.messages++;
+        this.bytes += 3;
+    }
+}
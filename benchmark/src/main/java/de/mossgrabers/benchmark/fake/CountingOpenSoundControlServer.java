@@ -0,0 +1,116 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.util.List;
+
+
+/**
+ * An OSC server which does not send anything but counts the messages and an estimation of the
+ * bytes which would have been sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class CountingOpenSoundControlServer implements IOpenSoundControlServer
+{
+    private long messages;
+    private long bundles;
+    private long bytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.messages++;
+        this.bytes += estimateSize (message);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        // "#bundle" + time tag
+        this.bundles++;
+        this.bytes += 16;
+        for (final IOpenSoundControlMessage message: messages)
+        {
+            // Size prefix of the bundle element
+            this.bytes += 4;
+            this.sendMessage (message);
+        }
+    }
+
+
+    /**
+     * Get the number of sent messages.
+     *
+     * @return The number of messages
+     */
+    public long getMessages ()
+    {
+        return this.messages;
+    }
+
+
+    /**
+     * Get the number of sent bundles.
+     *
+     * @return The number of bundles
+     */
+    public long getBundles ()
+    {
+        return this.bundles;
+    }
+
+
+    /**
+     * Get the (estimated) number of sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getBytes ()
+    {
+        return this.bytes;
+    }
+
+
+    /**
+     * Reset all counters.
+     */
+    public void reset ()
+    {
+        this.messages = 0;
+        this.bundles = 0;
+        this.bytes = 0;
+    }
+
+
+    /**
+     * Estimate the size of the encoded message. Strings are 0 terminated and padded to 4 bytes,
+     * all other values use 4 bytes.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    private static int estimateSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        int size = padded (message.getAddress ().length () + 1) + padded (values.length + 2);
+        for (final Object value: values)
+            size += value instanceof String ? padded (((String) value).length () + 1) : 4;
+        return size;
+    }
+
+
+    private static int padded (final int length)
+    {
+        return length + 3 & ~3;
+    }
+}
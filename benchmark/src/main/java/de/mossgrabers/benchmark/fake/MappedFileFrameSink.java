@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.controller.push.display.FrameBuffer;
+import de.mossgrabers.controller.push.display.IFrameSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * Writes the frame buffer of the Push 2 display renderer into a memory mapped file instead of the
+ * device, e.g. to view it headless. Only the changed rectangles are copied. All numbers are stored
+ * in little endian.
+ *
+ * The file starts with a header of 32 bytes: the magic number 0x44424D46 ("DBMF"), the width and
+ * the height (3 integers, 4 bytes padding), followed by a sequence number (long) which is
+ * incremented after each update and the changed rectangle of the last update (4 shorts: x, y,
+ * width, height). The BGR565 pixels follow the header row by row.
+ *
+ * The file is a new temporary file which only the current user can access and it is deleted when
+ * the sink is closed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class MappedFileFrameSink implements IFrameSink, Closeable
+{
+    /** The magic number at the start of the file. */
+    public static final int        MAGIC              = 0x44424D46;
+
+    private static final int       HEADER_SIZE        = 32;
+    private static final int       SEQUENCE_POSITION  = 16;
+    private static final int       RECTANGLE_POSITION = 24;
+
+    private final Path             file;
+    private final FileChannel      channel;
+    private final MappedByteBuffer buffer;
+    private final ShortBuffer      pixels;
+    private long                   sequence;
+
+
+    /**
+     * Constructor. Creates the file.
+     *
+     * @throws IOException Could not create the file
+     */
+    public MappedFileFrameSink () throws IOException
+    {
+        this.file = Files.createTempFile ("DrivenByMoss-Push2-", ".frame");
+        this.channel = FileChannel.open (this.file, StandardOpenOption.READ, StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS);
+        this.buffer = this.channel.map (FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + 2L * FrameBuffer.WIDTH * FrameBuffer.HEIGHT);
+        this.buffer.order (ByteOrder.LITTLE_ENDIAN);
+
+        this.buffer.putInt (0, MAGIC);
+        this.buffer.putInt (4, FrameBuffer.WIDTH);
+        this.buffer.putInt (8, FrameBuffer.HEIGHT);
+        this.buffer.putLong (SEQUENCE_POSITION, 0);
+
+        this.buffer.position (HEADER_SIZE);
+        this.pixels = this.buffer.slice ().order (ByteOrder.LITTLE_ENDIAN).asShortBuffer ();
+    }
+
+
+    /**
+     * Get the file.
+     *
+     * @return The file
+     */
+    public Path getFile ()
+    {
+        return this.file;
+    }
+
+
+    /**
+     * Get the number of updates.
+     *
+     * @return The number of updates
+     */
+    public long getSequence ()
+    {
+        return this.sequence;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void update (final FrameBuffer frameBuffer, final int x, final int y, final int width, final int height)
+    {
+        final short [] source = frameBuffer.getPixels ();
+        for (int row = y; row < y + height; row++)
+        {
+            final int offset = row * FrameBuffer.WIDTH + x;
+            this.pixels.position (offset);
+            this.pixels.put (source, offset, width);
+        }
+
+        this.buffer.putShort (RECTANGLE_POSITION, (short) x);
+        this.buffer.putShort (RECTANGLE_POSITION + 2, (short) y);
+        this.buffer.putShort (RECTANGLE_POSITION + 4, (short) width);
+        this.buffer.putShort (RECTANGLE_POSITION + 6, (short) height);
+        this.sequence++;
+        this.buffer.putLong (SEQUENCE_POSITION, this.sequence);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close () throws IOException
+    {
+        this.channel.close ();
+        Files.deleteIfExists (this.file);
+    }
+}
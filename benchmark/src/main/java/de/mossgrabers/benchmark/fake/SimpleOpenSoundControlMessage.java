@@ -0,0 +1,50 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.fake;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+import java.util.List;
+
+
+/**
+ * Data class for storing the values of an OSC message, replaces the DAW implementation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimpleOpenSoundControlMessage implements IOpenSoundControlMessage
+{
+    private final String       address;
+    private final List<Object> values;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values
+     */
+    public SimpleOpenSoundControlMessage (final String address, final List<Object> values)
+    {
+        this.address = address;
+        this.values = values;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values == null ? new Object [0] : this.values.toArray ();
+    }
+}
@@ -0,0 +1,261 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+import de.mossgrabers.controller.apc.APCControllerSetup;
+import de.mossgrabers.controller.apcmini.APCminiControllerSetup;
+import de.mossgrabers.controller.beatstep.BeatstepControllerSetup;
+import de.mossgrabers.controller.generic.CommandSlot;
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.GenericFlexiControllerSetup;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+import de.mossgrabers.controller.kontrol.osc.mkii.KontrolOSCControllerSetup;
+import de.mossgrabers.controller.launchpad.LaunchpadControllerSetup;
+import de.mossgrabers.controller.mcu.MCUControllerSetup;
+import de.mossgrabers.controller.osc.OSCControllerSetup;
+import de.mossgrabers.controller.push.PushControllerSetup;
+import de.mossgrabers.controller.sl.SLControllerSetup;
+import de.mossgrabers.framework.controller.AbstractControllerSetup;
+import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.IControllerSetup;
+import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.framework.view.ViewManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+
+/**
+ * Runs all controller setups headless against the simulated DAW. Every setup is initialised and
+ * started like Bitwig would do it, then the model is animated and the setup is flushed for a
+ * number of frames. Reports the average flush duration, the MIDI, OSC and datagram bytes per
+ * frame and the heap growth of each setup.
+ * <p>
+ * Surfaces which only show something after the user selected a mode or view (Push, APCmini,
+ * Beatstep and Beatstep Pro) are switched through their main modes and views every {@link #USER_ACTION_FRAMES}
+ * frames, the Generic Flexi gets a mapping of track volumes and device parameters with value
+ * feedback.
+ * <p>
+ * "MCU+3" is the largest MCU rig: the MCU setup supports a main unit with up to 3 extenders.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LoadTestRunner
+{
+    private static final long         FRAME_MILLIS       = 16;
+    private static final int          USER_ACTION_FRAMES = 64;
+
+    private static final List<String> SETUPS             = Arrays.asList ("Push1", "Push2", "MCU", "MCU+3", "LaunchpadMkII", "LaunchpadPro", "APCmkI", "APCmkII", "APCmini", "SLMkI", "SLMkII", "Beatstep", "BeatstepPro", "GenericFlexi", "OSC", "KontrolOSC");
+
+
+    /**
+     * Private due to utility class.
+     */
+    private LoadTestRunner ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Start the load test.
+     *
+     * @param args Optional: the number of frames (default 1000), the number of model changes per
+     *            frame (default 10) and a part of the name of the setups to run
+     */
+    public static void main (final String [] args)
+    {
+        final int frames = args.length > 0 ? Integer.parseInt (args[0]) : 1000;
+        final int changesPerFrame = args.length > 1 ? Integer.parseInt (args[1]) : 10;
+        final String filter = args.length > 2 ? args[2] : "";
+
+        System.out.println (String.format (Locale.US, "%-14s %12s %12s %12s %12s %12s", "Setup", "Flush [us]", "MIDI [B/f]", "OSC [B/f]", "UDP [B/f]", "Heap [KB]"));
+        for (final String name: SETUPS)
+        {
+            if (!name.contains (filter))
+                continue;
+            try
+            {
+                run (name, frames, changesPerFrame);
+            }
+            catch (final RuntimeException ex)
+            {
+                System.out.println (String.format ("%-14s failed: %s", name, ex));
+            }
+        }
+    }
+
+
+    private static void run (final String name, final int frames, final int changesPerFrame)
+    {
+        final CountingHost host = new CountingHost ();
+        final SimulatorSetupFactory factory = new SimulatorSetupFactory (host);
+        final SimulatorSettingsUI settings = new SimulatorSettingsUI ();
+
+        final long heapBefore = usedHeap ();
+
+        final IControllerSetup setup = createSetup (name, host, factory, settings);
+        setup.init ();
+        setup.startup ();
+        host.runScheduledTasks ();
+
+        final ModelAnimator animator = new ModelAnimator (factory.getModel (), changesPerFrame, 42);
+        final List<Runnable> userActions = createUserActions (name, setup);
+
+        // Warm up, the first frames send the complete state
+        int frameCount = 0;
+        for (int i = 0; i < 100; i++)
+            frame (host, setup, animator, userActions, frameCount++);
+
+        final List<CountingMidiOutput> outputs = factory.getMidiAccess () == null ? null : factory.getMidiAccess ().getOutputs ();
+        if (outputs != null)
+            outputs.forEach (CountingMidiOutput::reset);
+        host.reset ();
+
+        long duration = 0;
+        for (int i = 0; i < frames; i++)
+            duration += frame (host, setup, animator, userActions, frameCount++);
+
+        long midiBytes = 0;
+        if (outputs != null)
+        {
+            for (final CountingMidiOutput output: outputs)
+                midiBytes += output.getBytes ();
+        }
+
+        final long heapAfter = usedHeap ();
+        setup.exit ();
+
+        System.out.println (String.format (Locale.US, "%-14s %12.1f %12.1f %12.1f %12.1f %12d", name, duration / 1000.0 / frames, (double) midiBytes / frames, (double) host.getOscServer ().getBytes () / frames, (double) host.getDatagramBytes () / frames, (heapAfter - heapBefore) / 1024));
+    }
+
+
+    private static long frame (final CountingHost host, final IControllerSetup setup, final ModelAnimator animator, final List<Runnable> userActions, final int frameCount)
+    {
+        if (!userActions.isEmpty () && frameCount % USER_ACTION_FRAMES == 0)
+            userActions.get (frameCount / USER_ACTION_FRAMES % userActions.size ()).run ();
+        animator.tick (FRAME_MILLIS);
+        final long start = System.nanoTime ();
+        setup.flush ();
+        final long duration = System.nanoTime () - start;
+        host.advanceTime (FRAME_MILLIS);
+        return duration;
+    }
+
+
+    private static IControllerSetup createSetup (final String name, final CountingHost host, final SimulatorSetupFactory factory, final SimulatorSettingsUI settings)
+    {
+        switch (name)
+        {
+            case "Push1":
+                return new PushControllerSetup (host, factory, settings, false);
+            case "Push2":
+                return new PushControllerSetup (host, factory, settings, true);
+            case "MCU":
+                return new MCUControllerSetup (host, factory, settings, 1);
+            case "MCU+3":
+                return new MCUControllerSetup (host, factory, settings, 4);
+            case "LaunchpadMkII":
+                return new LaunchpadControllerSetup (host, factory, settings, false);
+            case "LaunchpadPro":
+                return new LaunchpadControllerSetup (host, factory, settings, true);
+            case "APCmkI":
+                return new APCControllerSetup (host, factory, settings, false);
+            case "APCmkII":
+                return new APCControllerSetup (host, factory, settings, true);
+            case "APCmini":
+                return new APCminiControllerSetup (host, factory, settings);
+            case "SLMkI":
+                return new SLControllerSetup (host, factory, settings, false);
+            case "SLMkII":
+                return new SLControllerSetup (host, factory, settings, true);
+            case "Beatstep":
+                return new BeatstepControllerSetup (host, factory, settings, false);
+            case "BeatstepPro":
+                return new BeatstepControllerSetup (host, factory, settings, true);
+            case "GenericFlexi":
+                return new GenericFlexiControllerSetup (host, factory, settings);
+            case "OSC":
+                return new OSCControllerSetup (host, factory, settings);
+            case "KontrolOSC":
+                return new KontrolOSCControllerSetup (host, factory, settings);
+            default:
+                throw new IllegalArgumentException ("Unknown setup: " + name);
+        }
+    }
+
+
+    /**
+     * Create the actions of a simulated user, one of them is executed every
+     * {@link #USER_ACTION_FRAMES} frames.
+     *
+     * @param name The name of the setup
+     * @param setup The setup
+     * @return The actions, empty if the setup is not changed by the user
+     */
+    private static List<Runnable> createUserActions (final String name, final IControllerSetup setup)
+    {
+        // The OSC setups have no surface
+        if (!(setup instanceof AbstractControllerSetup) || name.contains ("OSC"))
+            return Collections.emptyList ();
+
+        final IControlSurface<?> surface = ((AbstractControllerSetup<?, ?>) setup).getSurface ();
+        final ModeManager modeManager = surface.getModeManager ();
+        final ViewManager viewManager = surface.getViewManager ();
+        switch (name)
+        {
+            case "Push1":
+            case "Push2":
+                return Arrays.asList ( () -> modeManager.setActiveMode (de.mossgrabers.controller.push.mode.Modes.MODE_TRACK), () -> viewManager.setActiveView (de.mossgrabers.controller.push.view.Views.VIEW_SESSION), () -> modeManager.setActiveMode (de.mossgrabers.controller.push.mode.Modes.MODE_DEVICE_PARAMS), () -> viewManager.setActiveView (de.mossgrabers.controller.push.view.Views.VIEW_PLAY));
+            case "APCmini":
+                return Arrays.asList ( () -> viewManager.setActiveView (de.mossgrabers.controller.apcmini.view.Views.VIEW_SESSION), () -> viewManager.setActiveView (de.mossgrabers.controller.apcmini.view.Views.VIEW_PLAY));
+            case "Beatstep":
+            case "BeatstepPro":
+                return Arrays.asList ( () -> viewManager.setActiveView (de.mossgrabers.controller.beatstep.view.Views.VIEW_SESSION), () -> viewManager.setActiveView (de.mossgrabers.controller.beatstep.view.Views.VIEW_TRACK), () -> viewManager.setActiveView (de.mossgrabers.controller.beatstep.view.Views.VIEW_DEVICE));
+            case "GenericFlexi":
+                mapFlexiControls ((GenericFlexiConfiguration) surface.getConfiguration ());
+                return Collections.emptyList ();
+            default:
+                return Collections.emptyList ();
+        }
+    }
+
+
+    /**
+     * Map CC 20-27 to the volumes of the tracks and CC 28-35 to the device parameters. All of
+     * them send their value back to the device.
+     *
+     * @param configuration The configuration of the Generic Flexi
+     */
+    private static void mapFlexiControls (final GenericFlexiConfiguration configuration)
+    {
+        final CommandSlot [] slots = configuration.getCommandSlots ();
+        for (int i = 0; i < 8; i++)
+        {
+            mapFlexiControl (slots[i], 20 + i, FlexiCommand.valueOf ("TRACK_" + (i + 1) + "_SET_VOLUME"));
+            mapFlexiControl (slots[8 + i], 28 + i, FlexiCommand.valueOf ("DEVICE_SET_PARAMETER_" + (i + 1)));
+        }
+    }
+
+
+    private static void mapFlexiControl (final CommandSlot slot, final int cc, final FlexiCommand command)
+    {
+        slot.set (CommandSlot.TYPE_CC, cc, 0);
+        slot.setCommand (command.getName ());
+        slot.setSendValue (Boolean.TRUE.toString ());
+    }
+
+
+    private static long usedHeap ()
+    {
+        final Runtime runtime = Runtime.getRuntime ();
+        runtime.gc ();
+        return runtime.totalMemory () - runtime.freeMemory ();
+    }
+}
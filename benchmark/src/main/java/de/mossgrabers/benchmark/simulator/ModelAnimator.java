@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.ITransport;
+
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Changes the state of a simulated model like a running project would do it: VU meters move on
+ * every frame while the transport is playing, and a configurable number of random changes of
+ * volumes, panoramas, device parameters and clip states happens per frame. The random generator is
+ * seeded, therefore two runs with the same settings produce the same sequence of changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ModelAnimator
+{
+    private final SimulatorModel model;
+    private final int            changesPerFrame;
+    private final Random         random;
+    private final int            upperBound;
+
+
+    /**
+     * Constructor.
+     *
+     * @param model The model to animate
+     * @param changesPerFrame The number of random changes per frame
+     * @param seed The seed for the random generator
+     */
+    public ModelAnimator (final SimulatorModel model, final int changesPerFrame, final long seed)
+    {
+        this.model = model;
+        this.changesPerFrame = changesPerFrame;
+        this.random = new Random (seed);
+        this.upperBound = model.getValueChanger ().getUpperBound ();
+
+        this.fillClips ();
+        ((SimulatorTrackBank) model.getTrackBank ()).selectTrack (0);
+        final ITransport transport = model.getTransport ();
+        if (!transport.isPlaying ())
+            transport.play ();
+    }
+
+
+    /**
+     * Apply the changes of one frame and let the given time pass.
+     *
+     * @param millis The duration of the frame in milliseconds
+     */
+    public void tick (final long millis)
+    {
+        this.model.advance (millis);
+
+        final List<SimulatorTrackBank> banks = this.model.getTrackBanks ();
+        if (this.model.getTransport ().isPlaying ())
+        {
+            for (final SimulatorTrackBank bank: banks)
+            {
+                for (int i = 0; i < bank.getNumTracks (); i++)
+                {
+                    final SimulatorTrack track = bank.getSimulatorTrack (i);
+                    if (track.doesExist ())
+                        track.setVu (this.random.nextInt (this.upperBound), this.random.nextInt (this.upperBound));
+                }
+            }
+            final SimulatorMasterTrack master = (SimulatorMasterTrack) this.model.getMasterTrack ();
+            master.setVu (this.random.nextInt (this.upperBound), this.random.nextInt (this.upperBound));
+        }
+
+        for (int i = 0; i < this.changesPerFrame; i++)
+            this.change (banks.get (this.random.nextInt (banks.size ())));
+    }
+
+
+    private void change (final SimulatorTrackBank bank)
+    {
+        final SimulatorTrack track = bank.getSimulatorTrack (this.random.nextInt (bank.getNumTracks ()));
+        switch (this.random.nextInt (4))
+        {
+            case 0:
+                track.getVolumeParameter ().setValue (this.random.nextInt (this.upperBound));
+                break;
+
+            case 1:
+                track.getPanParameter ().setValue (this.random.nextInt (this.upperBound));
+                break;
+
+            case 2:
+                final SimulatorCursorDevice device = (SimulatorCursorDevice) this.model.getCursorDevice ();
+                final int numParameters = device.getNumParameters ();
+                if (numParameters > 0)
+                    device.getSimulatorParameter (this.random.nextInt (numParameters)).setValue (this.random.nextInt (this.upperBound));
+                break;
+
+            default:
+                final int numSlots = track.getNumSlots ();
+                if (numSlots == 0)
+                    break;
+                final int state = this.random.nextInt (4);
+                track.getSimulatorSlot (this.random.nextInt (numSlots)).setPlayState (state == 1, state == 2, state == 3, false, false);
+                break;
+        }
+    }
+
+
+    private void fillClips ()
+    {
+        for (final SimulatorTrackBank bank: this.model.getTrackBanks ())
+        {
+            for (int t = 0; t < bank.getNumTracks (); t++)
+            {
+                final SimulatorTrack track = bank.getSimulatorTrack (t);
+                for (int s = 0; s < track.getNumSlots (); s++)
+                {
+                    final boolean hasContent = this.random.nextInt (3) > 0;
+                    track.getSimulatorSlot (s).setContent (hasContent, hasContent ? "Clip " + (s + 1) : "", this.random.nextDouble (), this.random.nextDouble (), this.random.nextDouble ());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.IArranger;
+
+
+/**
+ * An in-memory arranger.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorArranger implements IArranger
+{
+    private boolean cueMarkersVisible;
+    private boolean playbackFollow;
+    private boolean doubleRowTrackHeight;
+    private boolean clipLauncherVisible;
+    private boolean timelineVisible;
+    private boolean ioSectionVisible;
+    private boolean effectTracksVisible;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean areCueMarkersVisible ()
+    {
+        return this.cueMarkersVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCueMarkerVisibility ()
+    {
+        this.cueMarkersVisible = !this.cueMarkersVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaybackFollowEnabled ()
+    {
+        return this.playbackFollow;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePlaybackFollow ()
+    {
+        this.playbackFollow = !this.playbackFollow;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDoubleRowTrackHeight ()
+    {
+        return this.doubleRowTrackHeight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleTrackRowHeight ()
+    {
+        this.doubleRowTrackHeight = !this.doubleRowTrackHeight;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipLauncherVisible ()
+    {
+        return this.clipLauncherVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleClipLauncher ()
+    {
+        this.clipLauncherVisible = !this.clipLauncherVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isTimelineVisible ()
+    {
+        return this.timelineVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleTimeLine ()
+    {
+        this.timelineVisible = !this.timelineVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isIoSectionVisible ()
+    {
+        return this.ioSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIoSection ()
+    {
+        this.ioSectionVisible = !this.ioSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean areEffectTracksVisible ()
+    {
+        return this.effectTracksVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEffectTracks ()
+    {
+        this.effectTracksVisible = !this.effectTracksVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
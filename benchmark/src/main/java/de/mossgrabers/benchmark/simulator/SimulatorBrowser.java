@@ -0,0 +1,203 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.AbstractBrowser;
+import de.mossgrabers.framework.daw.ICursorDevice;
+
+
+/**
+ * An in-memory browser with filter columns and a result column.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorBrowser extends AbstractBrowser
+{
+    private static final String [] COLUMN_NAMES  =
+    {
+        "Collection",
+        "Location",
+        "File Type",
+        "Category",
+        "Tags",
+        "Creator",
+        "Device Type",
+        "Device"
+    };
+
+    private static final String [] CONTENT_TYPES =
+    {
+        "Device",
+        "Preset",
+        "Multi-Sample",
+        "Sample",
+        "Music"
+    };
+
+    private static final int       NUM_ITEMS     = 100;
+
+    private boolean                isActive;
+    private int                    contentType;
+    private int                    resultIndex;
+
+
+    /**
+     * Constructor.
+     *
+     * @param cursorDevice The cursor device
+     * @param numFilterColumnEntries The number of entries in a filter column page
+     * @param numResults The number of entries in a results column page
+     */
+    public SimulatorBrowser (final ICursorDevice cursorDevice, final int numFilterColumnEntries, final int numResults)
+    {
+        super (cursorDevice, numFilterColumnEntries, numResults);
+
+        this.columnData = new SimulatorBrowserColumn [COLUMN_NAMES.length];
+        for (int i = 0; i < COLUMN_NAMES.length; i++)
+            this.columnData[i] = new SimulatorBrowserColumn (i, COLUMN_NAMES[i], numFilterColumnEntries, NUM_ITEMS);
+
+        this.resultData = new SimulatorBrowserColumnItem [numResults];
+        for (int i = 0; i < numResults; i++)
+            this.resultData[i] = new SimulatorBrowserColumnItem (i);
+        this.updateResults ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPresetContentType ()
+    {
+        return this.contentType == 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedContentTypeIndex ()
+    {
+        return this.contentType;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousContentType ()
+    {
+        this.contentType = Math.max (0, this.contentType - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextContentType ()
+    {
+        this.contentType = Math.min (CONTENT_TYPES.length - 1, this.contentType + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedContentType ()
+    {
+        return CONTENT_TYPES[this.contentType];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getContentTypeNames ()
+    {
+        return CONTENT_TYPES;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseForPresets ()
+    {
+        this.isActive = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertBeforeDevice ()
+    {
+        this.isActive = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertAfterDevice ()
+    {
+        this.isActive = true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopBrowsing (final boolean commitSelection)
+    {
+        this.isActive = false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActive ()
+    {
+        return this.isActive;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousResult ()
+    {
+        this.resultIndex = Math.max (0, this.resultIndex - 1);
+        this.updateResults ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextResult ()
+    {
+        this.resultIndex = Math.min (NUM_ITEMS - 1, this.resultIndex + 1);
+        this.updateResults ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedResult ()
+    {
+        return "Result " + (this.resultIndex + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    private void updateResults ()
+    {
+        if (this.numResults == 0)
+            return;
+        final int page = this.resultIndex / this.numResults * this.numResults;
+        for (int i = 0; i < this.numResults; i++)
+        {
+            final int position = page + i;
+            final SimulatorBrowserColumnItem item = (SimulatorBrowserColumnItem) this.resultData[i];
+            item.setContent (position < NUM_ITEMS ? "Result " + (position + 1) : "", 0);
+            item.setSelected (position == this.resultIndex);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumn;
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory browser column. The page of items follows the cursor.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorBrowserColumn implements IBrowserColumn
+{
+    private final int                           index;
+    private final String                        name;
+    private final int                           itemCount;
+    private final SimulatorBrowserColumnItem [] items;
+
+    private int                                 cursorIndex;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the column
+     * @param name The name of the column
+     * @param numItems The number of items of a page
+     * @param itemCount The number of all items in the column
+     */
+    public SimulatorBrowserColumn (final int index, final String name, final int numItems, final int itemCount)
+    {
+        this.index = index;
+        this.name = name;
+        this.itemCount = itemCount;
+
+        this.items = new SimulatorBrowserColumnItem [numItems];
+        for (int i = 0; i < numItems; i++)
+            this.items[i] = new SimulatorBrowserColumnItem (i);
+        this.updateItems ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getWildcard ()
+    {
+        return "Any " + this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesCursorExist ()
+    {
+        return this.cursorIndex >= 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCursorName ()
+    {
+        return this.cursorIndex < 0 ? this.getWildcard () : this.name + " " + (this.cursorIndex + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCursorName (final int limit)
+    {
+        return StringUtils.optimizeName (this.getCursorName (), limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBrowserColumnItem [] getItems ()
+    {
+        return this.items;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollItemPageUp ()
+    {
+        this.setCursorIndex (this.cursorIndex - this.items.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollItemPageDown ()
+    {
+        this.setCursorIndex (this.cursorIndex + this.items.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetFilter ()
+    {
+        this.setCursorIndex (-1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousItem ()
+    {
+        this.setCursorIndex (this.cursorIndex - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextItem ()
+    {
+        this.setCursorIndex (this.cursorIndex + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCursorIndex ()
+    {
+        return this.cursorIndex;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCursorIndex (final int index)
+    {
+        this.cursorIndex = Math.max (-1, Math.min (index, this.itemCount - 1));
+        this.updateItems ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    private void updateItems ()
+    {
+        if (this.items.length == 0)
+            return;
+        final int page = Math.max (0, this.cursorIndex) / this.items.length * this.items.length;
+        for (int i = 0; i < this.items.length; i++)
+        {
+            final int position = page + i;
+            final SimulatorBrowserColumnItem item = this.items[i];
+            item.setContent (position < this.itemCount ? this.name + " " + (position + 1) : "", this.itemCount - position);
+            item.setSelected (position == this.cursorIndex);
+        }
+    }
+}
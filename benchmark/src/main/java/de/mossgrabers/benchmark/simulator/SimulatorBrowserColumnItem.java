@@ -0,0 +1,114 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory browser column or result item.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorBrowserColumnItem implements IBrowserColumnItem
+{
+    private final int index;
+
+    private String    name = "";
+    private boolean   isSelected;
+    private int       hitCount;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the item on its page
+     */
+    public SimulatorBrowserColumnItem (final int index)
+    {
+        this.index = index;
+    }
+
+
+    /**
+     * Set the content of the item.
+     *
+     * @param name The name, an empty name marks a non-existing item
+     * @param hitCount The number of hits
+     */
+    public void setContent (final String name, final int hitCount)
+    {
+        this.name = name;
+        this.hitCount = hitCount;
+    }
+
+
+    /**
+     * Set the selection state of the item.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return !this.name.isEmpty ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getHitCount ()
+    {
+        return this.hitCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,534 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.ISend;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.function.IntConsumer;
+
+
+/**
+ * An in-memory channel, used for tracks, layers and drum pads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorChannel implements IChannel, ChangeObservable
+{
+    protected final IValueChanger    valueChanger;
+    protected final int              index;
+    protected final ChangeNotifier   changeNotifier = new ChangeNotifier ();
+
+    private final IntConsumer        selector;
+    private final SimulatorParameter volume;
+    private final SimulatorParameter pan;
+    private final SimulatorSend []   sends;
+    private final double []          color          = new double [3];
+
+    private ChannelType              type;
+    private boolean                  exists;
+    private boolean                  isActivated    = true;
+    private boolean                  isSelected;
+    private String                   name           = "";
+    private boolean                  isMute;
+    private boolean                  isSolo;
+    private int                      vuLeft;
+    private int                      vuRight;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param type The type of the channel
+     * @param index The index of the channel in its bank
+     * @param numSends The number of sends
+     * @param selector Gets called with the index of the channel if it gets selected, may be null
+     */
+    public SimulatorChannel (final IValueChanger valueChanger, final ChannelType type, final int index, final int numSends, final IntConsumer selector)
+    {
+        this.valueChanger = valueChanger;
+        this.type = type;
+        this.index = index;
+        this.selector = selector;
+
+        final int upperBound = valueChanger.getUpperBound ();
+        this.volume = new SimulatorParameter (valueChanger, "Volume", " dB", upperBound * 3 / 4);
+        this.volume.addChangeObserver (this.changeNotifier);
+        this.pan = new SimulatorParameter (valueChanger, "Pan", "%", upperBound / 2);
+        this.pan.addChangeObserver (this.changeNotifier);
+        this.sends = new SimulatorSend [numSends];
+        for (int i = 0; i < numSends; i++)
+        {
+            this.sends[i] = new SimulatorSend (valueChanger, i);
+            this.sends[i].addChangeObserver (this.changeNotifier);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the channel exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isActivated ()
+    {
+        return this.isActivated;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /**
+     * Set the name of the channel.
+     *
+     * @param name The name
+     */
+    public void setName (final String name)
+    {
+        this.name = name;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ChannelType getType ()
+    {
+        return this.type;
+    }
+
+
+    /**
+     * Set the type of the channel.
+     *
+     * @param type The type
+     */
+    public void setType (final ChannelType type)
+    {
+        this.type = type;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr ()
+    {
+        return this.volume.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getVolumeStr (final int limit)
+    {
+        return this.volume.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVolume ()
+    {
+        return this.volume.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeVolume (final int control)
+    {
+        this.volume.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVolume (final double value)
+    {
+        this.volume.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetVolume ()
+    {
+        this.volume.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchVolume (final boolean isBeingTouched)
+    {
+        this.volume.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVolumeIndication (final boolean indicate)
+    {
+        this.volume.setIndication (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedVolume ()
+    {
+        return this.volume.getModulatedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr ()
+    {
+        return this.pan.getDisplayedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPanStr (final int limit)
+    {
+        return this.pan.getDisplayedValue (limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPan ()
+    {
+        return this.pan.getValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePan (final int control)
+    {
+        this.pan.changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPan (final double value)
+    {
+        this.pan.setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetPan ()
+    {
+        this.pan.resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPan (final boolean isBeingTouched)
+    {
+        this.pan.touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPanIndication (final boolean indicate)
+    {
+        this.pan.setIndication (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedPan ()
+    {
+        return this.pan.getModulatedValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIsActivated (final boolean value)
+    {
+        this.isActivated = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIsActivated ()
+    {
+        this.isActivated = !this.isActivated;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        this.color[0] = red;
+        this.color[1] = green;
+        this.color[2] = blue;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMute ()
+    {
+        return this.isMute;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMute (final boolean value)
+    {
+        this.isMute = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMute ()
+    {
+        this.isMute = !this.isMute;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSolo ()
+    {
+        return this.isSolo;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSolo (final boolean value)
+    {
+        this.isSolo = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleSolo ()
+    {
+        this.isSolo = !this.isSolo;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        if (this.selector != null)
+            this.selector.accept (this.index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void makeVisible ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectAndMakeVisible ()
+    {
+        this.select ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVu ()
+    {
+        return (this.vuLeft + this.vuRight) / 2;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuLeft ()
+    {
+        return this.vuLeft;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getVuRight ()
+    {
+        return this.vuRight;
+    }
+
+
+    /**
+     * Set the VU meter values.
+     *
+     * @param left The value of the left channel
+     * @param right The value of the right channel
+     */
+    public void setVu (final int left, final int right)
+    {
+        this.vuLeft = left;
+        this.vuRight = right;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSends ()
+    {
+        return this.sends.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISend getSend (final int sendIndex)
+    {
+        return this.sends[sendIndex];
+    }
+
+
+    /**
+     * Get the volume parameter.
+     *
+     * @return The volume parameter
+     */
+    public SimulatorParameter getVolumeParameter ()
+    {
+        return this.volume;
+    }
+
+
+    /**
+     * Get the panorama parameter.
+     *
+     * @return The panorama parameter
+     */
+    public SimulatorParameter getPanParameter ()
+    {
+        return this.pan;
+    }
+}
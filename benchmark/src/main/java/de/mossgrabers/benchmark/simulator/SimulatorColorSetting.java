@@ -0,0 +1,54 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+
+/**
+ * An in-memory color setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorColorSetting extends SimulatorSetting<double []> implements IColorSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param defaultColor The default color
+     */
+    public SimulatorColorSetting (final String label, final ColorEx defaultColor)
+    {
+        super (label, new double []
+        {
+            defaultColor.getRed (),
+            defaultColor.getGreen (),
+            defaultColor.getBlue ()
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final double red, final double green, final double blue)
+    {
+        this.set (new double []
+        {
+            red,
+            green,
+            blue
+        });
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final ColorEx color)
+    {
+        this.set (color.getRed (), color.getGreen (), color.getBlue ());
+    }
+}
@@ -0,0 +1,472 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ICursorClip;
+
+
+/**
+ * An in-memory cursor clip which monitors a grid of steps and note rows.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorCursorClip implements ICursorClip
+{
+    private final IValueChanger valueChanger;
+    private final int           numSteps;
+    private final int           numRows;
+    private final int [] []     data;
+    private final double []     color         = new double [3];
+
+    private double              playStart;
+    private double              playEnd       = 4;
+    private double              loopStart;
+    private double              loopLength    = 4;
+    private boolean             isLoopEnabled = true;
+    private boolean             isShuffleEnabled;
+    private double              accent        = 0.5;
+    private double              stepLength    = 1.0 / 4.0;
+    private int                 currentStep   = -1;
+    private int                 editPage;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param numSteps The number of steps of the clip to monitor
+     * @param numRows The number of note rows of the clip to monitor
+     */
+    public SimulatorCursorClip (final IValueChanger valueChanger, final int numSteps, final int numRows)
+    {
+        this.valueChanger = valueChanger;
+        this.numSteps = numSteps;
+        this.numRows = numRows;
+        this.data = new int [numSteps] [numRows];
+    }
+
+
+    /**
+     * Set the currently playing step.
+     *
+     * @param currentStep The step, -1 if not playing
+     */
+    public void setCurrentStep (final int currentStep)
+    {
+        this.currentStep = currentStep;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        this.color[0] = red;
+        this.color[1] = green;
+        this.color[2] = blue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPlayStart ()
+    {
+        return this.playStart;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayStart (final double start)
+    {
+        this.playStart = start;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePlayStart (final int control)
+    {
+        this.playStart = Math.max (0, this.playStart + this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getPlayEnd ()
+    {
+        return this.playEnd;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayEnd (final double end)
+    {
+        this.playEnd = end;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePlayEnd (final int control)
+    {
+        this.playEnd = Math.max (0, this.playEnd + this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPlayRange (final double start, final double end)
+    {
+        this.playStart = start;
+        this.playEnd = end;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getLoopStart ()
+    {
+        return this.loopStart;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopStart (final double start)
+    {
+        this.loopStart = start;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLoopStart (final int control)
+    {
+        this.loopStart = Math.max (0, this.loopStart + this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getLoopLength ()
+    {
+        return this.loopLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopLength (final int length)
+    {
+        this.loopLength = length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLoopLength (final int control)
+    {
+        this.loopLength = Math.max (1, this.loopLength + this.valueChanger.calcKnobSpeed (control));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoopEnabled ()
+    {
+        return this.isLoopEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoopEnabled (final boolean enable)
+    {
+        this.isLoopEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isShuffleEnabled ()
+    {
+        return this.isShuffleEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setShuffleEnabled (final boolean enable)
+    {
+        this.isShuffleEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getFormattedAccent ()
+    {
+        return Math.round (this.accent * 200 - 100) + "%";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getAccent ()
+    {
+        return this.accent;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetAccent ()
+    {
+        this.accent = 0.5;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeAccent (final int control)
+    {
+        this.accent = Math.max (0, Math.min (1, this.accent + this.valueChanger.calcKnobSpeed (control) / 100.0));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSteps ()
+    {
+        return this.numSteps;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumRows ()
+    {
+        return this.numRows;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCurrentStep ()
+    {
+        return this.currentStep;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getStep (final int step, final int row)
+    {
+        if (row < 0)
+            return 0;
+        return this.data[step][row];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleStep (final int step, final int row, final int velocity)
+    {
+        this.data[step][row] = this.data[step][row] == 0 ? 2 : 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStep (final int step, final int row, final int velocity, final double duration)
+    {
+        this.data[step][row] = 2;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearStep (final int step, final int row)
+    {
+        this.data[step][row] = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void clearRow (final int row)
+    {
+        for (int step = 0; step < this.numSteps; step++)
+            this.data[step][row] = 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRowData (final int row)
+    {
+        for (int step = 0; step < this.numSteps; step++)
+            if (this.data[step][row] > 0)
+                return true;
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getLowerRowWithData ()
+    {
+        for (int row = 0; row < this.numRows; row++)
+            if (this.hasRowData (row))
+                return row;
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getUpperRowWithData ()
+    {
+        for (int row = this.numRows - 1; row >= 0; row--)
+            if (this.hasRowData (row))
+                return row;
+        return -1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setStepLength (final double length)
+    {
+        this.stepLength = length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getStepLength ()
+    {
+        return this.stepLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int step, final int row)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollToPage (final int page)
+    {
+        this.editPage = page;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getEditPage ()
+    {
+        return this.editPage;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollStepsPageBackwards ()
+    {
+        if (this.editPage > 0)
+            this.editPage--;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollStepsPageForward ()
+    {
+        this.editPage++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollStepsBackwards ()
+    {
+        return this.editPage > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollStepsForwards ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicateContent ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void quantize (final double amount)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void transpose (final int semitones)
+    {
+        final int [] [] moved = new int [this.numSteps] [this.numRows];
+        for (int step = 0; step < this.numSteps; step++)
+        {
+            for (int row = 0; row < this.numRows; row++)
+            {
+                final int target = row + semitones;
+                if (target >= 0 && target < this.numRows)
+                    moved[step][target] = this.data[step][row];
+            }
+        }
+        for (int step = 0; step < this.numSteps; step++)
+            System.arraycopy (moved[step], 0, this.data[step], 0, this.numRows);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,1564 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
+import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory cursor device with parameter pages, layers and drum pads.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorCursorDevice implements ICursorDevice, ChangeObservable
+{
+    private static final int            NUM_PAGES      = 16;
+
+    private final ChangeNotifier        changeNotifier = new ChangeNotifier ();
+    private final int                   numDevices;
+    private final SimulatorParameter [] parameters;
+    private final SimulatorChannel []   layers;
+    private final SimulatorChannel []   drumPads;
+    private final String []             pageNames      = new String [NUM_PAGES];
+
+    private boolean                     exists         = true;
+    private String                      name           = "Device 1";
+    private boolean                     isEnabled      = true;
+    private boolean                     isExpanded;
+    private boolean                     isParameterPageSectionVisible;
+    private boolean                     isWindowOpen;
+    private boolean                     isPinned;
+    private boolean                     hasDrumPads;
+    private boolean                     hasLayers;
+    private int                         positionInChain;
+    private int                         selectedPage;
+    private int                         layerCount;
+    private int                         layerPosition;
+    private int                         drumPadPosition;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param numSends The number of sends of the layers and drum pads
+     * @param numParams The number of parameters of a page, 8 if not positive
+     * @param numDevicesInBank The number of devices in the device chain, 8 if not positive
+     * @param numDeviceLayers The number of layers of a bank page, 8 if not positive
+     * @param numDrumPadLayers The number of drum pads of a bank page, 16 if not positive
+     */
+    public SimulatorCursorDevice (final IValueChanger valueChanger, final int numSends, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    {
+        this.numDevices = numDevicesInBank > 0 ? numDevicesInBank : 8;
+
+        final int numParameters = numParams > 0 ? numParams : 8;
+        this.parameters = new SimulatorParameter [numParameters];
+        for (int i = 0; i < numParameters; i++)
+        {
+            this.parameters[i] = new SimulatorParameter (valueChanger, "", "%", 0);
+            this.parameters[i].addChangeObserver (this.changeNotifier);
+        }
+
+        final int numLayers = numDeviceLayers > 0 ? numDeviceLayers : 8;
+        this.layers = new SimulatorChannel [numLayers];
+        for (int i = 0; i < numLayers; i++)
+            this.layers[i] = new SimulatorChannel (valueChanger, ChannelType.LAYER, i, numSends, this::selectLayer);
+
+        final int numDrumPads = numDrumPadLayers > 0 ? numDrumPadLayers : 16;
+        this.drumPads = new SimulatorChannel [numDrumPads];
+        for (int i = 0; i < numDrumPads; i++)
+            this.drumPads[i] = new SimulatorChannel (valueChanger, ChannelType.LAYER, i, numSends, this::selectDrumPad);
+
+        for (int i = 0; i < NUM_PAGES; i++)
+            this.pageNames[i] = "Page " + (i + 1);
+
+        this.updateParameters ();
+        this.setLayerCount (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
+    /**
+     * Get a parameter of the current page.
+     *
+     * @param index The index of the parameter
+     * @return The parameter
+     */
+    public SimulatorParameter getSimulatorParameter (final int index)
+    {
+        return this.parameters[index];
+    }
+
+
+    /**
+     * Set the existence of the device.
+     *
+     * @param exists True if the device exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+        this.changeNotifier.changed ();
+    }
+
+
+    /**
+     * Set the number of layers or drum pads of the device. Drum pads always exist for a drum
+     * machine, layers only up to the given number.
+     *
+     * @param layerCount The number of layers, 0 if the device has no layers
+     * @param hasDrumPads True if the device is a drum machine
+     */
+    public void setLayers (final int layerCount, final boolean hasDrumPads)
+    {
+        this.hasDrumPads = hasDrumPads;
+        this.setLayerCount (layerCount);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToReplaceDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertBeforeDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browseToInsertAfterDevice ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectChannel ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlugin ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPositionInChain ()
+    {
+        return this.positionInChain;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPositionInBank ()
+    {
+        return this.positionInChain % this.numDevices;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectPreviousFX ()
+    {
+        return this.positionInChain > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canSelectNextFX ()
+    {
+        return this.positionInChain < this.numDevices - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isExpanded ()
+    {
+        return this.isExpanded;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isParameterPageSectionVisible ()
+    {
+        return this.isParameterPageSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWindowOpen ()
+    {
+        return this.isWindowOpen;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isNested ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumPads ()
+    {
+        return this.hasDrumPads;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasLayers ()
+    {
+        return this.hasLayers;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSlots ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPinned ()
+    {
+        return this.isPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePinned ()
+    {
+        this.isPinned = !this.isPinned;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeParameter (final int index, final int control)
+    {
+        this.parameters[index].changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setParameter (final int index, final int value)
+    {
+        this.parameters[index].setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetParameter (final int index)
+    {
+        this.parameters[index].resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void indicateParameter (final int index, final boolean indicate)
+    {
+        this.parameters[index].setIndication (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchParameter (final int index, final boolean indicate)
+    {
+        this.parameters[index].touchValue (indicate);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousParameterPage ()
+    {
+        this.setSelectedParameterPage (this.selectedPage - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextParameterPage ()
+    {
+        this.setSelectedParameterPage (this.selectedPage + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPreviousParameterPage ()
+    {
+        return this.selectedPage > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNextParameterPage ()
+    {
+        return this.selectedPage < NUM_PAGES - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String [] getParameterPageNames ()
+    {
+        return this.pageNames;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSelectedParameterPageName ()
+    {
+        return this.pageNames[this.selectedPage];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSelectedParameterPage ()
+    {
+        return this.selectedPage;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelectedParameterPage (final int index)
+    {
+        final int page = Math.max (0, Math.min (index, NUM_PAGES - 1));
+        if (page == this.selectedPage)
+            return;
+        this.selectedPage = page;
+        this.updateParameters ();
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelectedParameterPageInBank (final int index)
+    {
+        this.setSelectedParameterPage (this.selectedPage / 8 * 8 + index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousParameterPageBank ()
+    {
+        this.setSelectedParameterPage (this.selectedPage - 8);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextParameterPageBank ()
+    {
+        this.setSelectedParameterPage (this.selectedPage + 8);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleEnabledState ()
+    {
+        this.isEnabled = !this.isEnabled;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWindowOpen ()
+    {
+        this.isWindowOpen = !this.isWindowOpen;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPrevious ()
+    {
+        this.selectSibling (this.positionInChain - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNext ()
+    {
+        this.selectSibling (this.positionInChain + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesSiblingExist (final int index)
+    {
+        return index >= 0 && index < this.numDevices;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSiblingDeviceName (final int index)
+    {
+        return this.doesSiblingExist (index) ? "Device " + (index + 1) : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSiblingDeviceName (final int index, final int limit)
+    {
+        return StringUtils.optimizeName (this.getSiblingDeviceName (index), limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectSibling (final int index)
+    {
+        if (!this.doesSiblingExist (index))
+            return;
+        this.positionInChain = index;
+        this.name = this.getSiblingDeviceName (index);
+        this.selectedPage = 0;
+        this.updateParameters ();
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectPreviousBank ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectNextBank ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasSelectedDevice ()
+    {
+        return this.exists;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter getFXParam (final int index)
+    {
+        return this.parameters[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleExpanded ()
+    {
+        this.isExpanded = !this.isExpanded;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleParameterPageSectionVisible ()
+    {
+        this.isParameterPageSectionVisible = !this.isParameterPageSectionVisible;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getLayerOrDrumPad (final int index)
+    {
+        return this.hasDrumPads () ? this.getDrumPad (index) : this.getLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getSelectedLayerOrDrumPad ()
+    {
+        return this.hasDrumPads () ? this.getSelectedDrumPad () : this.getSelectedLayer ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectLayerOrDrumPad (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.selectDrumPad (index);
+        else
+            this.selectLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousLayerOrDrumPad ()
+    {
+        if (this.hasDrumPads ())
+            this.previousDrumPad ();
+        else
+            this.previousLayer ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLayerOrDrumPad ()
+    {
+        if (this.hasDrumPads ())
+            this.nextDrumPad ();
+        else
+            this.nextLayer ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousLayerOrDrumPadBank ()
+    {
+        if (this.hasDrumPads ())
+            this.previousDrumPadBank ();
+        else
+            this.previousLayerBank ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLayerOrDrumPadBank ()
+    {
+        if (this.hasDrumPads ())
+            this.nextDrumPadBank ();
+        else
+            this.nextLayerBank ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enterLayerOrDrumPad (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.enterDrumPad (index);
+        else
+            this.enterLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectFirstDeviceInLayerOrDrumPad (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.selectFirstDeviceInDrumPad (index);
+        else
+            this.selectFirstDeviceInLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollLayersOrDrumPadsUp ()
+    {
+        return this.hasDrumPads () ? this.canScrollDrumPadsUp () : this.canScrollLayersUp ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollLayersOrDrumPadsDown ()
+    {
+        return this.hasDrumPads () ? this.canScrollDrumPadsDown () : this.canScrollLayersDown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollLayersOrDrumPadsPageUp ()
+    {
+        if (this.hasDrumPads ())
+            this.scrollDrumPadsPageUp ();
+        else
+            this.scrollLayersPageUp ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollLayersOrDrumPadsPageDown ()
+    {
+        if (this.hasDrumPads ())
+            this.scrollDrumPadsPageDown ();
+        else
+            this.scrollLayersPageDown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadColor (final int index, final double red, final double green, final double blue)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadColor (index, red, green, blue);
+        else
+            this.setLayerColor (index, red, green, blue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getLayerOrDrumPadColorEntry (final int index)
+    {
+        final double [] color = this.getLayerOrDrumPad (index).getColor ();
+        return DAWColors.getColorIndex (color[0], color[1], color[2]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerOrDrumPadVolume (final int index, final int control)
+    {
+        if (this.hasDrumPads ())
+            this.changeDrumPadVolume (index, control);
+        else
+            this.changeLayerVolume (index, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadVolume (final int index, final int value)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadVolume (index, value);
+        else
+            this.setLayerVolume (index, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerOrDrumPadVolume (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.resetDrumPadVolume (index);
+        else
+            this.resetLayerVolume (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerOrDrumPadVolume (final int index, final boolean isBeingTouched)
+    {
+        if (this.hasDrumPads ())
+            this.touchDrumPadVolume (index, isBeingTouched);
+        else
+            this.touchLayerVolume (index, isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerOrDrumPadPan (final int index, final int control)
+    {
+        if (this.hasDrumPads ())
+            this.changeDrumPadPan (index, control);
+        else
+            this.changeLayerPan (index, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadPan (final int index, final int value)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadPan (index, value);
+        else
+            this.setLayerPan (index, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerOrDrumPadPan (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.resetDrumPadPan (index);
+        else
+            this.resetLayerPan (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerOrDrumPadPan (final int index, final boolean isBeingTouched)
+    {
+        if (this.hasDrumPads ())
+            this.touchDrumPadPan (index, isBeingTouched);
+        else
+            this.touchLayerPan (index, isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerOrDrumPadSend (final int index, final int send, final int control)
+    {
+        if (this.hasDrumPads ())
+            this.changeDrumPadSend (index, send, control);
+        else
+            this.changeLayerSend (index, send, control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadSend (final int index, final int send, final int value)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadSend (index, send, value);
+        else
+            this.setLayerSend (index, send, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerOrDrumPadSend (final int index, final int send)
+    {
+        if (this.hasDrumPads ())
+            this.resetDrumPadSend (index, send);
+        else
+            this.resetLayerSend (index, send);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerOrDrumPadSend (final int index, final int send, final boolean isBeingTouched)
+    {
+        if (this.hasDrumPads ())
+            this.touchDrumPadSend (index, send, isBeingTouched);
+        else
+            this.touchLayerSend (index, send, isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerOrDrumPadIsActivated (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.toggleDrumPadIsActivated (index);
+        else
+            this.toggleLayerIsActivated (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerOrDrumPadMute (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.toggleDrumPadMute (index);
+        else
+            this.toggleLayerMute (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadMute (final int index, final boolean value)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadMute (index, value);
+        else
+            this.setLayerMute (index, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerOrDrumPadSolo (final int index)
+    {
+        if (this.hasDrumPads ())
+            this.toggleDrumPadSolo (index);
+        else
+            this.toggleLayerSolo (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerOrDrumPadSolo (final int index, final boolean value)
+    {
+        if (this.hasDrumPads ())
+            this.setDrumPadSolo (index, value);
+        else
+            this.setLayerSolo (index, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasZeroLayers ()
+    {
+        return this.layerCount == 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getLayer (final int index)
+    {
+        return this.layers[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getSelectedLayer ()
+    {
+        return this.getSelected (this.layers);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectLayer (final int index)
+    {
+        this.selectChannel (this.layers, index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousLayer ()
+    {
+        final IChannel sel = this.getSelectedLayer ();
+        final int index = sel == null ? 0 : sel.getIndex () - 1;
+        if (index == -1)
+            this.previousLayerBank ();
+        else
+            this.selectLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLayer ()
+    {
+        final IChannel sel = this.getSelectedLayer ();
+        final int index = sel == null ? 0 : sel.getIndex () + 1;
+        if (index == this.layers.length)
+            this.nextLayerBank ();
+        else
+            this.selectLayer (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousLayerBank ()
+    {
+        this.scrollLayersPageUp ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLayerBank ()
+    {
+        this.scrollLayersPageDown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enterLayer (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectFirstDeviceInLayer (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollLayersUp ()
+    {
+        return this.layerPosition > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollLayersDown ()
+    {
+        return this.layerPosition + this.layers.length < this.layerCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollLayersPageUp ()
+    {
+        this.scrollLayersTo (this.layerPosition - this.layers.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollLayersPageDown ()
+    {
+        if (this.canScrollLayersDown ())
+            this.scrollLayersTo (this.layerPosition + this.layers.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerColor (final int index, final double red, final double green, final double blue)
+    {
+        this.layers[index].setColor (red, green, blue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerVolume (final int index, final int control)
+    {
+        this.layers[index].changeVolume (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerVolume (final int index, final int value)
+    {
+        this.layers[index].setVolume (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerVolume (final int index)
+    {
+        this.layers[index].resetVolume ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerVolume (final int index, final boolean isBeingTouched)
+    {
+        this.layers[index].touchVolume (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerPan (final int index, final int control)
+    {
+        this.layers[index].changePan (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerPan (final int index, final int value)
+    {
+        this.layers[index].setPan (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerPan (final int index)
+    {
+        this.layers[index].resetPan ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerPan (final int index, final boolean isBeingTouched)
+    {
+        this.layers[index].touchPan (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeLayerSend (final int index, final int sendIndex, final int control)
+    {
+        this.layers[index].getSend (sendIndex).changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerSend (final int index, final int sendIndex, final int value)
+    {
+        this.layers[index].getSend (sendIndex).setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetLayerSend (final int index, final int sendIndex)
+    {
+        this.layers[index].getSend (sendIndex).resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchLayerSend (final int index, final int sendIndex, final boolean isBeingTouched)
+    {
+        this.layers[index].getSend (sendIndex).touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerIsActivated (final int index)
+    {
+        this.layers[index].toggleIsActivated ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerMute (final int index)
+    {
+        this.layers[index].toggleMute ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerMute (final int index, final boolean value)
+    {
+        this.layers[index].setMute (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLayerSolo (final int index)
+    {
+        this.layers[index].toggleSolo ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLayerSolo (final int index, final boolean value)
+    {
+        this.layers[index].setSolo (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadIndication (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getDrumPad (final int index)
+    {
+        return this.drumPads[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IChannel getSelectedDrumPad ()
+    {
+        return this.getSelected (this.drumPads);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectDrumPad (final int index)
+    {
+        this.selectChannel (this.drumPads, index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousDrumPad ()
+    {
+        final IChannel sel = this.getSelectedDrumPad ();
+        final int index = sel == null ? 0 : sel.getIndex () - 1;
+        if (index == -1)
+            this.previousDrumPadBank ();
+        else
+            this.selectDrumPad (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextDrumPad ()
+    {
+        final IChannel sel = this.getSelectedDrumPad ();
+        final int index = sel == null ? 0 : sel.getIndex () + 1;
+        if (index == this.drumPads.length)
+            this.nextDrumPadBank ();
+        else
+            this.selectDrumPad (index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previousDrumPadBank ()
+    {
+        this.scrollDrumPadsPageUp ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextDrumPadBank ()
+    {
+        this.scrollDrumPadsPageDown ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enterDrumPad (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectFirstDeviceInDrumPad (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollDrumPadsUp ()
+    {
+        return this.drumPadPosition > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollDrumPadsDown ()
+    {
+        return this.drumPadPosition + this.drumPads.length < 128;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollDrumPadsPageUp ()
+    {
+        this.scrollDrumPadsTo (this.drumPadPosition - this.drumPads.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollDrumPadsPageDown ()
+    {
+        this.scrollDrumPadsTo (this.drumPadPosition + this.drumPads.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollDrumPadsUp ()
+    {
+        this.scrollDrumPadsTo (this.drumPadPosition - 4);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollDrumPadsDown ()
+    {
+        this.scrollDrumPadsTo (this.drumPadPosition + 4);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadColor (final int index, final double red, final double green, final double blue)
+    {
+        this.drumPads[index].setColor (red, green, blue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeDrumPadVolume (final int index, final int control)
+    {
+        this.drumPads[index].changeVolume (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadVolume (final int index, final int value)
+    {
+        this.drumPads[index].setVolume (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetDrumPadVolume (final int index)
+    {
+        this.drumPads[index].resetVolume ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchDrumPadVolume (final int index, final boolean isBeingTouched)
+    {
+        this.drumPads[index].touchVolume (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeDrumPadPan (final int index, final int control)
+    {
+        this.drumPads[index].changePan (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadPan (final int index, final int value)
+    {
+        this.drumPads[index].setPan (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetDrumPadPan (final int index)
+    {
+        this.drumPads[index].resetPan ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchDrumPadPan (final int index, final boolean isBeingTouched)
+    {
+        this.drumPads[index].touchPan (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeDrumPadSend (final int index, final int sendIndex, final int control)
+    {
+        this.drumPads[index].getSend (sendIndex).changeValue (control);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadSend (final int index, final int sendIndex, final int value)
+    {
+        this.drumPads[index].getSend (sendIndex).setValue (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetDrumPadSend (final int index, final int sendIndex)
+    {
+        this.drumPads[index].getSend (sendIndex).resetValue ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchDrumPadSend (final int index, final int sendIndex, final boolean isBeingTouched)
+    {
+        this.drumPads[index].getSend (sendIndex).touchValue (isBeingTouched);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDrumPadIsActivated (final int index)
+    {
+        this.drumPads[index].toggleIsActivated ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDrumPadMute (final int index)
+    {
+        this.drumPads[index].toggleMute ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadMute (final int index, final boolean value)
+    {
+        this.drumPads[index].setMute (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDrumPadSolo (final int index)
+    {
+        this.drumPads[index].toggleSolo ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setDrumPadSolo (final int index, final boolean value)
+    {
+        this.drumPads[index].setSolo (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumDevices ()
+    {
+        return this.numDevices;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumLayers ()
+    {
+        return this.layers.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumDrumPads ()
+    {
+        return this.drumPads.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumParameters ()
+    {
+        return this.parameters.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    private void setLayerCount (final int layerCount)
+    {
+        this.layerCount = layerCount;
+        this.hasLayers = layerCount > 0;
+        this.scrollLayersTo (this.layerPosition);
+        this.scrollDrumPadsTo (this.drumPadPosition);
+    }
+
+
+    private void scrollLayersTo (final int position)
+    {
+        this.layerPosition = Math.max (0, Math.min (position, this.layerCount - 1));
+        for (int i = 0; i < this.layers.length; i++)
+        {
+            final int pos = this.layerPosition + i;
+            final boolean exists = !this.hasDrumPads && pos < this.layerCount;
+            this.layers[i].setExists (exists);
+            this.layers[i].setName (exists ? "Layer " + (pos + 1) : "");
+        }
+        this.changeNotifier.changed ();
+    }
+
+
+    private void scrollDrumPadsTo (final int position)
+    {
+        this.drumPadPosition = Math.max (0, Math.min (position, 128 - this.drumPads.length));
+        for (int i = 0; i < this.drumPads.length; i++)
+        {
+            final int pos = this.drumPadPosition + i;
+            final boolean exists = this.hasDrumPads && pos < this.layerCount;
+            this.drumPads[i].setExists (exists);
+            this.drumPads[i].setName (exists ? "Pad " + (pos + 1) : "");
+        }
+        this.changeNotifier.changed ();
+    }
+
+
+    private void updateParameters ()
+    {
+        for (int i = 0; i < this.parameters.length; i++)
+            this.parameters[i].setName ("P" + (this.selectedPage + 1) + "." + (i + 1));
+    }
+
+
+    private IChannel getSelected (final SimulatorChannel [] channels)
+    {
+        for (final SimulatorChannel channel: channels)
+        {
+            if (channel.isSelected ())
+                return channel;
+        }
+        return null;
+    }
+
+
+    private void selectChannel (final SimulatorChannel [] channels, final int index)
+    {
+        for (int i = 0; i < channels.length; i++)
+            channels[i].setSelected (i == index);
+    }
+}
@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+
+
+/**
+ * An in-memory number setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorDoubleSetting extends SimulatorSetting<Double> implements IDoubleSetting
+{
+    private final double minValue;
+    private final double maxValue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param minValue The minimum value
+     * @param maxValue The maximum value
+     * @param initialValue The initial value
+     */
+    public SimulatorDoubleSetting (final String label, final double minValue, final double maxValue, final double initialValue)
+    {
+        super (label, Double.valueOf (initialValue));
+
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final double value)
+    {
+        this.set (Double.valueOf (Math.max (this.minValue, Math.min (this.maxValue, value))));
+    }
+}
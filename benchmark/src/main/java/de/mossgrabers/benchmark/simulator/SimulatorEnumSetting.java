@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IEnumSetting;
+
+
+/**
+ * An in-memory enum setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorEnumSetting extends SimulatorSetting<String> implements IEnumSetting
+{
+    private final String [] options;
+
+
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param options The available options
+     * @param initialValue The initial value
+     */
+    public SimulatorEnumSetting (final String label, final String [] options, final String initialValue)
+    {
+        super (label, initialValue);
+
+        this.options = options;
+    }
+
+
+    /**
+     * Get the available options.
+     *
+     * @return The options
+     */
+    public String [] getOptions ()
+    {
+        return this.options;
+    }
+}
@@ -0,0 +1,67 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.IGroove;
+import de.mossgrabers.framework.daw.data.IParameter;
+
+
+/**
+ * An in-memory groove.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorGroove implements IGroove
+{
+    private static final String [] NAMES      =
+    {
+        "Enabled",
+        "Shuffle Amount",
+        "Shuffle Rate",
+        "Accent Amount",
+        "Accent Rate",
+        "Accent Phase"
+    };
+
+    private final IParameter []    parameters = new IParameter [NAMES.length];
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public SimulatorGroove (final IValueChanger valueChanger)
+    {
+        for (int i = 0; i < NAMES.length; i++)
+            this.parameters[i] = new SimulatorParameter (valueChanger, NAMES[i], "%", 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IParameter [] getParameters ()
+    {
+        return this.parameters;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        for (final IParameter p: this.parameters)
+            p.setIndication (enable);
+    }
+}
@@ -0,0 +1,44 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+
+
+/**
+ * An in-memory integer range setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorIntegerSetting extends SimulatorSetting<Integer> implements IIntegerSetting
+{
+    private final int minValue;
+    private final int maxValue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param minValue The minimum value
+     * @param maxValue The maximum value
+     * @param initialValue The initial value
+     */
+    public SimulatorIntegerSetting (final String label, final int minValue, final int maxValue, final int initialValue)
+    {
+        super (label, Integer.valueOf (initialValue));
+
+        this.minValue = minValue;
+        this.maxValue = maxValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final int value)
+    {
+        this.set (Integer.valueOf (Math.max (this.minValue, Math.min (this.maxValue, value))));
+    }
+}
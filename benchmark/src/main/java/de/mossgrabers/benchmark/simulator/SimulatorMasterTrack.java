@@ -0,0 +1,66 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.TrackSelectionObserver;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import java.util.HashSet;
+import java.util.Set;
+
+
+/**
+ * The in-memory master track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorMasterTrack extends SimulatorTrack implements IMasterTrack
+{
+    private final Set<TrackSelectionObserver> observers = new HashSet<> ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public SimulatorMasterTrack (final IValueChanger valueChanger)
+    {
+        super (valueChanger, ChannelType.MASTER, 0, 0, 0, null);
+
+        this.setExists (true);
+        this.setName ("Master");
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addTrackSelectionObserver (final TrackSelectionObserver observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSelected (final boolean isSelected)
+    {
+        if (this.isSelected () == isSelected)
+            return;
+        super.setSelected (isSelected);
+        for (final TrackSelectionObserver observer: this.observers)
+            observer.call (-1, isSelected);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        this.setSelected (true);
+    }
+}
@@ -0,0 +1,83 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * MIDI access which creates counting outputs and inputs which can be fed by the simulator.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorMidiAccess implements IMidiAccess
+{
+    private final List<CountingMidiOutput> outputs = new ArrayList<> ();
+    private final List<SimulatorMidiInput> inputs  = new ArrayList<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput ()
+    {
+        return this.createOutput (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiOutput createOutput (final int index)
+    {
+        final CountingMidiOutput output = new CountingMidiOutput ();
+        this.outputs.add (output);
+        return output;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final String name, final String... filters)
+    {
+        return this.createInput (0, name, filters);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiInput createInput (final int index, final String name, final String... filters)
+    {
+        final SimulatorMidiInput input = new SimulatorMidiInput (name);
+        this.inputs.add (input);
+        return input;
+    }
+
+
+    /**
+     * Get all outputs which were created.
+     *
+     * @return The outputs
+     */
+    public List<CountingMidiOutput> getOutputs ()
+    {
+        return this.outputs;
+    }
+
+
+    /**
+     * Get all inputs which were created.
+     *
+     * @return The inputs
+     */
+    public List<SimulatorMidiInput> getInputs ()
+    {
+        return this.inputs;
+    }
+}
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * A MIDI input which is fed by the simulator instead of a MIDI port.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorMidiInput implements IMidiInput
+{
+    private final String      name;
+
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+    private Integer []        keyTranslationTable;
+    private long              rawEvents;
+
+
+    /**
+     * Constructor.
+     *
+     * @param name The name of the input
+     */
+    public SimulatorMidiInput (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /**
+     * Get the name of the input.
+     *
+     * @return The name
+     */
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /**
+     * Simulate a received short MIDI message from the controller.
+     *
+     * @param status The status byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void receiveMidi (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Simulate a received system exclusive message from the controller.
+     *
+     * @param data The message formatted as hex string
+     */
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    /**
+     * Get the current key translation table of the note input.
+     *
+     * @return The table, may be null
+     */
+    public Integer [] getKeyTranslationTable ()
+    {
+        return this.keyTranslationTable;
+    }
+
+
+    /**
+     * Get the number of MIDI events which were sent to the DAW via the note input.
+     *
+     * @return The number of events
+     */
+    public long getRawEvents ()
+    {
+        return this.rawEvents;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final Integer [] table)
+    {
+        this.keyTranslationTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final Integer [] table)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createNoteInput (final String name, final String... filters)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.rawEvents++;
+    }
+}
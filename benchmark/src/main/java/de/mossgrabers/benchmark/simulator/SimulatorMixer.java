@@ -0,0 +1,127 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.IMixer;
+
+
+/**
+ * An in-memory mixer.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorMixer implements IMixer
+{
+    private boolean clipLauncherSectionVisible;
+    private boolean crossFadeSectionVisible;
+    private boolean deviceSectionVisible;
+    private boolean ioSectionVisible;
+    private boolean meterSectionVisible;
+    private boolean sendSectionVisible;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isClipLauncherSectionVisible ()
+    {
+        return this.clipLauncherSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleClipLauncherSectionVisibility ()
+    {
+        this.clipLauncherSectionVisible = !this.clipLauncherSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCrossFadeSectionVisible ()
+    {
+        return this.crossFadeSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCrossFadeSectionVisibility ()
+    {
+        this.crossFadeSectionVisible = !this.crossFadeSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isDeviceSectionVisible ()
+    {
+        return this.deviceSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleDeviceSectionVisibility ()
+    {
+        this.deviceSectionVisible = !this.deviceSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isIoSectionVisible ()
+    {
+        return this.ioSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleIoSectionVisibility ()
+    {
+        this.ioSectionVisible = !this.ioSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMeterSectionVisible ()
+    {
+        return this.meterSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMeterSectionVisibility ()
+    {
+        this.meterSectionVisible = !this.meterSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSendSectionVisible ()
+    {
+        return this.sendSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleSendsSectionVisibility ()
+    {
+        this.sendSectionVisible = !this.sendSectionVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
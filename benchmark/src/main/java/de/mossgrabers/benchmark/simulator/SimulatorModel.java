@@ -0,0 +1,178 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.AbstractModel;
+import de.mossgrabers.framework.daw.ICursorClip;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+import de.mossgrabers.framework.scale.Scales;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A DAW model which keeps all of its state in memory. It can be driven without Bitwig to run a
+ * controller setup headless.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorModel extends AbstractModel
+{
+    /** The number of audio and instrument tracks in the simulated project, the size of a large rig. */
+    public static final int                TRACK_COUNT        = 64;
+    /** The number of effect tracks in the simulated project. */
+    public static final int                EFFECT_TRACK_COUNT = 4;
+    /** The number of scenes in the simulated project. */
+    public static final int                SCENE_COUNT        = 16;
+
+    private final List<SimulatorTrackBank> trackBanks         = new ArrayList<> ();
+    private boolean                        isCursorTrackPinned;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param colorManager The color manager
+     * @param valueChanger The value changer
+     * @param scales The scales object
+     * @param numTracks The number of track to monitor (per track bank)
+     * @param numScenes The number of scenes to monitor (per scene bank)
+     * @param numSends The number of sends to monitor
+     * @param numFilterColumnEntries The number of entries in one filter column to monitor
+     * @param numResults The number of search results in the browser to monitor
+     * @param hasFlatTrackList Don't navigate groups, all tracks are flat
+     * @param numParams The number of parameter of a device to monitor
+     * @param numDevicesInBank The number of devices to monitor
+     * @param numDeviceLayers The number of device layers to monitor
+     * @param numDrumPadLayers The number of drum pad layers to monitor
+     */
+    public SimulatorModel (final IHost host, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    {
+        super (colorManager, valueChanger, scales, numTracks, numScenes, numSends, numFilterColumnEntries, numResults, hasFlatTrackList, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+
+        this.host = host;
+
+        this.application = new SimulatorApplication ();
+        this.project = new SimulatorProject ();
+        this.arranger = new SimulatorArranger ();
+        this.mixer = new SimulatorMixer ();
+        this.transport = new SimulatorTransport (valueChanger);
+        this.groove = new SimulatorGroove (valueChanger);
+        this.masterTrack = new SimulatorMasterTrack (valueChanger);
+
+        this.trackBank = this.addTrackBank (new SimulatorTrackBank (valueChanger, ChannelType.INSTRUMENT, this.numTracks, this.numScenes, this.numSends, TRACK_COUNT, SCENE_COUNT));
+        this.effectTrackBank = this.addTrackBank (new SimulatorTrackBank (valueChanger, ChannelType.EFFECT, this.numTracks, this.numScenes, 0, EFFECT_TRACK_COUNT, SCENE_COUNT));
+
+        this.primaryDevice = new SimulatorCursorDevice (valueChanger, this.numSends, this.numParams, this.numDevicesInBank, this.numDeviceLayers, this.numDrumPadLayers);
+        this.cursorDevice = new SimulatorCursorDevice (valueChanger, this.numSends, this.numParams, this.numDevicesInBank, this.numDeviceLayers, this.numDrumPadLayers);
+        final SimulatorCursorDevice drumDevice = new SimulatorCursorDevice (valueChanger, 0, 0, 0, 64, 64);
+        drumDevice.setLayers (128, true);
+        this.drumDevice64 = drumDevice;
+        if (this.numResults > 0)
+            this.browser = new SimulatorBrowser (this.cursorDevice, this.numFilterColumnEntries, this.numResults);
+
+        this.currentTrackBank = this.trackBank;
+
+        // Make sure there is at least 1 cursor clip for quantization, even if there are no
+        // sequencers
+        this.getCursorClip ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ITrackBank createSceneViewTrackBank (final int numTracks, final int numScenes)
+    {
+        return this.addTrackBank (new SimulatorTrackBank (this.valueChanger, ChannelType.INSTRUMENT, numTracks, numScenes, 0, TRACK_COUNT, SCENE_COUNT));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ICursorClip getCursorClip (final int cols, final int rows)
+    {
+        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> new SimulatorCursorClip (this.valueChanger, cols, rows));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorTrackPinned ()
+    {
+        return this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCursorTrackPinned ()
+    {
+        this.isCursorTrackPinned = !this.isCursorTrackPinned;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorDeviceOnMasterTrack ()
+    {
+        return false;
+    }
+
+
+    /**
+     * Get all track banks which were created for the model, including the effect track bank and
+     * the scene view track banks.
+     *
+     * @return The track banks
+     */
+    public List<SimulatorTrackBank> getTrackBanks ()
+    {
+        return this.trackBanks;
+    }
+
+
+    /**
+     * Get all cursor clips which were created for the model.
+     *
+     * @return The cursor clips
+     */
+    public Iterable<ICursorClip> getCursorClips ()
+    {
+        return this.cursorClips.values ();
+    }
+
+
+    /**
+     * Let the simulated time pass. Moves the play position of the transport and the playing step
+     * of the cursor clips.
+     *
+     * @param millis The passed time in milliseconds
+     */
+    public void advance (final long millis)
+    {
+        final SimulatorTransport simulatorTransport = (SimulatorTransport) this.transport;
+        simulatorTransport.advance (millis);
+
+        for (final ICursorClip clip: this.cursorClips.values ())
+        {
+            final int numSteps = clip.getNumSteps ();
+            final int step = simulatorTransport.isPlaying () && numSteps > 0 ? (int) (simulatorTransport.getPosition () / clip.getStepLength ()) % numSteps : -1;
+            ((SimulatorCursorClip) clip).setCurrentStep (step);
+        }
+    }
+
+
+    private SimulatorTrackBank addTrackBank (final SimulatorTrackBank bank)
+    {
+        this.trackBanks.add (bank);
+        return bank;
+    }
+}
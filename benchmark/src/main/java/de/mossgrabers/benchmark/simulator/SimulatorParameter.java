@@ -0,0 +1,280 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
+import de.mossgrabers.framework.daw.data.IParameter;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory parameter. The displayed value is only formatted when the value changes, like the
+ * DAW does.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorParameter implements IParameter, ChangeObservable
+{
+    protected final IValueChanger valueChanger;
+
+    private final ChangeNotifier  changeNotifier = new ChangeNotifier ();
+    private boolean               exists         = true;
+    private String                name;
+    private String                unit;
+    private int                   value;
+    private int                   defaultValue;
+    private int                   modulatedValue;
+    private String                displayedValue;
+    private boolean               isIndicated;
+    private boolean               isTouched;
+    private long                  changes;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param name The name of the parameter
+     * @param unit The unit to display after the value
+     * @param defaultValue The default value
+     */
+    public SimulatorParameter (final IValueChanger valueChanger, final String name, final String unit, final int defaultValue)
+    {
+        this.valueChanger = valueChanger;
+        this.name = name;
+        this.unit = unit;
+        this.defaultValue = defaultValue;
+        this.setInternalValue (defaultValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void inc (final double increment)
+    {
+        this.setInternalValue ((int) Math.round (this.value + increment));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the parameter exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /**
+     * Set the name of the parameter.
+     *
+     * @param name The name
+     */
+    public void setName (final String name)
+    {
+        this.name = name;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue ()
+    {
+        return this.displayedValue;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDisplayedValue (final int limit)
+    {
+        return StringUtils.optimizeName (this.displayedValue, limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getValue ()
+    {
+        return this.value;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setValue (final double value)
+    {
+        this.setInternalValue ((int) Math.round (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeValue (final int value)
+    {
+        this.inc (this.valueChanger.calcKnobSpeed (value));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetValue ()
+    {
+        this.setInternalValue (this.defaultValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchValue (final boolean isBeingTouched)
+    {
+        this.isTouched = isBeingTouched;
+    }
+
+
+    /**
+     * Is the parameter touched?
+     *
+     * @return True if touched
+     */
+    public boolean isTouched ()
+    {
+        return this.isTouched;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getModulatedValue ()
+    {
+        return this.modulatedValue;
+    }
+
+
+    /**
+     * Set the modulated value of the parameter, e.g. from an LFO.
+     *
+     * @param modulatedValue The modulated value
+     */
+    public void setModulatedValue (final int modulatedValue)
+    {
+        this.modulatedValue = this.clamp (modulatedValue);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        this.isIndicated = enable;
+    }
+
+
+    /**
+     * Is the indication of the parameter enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isIndicated ()
+    {
+        return this.isIndicated;
+    }
+
+
+    /**
+     * Get the number of value changes.
+     *
+     * @return The number of changes
+     */
+    public long getChanges ()
+    {
+        return this.changes;
+    }
+
+
+    /**
+     * Set the value and update the displayed value.
+     *
+     * @param newValue The new value, is limited to the value range
+     */
+    protected void setInternalValue (final int newValue)
+    {
+        final int v = this.clamp (newValue);
+        if (v == this.value && this.displayedValue != null)
+            return;
+        this.value = v;
+        this.modulatedValue = v;
+        this.displayedValue = this.formatValue (v);
+        this.changes++;
+        this.changeNotifier.changed ();
+    }
+
+
+    /**
+     * Format the value for display.
+     *
+     * @param v The value
+     * @return The formatted value
+     */
+    protected String formatValue (final int v)
+    {
+        final int percent = (int) Math.round (this.valueChanger.toNormalizedValue (v) * 1000);
+        return percent / 10 + "." + percent % 10 + this.unit;
+    }
+
+
+    private int clamp (final int v)
+    {
+        return Math.max (0, Math.min (this.valueChanger.getUpperBound () - 1, v));
+    }
+}
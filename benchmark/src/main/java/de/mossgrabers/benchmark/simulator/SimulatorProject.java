@@ -0,0 +1,58 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.IProject;
+
+
+/**
+ * An in-memory project.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorProject implements IProject
+{
+    private int index;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Project " + (this.index + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void previous ()
+    {
+        this.index = Math.max (0, this.index - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void next ()
+    {
+        this.index++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createSceneFromPlayingLauncherClips ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+}
@@ -0,0 +1,115 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.data.IScene;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory scene.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorScene implements IScene
+{
+    private final int index;
+
+    private boolean   exists;
+    private String    name = "";
+    private boolean   isSelected;
+
+
+    /**
+     * Constructor.
+     *
+     * @param index The index of the scene in its bank
+     */
+    public SimulatorScene (final int index)
+    {
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the scene exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /**
+     * Set the name of the scene.
+     *
+     * @param name The name
+     */
+    public void setName (final String name)
+    {
+        this.name = name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /**
+     * Set the selection state.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+    }
+}
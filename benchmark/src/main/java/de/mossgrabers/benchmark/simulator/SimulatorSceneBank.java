@@ -0,0 +1,218 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.ISceneBank;
+import de.mossgrabers.framework.daw.data.IScene;
+
+
+/**
+ * An in-memory scene bank, a window of the scenes of the project.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSceneBank implements ISceneBank
+{
+    private final SimulatorTrackBank trackBank;
+    private final SimulatorScene []  scenes;
+
+    private int                      sceneCount;
+    private int                      scrollPosition;
+
+
+    /**
+     * Constructor.
+     *
+     * @param trackBank The track bank which contains the slots of the scenes
+     * @param numScenes The number of scenes in the bank
+     * @param sceneCount The number of scenes in the project
+     */
+    public SimulatorSceneBank (final SimulatorTrackBank trackBank, final int numScenes, final int sceneCount)
+    {
+        this.trackBank = trackBank;
+        this.sceneCount = sceneCount;
+        this.scenes = new SimulatorScene [numScenes];
+        for (int i = 0; i < numScenes; i++)
+            this.scenes[i] = new SimulatorScene (i);
+        this.updateScenes ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getSceneCount ()
+    {
+        return this.sceneCount;
+    }
+
+
+    /**
+     * Set the number of scenes in the project.
+     *
+     * @param sceneCount The number of scenes
+     */
+    public void setSceneCount (final int sceneCount)
+    {
+        this.sceneCount = sceneCount;
+        this.scrollTo (this.scrollPosition);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getScrollPosition ()
+    {
+        return this.scrollPosition;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IScene getScene (final int index)
+    {
+        return this.scenes[index];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollScenesUp ()
+    {
+        this.scrollTo (this.scrollPosition - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollScenesDown ()
+    {
+        this.scrollTo (this.scrollPosition + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollScenesPageUp ()
+    {
+        this.scrollTo (this.scrollPosition - this.scenes.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollScenesPageDown ()
+    {
+        this.scrollTo (this.scrollPosition + this.scenes.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollScenesUp ()
+    {
+        return this.scrollPosition > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollScenesDown ()
+    {
+        return this.scrollPosition + this.scenes.length < this.sceneCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTo (final int position)
+    {
+        this.scrollPosition = Math.max (0, Math.min (position, this.sceneCount - 1));
+        this.updateScenes ();
+        this.trackBank.updateSlots ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean sceneExists (final int index)
+    {
+        return this.scenes[index].doesExist ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSceneName (final int index)
+    {
+        return this.scenes[index].getName ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launchScene (final int index)
+    {
+        for (int t = 0; t < this.trackBank.getNumTracks (); t++)
+        {
+            final SimulatorTrack track = this.trackBank.getSimulatorTrack (t);
+            if (track.doesExist () && index < track.getNumSlots ())
+                track.getSlot (index).launch ();
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        for (int t = 0; t < this.trackBank.getNumTracks (); t++)
+            this.trackBank.getSimulatorTrack (t).stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectScene (final int index)
+    {
+        for (int i = 0; i < this.scenes.length; i++)
+            this.scenes[i].setSelected (i == index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showScene (final int index)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumScenes ()
+    {
+        return this.scenes.length;
+    }
+
+
+    private void updateScenes ()
+    {
+        for (int i = 0; i < this.scenes.length; i++)
+        {
+            final int position = this.scrollPosition + i;
+            final boolean exists = position < this.sceneCount;
+            this.scenes[i].setExists (exists);
+            this.scenes[i].setName (exists ? "Scene " + (position + 1) : "");
+        }
+    }
+}
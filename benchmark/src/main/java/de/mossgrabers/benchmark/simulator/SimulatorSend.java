@@ -0,0 +1,40 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.data.ISend;
+
+
+/**
+ * An in-memory send of a channel.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSend extends SimulatorParameter implements ISend
+{
+    private final int index;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param index The index of the send
+     */
+    public SimulatorSend (final IValueChanger valueChanger, final int index)
+    {
+        super (valueChanger, "FX " + (index + 1), " dB", 0);
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+}
@@ -0,0 +1,134 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.IValueObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Base class for all in-memory settings. Like in Bitwig an observer is called with the current
+ * value when it gets registered.
+ *
+ * @param <T> The type of the settings value
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public abstract class SimulatorSetting<T> implements ISetting<T>
+{
+    private final String                  label;
+    private final List<IValueObserver<T>> observers = new ArrayList<> ();
+
+    private T                             value;
+    private boolean                       isEnabled = true;
+    private boolean                       isVisible = true;
+
+
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param initialValue The initial value
+     */
+    protected SimulatorSetting (final String label, final T initialValue)
+    {
+        this.label = label;
+        this.value = initialValue;
+    }
+
+
+    /**
+     * Get the label of the setting.
+     *
+     * @return The label
+     */
+    public String getLabel ()
+    {
+        return this.label;
+    }
+
+
+    /**
+     * Get the current value.
+     *
+     * @return The value
+     */
+    public T getValue ()
+    {
+        return this.value;
+    }
+
+
+    /**
+     * Is the setting enabled?
+     *
+     * @return True if enabled
+     */
+    public boolean isEnabled ()
+    {
+        return this.isEnabled;
+    }
+
+
+    /**
+     * Is the setting visible?
+     *
+     * @return True if visible
+     */
+    public boolean isVisible ()
+    {
+        return this.isVisible;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueObserver (final IValueObserver<T> observer)
+    {
+        this.observers.add (observer);
+        if (this.notifiesOnRegistration ())
+            observer.update (this.value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void set (final T value)
+    {
+        this.value = value;
+        for (final IValueObserver<T> observer: this.observers)
+            observer.update (value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setEnabled (final boolean enable)
+    {
+        this.isEnabled = enable;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVisible (final boolean visible)
+    {
+        this.isVisible = visible;
+    }
+
+
+    /**
+     * Should an observer be called with the current value when it gets registered?
+     *
+     * @return True to call it, which is the default
+     */
+    protected boolean notifiesOnRegistration ()
+    {
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Creates in-memory settings. The settings can be looked up by their label to change them from a
+ * test script.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSettingsUI implements ISettingsUI
+{
+    private final Map<String, SimulatorSetting<?>> settings = new LinkedHashMap<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        return this.register (new SimulatorEnumSetting (label, options, initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return this.register (new SimulatorStringSetting (label, initialText));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        return this.register (new SimulatorIntegerSetting (label, minValue, maxValue, initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        return this.register (new SimulatorDoubleSetting (label, minValue, maxValue, initialValue));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return this.register (new SimulatorSignalSetting (label));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return this.register (new SimulatorColorSetting (label, defaultColor));
+    }
+
+
+    /**
+     * Get a setting by its label.
+     *
+     * @param label The label of the setting
+     * @return The setting or null if no setting with that label was created
+     */
+    public SimulatorSetting<?> getSetting (final String label)
+    {
+        return this.settings.get (label);
+    }
+
+
+    /**
+     * Get all created settings.
+     *
+     * @return The settings in the order of their creation
+     */
+    public Iterable<SimulatorSetting<?>> getSettings ()
+    {
+        return this.settings.values ();
+    }
+
+
+    private <S extends SimulatorSetting<?>> S register (final S setting)
+    {
+        this.settings.put (setting.getLabel (), setting);
+        return setting;
+    }
+}
@@ -0,0 +1,77 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.midi.IMidiAccess;
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * Factory for creating the simulated model and MIDI ports of a controller setup.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSetupFactory implements ISetupFactory
+{
+    private final IHost         host;
+    private SimulatorModel      model;
+    private SimulatorMidiAccess midiAccess;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     */
+    public SimulatorSetupFactory (final IHost host)
+    {
+        this.host = host;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IModel createModel (final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends, final int numFilterColumnEntries, final int numResults, final boolean hasFlatTrackList, final int numParams, final int numDevicesInBank, final int numDeviceLayers, final int numDrumPadLayers)
+    {
+        this.model = new SimulatorModel (this.host, colorManager, valueChanger, scales, numTracks, numScenes, numSends, numFilterColumnEntries, numResults, hasFlatTrackList, numParams, numDevicesInBank, numDeviceLayers, numDrumPadLayers);
+        return this.model;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IMidiAccess createMidiAccess ()
+    {
+        this.midiAccess = new SimulatorMidiAccess ();
+        return this.midiAccess;
+    }
+
+
+    /**
+     * Get the model which was created by the setup.
+     *
+     * @return The model or null if not yet created
+     */
+    public SimulatorModel getModel ()
+    {
+        return this.model;
+    }
+
+
+    /**
+     * Get the MIDI access which was created by the setup.
+     *
+     * @return The MIDI access or null if not yet created
+     */
+    public SimulatorMidiAccess getMidiAccess ()
+    {
+        return this.midiAccess;
+    }
+}
@@ -0,0 +1,34 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.ISignalSetting;
+
+
+/**
+ * An in-memory signal setting, e.g. a button. Observers are only called when the signal is set.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSignalSetting extends SimulatorSetting<Void> implements ISignalSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     */
+    public SimulatorSignalSetting (final String label)
+    {
+        super (label, null);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean notifiesOnRegistration ()
+    {
+        return false;
+    }
+}
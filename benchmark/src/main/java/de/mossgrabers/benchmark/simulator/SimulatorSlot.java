@@ -0,0 +1,299 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.utils.StringUtils;
+
+
+/**
+ * An in-memory clip launcher slot.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorSlot implements ISlot, ChangeObservable
+{
+    private final SimulatorTrack track;
+    private final int            index;
+    private final double []      color          = new double [3];
+    private final ChangeNotifier changeNotifier = new ChangeNotifier ();
+
+    private boolean              exists;
+    private String               name           = "";
+    private boolean              isSelected;
+    private boolean              hasContent;
+    private boolean              isRecording;
+    private boolean              isPlaying;
+    private boolean              isPlayingQueued;
+    private boolean              isRecordingQueued;
+    private boolean              isStopQueued;
+
+
+    /**
+     * Constructor.
+     *
+     * @param track The track which contains the slot
+     * @param index The index of the slot
+     */
+    public SimulatorSlot (final SimulatorTrack track, final int index)
+    {
+        this.track = track;
+        this.index = index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getIndex ()
+    {
+        return this.index;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean doesExist ()
+    {
+        return this.exists;
+    }
+
+
+    /**
+     * Set if the slot exists.
+     *
+     * @param exists True if it exists
+     */
+    public void setExists (final boolean exists)
+    {
+        this.exists = exists;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return this.name;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName (final int limit)
+    {
+        return StringUtils.optimizeName (this.name, limit);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isSelected ()
+    {
+        return this.isSelected;
+    }
+
+
+    /**
+     * Set the selection state.
+     *
+     * @param isSelected True if selected
+     */
+    public void setSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasContent ()
+    {
+        return this.hasContent;
+    }
+
+
+    /**
+     * Set the content of the slot.
+     *
+     * @param hasContent True if the slot contains a clip
+     * @param name The name of the clip
+     * @param red The red part of the clip color
+     * @param green The green part of the clip color
+     * @param blue The blue part of the clip color
+     */
+    public void setContent (final boolean hasContent, final String name, final double red, final double green, final double blue)
+    {
+        this.hasContent = hasContent;
+        this.name = hasContent ? name : "";
+        this.setColor (red, green, blue);
+        if (!hasContent)
+            this.setPlayState (false, false, false, false, false);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return this.isRecording;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlayingQueued ()
+    {
+        return this.isPlayingQueued;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecordingQueued ()
+    {
+        return this.isRecordingQueued;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isStopQueued ()
+    {
+        return this.isStopQueued;
+    }
+
+
+    /**
+     * Set all play states at once.
+     *
+     * @param isPlaying True if playing
+     * @param isRecording True if recording
+     * @param isPlayingQueued True if queued for playback
+     * @param isRecordingQueued True if queued for recording
+     * @param isStopQueued True if queued for stopping
+     */
+    public void setPlayState (final boolean isPlaying, final boolean isRecording, final boolean isPlayingQueued, final boolean isRecordingQueued, final boolean isStopQueued)
+    {
+        this.isPlaying = isPlaying;
+        this.isRecording = isRecording;
+        this.isPlayingQueued = isPlayingQueued;
+        this.isRecordingQueued = isRecordingQueued;
+        this.isStopQueued = isStopQueued;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double [] getColor ()
+    {
+        return this.color;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setColor (final double red, final double green, final double blue)
+    {
+        this.color[0] = red;
+        this.color[1] = green;
+        this.color[2] = blue;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void select ()
+    {
+        this.track.selectSlot (this.index);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void launch ()
+    {
+        if (!this.hasContent)
+            return;
+        this.track.stop ();
+        this.setPlayState (true, false, false, false, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        this.track.stop ();
+        this.hasContent = true;
+        this.setPlayState (false, true, false, false, false);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void create (final int length)
+    {
+        this.setContent (true, "Clip " + (this.index + 1), this.track.getColor ()[0], this.track.getColor ()[1], this.track.getColor ()[2]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void delete ()
+    {
+        this.setContent (false, "", 0, 0, 0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void duplicate ()
+    {
+        final SimulatorSlot empty = (SimulatorSlot) this.track.getEmptySlot (this.index);
+        if (empty != null && this.hasContent)
+            empty.setContent (true, this.name, this.color[0], this.color[1], this.color[2]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void browse ()
+    {
+        // Intentionally empty
+    }
+}
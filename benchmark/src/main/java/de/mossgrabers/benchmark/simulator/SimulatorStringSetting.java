@@ -0,0 +1,27 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.configuration.IStringSetting;
+
+
+/**
+ * An in-memory string setting.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorStringSetting extends SimulatorSetting<String> implements IStringSetting
+{
+    /**
+     * Constructor.
+     *
+     * @param label The label of the setting
+     * @param initialValue The initial value
+     */
+    public SimulatorStringSetting (final String label, final String initialValue)
+    {
+        super (label, initialValue);
+    }
+}
@@ -0,0 +1,384 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.data.ISlot;
+import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+
+/**
+ * An in-memory track with its clip launcher slots.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorTrack extends SimulatorChannel implements ITrack
+{
+    private static final String [] CROSSFADE_MODES =
+    {
+        "A",
+        "AB",
+        "B"
+    };
+
+    private final SimulatorSlot [] slots;
+    private final List<ISlot>      selectedSlots   = new ArrayList<> ();
+
+    private int                    position;
+    private boolean                isGroup;
+    private boolean                isRecArm;
+    private boolean                isMonitor;
+    private boolean                isAutoMonitor;
+    private int                    crossfadeMode   = 1;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param type The type of the track
+     * @param index The index of the track in its bank
+     * @param numSends The number of sends
+     * @param numSlots The number of clip launcher slots
+     * @param selector Gets called with the index of the track if it gets selected, may be null
+     */
+    public SimulatorTrack (final IValueChanger valueChanger, final ChannelType type, final int index, final int numSends, final int numSlots, final IntConsumer selector)
+    {
+        super (valueChanger, type, index, numSends, selector);
+
+        // The changes of the clips are published as changes of the track
+        this.slots = new SimulatorSlot [numSlots];
+        for (int i = 0; i < numSlots; i++)
+        {
+            this.slots[i] = new SimulatorSlot (this, i);
+            this.slots[i].addChangeObserver (this.changeNotifier);
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /**
+     * Set the position of the track in the project.
+     *
+     * @param position The position
+     */
+    public void setPosition (final int position)
+    {
+        this.position = position;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isGroup ()
+    {
+        return this.isGroup;
+    }
+
+
+    /**
+     * Set if the track is a group track.
+     *
+     * @param isGroup True if it is a group
+     */
+    public void setGroup (final boolean isGroup)
+    {
+        this.isGroup = isGroup;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecArm ()
+    {
+        return this.isRecArm;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setRecArm (final boolean value)
+    {
+        this.isRecArm = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleRecArm ()
+    {
+        this.isRecArm = !this.isRecArm;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMonitor ()
+    {
+        return this.isMonitor;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMonitor (final boolean value)
+    {
+        this.isMonitor = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMonitor ()
+    {
+        this.isMonitor = !this.isMonitor;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isAutoMonitor ()
+    {
+        return this.isAutoMonitor;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAutoMonitor (final boolean value)
+    {
+        this.isAutoMonitor = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleAutoMonitor ()
+    {
+        this.isAutoMonitor = !this.isAutoMonitor;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canHoldNotes ()
+    {
+        final ChannelType type = this.getType ();
+        return type == ChannelType.INSTRUMENT || type == ChannelType.HYBRID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canHoldAudioData ()
+    {
+        final ChannelType type = this.getType ();
+        return type == ChannelType.AUDIO || type == ChannelType.HYBRID;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getCrossfadeMode ()
+    {
+        return CROSSFADE_MODES[this.crossfadeMode];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCrossfadeModeAsNumber (final int control)
+    {
+        this.setCrossfadeModeAsNumber (this.valueChanger.changeValue (control, this.crossfadeMode, 1, 3));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfadeMode (final String mode)
+    {
+        for (int i = 0; i < CROSSFADE_MODES.length; i++)
+        {
+            if (CROSSFADE_MODES[i].equals (mode))
+                this.crossfadeMode = i;
+        }
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfadeModeAsNumber ()
+    {
+        return this.crossfadeMode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfadeModeAsNumber (final int modeValue)
+    {
+        this.crossfadeMode = Math.max (0, Math.min (2, modeValue));
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCrossfadeMode ()
+    {
+        // A -> B -> AB -> A
+        this.crossfadeMode = this.crossfadeMode == 0 ? 2 : this.crossfadeMode == 2 ? 1 : 0;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumSlots ()
+    {
+        return this.slots.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot getSlot (final int slotIndex)
+    {
+        return this.slots[slotIndex];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot [] getSelectedSlots ()
+    {
+        this.selectedSlots.clear ();
+        for (final SimulatorSlot slot: this.slots)
+        {
+            if (slot.isSelected ())
+                this.selectedSlots.add (slot);
+        }
+        return this.selectedSlots.toArray (new ISlot [this.selectedSlots.size ()]);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot getSelectedSlot ()
+    {
+        for (final SimulatorSlot slot: this.slots)
+        {
+            if (slot.isSelected ())
+                return slot;
+        }
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISlot getEmptySlot (final int startFrom)
+    {
+        final int start = startFrom >= 0 ? startFrom : 0;
+        for (int i = 0; i < this.slots.length; i++)
+        {
+            final SimulatorSlot slot = this.slots[(start + i) % this.slots.length];
+            if (!slot.hasContent ())
+                return slot;
+        }
+        return null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        for (final SimulatorSlot slot: this.slots)
+        {
+            if (slot.isPlaying ())
+                return true;
+        }
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        for (final SimulatorSlot slot: this.slots)
+            slot.setPlayState (false, false, false, false, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void returnToArrangement ()
+    {
+        this.stop ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollClipPageBackwards ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollClipPageForwards ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Select a slot and deselect all others.
+     *
+     * @param slotIndex The index of the slot to select
+     */
+    public void selectSlot (final int slotIndex)
+    {
+        for (int i = 0; i < this.slots.length; i++)
+            this.slots[i].setSelected (i == slotIndex);
+    }
+
+
+    /**
+     * Get a slot with access to the simulation setters.
+     *
+     * @param slotIndex The index of the slot
+     * @return The slot
+     */
+    public SimulatorSlot getSimulatorSlot (final int slotIndex)
+    {
+        return this.slots[slotIndex];
+    }
+}
@@ -0,0 +1,284 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.AbstractChannelBank;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.resource.ChannelType;
+
+
+/**
+ * An in-memory track bank, a window of the tracks of the project. The tracks inside the window get
+ * their existence, name and position from the scroll position and the number of tracks in the
+ * project. The same class is used for the effect track bank.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorTrackBank extends AbstractChannelBank implements ITrackBank
+{
+    private final ChannelType        type;
+    private final SimulatorTrack []  simulatorTracks;
+    private final SimulatorSceneBank simulatorSceneBank;
+
+    private int                      trackCount;
+    private int                      trackPosition;
+    private boolean                  hasParent;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     * @param type The type of the tracks, EFFECT for an effect track bank
+     * @param numTracks The number of tracks of a bank page
+     * @param numScenes The number of scenes of a bank page
+     * @param numSends The number of sends of a bank page
+     * @param trackCount The number of tracks in the project
+     * @param sceneCount The number of scenes in the project
+     */
+    public SimulatorTrackBank (final IValueChanger valueChanger, final ChannelType type, final int numTracks, final int numScenes, final int numSends, final int trackCount, final int sceneCount)
+    {
+        super (valueChanger, numTracks, numScenes, numSends);
+
+        this.type = type;
+        this.trackCount = trackCount;
+
+        this.simulatorTracks = new SimulatorTrack [numTracks];
+        for (int i = 0; i < numTracks; i++)
+            this.simulatorTracks[i] = new SimulatorTrack (valueChanger, type, i, numSends, numScenes, this::selectTrack);
+        this.tracks = this.simulatorTracks;
+
+        this.simulatorSceneBank = numScenes > 0 ? new SimulatorSceneBank (this, numScenes, sceneCount) : null;
+        this.sceneBank = this.simulatorSceneBank;
+
+        this.updateTracks ();
+    }
+
+
+    /**
+     * Get a track of the bank page.
+     *
+     * @param index The index of the track on the page
+     * @return The track
+     */
+    public SimulatorTrack getSimulatorTrack (final int index)
+    {
+        return this.simulatorTracks[index];
+    }
+
+
+    /**
+     * Set the number of tracks in the project.
+     *
+     * @param trackCount The number of tracks
+     */
+    public void setTrackCount (final int trackCount)
+    {
+        this.trackCount = trackCount;
+        this.scrollToChannel (this.trackPosition);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTrackCount ()
+    {
+        return this.trackCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollTracksUp ()
+    {
+        return this.trackPosition > 0;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canScrollTracksDown ()
+    {
+        return this.trackPosition + this.numTracks < this.trackCount;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTracksUp ()
+    {
+        this.scrollToChannel (this.trackPosition - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTracksDown ()
+    {
+        this.scrollToChannel (this.trackPosition + 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTracksPageUp ()
+    {
+        this.scrollToChannel (this.trackPosition - this.numTracks);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollTracksPageDown ()
+    {
+        this.scrollToChannel (this.trackPosition + this.numTracks);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollToChannel (final int channel)
+    {
+        this.trackPosition = Math.max (0, Math.min (channel, this.trackCount - 1));
+        this.updateTracks ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scrollToScene (final int position)
+    {
+        if (this.sceneBank != null)
+            this.sceneBank.scrollTo (position);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setIndication (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTrackPositionFirst ()
+    {
+        return this.trackPosition;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getTrackPositionLast ()
+    {
+        return Math.min (this.trackPosition + this.numTracks, this.trackCount) - 1;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean canEditSend (final int sendIndex)
+    {
+        return this.type != ChannelType.EFFECT && sendIndex < this.numSends;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getEditSendName (final int sendIndex)
+    {
+        return this.canEditSend (sendIndex) ? "FX " + (sendIndex + 1) : "";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectChildren ()
+    {
+        this.hasParent = true;
+        this.scrollToChannel (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void selectParent ()
+    {
+        this.hasParent = false;
+        this.scrollToChannel (0);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasParent ()
+    {
+        return this.hasParent;
+    }
+
+
+    /**
+     * Select a track of the bank page and deselect all others. Notifies the track selection
+     * observers.
+     *
+     * @param index The index of the track on the page
+     */
+    public void selectTrack (final int index)
+    {
+        for (int i = 0; i < this.numTracks; i++)
+        {
+            final SimulatorTrack track = this.simulatorTracks[i];
+            final boolean isSelected = i == index;
+            if (track.isSelected () == isSelected)
+                continue;
+            track.setSelected (isSelected);
+            this.notifyTrackSelectionObservers (i, isSelected);
+        }
+    }
+
+
+    /**
+     * Update the existence of the slots after the scene bank has been scrolled.
+     */
+    public void updateSlots ()
+    {
+        final int sceneCount = this.simulatorSceneBank == null ? 0 : this.simulatorSceneBank.getSceneCount ();
+        final int scenePosition = this.getScenePosition ();
+        for (final SimulatorTrack track: this.simulatorTracks)
+        {
+            for (int s = 0; s < track.getNumSlots (); s++)
+                track.getSimulatorSlot (s).setExists (track.doesExist () && scenePosition + s < sceneCount);
+        }
+    }
+
+
+    private void updateTracks ()
+    {
+        final String prefix = this.type == ChannelType.EFFECT ? "FX " : "Track ";
+        for (int i = 0; i < this.numTracks; i++)
+        {
+            final SimulatorTrack track = this.simulatorTracks[i];
+            final int position = this.trackPosition + i;
+            final boolean exists = position < this.trackCount;
+            track.setExists (exists);
+            track.setPosition (exists ? position : -1);
+            track.setName (exists ? prefix + (position + 1) : "");
+            final int hue = position % 6;
+            track.setColor (hue < 2 ? 0.8 : 0.2, hue % 3 == 1 ? 0.8 : 0.2, hue >= 3 ? 0.8 : 0.2);
+        }
+        this.updateSlots ();
+    }
+}
@@ -0,0 +1,659 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.simulator;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.text.DecimalFormat;
+
+
+/**
+ * An in-memory transport. The play position moves forward with the tempo when the simulated time
+ * advances.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SimulatorTransport implements ITransport, ChangeObservable
+{
+    private static final double  TEMPO_MIN           = 20;
+    private static final double  TEMPO_MAX           = 666;
+
+    private final IValueChanger  valueChanger;
+    private final ChangeNotifier changeNotifier      = new ChangeNotifier ();
+    private final DecimalFormat  tempoFormat         = new DecimalFormat ("#.00");
+    private final DecimalFormat  tempoNoFormat       = new DecimalFormat ("###");
+
+    private boolean              isPlaying;
+    private boolean              isRecording;
+    private boolean              isArrangerOverdub;
+    private boolean              isLauncherOverdub;
+    private boolean              isMetronomeOn;
+    private boolean              isMetronomeTicksOn;
+    private boolean              isPrerollMetronome;
+    private boolean              isLoop;
+    private boolean              isClipLauncherAutomation;
+    private boolean              isArrangerAutomation;
+    private boolean              isPunchIn;
+    private boolean              isPunchOut;
+    private String               automationWriteMode = AUTOMATION_MODES_VALUES[0];
+    private String               preroll             = PREROLL_NONE;
+    private double               position;
+    private double               tempo               = 120;
+    private int                  metronomeVolume;
+    private int                  crossfade;
+    private int                  numerator           = 4;
+    private int                  denominator         = 4;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer
+     */
+    public SimulatorTransport (final IValueChanger valueChanger)
+    {
+        this.valueChanger = valueChanger;
+        this.metronomeVolume = valueChanger.getUpperBound () / 2;
+        this.crossfade = valueChanger.getUpperBound () / 2;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
+    /**
+     * Move the play position forward if the transport is playing.
+     *
+     * @param millis The passed time in milliseconds
+     */
+    public void advance (final long millis)
+    {
+        if (!this.isPlaying)
+            return;
+        this.position += millis * this.tempo / 60000.0;
+        this.changeNotifier.changed ();
+    }
+
+
+    /**
+     * Get the play position.
+     *
+     * @return The position in quarter notes
+     */
+    public double getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final boolean enable)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void play ()
+    {
+        this.isPlaying = !this.isPlaying;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPlaying ()
+    {
+        return this.isPlaying;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void restart ()
+    {
+        this.position = 0;
+        this.isPlaying = true;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop ()
+    {
+        this.isPlaying = false;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void stopAndRewind ()
+    {
+        this.isPlaying = false;
+        this.position = 0;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void record ()
+    {
+        this.isRecording = !this.isRecording;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isRecording ()
+    {
+        return this.isRecording;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isArrangerOverdub ()
+    {
+        return this.isArrangerOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleOverdub ()
+    {
+        this.isArrangerOverdub = !this.isArrangerOverdub;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLauncherOverdub ()
+    {
+        return this.isLauncherOverdub;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLauncherOverdub (final boolean on)
+    {
+        this.isLauncherOverdub = on;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLauncherOverdub ()
+    {
+        this.isLauncherOverdub = !this.isLauncherOverdub;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronome (final boolean on)
+    {
+        this.isMetronomeOn = on;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeOn ()
+    {
+        return this.isMetronomeOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronome ()
+    {
+        this.isMetronomeOn = !this.isMetronomeOn;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMetronomeTicksOn ()
+    {
+        return this.isMetronomeTicksOn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleMetronomeTicks ()
+    {
+        this.isMetronomeTicksOn = !this.isMetronomeTicksOn;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getMetronomeVolumeStr ()
+    {
+        return Math.round (this.valueChanger.toNormalizedValue (this.metronomeVolume) * 100) + "%";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeMetronomeVolume (final int control)
+    {
+        this.metronomeVolume = this.valueChanger.changeValue (control, this.metronomeVolume);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMetronomeVolume (final double value)
+    {
+        this.metronomeVolume = (int) value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMetronomeVolume ()
+    {
+        return this.metronomeVolume;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPrerollMetronomeEnabled ()
+    {
+        return this.isPrerollMetronome;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePrerollMetronome ()
+    {
+        this.isPrerollMetronome = !this.isPrerollMetronome;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setLoop (final boolean on)
+    {
+        this.isLoop = on;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleLoop ()
+    {
+        this.isLoop = !this.isLoop;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isLoop ()
+    {
+        return this.isLoop;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingClipLauncherAutomation ()
+    {
+        return this.isClipLauncherAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isWritingArrangerAutomation ()
+    {
+        return this.isArrangerAutomation;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAutomationWriteMode ()
+    {
+        return this.automationWriteMode;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setAutomationWriteMode (final String mode)
+    {
+        this.automationWriteMode = mode;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteArrangerAutomation ()
+    {
+        this.isArrangerAutomation = !this.isArrangerAutomation;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleWriteClipLauncherAutomation ()
+    {
+        this.isClipLauncherAutomation = !this.isClipLauncherAutomation;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetAutomationOverrides ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void returnToArrangement ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPositionText ()
+    {
+        return StringUtils.formatMeasures (this.getQuartersPerMeasure (), this.position, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getBeatText ()
+    {
+        return StringUtils.formatMeasures (this.getQuartersPerMeasure (), this.position, 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPosition (final double beats)
+    {
+        this.position = Math.max (0, beats);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePosition (final boolean increase)
+    {
+        this.changePosition (increase, this.valueChanger.isSlow ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changePosition (final boolean increase, final boolean slow)
+    {
+        final double frac = slow ? 0.25 : 1.0;
+        this.setPosition (this.position + (increase ? frac : -frac));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchIn (final boolean enable)
+    {
+        this.isPunchIn = enable;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchIn ()
+    {
+        this.isPunchIn = !this.isPunchIn;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchInEnabled ()
+    {
+        return this.isPunchIn;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPunchOut (final boolean enable)
+    {
+        this.isPunchOut = enable;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void togglePunchOut ()
+    {
+        this.isPunchOut = !this.isPunchOut;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isPunchOutEnabled ()
+    {
+        return this.isPunchOut;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void tapTempo ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeTempo (final boolean increase)
+    {
+        this.setTempo (this.tempo + (increase ? 1 : -1));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempo (final double tempo)
+    {
+        this.tempo = Math.min (TEMPO_MAX, Math.max (TEMPO_MIN, tempo));
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public double getTempo ()
+    {
+        return this.tempo;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempo (final double tempo)
+    {
+        return this.tempoFormat.format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String formatTempoNoFraction (final double tempo)
+    {
+        return this.tempoNoFormat.format (tempo);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setTempoIndication (final boolean isTouched)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setCrossfade (final int value)
+    {
+        this.crossfade = value;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getCrossfade ()
+    {
+        return this.crossfade;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changeCrossfade (final int control)
+    {
+        this.crossfade = this.valueChanger.changeValue (control, this.crossfade);
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getPreroll ()
+    {
+        return this.preroll;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPrerollAsBars ()
+    {
+        switch (this.preroll)
+        {
+            case PREROLL_1_BAR:
+                return 1;
+            case PREROLL_2_BARS:
+                return 2;
+            case PREROLL_4_BARS:
+                return 4;
+            default:
+                return 0;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPreroll (final String preroll)
+    {
+        this.preroll = preroll;
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setPrerollAsBars (final int preroll)
+    {
+        switch (preroll)
+        {
+            case 1:
+                this.preroll = PREROLL_1_BAR;
+                break;
+            case 2:
+                this.preroll = PREROLL_2_BARS;
+                break;
+            case 4:
+                this.preroll = PREROLL_4_BARS;
+                break;
+            default:
+                this.preroll = PREROLL_NONE;
+                break;
+        }
+        this.changeNotifier.changed ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNumerator ()
+    {
+        return this.numerator;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getDenominator ()
+    {
+        return this.denominator;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getQuartersPerMeasure ()
+    {
+        return 4 * this.numerator / this.denominator;
+    }
+}
@@ -0,0 +1,129 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+
+/**
+ * Tests that the Push 2 display sends a frame to the display process only if it differs from the
+ * previous one, unless a resend is forced or the keep alive interval is over.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class PushDisplayTest
+{
+    private static final int   PORT = 7000;
+
+    private final CountingHost host = new CountingHost ();
+
+
+    /**
+     * An unchanged frame is skipped, a changed one is sent.
+     */
+    @Test
+    public void testUnchangedFrameIsSkipped ()
+    {
+        final PushDisplay display = this.createDisplay (0);
+
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (1, this.host.getDatagrams ());
+
+        display.send (createFrame (display, "Volume"));
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (1, this.host.getDatagrams ());
+        Assert.assertEquals (1, display.getSentFrames ());
+        Assert.assertEquals (2, display.getSkippedFrames ());
+
+        display.send (createFrame (display, "Pan"));
+        Assert.assertEquals (2, this.host.getDatagrams ());
+        Assert.assertEquals (2, display.getSentFrames ());
+
+        // Compared with the previous frame, not with the first one
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (3, this.host.getDatagrams ());
+    }
+
+
+    /**
+     * A forced flush sends the next frame even if it did not change.
+     */
+    @Test
+    public void testForceFlushResendsFrame ()
+    {
+        final PushDisplay display = this.createDisplay (0);
+
+        display.send (createFrame (display, "Volume"));
+        display.forceFlush ();
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (2, this.host.getDatagrams ());
+
+        // Only once
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (2, this.host.getDatagrams ());
+        Assert.assertEquals (1, display.getSkippedFrames ());
+    }
+
+
+    /**
+     * An unchanged frame is sent again after the keep alive interval.
+     *
+     * @throws InterruptedException Interrupted while waiting for the interval
+     */
+    @Test
+    public void testKeepAliveResendsFrame () throws InterruptedException
+    {
+        final PushDisplay display = this.createDisplay (50);
+
+        display.send (createFrame (display, "Volume"));
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (1, this.host.getDatagrams ());
+
+        Thread.sleep (60);
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (2, this.host.getDatagrams ());
+
+        // The interval starts again
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (2, this.host.getDatagrams ());
+    }
+
+
+    /**
+     * Nothing is sent without a transport, e.g. if no port is configured.
+     */
+    @Test
+    public void testNoTransport ()
+    {
+        final PushDisplay display = new PushDisplay (this.host, true, 1023, new CountingMidiOutput ());
+
+        display.send (createFrame (display, "Volume"));
+        Assert.assertEquals (0, this.host.getDatagrams ());
+        Assert.assertEquals (0, display.getSentFrames ());
+    }
+
+
+    private PushDisplay createDisplay (final int keepAliveInterval)
+    {
+        final PushDisplay display = new PushDisplay (this.host, true, 1023, new CountingMidiOutput ());
+        display.setKeepAliveInterval (keepAliveInterval);
+        display.setTransport (PushDisplay.TRANSPORT_UDP);
+        display.setCommunicationPort (PORT);
+        return display;
+    }
+
+
+    private static DisplayMessage createFrame (final PushDisplay display, final String parameterName)
+    {
+        final DisplayMessage message = display.createMessage ();
+        for (int i = 0; i < 8; i++)
+            message.addParameterElement (parameterName, 512, "0.0 dB", false, -1);
+        return message;
+    }
+}
@@ -0,0 +1,373 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.command.core.AftertouchCommand;
+import de.mossgrabers.framework.command.core.ContinuousCommand;
+import de.mossgrabers.framework.command.core.PitchbendCommand;
+import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.utils.ButtonEvent;
+import de.mossgrabers.framework.view.View;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Tests summing up the steps of relative encoders between two flushes. The MCU encoding is used:
+ * 0x01 to 0x40 turn right, 0x41 to 0x7F turn left.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class EncoderAccumulatorTest
+{
+    private static final Integer KNOB1 = Integer.valueOf (1);
+    private static final Integer KNOB2 = Integer.valueOf (2);
+
+    private boolean              isKnob2Excluded;
+
+
+    /**
+     * Steps in both directions are summed up and sent once with the sign of the sum.
+     */
+    @Test
+    public void testStepsOfBothDirectionsAreSummed ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+
+        Assert.assertTrue (accumulator.add (KNOB1, 0x01));
+        Assert.assertTrue (accumulator.add (KNOB1, 0x02));
+        Assert.assertTrue (accumulator.add (KNOB1, 0x41));
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("1=2"), view.getCommands ());
+
+        view.getCommands ().clear ();
+        accumulator.add (KNOB1, 0x03);
+        accumulator.add (KNOB1, 0x45);
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("1=" + 0x42), view.getCommands ());
+    }
+
+
+    /**
+     * Steps which cancel each other out do not execute the command.
+     */
+    @Test
+    public void testCancelledStepsAreNotExecuted ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+
+        accumulator.add (KNOB1, 0x02);
+        accumulator.add (KNOB1, 0x42);
+        accumulator.flush (view);
+        Assert.assertEquals (0, view.getCommands ().size ());
+    }
+
+
+    /**
+     * A sum which exceeds the range of a relative value is split into several executions with the
+     * same sign.
+     */
+    @Test
+    public void testSumExceedingTheRangeIsSplit ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+
+        for (int i = 0; i < 100; i++)
+            accumulator.add (KNOB1, 0x01);
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("1=" + 0x40, "1=36"), view.getCommands ());
+
+        view.getCommands ().clear ();
+        for (int i = 0; i < 100; i++)
+            accumulator.add (KNOB1, 0x41);
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("1=" + 0x7F, "1=" + (0x40 + 37)), view.getCommands ());
+    }
+
+
+    /**
+     * The steps of different encoders are kept apart and the pending steps are cleared by a
+     * flush.
+     */
+    @Test
+    public void testEncodersAreSummedSeparately ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+
+        accumulator.add (KNOB2, 0x41);
+        accumulator.add (KNOB1, 0x01);
+        accumulator.add (KNOB2, 0x41);
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("2=" + 0x42, "1=1"), view.getCommands ());
+
+        view.getCommands ().clear ();
+        accumulator.flush (view);
+        Assert.assertEquals (0, view.getCommands ().size ());
+    }
+
+
+    /**
+     * Excluded commands are not summed up but need to be executed immediately.
+     */
+    @Test
+    public void testExcludedCommandIsNotSummed ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+
+        accumulator.exclude (KNOB1);
+        Assert.assertFalse (accumulator.add (KNOB1, 0x01));
+        accumulator.flush (view);
+        Assert.assertEquals (0, view.getCommands ().size ());
+    }
+
+
+    /**
+     * A command is only excluded while its condition is met.
+     */
+    @Test
+    public void testConditionalExclusion ()
+    {
+        final EncoderAccumulator accumulator = createAccumulator ();
+        final RecordingView view = new RecordingView ();
+        accumulator.exclude (KNOB2, () -> this.isKnob2Excluded);
+
+        Assert.assertTrue (accumulator.add (KNOB2, 0x01));
+        accumulator.flush (view);
+
+        this.isKnob2Excluded = true;
+        Assert.assertFalse (accumulator.add (KNOB2, 0x01));
+        Assert.assertTrue (accumulator.add (KNOB1, 0x01));
+        accumulator.flush (view);
+        Assert.assertEquals (Arrays.asList ("2=1", "1=1"), view.getCommands ());
+    }
+
+
+    private static EncoderAccumulator createAccumulator ()
+    {
+        return new EncoderAccumulator (new Relative2ValueChanger (16241 + 1, 100, 10));
+    }
+
+
+    /**
+     * Records the executed continuous commands as "ID=value".
+     */
+    private static class RecordingView implements View
+    {
+        private final List<String> commands = new ArrayList<> ();
+
+
+        /**
+         * Get the executed continuous commands.
+         *
+         * @return The commands
+         */
+        public List<String> getCommands ()
+        {
+            return this.commands;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeContinuousCommand (final Integer commandID, final int value)
+        {
+            this.commands.add (commandID + "=" + value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getName ()
+        {
+            return "Recording";
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void onActivate ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void onDeactivate ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void registerTriggerCommand (final Integer commandID, final TriggerCommand command)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeTriggerCommand (final Integer commandID, final ButtonEvent event)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public TriggerCommand getTriggerCommand (final Integer commandID)
+        {
+            return null;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void registerContinuousCommand (final Integer commandID, final ContinuousCommand command)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public ContinuousCommand getContinuousCommand (final Integer commandID)
+        {
+            return null;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void registerNoteCommand (final Integer commandID, final TriggerCommand command)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeNoteCommand (final Integer commandID, final int value)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public TriggerCommand getNoteCommand (final Integer commandID)
+        {
+            return null;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void registerAftertouchCommand (final AftertouchCommand command)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executeAftertouchCommand (final int note, final int value)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void registerPitchbendCommand (final PitchbendCommand command)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void executePitchbendCommand (final int channel, final int data1, final int data2)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public PitchbendCommand getPitchbendCommand ()
+        {
+            return null;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void drawGrid ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void onGridNote (final int note, final int velocity)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void updateControlSurface ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void onGridNoteLongPress (final int note)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean usesButton (final int buttonID)
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void updateNoteMapping ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void selectTrack (final int index)
+        {
+            // Intentionally empty
+        }
+    }
+}
@@ -0,0 +1,179 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tests the detection of long presses with the timer wheel. The host provides a virtual clock.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LongPressTrackerTest
+{
+    private static final int    LONG_PRESS_INTERVAL = 400;
+
+    private final CountingHost  host                = new CountingHost ();
+    private final List<Integer> longPresses         = new ArrayList<> ();
+
+
+    /**
+     * A key which is held down for the interval is a long press.
+     */
+    @Test
+    public void testLongPress ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL);
+
+        tracker.press (60);
+        Assert.assertTrue (tracker.isArmed (60));
+        this.host.advanceTime (LONG_PRESS_INTERVAL - LongPressTracker.TICK_INTERVAL);
+        Assert.assertEquals (Collections.emptyList (), this.longPresses);
+
+        this.host.advanceTime (LongPressTracker.TICK_INTERVAL);
+        Assert.assertEquals (Arrays.asList (Integer.valueOf (60)), this.longPresses);
+        Assert.assertFalse (tracker.isArmed (60));
+
+        // Fires only once
+        this.host.advanceTime (10 * LONG_PRESS_INTERVAL);
+        Assert.assertEquals (1, this.longPresses.size ());
+    }
+
+
+    /**
+     * A key which is released before the interval is over is no long press.
+     */
+    @Test
+    public void testRelease ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL);
+
+        tracker.press (60);
+        this.host.advanceTime (LONG_PRESS_INTERVAL / 2);
+        tracker.release (60);
+        Assert.assertFalse (tracker.isArmed (60));
+        this.host.advanceTime (10 * LONG_PRESS_INTERVAL);
+        Assert.assertEquals (Collections.emptyList (), this.longPresses);
+
+        // A released key can be released again
+        tracker.release (60);
+    }
+
+
+    /**
+     * Pressing a key again restarts its timer.
+     */
+    @Test
+    public void testPressAgainRestartsTimer ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL);
+
+        tracker.press (60);
+        this.host.advanceTime (LONG_PRESS_INTERVAL / 2);
+        tracker.press (60);
+        this.host.advanceTime (LONG_PRESS_INTERVAL / 2);
+        Assert.assertEquals (Collections.emptyList (), this.longPresses);
+        this.host.advanceTime (LONG_PRESS_INTERVAL / 2);
+        Assert.assertEquals (Arrays.asList (Integer.valueOf (60)), this.longPresses);
+    }
+
+
+    /**
+     * Releasing one of several keys in the same slot keeps the others.
+     */
+    @Test
+    public void testKeysInSameSlot ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL);
+
+        tracker.press (1);
+        tracker.press (2);
+        tracker.press (3);
+        tracker.press (4);
+        tracker.release (2);
+        tracker.release (4);
+        this.host.advanceTime (LONG_PRESS_INTERVAL);
+
+        Collections.sort (this.longPresses);
+        Assert.assertEquals (Arrays.asList (Integer.valueOf (1), Integer.valueOf (3)), this.longPresses);
+    }
+
+
+    /**
+     * Only one task is scheduled for each tick and none when no key is held.
+     */
+    @Test
+    public void testOneTaskPerTick ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL);
+
+        for (int i = 0; i < 100; i++)
+            tracker.press (i);
+        Assert.assertEquals (1, this.host.getScheduledTasks ());
+
+        this.host.advanceTime (LONG_PRESS_INTERVAL);
+        Assert.assertEquals (100, this.longPresses.size ());
+        final long ticks = LONG_PRESS_INTERVAL / LongPressTracker.TICK_INTERVAL;
+        Assert.assertEquals (ticks, this.host.getScheduledTasks ());
+
+        this.host.advanceTime (10 * LONG_PRESS_INTERVAL);
+        Assert.assertEquals (ticks, this.host.getScheduledTasks ());
+
+        // Starts ticking again
+        tracker.press (1);
+        Assert.assertEquals (ticks + 1, this.host.getScheduledTasks ());
+    }
+
+
+    /**
+     * The interval is rounded up to full ticks.
+     */
+    @Test
+    public void testIntervalIsRoundedUp ()
+    {
+        final LongPressTracker tracker = this.createTracker (LONG_PRESS_INTERVAL + 20);
+
+        tracker.press (60);
+        this.host.advanceTime (LONG_PRESS_INTERVAL);
+        Assert.assertEquals (Collections.emptyList (), this.longPresses);
+        this.host.advanceTime (LongPressTracker.TICK_INTERVAL);
+        Assert.assertEquals (Arrays.asList (Integer.valueOf (60)), this.longPresses);
+    }
+
+
+    /**
+     * The listener can press keys again.
+     */
+    @Test
+    public void testListenerPressesKey ()
+    {
+        final LongPressTracker [] tracker = new LongPressTracker [1];
+        tracker[0] = new LongPressTracker (this.host, 128, LONG_PRESS_INTERVAL, key -> {
+            this.longPresses.add (Integer.valueOf (key));
+            if (this.longPresses.size () < 3)
+                tracker[0].press (key);
+        });
+
+        tracker[0].press (60);
+        this.host.advanceTime (10 * LONG_PRESS_INTERVAL);
+        Assert.assertEquals (Arrays.asList (Integer.valueOf (60), Integer.valueOf (60), Integer.valueOf (60)), this.longPresses);
+        Assert.assertFalse (tracker[0].isArmed (60));
+    }
+
+
+    private LongPressTracker createTracker (final int longPressInterval)
+    {
+        return new LongPressTracker (this.host, 128, longPressInterval, key -> this.longPresses.add (Integer.valueOf (key)));
+    }
+}
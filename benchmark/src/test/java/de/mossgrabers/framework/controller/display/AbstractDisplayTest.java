@@ -0,0 +1,237 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tests writing the cells of a text display in place into the character rows and sending only the
+ * rows which changed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class AbstractDisplayTest
+{
+    /**
+     * Texts are cut off at the maximum length and padded to the width of the cell.
+     */
+    @Test
+    public void testTextCells ()
+    {
+        final TestDisplay display = new TestDisplay ();
+
+        display.setCell (0, 0, "Volume").setCell (0, 1, "Pan").setCell (0, 3, null).allDone ().flush ();
+        Assert.assertEquals (Arrays.asList ("0:0:" + row ("Volu Pan"), "1:0:" + row ("")), display.getWrites ());
+
+        display.getWrites ().clear ();
+        display.setCell (0, 2, "Send 1").setCell (0, 3, "Crossfade").allDone ().flush ();
+        Assert.assertEquals (Arrays.asList ("0:11:Send Cros"), display.getWrites ());
+    }
+
+
+    /**
+     * Numbers are written without creating a text, including the sign and the extreme values.
+     */
+    @Test
+    public void testNumberCells ()
+    {
+        final TestDisplay display = new TestDisplay ();
+
+        display.setCell (0, 0, 0, Format.FORMAT_RAW).setCell (0, 1, -42, Format.FORMAT_RAW).setCell (0, 2, 12345, Format.FORMAT_RAW).setCell (0, 3, Integer.MIN_VALUE, Format.FORMAT_RAW).done (0);
+        Assert.assertEquals ("0    -42   1234 -214 ", display.getDoneRow (0));
+
+        display.setCell (0, 1, Integer.MAX_VALUE, Format.FORMAT_RAW).done (0);
+        Assert.assertEquals ("0    21474 1234 -214 ", display.getDoneRow (0));
+    }
+
+
+    /**
+     * Cells and blocks are cleared with spaces.
+     */
+    @Test
+    public void testClear ()
+    {
+        final TestDisplay display = new TestDisplay ();
+
+        display.setCell (0, 0, "A").setCell (0, 1, "B").setCell (0, 2, "C").setCell (0, 3, "D");
+        display.setCell (1, 0, "E").setCell (1, 1, "F").setCell (1, 2, "G").setCell (1, 3, "H");
+        display.clearCell (0, 1).clearBlock (1, 1).allDone ();
+        Assert.assertEquals ("A          C    D    ", display.getDoneRow (0));
+        Assert.assertEquals (row ("E    F"), display.getDoneRow (1));
+
+        display.clearColumn (0).allDone ();
+        Assert.assertEquals ("           C    D    ", display.getDoneRow (0));
+        Assert.assertEquals (row ("     F"), display.getDoneRow (1));
+
+        display.clear ().allDone ();
+        Assert.assertEquals (row (""), display.getDoneRow (0));
+    }
+
+
+    /**
+     * A row is only sent if it changed since it was done the last time.
+     */
+    @Test
+    public void testOnlyChangedRowsAreSent ()
+    {
+        final TestDisplay display = new TestDisplay ();
+
+        display.setCell (0, 0, "Vol").setCell (1, 0, "Pan").allDone ().flush ();
+        Assert.assertEquals (2, display.getWrites ().size ());
+
+        display.getWrites ().clear ();
+        display.clear ().setCell (0, 0, "Vol").setCell (1, 0, "Pan").allDone ().flush ();
+        Assert.assertEquals (Collections.emptyList (), display.getWrites ());
+
+        // Not done, therefore not sent
+        display.setCell (1, 0, "Send").flush ();
+        Assert.assertEquals (Collections.emptyList (), display.getWrites ());
+
+        // Only the changed characters are sent
+        display.done (1).flush ();
+        Assert.assertEquals (Arrays.asList ("1:0:Send"), display.getWrites ());
+
+        display.getWrites ().clear ();
+        display.forceFlush ();
+        display.flush ();
+        Assert.assertEquals (Arrays.asList ("0:0:" + row ("Vol"), "1:0:" + row ("Send")), display.getWrites ());
+    }
+
+
+    /**
+     * A row set directly is cut off or padded to the length of the row and does not change the
+     * cells.
+     */
+    @Test
+    public void testSetRow ()
+    {
+        final TestDisplay display = new TestDisplay ();
+
+        display.setCell (0, 0, "Vol");
+        display.setRow (0, "A row which is too long for the display").flush ();
+        Assert.assertEquals (Arrays.asList ("0:0:A row which is too lo"), display.getWrites ());
+
+        display.done (0);
+        Assert.assertEquals (row ("Vol"), display.getDoneRow (0));
+    }
+
+
+    /**
+     * Pad a text with spaces to the length of a row.
+     *
+     * @param text The text
+     * @return The padded text
+     */
+    private static String row (final String text)
+    {
+        final StringBuilder sb = new StringBuilder (text);
+        while (sb.length () < TestDisplay.LENGTH)
+            sb.append (' ');
+        return sb.toString ();
+    }
+
+
+    /**
+     * A display with 2 rows and 4 cells of 5 and 6 characters. As on the hardware displays, the last
+     * character of a cell is kept free as a separator.
+     */
+    private static class TestDisplay extends AbstractDisplay
+    {
+        static final int           LENGTH = 21;
+
+        private final List<String> writes = new ArrayList<> ();
+
+
+        TestDisplay ()
+        {
+            super (new CountingHost (), new CountingMidiOutput (), 2, 4, LENGTH);
+            this.setCellWidths (5, 6, 5, 5);
+            this.writeOverhead = 2;
+        }
+
+
+        /**
+         * Get the sent texts as "row:offset:text".
+         *
+         * @return The texts
+         */
+        List<String> getWrites ()
+        {
+            return this.writes;
+        }
+
+
+        /**
+         * Get the text of a row which was done.
+         *
+         * @param row The row
+         * @return The text
+         */
+        String getDoneRow (final int row)
+        {
+            this.writes.clear ();
+            this.forceFlush ();
+            this.flush ();
+            final String write = this.writes.get (row);
+            this.writes.clear ();
+            return write.substring (write.lastIndexOf (':') + 1);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setCell (final int row, final int column, final int value, final Format format)
+        {
+            this.setChars (row, this.getCellOffset (column), this.getCellWidth (column), value, this.getCellWidth (column) - 1);
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setCell (final int row, final int column, final String value)
+        {
+            this.setChars (row, this.getCellOffset (column), this.getCellWidth (column), value, this.getCellWidth (column) - 1);
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setBlock (final int row, final int block, final String value)
+        {
+            final int cell = 2 * block;
+            final int length = this.getCellWidth (cell) + this.getCellWidth (cell + 1);
+            this.setChars (row, this.getCellOffset (cell), length, value, length - 1);
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void shutdown ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void writeText (final int row, final int offset, final String text)
+        {
+            this.writes.add (row + ":" + offset + ":" + text);
+        }
+    }
+}
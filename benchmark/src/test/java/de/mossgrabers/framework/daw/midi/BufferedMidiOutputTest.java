@@ -0,0 +1,232 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.CountingMidiOutput;
+import de.mossgrabers.framework.controller.display.AbstractDisplay;
+import de.mossgrabers.framework.controller.display.Display;
+import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Tests the coalescing of partial display writes in the buffered midi output.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BufferedMidiOutputTest
+{
+    private static final byte [] HEADER      = StringUtils.fromHexStr ("F0 00 00 66 14 12");
+    private static final String  EMPTY_ROW   = "                                                        ";
+    private static final byte [] OTHER_SYSEX = StringUtils.fromHexStr ("F0 00 00 66 14 0A 00 00 00 00 00 00 00 F7");
+
+
+    /**
+     * A long write which is deferred by the byte budget must not be replaced by a shorter write at
+     * the same position.
+     */
+    @Test
+    public void testShorterWriteDoesNotReplaceDeferredWrite ()
+    {
+        final Hardware hardware = new Hardware ();
+        final BufferedMidiOutput output = new BufferedMidiOutput (hardware);
+        output.setSysexTargetLength (HEADER.length + 1);
+        final TestDisplay display = new TestDisplay (output);
+
+        display.setRow (0, row ("Hello World")).flush ();
+        output.flushAll ();
+        Assert.assertEquals (row ("Hello World"), hardware.getText ());
+        hardware.getSysex ().clear ();
+
+        // Exhaust the budget of the next frame so that the changed span is deferred
+        output.setByteBudget (OTHER_SYSEX.length);
+        output.sendSysex (OTHER_SYSEX);
+        display.setRow (0, row ("Jello Worms")).flush ();
+        output.flush ();
+        Assert.assertEquals (1, output.getPendingMessages ());
+
+        // Only the first character changes, the display already assumes the long span to be shown
+        display.setRow (0, row ("Hello Worms")).flush ();
+        output.flushAll ();
+
+        final List<byte []> messages = hardware.getSysex ();
+        Assert.assertEquals (3, messages.size ());
+        Assert.assertArrayEquals (OTHER_SYSEX, messages.get (0));
+        Assert.assertArrayEquals (sysex (0, "Jello Worms"), messages.get (1));
+        Assert.assertArrayEquals (sysex (0, "H"), messages.get (2));
+        Assert.assertEquals (row ("Hello Worms"), hardware.getText ());
+    }
+
+
+    /**
+     * A write with the same position and length replaces the queued one.
+     */
+    @Test
+    public void testWriteOfSameLengthReplacesQueuedWrite ()
+    {
+        final Hardware hardware = new Hardware ();
+        final BufferedMidiOutput output = new BufferedMidiOutput (hardware);
+        output.setSysexTargetLength (HEADER.length + 1);
+
+        output.sendSysex (sysex (10, "abc"));
+        output.sendSysex (sysex (10, "xyz"));
+        output.flush ();
+
+        Assert.assertEquals (1, hardware.getSysex ().size ());
+        Assert.assertArrayEquals (sysex (10, "xyz"), hardware.getSysex ().get (0));
+        Assert.assertEquals (1, output.getTotalCoalesced ());
+    }
+
+
+    /**
+     * Channel aftertouch has only one data byte and must be counted with its real length.
+     */
+    @Test
+    public void testByteBudgetUsesLengthOnTheWire ()
+    {
+        final CountingMidiOutput device = new CountingMidiOutput ();
+        final BufferedMidiOutput output = new BufferedMidiOutput (device);
+        output.setTargetMask (0xD0, 0xF0);
+        output.setByteBudget (16);
+
+        // 8 VU meters with 2 bytes each fit into the budget
+        for (int i = 0; i < 8; i++)
+            output.sendChannelAftertouch (i << 4 | 0x0C, 0);
+        output.flush ();
+        Assert.assertEquals (8, output.getFrameMessages ());
+        Assert.assertEquals (16, output.getFrameBytes ());
+
+        // Only 5 notes with 3 bytes each fit
+        for (int i = 0; i < 8; i++)
+            output.sendNote (i, 127);
+        output.flush ();
+        Assert.assertEquals (5, output.getFrameMessages ());
+        Assert.assertEquals (15, output.getFrameBytes ());
+        Assert.assertEquals (3, output.getFrameDeferred ());
+    }
+
+
+    private static String row (final String text)
+    {
+        return text + EMPTY_ROW.substring (text.length ());
+    }
+
+
+    private static byte [] sysex (final int offset, final String text)
+    {
+        final byte [] data = Arrays.copyOf (HEADER, HEADER.length + text.length () + 2);
+        data[HEADER.length] = (byte) offset;
+        for (int i = 0; i < text.length (); i++)
+            data[HEADER.length + 1 + i] = (byte) text.charAt (i);
+        data[data.length - 1] = (byte) 0xF7;
+        return data;
+    }
+
+
+    /**
+     * Records the sent system exclusive messages and applies the display writes like a Mackie
+     * Control does.
+     */
+    private static class Hardware extends CountingMidiOutput
+    {
+        private final List<byte []> messages = new ArrayList<> ();
+        private final char []       text     = EMPTY_ROW.toCharArray ();
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void sendSysex (final byte [] data)
+        {
+            super.sendSysex (data);
+            this.messages.add (data.clone ());
+
+            for (int i = 0; i < HEADER.length; i++)
+            {
+                if (data[i] != HEADER[i])
+                    return;
+            }
+            final int offset = data[HEADER.length];
+            for (int i = HEADER.length + 1; i < data.length - 1; i++)
+                this.text[offset + i - HEADER.length - 1] = (char) data[i];
+        }
+
+
+        List<byte []> getSysex ()
+        {
+            return this.messages;
+        }
+
+
+        String getText ()
+        {
+            return new String (this.text);
+        }
+    }
+
+
+    /**
+     * A display with one row of 56 characters which sends the text like the Mackie Control
+     * display.
+     */
+    private static class TestDisplay extends AbstractDisplay
+    {
+        private final SysexBuilder sysexBuilder = new SysexBuilder (70);
+
+
+        TestDisplay (final IMidiOutput output)
+        {
+            super (new CountingHost (), output, 1, 8, 56);
+            this.writeOverhead = HEADER.length + 2;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setCell (final int row, final int column, final int value, final Format format)
+        {
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setCell (final int row, final int column, final String value)
+        {
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public Display setBlock (final int row, final int block, final String value)
+        {
+            return this;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void shutdown ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        protected void writeText (final int row, final int offset, final String text)
+        {
+            this.sysexBuilder.start (HEADER).add (offset).addText (text).send (this.output);
+        }
+    }
+}
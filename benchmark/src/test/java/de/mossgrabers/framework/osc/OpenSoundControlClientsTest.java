@@ -0,0 +1,268 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.benchmark.fake.CountingHost;
+import de.mossgrabers.benchmark.fake.SimpleOpenSoundControlMessage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tests packing the messages of a flush into bundles which fit into the maximum bundle size.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlClientsTest
+{
+    private static final int    MAX_BUNDLE_SIZE = 512;
+
+    // An element of 16 bytes: length prefix, address "/nn", type tags ",i" and the integer
+    private static final int    ELEMENT_SIZE    = 16;
+
+    private final DatagramHost  host            = new DatagramHost ();
+    private final Configuration configuration   = new Configuration ();
+
+
+    /**
+     * Bundles are filled up to exactly the maximum size, the messages keep their order.
+     *
+     * @throws IOException Could not send the bundles
+     */
+    @Test
+    public void testBundlesAreSplitAtMaximumSize () throws IOException
+    {
+        final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+        for (int i = 0; i < 100; i++)
+            messages.add (new SimpleOpenSoundControlMessage ("/" + i, Collections.singletonList (Integer.valueOf (i))));
+
+        final OpenSoundControlClients clients = this.createClients ();
+        clients.startFlush (false);
+        send (clients, messages, true);
+
+        // 31 elements of 16 bytes and the header fill a bundle of 512 bytes
+        final int perBundle = (MAX_BUNDLE_SIZE - OpenSoundControlEncoder.BUNDLE_HEADER_SIZE) / ELEMENT_SIZE;
+        Assert.assertEquals (31, perBundle);
+        Assert.assertEquals (4, this.host.datagrams.size ());
+        for (int i = 0; i < 3; i++)
+            Assert.assertEquals (MAX_BUNDLE_SIZE, this.host.datagrams.get (i).length);
+        Assert.assertEquals (OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + 7 * ELEMENT_SIZE, this.host.datagrams.get (3).length);
+
+        final List<String> addresses = new ArrayList<> ();
+        for (final byte [] datagram: this.host.datagrams)
+            addresses.addAll (getAddresses (datagram));
+        for (int i = 0; i < messages.size (); i++)
+            Assert.assertEquals (messages.get (i).getAddress (), addresses.get (i));
+        Assert.assertEquals (messages.size (), addresses.size ());
+
+        Assert.assertEquals (4, clients.getSentBundles ());
+        Assert.assertEquals (3 * MAX_BUNDLE_SIZE + OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + 7 * ELEMENT_SIZE, clients.getSentBytes ());
+        Assert.assertEquals (0, clients.getOversizeMessages ());
+    }
+
+
+    /**
+     * A message which is larger than the maximum bundle size is sent in its own bundle.
+     *
+     * @throws IOException Could not send the bundles
+     */
+    @Test
+    public void testOversizeMessageIsSentAlone () throws IOException
+    {
+        final char [] text = new char [MAX_BUNDLE_SIZE];
+        Arrays.fill (text, 'x');
+        final List<IOpenSoundControlMessage> messages = new ArrayList<> ();
+        messages.add (new SimpleOpenSoundControlMessage ("/1", Collections.singletonList (Integer.valueOf (1))));
+        messages.add (new SimpleOpenSoundControlMessage ("/text", Collections.singletonList (new String (text))));
+        messages.add (new SimpleOpenSoundControlMessage ("/2", Collections.singletonList (Integer.valueOf (2))));
+
+        final OpenSoundControlClients clients = this.createClients ();
+        clients.startFlush (false);
+        send (clients, messages, true);
+
+        Assert.assertEquals (3, this.host.datagrams.size ());
+        Assert.assertEquals (Arrays.asList ("/1"), getAddresses (this.host.datagrams.get (0)));
+        Assert.assertEquals (Arrays.asList ("/text"), getAddresses (this.host.datagrams.get (1)));
+        Assert.assertEquals (Arrays.asList ("/2"), getAddresses (this.host.datagrams.get (2)));
+        Assert.assertTrue (this.host.datagrams.get (1).length > MAX_BUNDLE_SIZE);
+        Assert.assertEquals (1, clients.getOversizeMessages ());
+    }
+
+
+    /**
+     * Unchanged messages are only sent to a client which waits for a dump.
+     *
+     * @throws IOException Could not send the bundles
+     */
+    @Test
+    public void testUnchangedMessagesAreOnlyDumped () throws IOException
+    {
+        final List<IOpenSoundControlMessage> messages = Collections.singletonList (new SimpleOpenSoundControlMessage ("/1", Collections.singletonList (Integer.valueOf (1))));
+        final OpenSoundControlClients clients = this.createClients ();
+
+        // A new client needs a dump
+        Assert.assertTrue (clients.startFlush (false));
+        send (clients, messages, false);
+        Assert.assertEquals (1, this.host.datagrams.size ());
+
+        Assert.assertFalse (clients.startFlush (false));
+        send (clients, messages, false);
+        Assert.assertEquals (1, this.host.datagrams.size ());
+
+        Assert.assertTrue (clients.startFlush (true));
+        send (clients, messages, false);
+        Assert.assertEquals (2, this.host.datagrams.size ());
+    }
+
+
+    private OpenSoundControlClients createClients ()
+    {
+        final OpenSoundControlClients clients = new OpenSoundControlClients (this.host, this.configuration);
+        clients.add (new OpenSoundControlClient ("127.0.0.1", 9000, null, new String [0]));
+        return clients;
+    }
+
+
+    private static void send (final OpenSoundControlClients clients, final List<IOpenSoundControlMessage> messages, final boolean isChanged) throws IOException
+    {
+        final int size = messages.size ();
+        final int [] addressIndices = new int [size];
+        final boolean [] changed = new boolean [size];
+        final int [] sizes = new int [size];
+        for (int i = 0; i < size; i++)
+        {
+            addressIndices[i] = -1;
+            changed[i] = isChanged;
+            sizes[i] = OpenSoundControlEncoder.getSize (messages.get (i));
+        }
+        clients.send (messages, addressIndices, changed, sizes);
+    }
+
+
+    /**
+     * Get the addresses of the messages in a bundle.
+     *
+     * @param datagram The encoded bundle
+     * @return The addresses
+     */
+    private static List<String> getAddresses (final byte [] datagram)
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap (datagram);
+        final byte [] tag = new byte [8];
+        buffer.get (tag);
+        Assert.assertEquals ("#bundle\0", new String (tag, StandardCharsets.US_ASCII));
+        Assert.assertEquals (OpenSoundControlEncoder.IMMEDIATELY, buffer.getLong ());
+
+        final List<String> addresses = new ArrayList<> ();
+        while (buffer.hasRemaining ())
+        {
+            final int length = buffer.getInt ();
+            final int start = buffer.position ();
+            int end = start;
+            while (datagram[end] != 0)
+                end++;
+            addresses.add (new String (datagram, start, end - start, StandardCharsets.US_ASCII));
+            buffer.position (start + length);
+        }
+        return addresses;
+    }
+
+
+    /**
+     * Records the sent datagrams.
+     */
+    private static class DatagramHost extends CountingHost
+    {
+        final List<byte []> datagrams = new ArrayList<> ();
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void sendDatagramPacket (final String hostAddress, final int port, final byte [] data)
+        {
+            super.sendDatagramPacket (hostAddress, port, data);
+            this.datagrams.add (data);
+        }
+    }
+
+
+    /**
+     * A configuration with a small maximum bundle size.
+     */
+    private static class Configuration implements IOpenSoundControlConfiguration
+    {
+        /** {@inheritDoc} */
+        @Override
+        public boolean shouldLogInputCommands ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean shouldLogOutputCommands ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean filterHeartbeatMessages ()
+        {
+            return true;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getSendHost ()
+        {
+            return "127.0.0.1";
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getSendPort ()
+        {
+            return 9000;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int getMaxBundleSize ()
+        {
+            return MAX_BUNDLE_SIZE;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean useTimeTags ()
+        {
+            return false;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String getSendPolicies ()
+        {
+            return "";
+        }
+    }
+}
@@ -0,0 +1,108 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.benchmark.fake.SimpleOpenSoundControlMessage;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+
+/**
+ * Tests the encoding of OSC messages and bundles and the size calculation which is used to pack
+ * the bundles.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlEncoderTest
+{
+    /**
+     * The calculated size matches the encoded size for all value types.
+     */
+    @Test
+    public void testSizeMatchesEncoding ()
+    {
+        final Object [] [] valueLists =
+        {
+            {},
+            {
+                Integer.valueOf (1)
+            },
+            {
+                Double.valueOf (0.5),
+                Long.valueOf (1L << 40),
+                Boolean.TRUE,
+                null
+            },
+            {
+                "abc"
+            },
+            {
+                "abcd"
+            },
+            {
+                "Grüße € 🎹"
+            }
+        };
+
+        for (final Object [] values: valueLists)
+        {
+            for (final String address: new String []
+            {
+                "/a",
+                "/abc",
+                "/track/1/volume"
+            })
+            {
+                final IOpenSoundControlMessage message = new SimpleOpenSoundControlMessage (address, Arrays.asList (values));
+                final byte [] encoded = OpenSoundControlEncoder.encodeMessage (message);
+                Assert.assertEquals (encoded.length, OpenSoundControlEncoder.getSize (message));
+                Assert.assertEquals (0, encoded.length % 4);
+            }
+        }
+    }
+
+
+    /**
+     * Strings are terminated and padded to a multiple of 4 bytes.
+     */
+    @Test
+    public void testMessageEncoding ()
+    {
+        final IOpenSoundControlMessage message = new SimpleOpenSoundControlMessage ("/abc", Collections.singletonList (Integer.valueOf (258)));
+        Assert.assertArrayEquals (StringUtils.fromHexStr ("2F 61 62 63 00 00 00 00 2C 69 00 00 00 00 01 02"), OpenSoundControlEncoder.encodeMessage (message));
+    }
+
+
+    /**
+     * A bundle consists of the header, the time tag and the elements with their length.
+     */
+    @Test
+    public void testBundleEncoding ()
+    {
+        final byte [] element1 = StringUtils.fromHexStr ("2F 61 00 00 2C 00 00 00");
+        final byte [] element2 = StringUtils.fromHexStr ("2F 62 00 00 2C 00 00 00");
+        final byte [] bundle = OpenSoundControlEncoder.encodeBundle (Arrays.asList (element1, element2), OpenSoundControlEncoder.IMMEDIATELY);
+
+        Assert.assertEquals (OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + 2 * (OpenSoundControlEncoder.ELEMENT_PREFIX_SIZE + 8), bundle.length);
+        Assert.assertArrayEquals (StringUtils.fromHexStr ("23 62 75 6E 64 6C 65 00 00 00 00 00 00 00 00 01 00 00 00 08 2F 61 00 00 2C 00 00 00 00 00 00 08 2F 62 00 00 2C 00 00 00"), bundle);
+    }
+
+
+    /**
+     * The time tag counts the seconds since 1900 and the fraction of a second.
+     */
+    @Test
+    public void testTimeTag ()
+    {
+        final long timeTag = OpenSoundControlEncoder.createTimeTag (1500);
+        Assert.assertEquals (2208988800L + 1, timeTag >>> 32);
+        Assert.assertEquals (1L << 31, timeTag & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,169 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.benchmark.fake.SimpleOpenSoundControlMessage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tests routing OSC messages to the handlers of exact, numeric (#) and prefix routes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRouterTest
+{
+    private final List<String> calls = new ArrayList<> ();
+
+
+    /**
+     * An exact route only matches the whole address.
+     */
+    @Test
+    public void testExactRoute ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.add ("/master/volume", match -> this.calls.add ("volume " + match.getIntValue ()));
+
+        Assert.assertTrue (router.route (message ("/master/volume", Integer.valueOf (100))));
+        Assert.assertFalse (router.route (message ("/master")));
+        Assert.assertFalse (router.route (message ("/master/volume/indicate")));
+        Assert.assertFalse (router.route (message ("/master/pan")));
+        Assert.assertFalse (router.route (message ("master/volume")));
+        Assert.assertFalse (router.route (message ("")));
+        Assert.assertEquals (Arrays.asList ("volume 100"), this.calls);
+    }
+
+
+    /**
+     * A numeric segment matches any number and provides it as an index.
+     */
+    @Test
+    public void testIndexRoute ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.add ("/track/#/volume", match -> this.calls.add ("track " + match.getIndex (0)));
+        router.add ("/vkb_midi/#/note/#", match -> this.calls.add ("note " + match.getIndex (0) + " " + match.getIndex (1) + " " + match.getIntValue ()));
+
+        Assert.assertTrue (router.route (message ("/track/3/volume")));
+        Assert.assertTrue (router.route (message ("/track/123456789/volume")));
+        Assert.assertTrue (router.route (message ("/vkb_midi/1/note/60", Integer.valueOf (127))));
+        Assert.assertEquals (Arrays.asList ("track 3", "track 123456789", "note 1 60 127"), this.calls);
+
+        // Not a number or too many digits for an index
+        Assert.assertFalse (router.route (message ("/track/x/volume")));
+        Assert.assertFalse (router.route (message ("/track/-1/volume")));
+        Assert.assertFalse (router.route (message ("/track/1234567890/volume")));
+        Assert.assertFalse (router.route (message ("/track//volume")));
+        Assert.assertEquals (3, this.calls.size ());
+    }
+
+
+    /**
+     * A literal segment takes precedence over a numeric one.
+     */
+    @Test
+    public void testLiteralSegmentTakesPrecedence ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.add ("/track/#/volume", match -> this.calls.add ("track " + match.getIndex (0)));
+        router.add ("/track/selected/volume", match -> this.calls.add ("selected"));
+        router.add ("/track/1/volume", match -> this.calls.add ("first"));
+
+        router.route (message ("/track/selected/volume"));
+        router.route (message ("/track/1/volume"));
+        router.route (message ("/track/2/volume"));
+        Assert.assertEquals (Arrays.asList ("selected", "first", "track 2"), this.calls);
+    }
+
+
+    /**
+     * A prefix route receives all addresses which are not matched by a more specific route
+     * together with the remaining segments.
+     */
+    @Test
+    public void testPrefixRoute ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.addPrefix ("/track", match -> this.calls.add ("prefix " + match.getRemainingParts ()));
+        router.addPrefix ("/track/#", match -> this.calls.add ("track " + match.getIndex (0) + " " + match.getRemainingParts ()));
+        router.add ("/track/#/volume", match -> this.calls.add ("volume " + match.getIndex (0) + " " + match.getRemainingParts ()));
+
+        Assert.assertTrue (router.route (message ("/track/2/volume")));
+        Assert.assertTrue (router.route (message ("/track/2/send/1/volume")));
+        Assert.assertTrue (router.route (message ("/track/2")));
+        Assert.assertTrue (router.route (message ("/track/bank/+")));
+        Assert.assertTrue (router.route (message ("/track")));
+        Assert.assertFalse (router.route (message ("/tracks")));
+        Assert.assertEquals (Arrays.asList ("volume 2 []", "track 2 [send, 1, volume]", "track 2 []", "prefix [bank, +]", "prefix []"), this.calls);
+    }
+
+
+    /**
+     * The index of an exact route which did not match is not passed on to the prefix handler.
+     */
+    @Test
+    public void testPrefixRouteDoesNotSeeIndicesOfDeeperRoutes ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.addPrefix ("/device", match -> {
+            this.calls.add ("device " + match.getRemainingParts ());
+            try
+            {
+                match.getIndex (0);
+                this.calls.add ("index");
+            }
+            catch (final IndexOutOfBoundsException ex)
+            {
+                this.calls.add ("no index");
+            }
+        });
+        router.add ("/device/param/#/value", match -> this.calls.add ("value " + match.getIndex (0)));
+
+        router.route (message ("/device/param/4/name"));
+        Assert.assertEquals (Arrays.asList ("device [param, 4, name]", "no index"), this.calls);
+    }
+
+
+    /**
+     * A route can only be registered once.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateRoute ()
+    {
+        final OpenSoundControlRouter router = new OpenSoundControlRouter ();
+        router.add ("/track/#/volume", match -> this.calls.add ("first"));
+        router.add ("/track/#/volume", match -> this.calls.add ("second"));
+    }
+
+
+    /**
+     * A route must be absolute.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRelativeRoute ()
+    {
+        new OpenSoundControlRouter ().add ("track/#/volume", match -> this.calls.add ("track"));
+    }
+
+
+    private static IOpenSoundControlMessage message (final String address)
+    {
+        return new SimpleOpenSoundControlMessage (address, Collections.emptyList ());
+    }
+
+
+    private static IOpenSoundControlMessage message (final String address, final Object value)
+    {
+        return new SimpleOpenSoundControlMessage (address, Collections.singletonList (value));
+    }
+}
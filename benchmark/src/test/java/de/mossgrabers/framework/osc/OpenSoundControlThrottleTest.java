@@ -0,0 +1,192 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Tests the send policies of the throttle: values which are suppressed by a rate, deadband or
+ * release policy must still be sent once they are due or have settled.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlThrottleTest
+{
+    private static final int             VOLUME_STR = 1;
+    private static final int             VOLUME     = 2;
+    private static final int             BEAT       = 3;
+    private static final int             PAN        = 4;
+
+    private final List<String>           queued     = new ArrayList<> ();
+    private final IOpenSoundControlQueue queue      = (addressIndex, address, value) -> this.queued.add (address + "=" + value);
+
+
+    /**
+     * A release policy sends only the last value and only after it did not change for one flush.
+     */
+    @Test
+    public void testReleaseSendsLastValueAfterSettle ()
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+
+        Assert.assertTrue (throttle.isSuppressed (VOLUME_STR, "/track/1/volumeStr", "-6.0 dB", "-6.0 dB"));
+        Assert.assertTrue (throttle.isSuppressed (VOLUME_STR, "/track/1/volumeStr", "-5.0 dB", "-5.0 dB"));
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Collections.emptyList (), this.queued);
+
+        Assert.assertTrue (throttle.isSuppressed (VOLUME_STR, "/track/1/volumeStr", "-4.0 dB", "-4.0 dB"));
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Collections.emptyList (), this.queued);
+        Assert.assertEquals (1, throttle.getPendingMessages ());
+
+        // No change since the previous flush
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Arrays.asList ("/track/1/volumeStr=-4.0 dB"), this.queued);
+        Assert.assertEquals (0, throttle.getPendingMessages ());
+        Assert.assertEquals (3, throttle.getSuppressedMessages ());
+
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (1, this.queued.size ());
+    }
+
+
+    /**
+     * Changes within the deadband are held back until the value settles, larger changes are sent
+     * immediately.
+     */
+    @Test
+    public void testDeadband ()
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+
+        // Nothing was sent yet to compare with
+        Assert.assertFalse (throttle.isSuppressed (VOLUME, "/track/1/volume", Integer.valueOf (10), Integer.valueOf (10)));
+        Assert.assertTrue (throttle.isSuppressed (VOLUME, "/track/1/volume", Integer.valueOf (11), Integer.valueOf (11)));
+        Assert.assertTrue (throttle.isSuppressed (VOLUME, "/track/1/volume", Integer.valueOf (9), Integer.valueOf (9)));
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Collections.emptyList (), this.queued);
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Arrays.asList ("/track/1/volume=9"), this.queued);
+
+        // Compared with the last sent value
+        Assert.assertTrue (throttle.isSuppressed (VOLUME, "/track/1/volume", Integer.valueOf (10), Integer.valueOf (10)));
+        Assert.assertFalse (throttle.isSuppressed (VOLUME, "/track/1/volume", Integer.valueOf (20), Integer.valueOf (20)));
+
+        // The pending value was replaced by the sent one
+        throttle.releasePending (this.queue);
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (1, this.queued.size ());
+        Assert.assertEquals (0, throttle.getPendingMessages ());
+    }
+
+
+    /**
+     * A rate policy holds back the values until the interval is over, then the latest one is sent
+     * without waiting for it to settle.
+     *
+     * @throws InterruptedException Interrupted while waiting for the interval
+     */
+    @Test
+    public void testRate () throws InterruptedException
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+
+        Assert.assertFalse (throttle.isSuppressed (BEAT, "/beat/str", "1.1", "1.1"));
+        Assert.assertTrue (throttle.isSuppressed (BEAT, "/beat/str", "1.2", "1.2"));
+        Assert.assertTrue (throttle.isSuppressed (BEAT, "/beat/str", "1.3", "1.3"));
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Collections.emptyList (), this.queued);
+
+        // The interval of 20Hz is 50ms
+        Thread.sleep (60);
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Arrays.asList ("/beat/str=1.3"), this.queued);
+        Assert.assertEquals (0, throttle.getPendingMessages ());
+
+        // Releasing the value started a new interval
+        Assert.assertTrue (throttle.isSuppressed (BEAT, "/beat/str", "1.4", "1.4"));
+    }
+
+
+    /**
+     * A value which was sent in the meantime, e.g. by a dump, is no longer pending.
+     */
+    @Test
+    public void testSentValueIsNotPending ()
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+
+        Assert.assertTrue (throttle.isSuppressed (VOLUME_STR, "/track/1/volumeStr", "-6.0 dB", "-6.0 dB"));
+        throttle.sent (VOLUME_STR, "-6.0 dB");
+        throttle.releasePending (this.queue);
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Collections.emptyList (), this.queued);
+        Assert.assertEquals (0, throttle.getPendingMessages ());
+    }
+
+
+    /**
+     * Addresses without a policy are never suppressed.
+     */
+    @Test
+    public void testAddressWithoutPolicy ()
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+        for (int i = 0; i < 10; i++)
+            Assert.assertFalse (throttle.isSuppressed (PAN, "/track/1/pan", Integer.valueOf (i), Integer.valueOf (i)));
+        Assert.assertEquals (0, throttle.getSuppressedMessages ());
+    }
+
+
+    /**
+     * A pending value is sent with the next flush if its address no longer has a policy.
+     */
+    @Test
+    public void testPendingValueIsSentAfterPolicyChange ()
+    {
+        final OpenSoundControlThrottle throttle = createThrottle ();
+
+        Assert.assertTrue (throttle.isSuppressed (VOLUME_STR, "/track/1/volumeStr", "-5.0 dB", "-5.0 dB"));
+        throttle.setPolicies ("/beat/str=20Hz");
+        throttle.releasePending (this.queue);
+        Assert.assertEquals (Arrays.asList ("/track/1/volumeStr=-5.0 dB"), this.queued);
+    }
+
+
+    /**
+     * An invalid policy is rejected and no policy is applied.
+     */
+    @Test
+    public void testInvalidPolicy ()
+    {
+        final OpenSoundControlThrottle throttle = new OpenSoundControlThrottle ();
+        try
+        {
+            throttle.setPolicies ("/beat/str=fast");
+            Assert.fail ("Invalid policy was accepted.");
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            // Expected
+        }
+        Assert.assertFalse (throttle.isSuppressed (BEAT, "/beat/str", "1.1", "1.1"));
+        Assert.assertFalse (throttle.isSuppressed (BEAT, "/beat/str", "1.2", "1.2"));
+    }
+
+
+    private static OpenSoundControlThrottle createThrottle ()
+    {
+        final OpenSoundControlThrottle throttle = new OpenSoundControlThrottle ();
+        throttle.setPolicies ("/track/*/volumeStr=release;/track/*/volume=2;/beat/str=20Hz");
+        return throttle;
+    }
+}
@@ -7,6 +7,9 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.ChannelImpl;
 import de.mossgrabers.bitwig.framework.daw.data.ParameterImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
@@ -27,11 +30,13 @@ import com.bitwig.extension.controller.api.SettableIntegerValue;
 
 
 /**
- * Proxy to the Bitwig Cursor device.
+ * Proxy to the Bitwig Cursor device. Changes of the device, its parameters, parameter pages and
+ * siblings are published to the change observers, the layers and drum pads publish their own
+ * changes.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class CursorDeviceImpl implements ICursorDevice
+public class CursorDeviceImpl implements ICursorDevice, ChangeObservable
 {
     private IHost                    host;
     private PinnableCursorDevice     cursorDevice;
@@ -39,6 +44,7 @@ public class CursorDeviceImpl implements ICursorDevice
     private CursorRemoteControlsPage remoteControls;
     private CursorDeviceLayer        cursorDeviceLayer;
     private IValueChanger            valueChanger;
+    private ChangeNotifier           changeNotifier     = new ChangeNotifier ();
 
     private int                      numParams;
     private int                      numDevicesInBank;
@@ -78,33 +84,35 @@ public class CursorDeviceImpl implements ICursorDevice
         this.numDeviceLayers = numDeviceLayers > 0 ? numDeviceLayers : 8;
         this.numDrumPadLayers = numDrumPadLayers > 0 ? numDrumPadLayers : 16;
 
-        this.cursorDevice.exists ().markInterested ();
-        this.cursorDevice.isEnabled ().markInterested ();
-        this.cursorDevice.name ().markInterested ();
-        this.cursorDevice.isPlugin ().markInterested ();
-        this.cursorDevice.position ().markInterested ();
-        this.cursorDevice.hasPrevious ().markInterested ();
-        this.cursorDevice.hasNext ().markInterested ();
-        this.cursorDevice.isExpanded ().markInterested ();
-        this.cursorDevice.isRemoteControlsSectionVisible ().markInterested ();
-        this.cursorDevice.isWindowOpen ().markInterested ();
-        this.cursorDevice.isNested ().markInterested ();
-        this.cursorDevice.hasDrumPads ().markInterested ();
-        this.cursorDevice.hasLayers ().markInterested ();
-        this.cursorDevice.hasSlots ().markInterested ();
-        this.cursorDevice.isPinned ().markInterested ();
+        this.cursorDevice.exists ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.name ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isPlugin ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.position ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.hasPrevious ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.hasNext ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isExpanded ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isRemoteControlsSectionVisible ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isWindowOpen ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isNested ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.hasDrumPads ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.hasLayers ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.hasSlots ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDevice.isPinned ().addValueObserver (value -> this.changeNotifier.changed ());
 
         this.remoteControls = this.cursorDevice.createCursorRemoteControlsPage (this.numParams);
-        this.remoteControls.hasPrevious ().markInterested ();
-        this.remoteControls.hasNext ().markInterested ();
-        this.remoteControls.selectedPageIndex ().markInterested ();
+        this.remoteControls.hasPrevious ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.remoteControls.hasNext ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.remoteControls.selectedPageIndex ().addValueObserver (value -> this.changeNotifier.changed ());
         this.remoteControls.pageNames ().addValueObserver (this::handlePageNames);
 
         this.fxparams = new IParameter [this.numParams];
         for (int i = 0; i < this.numParams; i++)
         {
             final RemoteControl p = this.getParameter (i);
-            this.fxparams[i] = new ParameterImpl (valueChanger, p, valueChanger.getUpperBound ());
+            final ParameterImpl parameter = new ParameterImpl (valueChanger, p, valueChanger.getUpperBound ());
+            parameter.addChangeObserver (this.changeNotifier);
+            this.fxparams[i] = parameter;
         }
 
         // Monitor the sibling devices of the cursor device
@@ -112,13 +120,13 @@ public class CursorDeviceImpl implements ICursorDevice
         for (int i = 0; i < this.numDevicesInBank; i++)
         {
             final Device device = this.siblings.getDevice (i);
-            device.exists ().markInterested ();
-            device.name ().markInterested ();
+            device.exists ().addValueObserver (value -> this.changeNotifier.changed ());
+            device.name ().addValueObserver (value -> this.changeNotifier.changed ());
         }
 
         this.cursorDeviceLayer = this.cursorDevice.createCursorLayer ();
-        this.cursorDeviceLayer.hasPrevious ().markInterested ();
-        this.cursorDeviceLayer.hasNext ().markInterested ();
+        this.cursorDeviceLayer.hasPrevious ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.cursorDeviceLayer.hasNext ().addValueObserver (value -> this.changeNotifier.changed ());
 
         // Monitor the layers of a container device (if any)
         this.layerBank = this.cursorDevice.createLayerBank (this.numDeviceLayers);
@@ -150,6 +158,14 @@ public class CursorDeviceImpl implements ICursorDevice
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
@@ -1604,6 +1620,7 @@ public class CursorDeviceImpl implements ICursorDevice
     private void handlePageNames (final String [] pageNames)
     {
         this.parameterPageNames = pageNames;
+        this.changeNotifier.changed ();
     }
 
 
@@ -5,6 +5,9 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.utils.StringUtils;
 
@@ -21,7 +24,7 @@ import java.text.DecimalFormat;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class TransportImpl implements ITransport
+public class TransportImpl implements ITransport, ChangeObservable
 {
     /** 1 beat. */
     private static final double INC_FRACTION_TIME      = 1.0;
@@ -33,6 +36,7 @@ public class TransportImpl implements ITransport
     private ControllerHost      host;
     private IValueChanger       valueChanger;
     private Transport           transport;
+    private ChangeNotifier      changeNotifier         = new ChangeNotifier ();
 
     private int                 crossfade              = 0;
     private double              tempo;
@@ -51,32 +55,40 @@ public class TransportImpl implements ITransport
         this.valueChanger = valueChanger;
         this.transport = host.createTransport ();
 
-        this.transport.isPlaying ().markInterested ();
-        this.transport.isArrangerRecordEnabled ().markInterested ();
-        this.transport.isArrangerOverdubEnabled ().markInterested ();
-        this.transport.isClipLauncherAutomationWriteEnabled ().markInterested ();
-        this.transport.isClipLauncherOverdubEnabled ().markInterested ();
-        this.transport.isArrangerAutomationWriteEnabled ().markInterested ();
-        this.transport.automationWriteMode ().markInterested ();
-        this.transport.isArrangerLoopEnabled ().markInterested ();
-        this.transport.isPunchInEnabled ().markInterested ();
-        this.transport.isPunchOutEnabled ().markInterested ();
-        this.transport.isMetronomeEnabled ().markInterested ();
-        this.transport.isMetronomeTickPlaybackEnabled ().markInterested ();
-        this.transport.isMetronomeAudibleDuringPreRoll ().markInterested ();
-        this.transport.preRoll ().markInterested ();
+        this.transport.isPlaying ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isArrangerRecordEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isArrangerOverdubEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isClipLauncherAutomationWriteEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isClipLauncherOverdubEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isArrangerAutomationWriteEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.automationWriteMode ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isArrangerLoopEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isPunchInEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isPunchOutEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isMetronomeEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isMetronomeTickPlaybackEnabled ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.isMetronomeAudibleDuringPreRoll ().addValueObserver (value -> this.changeNotifier.changed ());
+        this.transport.preRoll ().addValueObserver (value -> this.changeNotifier.changed ());
         this.transport.tempo ().value ().addRawValueObserver (this::handleTempo);
-        this.transport.getPosition ().markInterested ();
+        this.transport.getPosition ().addValueObserver (value -> this.changeNotifier.changed ());
         this.transport.crossfade ().value ().addValueObserver (valueChanger.getUpperBound (), this::handleCrossfade);
 
         final SettableRangedValue metronomeVolume = this.transport.metronomeVolume ();
         metronomeVolume.markInterested ();
-        metronomeVolume.displayedValue ().markInterested ();
+        metronomeVolume.displayedValue ().addValueObserver (value -> this.changeNotifier.changed ());
         metronomeVolume.addValueObserver (valueChanger.getUpperBound (), this::handleMetronomeValue);
 
         final TimeSignatureValue ts = this.transport.timeSignature ();
-        ts.numerator ().markInterested ();
-        ts.denominator ().markInterested ();
+        ts.numerator ().addValueObserver (value -> this.changeNotifier.changed ());
+        ts.denominator ().addValueObserver (value -> this.changeNotifier.changed ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
     }
 
 
@@ -648,17 +660,20 @@ public class TransportImpl implements ITransport
     private void handleTempo (final double value)
     {
         this.tempo = Math.min (TransportImpl.TEMPO_MAX, Math.max (TransportImpl.TEMPO_MIN, value));
+        this.changeNotifier.changed ();
     }
 
 
     private void handleCrossfade (final int value)
     {
         this.crossfade = value;
+        this.changeNotifier.changed ();
     }
 
 
     private void handleMetronomeValue (final int value)
     {
         this.metronomeValue = value;
+        this.changeNotifier.changed ();
     }
 }
\ No newline at end of file
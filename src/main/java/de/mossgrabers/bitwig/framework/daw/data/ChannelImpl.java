@@ -5,6 +5,9 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -16,23 +19,25 @@ import com.bitwig.extension.controller.api.SettableColorValue;
 
 
 /**
- * The data of a channel.
+ * The data of a channel. Changes of the channel values, the volume, panorama and send parameters
+ * are published to the change observers.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ChannelImpl implements IChannel
+public class ChannelImpl implements IChannel, ChangeObservable
 {
-    protected IValueChanger valueChanger;
-    protected Channel       channel;
+    protected IValueChanger        valueChanger;
+    protected Channel              channel;
+    protected final ChangeNotifier changeNotifier = new ChangeNotifier ();
 
-    private ISend []        sends;
-    private int             index;
-    private boolean         selected;
-    private int             vu;
-    private int             vuLeft;
-    private int             vuRight;
-    private IParameter      volumeParameter;
-    private IParameter      panParameter;
+    private ISend []               sends;
+    private int                    index;
+    private boolean                selected;
+    private int                    vu;
+    private int                    vuLeft;
+    private int                    vuRight;
+    private IParameter             volumeParameter;
+    private IParameter             panParameter;
 
 
     /**
@@ -52,17 +57,21 @@ public class ChannelImpl implements IChannel
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.exists ().addValueObserver (exists -> this.changeNotifier.changed ());
+        channel.name ().addValueObserver (name -> this.changeNotifier.changed ());
+        channel.isActivated ().addValueObserver (isActivated -> this.changeNotifier.changed ());
+        channel.mute ().addValueObserver (isMute -> this.changeNotifier.changed ());
+        channel.solo ().addValueObserver (isSolo -> this.changeNotifier.changed ());
+        channel.color ().addValueObserver ( (red, green, blue) -> this.changeNotifier.changed ());
 
         final int maxParameterValue = valueChanger.getUpperBound ();
 
-        this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), maxParameterValue);
-        this.panParameter = new ParameterImpl (valueChanger, channel.pan (), maxParameterValue);
+        final ParameterImpl volume = new ParameterImpl (valueChanger, channel.volume (), maxParameterValue);
+        volume.addChangeObserver (this.changeNotifier);
+        this.volumeParameter = volume;
+        final ParameterImpl pan = new ParameterImpl (valueChanger, channel.pan (), maxParameterValue);
+        pan.addChangeObserver (this.changeNotifier);
+        this.panParameter = pan;
 
         channel.addVuMeterObserver (maxParameterValue, -1, true, value -> this.handleVUMeters (maxParameterValue, value));
         channel.addVuMeterObserver (maxParameterValue, 0, true, value -> this.handleVULeftMeter (maxParameterValue, value));
@@ -73,7 +82,19 @@ public class ChannelImpl implements IChannel
             return;
         final SendBank sendBank = channel.sendBank ();
         for (int i = 0; i < numSends; i++)
-            this.sends[i] = new SendImpl (valueChanger, sendBank.getItemAt (i), maxParameterValue, i);
+        {
+            final SendImpl send = new SendImpl (valueChanger, sendBank.getItemAt (i), maxParameterValue, i);
+            send.addChangeObserver (this.changeNotifier);
+            this.sends[i] = send;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
     }
 
 
@@ -116,7 +137,10 @@ public class ChannelImpl implements IChannel
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.changeNotifier.changed ();
     }
 
 
@@ -470,6 +494,7 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vu = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.changeNotifier.changed ();
     }
 
 
@@ -478,6 +503,7 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuLeft = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.changeNotifier.changed ();
     }
 
 
@@ -486,5 +512,6 @@ public class ChannelImpl implements IChannel
         // Limit value to this.configuration.getMaxParameterValue () due to
         // https://github.com/teotigraphix/Framework4Bitwig/issues/98
         this.vuRight = value >= maxParameterValue ? maxParameterValue - 1 : value;
+        this.changeNotifier.changed ();
     }
 }
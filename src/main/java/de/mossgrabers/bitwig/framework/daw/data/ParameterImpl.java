@@ -5,6 +5,9 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
 import de.mossgrabers.framework.daw.data.IParameter;
 
 import com.bitwig.extension.controller.api.Parameter;
@@ -15,14 +18,15 @@ import com.bitwig.extension.controller.api.Parameter;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class ParameterImpl implements IParameter
+public class ParameterImpl implements IParameter, ChangeObservable
 {
-    private IValueChanger   valueChanger;
-    private final Parameter parameter;
-    private final int       maxParameterValue;
+    private IValueChanger        valueChanger;
+    private final Parameter      parameter;
+    private final int            maxParameterValue;
+    private final ChangeNotifier changeNotifier = new ChangeNotifier ();
 
-    private int             value;
-    private int             modulatedValue;
+    private int                  value;
+    private int                  modulatedValue;
 
 
     /**
@@ -38,14 +42,22 @@ public class ParameterImpl implements IParameter
         this.parameter = parameter;
         this.maxParameterValue = maxParameterValue;
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.displayedValue ().markInterested ();
+        parameter.exists ().addValueObserver (exists -> this.changeNotifier.changed ());
+        parameter.name ().addValueObserver (name -> this.changeNotifier.changed ());
+        parameter.displayedValue ().addValueObserver (displayedValue -> this.changeNotifier.changed ());
         parameter.value ().addValueObserver (maxParameterValue, this::handleValue);
         parameter.modulatedValue ().addValueObserver (maxParameterValue, this::handleModulatedValue);
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void enableObservers (final boolean enable)
@@ -165,11 +177,13 @@ public class ParameterImpl implements IParameter
     private void handleValue (final int value)
     {
         this.value = value;
+        this.changeNotifier.changed ();
     }
 
 
     private void handleModulatedValue (final int modulatedValue)
     {
         this.modulatedValue = modulatedValue;
+        this.changeNotifier.changed ();
     }
 }
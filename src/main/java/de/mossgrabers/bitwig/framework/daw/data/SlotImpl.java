@@ -4,6 +4,9 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ChangeNotifier;
+import de.mossgrabers.framework.daw.ChangeObservable;
+import de.mossgrabers.framework.daw.ChangeObserver;
 import de.mossgrabers.framework.daw.data.ISlot;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
@@ -16,11 +19,12 @@ import com.bitwig.extension.controller.api.ColorValue;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class SlotImpl implements ISlot
+public class SlotImpl implements ISlot, ChangeObservable
 {
     private final int                  index;
     private final ClipLauncherSlot     slot;
     private final ClipLauncherSlotBank csBank;
+    private final ChangeNotifier       changeNotifier = new ChangeNotifier ();
 
 
     /**
@@ -37,18 +41,26 @@ public class SlotImpl implements ISlot
         this.index = index;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.exists ().addValueObserver (exists -> this.changeNotifier.changed ());
+        slot.name ().addValueObserver (name -> this.changeNotifier.changed ());
+        slot.hasContent ().addValueObserver (hasContent -> this.changeNotifier.changed ());
+        slot.color ().addValueObserver ( (red, green, blue) -> this.changeNotifier.changed ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        slot.isPlaying ().addValueObserver (isPlaying -> this.changeNotifier.changed ());
+        slot.isPlaybackQueued ().addValueObserver (isPlaybackQueued -> this.changeNotifier.changed ());
+        slot.isRecording ().addValueObserver (isRecording -> this.changeNotifier.changed ());
+        slot.isRecordingQueued ().addValueObserver (isRecordingQueued -> this.changeNotifier.changed ());
+        slot.isStopQueued ().addValueObserver (isStopQueued -> this.changeNotifier.changed ());
+        slot.isSelected ().addValueObserver (isSelected -> this.changeNotifier.changed ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.changeNotifier.addChangeObserver (observer);
     }
 
 
@@ -45,21 +45,26 @@ public class TrackImpl extends ChannelImpl implements ITrack
         if (track == null)
             return;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
-
+        track.trackType ().addValueObserver (trackType -> this.changeNotifier.changed ());
+        track.position ().addValueObserver (position -> this.changeNotifier.changed ());
+        track.isGroup ().addValueObserver (isGroup -> this.changeNotifier.changed ());
+        track.arm ().addValueObserver (isArmed -> this.changeNotifier.changed ());
+        track.monitor ().addValueObserver (isMonitor -> this.changeNotifier.changed ());
+        track.autoMonitor ().addValueObserver (isAutoMonitor -> this.changeNotifier.changed ());
+        track.crossFadeMode ().addValueObserver (crossFadeMode -> this.changeNotifier.changed ());
+        track.canHoldNoteData ().addValueObserver (canHoldNoteData -> this.changeNotifier.changed ());
+        track.canHoldAudioData ().addValueObserver (canHoldAudioData -> this.changeNotifier.changed ());
+        track.isStopped ().addValueObserver (isStopped -> this.changeNotifier.changed ());
+
+        // The changes of the clips are published as changes of the track
         this.slots = new SlotImpl [numScenes];
         final ClipLauncherSlotBank cs = track.clipLauncherSlotBank ();
         for (int i = 0; i < numScenes; i++)
-            this.slots[i] = new SlotImpl (cs, cs.getItemAt (i), i);
+        {
+            final SlotImpl slot = new SlotImpl (cs, cs.getItemAt (i), i);
+            slot.addChangeObserver (this.changeNotifier);
+            this.slots[i] = slot;
+        }
     }
 
 
@@ -48,19 +48,10 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
+        // The writer already limits the size of the bundles
         this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
-        {
             this.sendMessage (message);
-            pos++;
-            if (pos > 1000)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-                this.connection.startBundle ();
-            }
-        }
         this.connection.endBundle ();
     }
 }
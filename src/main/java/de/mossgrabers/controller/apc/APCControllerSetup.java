@@ -126,8 +126,8 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
         this.updateButtons ();
+        this.flushSurfaces ();
     }
 
 
@@ -155,7 +155,7 @@ public class APCControllerSetup extends AbstractControllerSetup<APCControlSurfac
     protected void createSurface ()
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
-        final IMidiOutput output = midiAccess.createOutput ();
+        final IMidiOutput output = this.createBufferedOutput (midiAccess.createOutput ());
         final IMidiInput input = midiAccess.createInput (this.isMkII ? "Akai APC40 mkII" : "Akai APC40",
                 "B040??" /* Sustainpedal */);
         final APCControlSurface surface = new APCControlSurface (this.model.getHost (), this.colorManager, this.configuration, output, input, this.isMkII);
@@ -11,6 +11,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.utils.StringUtils;
 
 
 /**
@@ -93,8 +94,7 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
         BEATSTEP_PRO_STEP16
     };
 
-    static final String         SYSEX_HEADER         = "F0 00 20 6B 7F 42 02 00 10 ";
-    static final String         SYSEX_END            = "F7";
+    static final byte []        SYSEX_HEADER         = StringUtils.fromHexStr ("F0 00 20 6B 7F 42 02 00 10");
 
     private boolean             isPro;
     private boolean             isShift;
@@ -7,7 +7,7 @@ package de.mossgrabers.controller.beatstep.controller;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
 
 /**
@@ -17,7 +17,8 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class BeatstepPadGrid extends PadGridImpl
 {
-    private int columns;
+    private final SysexBuilder sysexBuilder = new SysexBuilder (16);
+    private int                columns;
 
 
     /**
@@ -48,12 +49,7 @@ public class BeatstepPadGrid extends PadGridImpl
     {
         final int n = note - 36;
         final int pad = n < this.columns ? BeatstepControlSurface.BEATSTEP_PAD_9 + n : BeatstepControlSurface.BEATSTEP_PAD_1 + n - this.columns;
-        final String data = BeatstepControlSurface.SYSEX_HEADER + StringUtils.toHexStr (new int []
-        {
-            pad,
-            color
-        }) + BeatstepControlSurface.SYSEX_END;
-        this.output.sendSysex (data);
+        this.sysexBuilder.start (BeatstepControlSurface.SYSEX_HEADER).add (pad).add (color).send (this.output);
     }
 
 
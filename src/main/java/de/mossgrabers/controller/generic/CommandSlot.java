@@ -10,6 +10,9 @@ import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.configuration.IValueObserver;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * A command slot, which contains a button, knob or slider configuration triggered from CC, a note
@@ -71,6 +74,8 @@ public class CommandSlot
     private FlexiCommand           command     = FlexiCommand.OFF;
     private boolean                sendValue;
 
+    private final List<Runnable>   mappingObservers = new ArrayList<> ();
+
 
     /**
      * Constructor.
@@ -87,8 +92,14 @@ public class CommandSlot
         this.functionSetting = settingsUI.getEnumSetting ("Function:", category, NAMES, NAMES[0]);
         this.sendValueSetting = settingsUI.getEnumSetting ("Send value to device:", category, AbstractConfiguration.ON_OFF_OPTIONS, AbstractConfiguration.ON_OFF_OPTIONS[1]);
 
-        this.numberSetting.addValueObserver (value -> this.number = AbstractConfiguration.lookupIndex (OPTIONS_NUMBER, value));
-        this.midiChannelSetting.addValueObserver (value -> this.midiChannel = AbstractConfiguration.lookupIndex (OPTIONS_MIDI_CHANNEL, value));
+        this.numberSetting.addValueObserver (value -> {
+            this.number = AbstractConfiguration.lookupIndex (OPTIONS_NUMBER, value);
+            this.notifyMappingObservers ();
+        });
+        this.midiChannelSetting.addValueObserver (value -> {
+            this.midiChannel = AbstractConfiguration.lookupIndex (OPTIONS_MIDI_CHANNEL, value);
+            this.notifyMappingObservers ();
+        });
 
         this.knobModeSetting.addValueObserver (value -> {
             final int km = AbstractConfiguration.lookupIndex (OPTIONS_KNOBMODE, value);
@@ -103,6 +114,7 @@ public class CommandSlot
         this.typeSetting.addValueObserver (value -> {
             this.type = AbstractConfiguration.lookupIndex (OPTIONS_TYPE, value);
             this.sendValueSetting.setVisible (this.type == TYPE_CC);
+            this.notifyMappingObservers ();
         });
 
         this.functionSetting.addValueObserver (value -> {
@@ -113,9 +125,13 @@ public class CommandSlot
                 this.knobMode = 0;
                 this.knobModeSetting.set (OPTIONS_KNOBMODE[0]);
             }
+            this.notifyMappingObservers ();
         });
 
-        this.sendValueSetting.addValueObserver (value -> this.sendValue = AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0);
+        this.sendValueSetting.addValueObserver (value -> {
+            this.sendValue = AbstractConfiguration.lookupIndex (AbstractConfiguration.ON_OFF_OPTIONS, value) > 0;
+            this.notifyMappingObservers ();
+        });
     }
 
 
@@ -201,6 +217,19 @@ public class CommandSlot
     }
 
 
+    /**
+     * Add an observer which is notified if the type, number, midi channel, command or send value
+     * setting of the slot has changed. The new values are already available when the observer is
+     * called.
+     *
+     * @param observer The observer
+     */
+    public void addMappingObserver (final Runnable observer)
+    {
+        this.mappingObservers.add (observer);
+    }
+
+
     /**
      * Should the value send back to the device?
      *
@@ -291,4 +320,10 @@ public class CommandSlot
     {
         this.sendValueSetting.set (AbstractConfiguration.ON_OFF_OPTIONS[Boolean.parseBoolean (value) ? 1 : 0]);
     }
+
+
+    private void notifyMappingObservers ()
+    {
+        this.mappingObservers.forEach (Runnable::run);
+    }
 }
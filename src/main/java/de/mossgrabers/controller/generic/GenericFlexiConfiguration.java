@@ -21,6 +21,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Properties;
 
 
@@ -35,18 +36,28 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     public static final Integer BUTTON_EXPORT = Integer.valueOf (50);
     /** Import signal. */
     public static final Integer BUTTON_IMPORT = Integer.valueOf (51);
+    /** The notes mapped to a command have changed. */
+    public static final Integer NOTE_MAP      = Integer.valueOf (52);
 
     /** The number of command slots. */
     public static final int     NUM_SLOTS     = 200;
 
+    private static final int [] NO_SLOTS      = new int [0];
+
     private IStringSetting      fileSetting;
+    private IEnumSetting        learnSetting;
     private IEnumSetting        addTypeSetting;
     private IEnumSetting        addNumberSetting;
     private IEnumSetting        addMidiChannelSetting;
 
     private CommandSlot []      commandSlots  = new CommandSlot [NUM_SLOTS];
 
+    // The indices of the slots mapped to a midi message, see getMessageKey
+    private int [] []           slotsByKey    = new int [CommandSlot.OPTIONS_TYPE.length * 16 * 128] [];
+    private int []              slotKeys      = new int [NUM_SLOTS];
+
     private String              filename;
+    private boolean             isLearning;
     private int                 addTypeValue;
     private int                 addNumberValue;
     private int                 addMidiChannel;
@@ -94,6 +105,9 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         category = "Use a knob/fader/button to set, then click add...";
 
+        this.learnSetting = settingsUI.getEnumSetting ("Learn:", category, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        this.learnSetting.addValueObserver (value -> this.isLearning = ON_OFF_OPTIONS[1].equals (value));
+
         this.addTypeSetting = settingsUI.getEnumSetting ("Type:", category, CommandSlot.OPTIONS_TYPE, CommandSlot.OPTIONS_TYPE[0]);
         this.addTypeSetting.addValueObserver (value -> this.addTypeValue = lookupIndex (CommandSlot.OPTIONS_TYPE, value));
 
@@ -111,16 +125,44 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             slot.setVisibility (true);
         });
 
+        Arrays.fill (this.slotKeys, -1);
         for (int i = 0; i < NUM_SLOTS; i++)
         {
+            final int index = i;
             this.commandSlots[i] = new CommandSlot ("Slot " + (i + 1), settingsUI);
-            this.commandSlots[i].addTypeValueObserver (v -> {
-                synchronized (this.syncMapUpdate)
-                {
-                    this.keyMap = null;
-                }
-            });
+            this.commandSlots[i].addMappingObserver ( () -> this.updateSlotIndex (index));
+        }
+    }
+
+
+    /**
+     * Moves a slot to the list of the midi message it is now mapped to. The lists are replaced
+     * instead of modified, they are only changed when a setting is edited but are read on each
+     * received midi message.
+     *
+     * @param index The index of the slot
+     */
+    private void updateSlotIndex (final int index)
+    {
+        final CommandSlot slot = this.commandSlots[index];
+        final int key = slot.getCommand () == FlexiCommand.OFF ? -1 : getMessageKey (slot.getType (), slot.getNumber (), slot.getMidiChannel ());
+        final int oldKey = this.slotKeys[index];
+        if (key == oldKey)
+            return;
+
+        if (oldKey >= 0)
+            this.slotsByKey[oldKey] = removeSlot (this.slotsByKey[oldKey], index);
+        if (key >= 0)
+            this.slotsByKey[key] = insertSlot (this.slotsByKey[key], index);
+        this.slotKeys[index] = key;
+
+        if (!isNoteKey (oldKey) && !isNoteKey (key))
+            return;
+        synchronized (this.syncMapUpdate)
+        {
+            this.keyMap = null;
         }
+        this.notifyObservers (NOTE_MAP);
     }
 
 
@@ -136,37 +178,38 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Set a received CC value.
+     * Set a received CC value. Only applied if learning is enabled and the values differ from the
+     * current ones.
      *
      * @param type The CC, Note or Program Change
      * @param number The number
      * @param midiChannel The midi channel
      */
-    public void setAddValues (final String type, final int number, final int midiChannel)
+    public void setAddValues (final int type, final int number, final int midiChannel)
     {
-        this.addTypeSetting.set (type);
-        this.addNumberSetting.set (Integer.toString (number));
-        this.addMidiChannelSetting.set (Integer.toString (midiChannel + 1));
+        if (!this.isLearning)
+            return;
+        if (type != this.addTypeValue)
+            this.addTypeSetting.set (CommandSlot.OPTIONS_TYPE[type]);
+        if (number != this.addNumberValue)
+            this.addNumberSetting.set (CommandSlot.OPTIONS_NUMBER[number]);
+        if (midiChannel != this.addMidiChannel)
+            this.addMidiChannelSetting.set (CommandSlot.OPTIONS_MIDI_CHANNEL[midiChannel]);
     }
 
 
     /**
-     * Get a matching configured slot command, if available.
+     * Get the configured slot commands matching a midi message.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The midi channel
-     * @return The slot index or -1 if not found
+     * @return The slot indices in ascending order, empty if there is none, must not be modified
      */
-    public int getSlotCommand (final int type, final int number, final int midiChannel)
+    public int [] getSlotCommands (final int type, final int number, final int midiChannel)
     {
-        for (int i = 0; i < this.commandSlots.length; i++)
-        {
-            final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && slot.getNumber () == number)
-                return i;
-        }
-        return -1;
+        final int [] slots = this.slotsByKey[getMessageKey (type, number, midiChannel)];
+        return slots == null ? NO_SLOTS : slots;
     }
 
 
@@ -268,4 +311,50 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
             slot.setSendValue (props.getProperty (slotName + "SEND_VALUE"));
         }
     }
+
+
+    private static int getMessageKey (final int type, final int number, final int midiChannel)
+    {
+        return (type * 16 + midiChannel) * 128 + number;
+    }
+
+
+    private static boolean isNoteKey (final int key)
+    {
+        return key >= 0 && key / (16 * 128) == CommandSlot.TYPE_NOTE;
+    }
+
+
+    private static int [] insertSlot (final int [] slots, final int index)
+    {
+        if (slots == null)
+        {
+            final int [] result = new int [1];
+            result[0] = index;
+            return result;
+        }
+        int pos = 0;
+        while (pos < slots.length && slots[pos] < index)
+            pos++;
+        final int [] result = new int [slots.length + 1];
+        System.arraycopy (slots, 0, result, 0, pos);
+        result[pos] = index;
+        System.arraycopy (slots, pos, result, pos + 1, slots.length - pos);
+        return result;
+    }
+
+
+    private static int [] removeSlot (final int [] slots, final int index)
+    {
+        if (slots.length == 1)
+            return null;
+        final int [] result = new int [slots.length - 1];
+        int pos = 0;
+        for (final int slot: slots)
+        {
+            if (slot != index)
+                result[pos++] = slot;
+        }
+        return result;
+    }
 }
@@ -12,6 +12,7 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.controller.Relative2ValueChanger;
 import de.mossgrabers.framework.controller.Relative3ValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.ChangeObservable;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IHost;
@@ -29,6 +30,8 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 
 /**
@@ -38,20 +41,31 @@ import java.util.Arrays;
  */
 public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFlexiConfiguration>
 {
-    private static final int BUTTON_REPEAT_INTERVAL = 75;
+    private static final int                     BUTTON_REPEAT_INTERVAL = 75;
 
-    private static final int KNOB_MODE_ABSOLUTE     = 0;
-    private static final int KNOB_MODE_RELATIVE1    = 1;
-    private static final int KNOB_MODE_RELATIVE2    = 2;
-    private static final int KNOB_MODE_RELATIVE3    = 3;
+    private static final int                     KNOB_MODE_ABSOLUTE     = 0;
+    private static final int                     KNOB_MODE_RELATIVE1    = 1;
+    private static final int                     KNOB_MODE_RELATIVE2    = 2;
+    private static final int                     KNOB_MODE_RELATIVE3    = 3;
 
-    private IModel           model;
-    private IValueChanger    relative2ValueChanger  = new Relative2ValueChanger (128, 1, 0.5);
-    private IValueChanger    relative3ValueChanger  = new Relative3ValueChanger (128, 1, 0.5);
+    private IModel                               model;
+    private IValueChanger                        relative2ValueChanger  = new Relative2ValueChanger (128, 1, 0.5);
+    private IValueChanger                        relative3ValueChanger  = new Relative3ValueChanger (128, 1, 0.5);
 
-    private int []           valueCache             = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private int []                               valueCache             = new int [GenericFlexiConfiguration.NUM_SLOTS];
 
-    private boolean          isUpdatingValue        = false;
+    // The slots which send the value of their command back to the device
+    private int []                               feedbackSlots          = new int [0];
+    private FlexiCommand []                      feedbackCommands       = new FlexiCommand [0];
+    // The index of the data object of a feedback slot which reports its changes, -1 if polled
+    private int []                               feedbackSources        = new int [0];
+    private boolean                              isFeedbackDirty        = true;
+
+    // All data objects which have ever been observed, observers cannot be removed
+    private final Map<ChangeObservable, Integer> sources                = new IdentityHashMap<> ();
+    private boolean []                           changedSources         = new boolean [0];
+
+    private boolean                              isUpdatingValue        = false;
 
 
     /**
@@ -71,6 +85,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         Arrays.fill (this.valueCache, -1);
         this.model = model;
 
+        this.configuration.addSettingObserver (GenericFlexiConfiguration.NOTE_MAP, this::updateKeyTranslation);
+
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        for (int i = 0; i < slots.length; i++)
+        {
+            final int index = i;
+            slots[i].addMappingObserver ( () -> {
+                this.valueCache[index] = -1;
+                this.isFeedbackDirty = true;
+            });
+        }
+
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_EXPORT, () -> {
             String filename = this.configuration.getFilename ();
             if (filename == null || filename.trim ().isEmpty ())
@@ -124,19 +150,294 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         if (this.isUpdatingValue)
             return;
 
+        if (this.isFeedbackDirty)
+        {
+            this.isFeedbackDirty = false;
+            this.compileFeedback ();
+        }
+
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        for (int i = 0; i < this.feedbackSlots.length; i++)
         {
-            if (slots[i].getType () != CommandSlot.TYPE_CC)
+            final int slotIndex = this.feedbackSlots[i];
+            final int source = this.feedbackSources[i];
+            if (source >= 0 && !this.changedSources[source] && this.valueCache[slotIndex] >= 0)
+                continue;
+            final int value = this.getCommandValue (this.feedbackCommands[i]);
+            if (this.valueCache[slotIndex] == value)
                 continue;
-            final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            this.valueCache[slotIndex] = value;
+            this.getOutput ().sendCC (slots[slotIndex].getNumber (), value);
+        }
+        Arrays.fill (this.changedSources, false);
+    }
+
+
+    /**
+     * Collects the slots which need to send their value back to the device. These are CC slots
+     * with enabled sending and a command which has a value. Called after a slot setting has
+     * changed, therefore flush only needs to check these slots. If the data object of a command
+     * reports its changes, the slot is only checked after such a change.
+     */
+    private void compileFeedback ()
+    {
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        final int [] indices = new int [slots.length];
+        final FlexiCommand [] commands = new FlexiCommand [slots.length];
+        final int [] sourceIndices = new int [slots.length];
+        int count = 0;
+        for (int i = 0; i < slots.length; i++)
+        {
+            final CommandSlot slot = slots[i];
+            if (slot.getType () != CommandSlot.TYPE_CC || !slot.isSendValue ())
                 continue;
-            int value = this.getCommandValue (command);
-            if (this.valueCache[i] == value)
+            final FlexiCommand command = slot.getCommand ();
+            // Commands without a value (e.g. actions) always return -1
+            if (command == FlexiCommand.OFF || this.getCommandValue (command) < 0)
                 continue;
-            this.valueCache[i] = value;
-            this.getOutput ().sendCC (slots[i].getNumber (), value);
+            indices[count] = i;
+            commands[count] = command;
+            sourceIndices[count] = this.observeSource (this.getValueSource (command));
+            count++;
+        }
+        this.feedbackSlots = Arrays.copyOf (indices, count);
+        this.feedbackCommands = Arrays.copyOf (commands, count);
+        this.feedbackSources = Arrays.copyOf (sourceIndices, count);
+    }
+
+
+    /**
+     * Register a change observer at a data object if it was not observed before.
+     *
+     * @param source The data object, might be null
+     * @return The index of the source or -1 if the object does not report its changes
+     */
+    private int observeSource (final Object source)
+    {
+        if (!(source instanceof ChangeObservable))
+            return -1;
+        final ChangeObservable observable = (ChangeObservable) source;
+        final Integer index = this.sources.get (observable);
+        if (index != null)
+            return index.intValue ();
+
+        final int newIndex = this.sources.size ();
+        this.sources.put (observable, Integer.valueOf (newIndex));
+        this.changedSources = Arrays.copyOf (this.changedSources, newIndex + 1);
+        observable.addChangeObserver ( () -> this.changedSources[newIndex] = true);
+        return newIndex;
+    }
+
+
+    /**
+     * Get the data object from which the value of a command is read.
+     *
+     * @param command The command
+     * @return The data object or null if the value does not belong to a fixed object (e.g. the
+     *         selected track)
+     */
+    private Object getValueSource (final FlexiCommand command)
+    {
+        switch (command)
+        {
+            case TRANSPORT_PLAY:
+            case TRANSPORT_STOP:
+            case TRANSPORT_TOGGLE_REPEAT:
+            case TRANSPORT_TOGGLE_METRONOME:
+            case TRANSPORT_SET_METRONOME_VOLUME:
+            case TRANSPORT_TOGGLE_METRONOME_IN_PREROLL:
+            case TRANSPORT_TOGGLE_PUNCH_IN:
+            case TRANSPORT_TOGGLE_PUNCH_OUT:
+            case TRANSPORT_TOGGLE_RECORD:
+            case TRANSPORT_TOGGLE_ARRANGER_OVERDUB:
+            case TRANSPORT_TOGGLE_CLIP_OVERDUB:
+            case TRANSPORT_SET_CROSSFADER:
+            case TRANSPORT_TOGGLE_ARRANGER_AUTOMATION_WRITE:
+            case TRANSPORT_TOGGLE_CLIP_AUTOMATION_WRITE:
+                return this.model.getTransport ();
+
+            case TRACK_1_SELECT:
+            case TRACK_2_SELECT:
+            case TRACK_3_SELECT:
+            case TRACK_4_SELECT:
+            case TRACK_5_SELECT:
+            case TRACK_6_SELECT:
+            case TRACK_7_SELECT:
+            case TRACK_8_SELECT:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_SELECT.ordinal ());
+
+            case TRACK_1_TOGGLE_ACTIVE:
+            case TRACK_2_TOGGLE_ACTIVE:
+            case TRACK_3_TOGGLE_ACTIVE:
+            case TRACK_4_TOGGLE_ACTIVE:
+            case TRACK_5_TOGGLE_ACTIVE:
+            case TRACK_6_TOGGLE_ACTIVE:
+            case TRACK_7_TOGGLE_ACTIVE:
+            case TRACK_8_TOGGLE_ACTIVE:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ACTIVE.ordinal ());
+
+            case TRACK_1_SET_VOLUME:
+            case TRACK_2_SET_VOLUME:
+            case TRACK_3_SET_VOLUME:
+            case TRACK_4_SET_VOLUME:
+            case TRACK_5_SET_VOLUME:
+            case TRACK_6_SET_VOLUME:
+            case TRACK_7_SET_VOLUME:
+            case TRACK_8_SET_VOLUME:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_SET_VOLUME.ordinal ());
+
+            case TRACK_1_SET_PANORAMA:
+            case TRACK_2_SET_PANORAMA:
+            case TRACK_3_SET_PANORAMA:
+            case TRACK_4_SET_PANORAMA:
+            case TRACK_5_SET_PANORAMA:
+            case TRACK_6_SET_PANORAMA:
+            case TRACK_7_SET_PANORAMA:
+            case TRACK_8_SET_PANORAMA:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_SET_PANORAMA.ordinal ());
+
+            case TRACK_1_TOGGLE_MUTE:
+            case TRACK_2_TOGGLE_MUTE:
+            case TRACK_3_TOGGLE_MUTE:
+            case TRACK_4_TOGGLE_MUTE:
+            case TRACK_5_TOGGLE_MUTE:
+            case TRACK_6_TOGGLE_MUTE:
+            case TRACK_7_TOGGLE_MUTE:
+            case TRACK_8_TOGGLE_MUTE:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MUTE.ordinal ());
+
+            case TRACK_1_TOGGLE_SOLO:
+            case TRACK_2_TOGGLE_SOLO:
+            case TRACK_3_TOGGLE_SOLO:
+            case TRACK_4_TOGGLE_SOLO:
+            case TRACK_5_TOGGLE_SOLO:
+            case TRACK_6_TOGGLE_SOLO:
+            case TRACK_7_TOGGLE_SOLO:
+            case TRACK_8_TOGGLE_SOLO:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_SOLO.ordinal ());
+
+            case TRACK_1_TOGGLE_ARM:
+            case TRACK_2_TOGGLE_ARM:
+            case TRACK_3_TOGGLE_ARM:
+            case TRACK_4_TOGGLE_ARM:
+            case TRACK_5_TOGGLE_ARM:
+            case TRACK_6_TOGGLE_ARM:
+            case TRACK_7_TOGGLE_ARM:
+            case TRACK_8_TOGGLE_ARM:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_ARM.ordinal ());
+
+            case TRACK_1_TOGGLE_MONITOR:
+            case TRACK_2_TOGGLE_MONITOR:
+            case TRACK_3_TOGGLE_MONITOR:
+            case TRACK_4_TOGGLE_MONITOR:
+            case TRACK_5_TOGGLE_MONITOR:
+            case TRACK_6_TOGGLE_MONITOR:
+            case TRACK_7_TOGGLE_MONITOR:
+            case TRACK_8_TOGGLE_MONITOR:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_MONITOR.ordinal ());
+
+            case TRACK_1_TOGGLE_AUTO_MONITOR:
+            case TRACK_2_TOGGLE_AUTO_MONITOR:
+            case TRACK_3_TOGGLE_AUTO_MONITOR:
+            case TRACK_4_TOGGLE_AUTO_MONITOR:
+            case TRACK_5_TOGGLE_AUTO_MONITOR:
+            case TRACK_6_TOGGLE_AUTO_MONITOR:
+            case TRACK_7_TOGGLE_AUTO_MONITOR:
+            case TRACK_8_TOGGLE_AUTO_MONITOR:
+                return this.model.getTrackBank ().getTrack (command.ordinal () - FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR.ordinal ());
+
+            case TRACK_1_SET_SEND_1:
+            case TRACK_2_SET_SEND_1:
+            case TRACK_3_SET_SEND_1:
+            case TRACK_4_SET_SEND_1:
+            case TRACK_5_SET_SEND_1:
+            case TRACK_6_SET_SEND_1:
+            case TRACK_7_SET_SEND_1:
+            case TRACK_8_SET_SEND_1:
+            case TRACK_1_SET_SEND_2:
+            case TRACK_2_SET_SEND_2:
+            case TRACK_3_SET_SEND_2:
+            case TRACK_4_SET_SEND_2:
+            case TRACK_5_SET_SEND_2:
+            case TRACK_6_SET_SEND_2:
+            case TRACK_7_SET_SEND_2:
+            case TRACK_8_SET_SEND_2:
+            case TRACK_1_SET_SEND_3:
+            case TRACK_2_SET_SEND_3:
+            case TRACK_3_SET_SEND_3:
+            case TRACK_4_SET_SEND_3:
+            case TRACK_5_SET_SEND_3:
+            case TRACK_6_SET_SEND_3:
+            case TRACK_7_SET_SEND_3:
+            case TRACK_8_SET_SEND_3:
+            case TRACK_1_SET_SEND_4:
+            case TRACK_2_SET_SEND_4:
+            case TRACK_3_SET_SEND_4:
+            case TRACK_4_SET_SEND_4:
+            case TRACK_5_SET_SEND_4:
+            case TRACK_6_SET_SEND_4:
+            case TRACK_7_SET_SEND_4:
+            case TRACK_8_SET_SEND_4:
+            case TRACK_1_SET_SEND_5:
+            case TRACK_2_SET_SEND_5:
+            case TRACK_3_SET_SEND_5:
+            case TRACK_4_SET_SEND_5:
+            case TRACK_5_SET_SEND_5:
+            case TRACK_6_SET_SEND_5:
+            case TRACK_7_SET_SEND_5:
+            case TRACK_8_SET_SEND_5:
+            case TRACK_1_SET_SEND_6:
+            case TRACK_2_SET_SEND_6:
+            case TRACK_3_SET_SEND_6:
+            case TRACK_4_SET_SEND_6:
+            case TRACK_5_SET_SEND_6:
+            case TRACK_6_SET_SEND_6:
+            case TRACK_7_SET_SEND_6:
+            case TRACK_8_SET_SEND_6:
+            case TRACK_1_SET_SEND_7:
+            case TRACK_2_SET_SEND_7:
+            case TRACK_3_SET_SEND_7:
+            case TRACK_4_SET_SEND_7:
+            case TRACK_5_SET_SEND_7:
+            case TRACK_6_SET_SEND_7:
+            case TRACK_7_SET_SEND_7:
+            case TRACK_8_SET_SEND_7:
+            case TRACK_1_SET_SEND_8:
+            case TRACK_2_SET_SEND_8:
+            case TRACK_3_SET_SEND_8:
+            case TRACK_4_SET_SEND_8:
+            case TRACK_5_SET_SEND_8:
+            case TRACK_6_SET_SEND_8:
+            case TRACK_7_SET_SEND_8:
+            case TRACK_8_SET_SEND_8:
+                // The sends are ordered by send and then by track, a track forwards the changes
+                // of its sends
+                return this.model.getTrackBank ().getTrack ((command.ordinal () - FlexiCommand.TRACK_1_SET_SEND_1.ordinal ()) % 8);
+
+            case MASTER_SET_VOLUME:
+            case MASTER_SET_PANORAMA:
+            case MASTER_TOGGLE_MUTE:
+            case MASTER_TOGGLE_SOLO:
+            case MASTER_TOGGLE_ARM:
+                return this.model.getMasterTrack ();
+
+            case DEVICE_TOGGLE_WINDOW:
+            case DEVICE_BYPASS:
+            case DEVICE_EXPAND:
+                return this.model.getCursorDevice ();
+
+            case DEVICE_SET_PARAMETER_1:
+            case DEVICE_SET_PARAMETER_2:
+            case DEVICE_SET_PARAMETER_3:
+            case DEVICE_SET_PARAMETER_4:
+            case DEVICE_SET_PARAMETER_5:
+            case DEVICE_SET_PARAMETER_6:
+            case DEVICE_SET_PARAMETER_7:
+            case DEVICE_SET_PARAMETER_8:
+                return this.model.getCursorDevice ().getFXParam (command.ordinal () - FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal ());
+
+            default:
+                return null;
         }
     }
 
@@ -565,37 +866,34 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         final int code = status & 0xF0;
         final int channel = status & 0xF;
 
-        int slotIndex = -1;
+        final int type;
         int value = data2;
 
         switch (code)
         {
             // Note on/off
             case 0x90:
-                this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_NOTE], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_NOTE, data1, channel);
+                type = CommandSlot.TYPE_NOTE;
                 break;
 
             // Program Change
             case 0xC0:
-                this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_PROGRAM_CHANGE], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
+                type = CommandSlot.TYPE_PROGRAM_CHANGE;
                 value = 127;
-                this.updateKeyTranslation ();
                 break;
 
             // CC
             case 0xB0:
-                this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_CC], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+                type = CommandSlot.TYPE_CC;
                 break;
 
             default:
                 // Not used
-                break;
+                return;
         }
 
-        if (slotIndex != -1)
+        this.configuration.setAddValues (type, data1, channel);
+        for (final int slotIndex: this.configuration.getSlotCommands (type, data1, channel))
             this.handleCommand (slotIndex, value);
     }
 
@@ -104,22 +104,16 @@ public class KontrolOSCConfiguration extends AbstractOpenSoundControlConfigurati
     }
 
 
-    /**
-     * Get the host on which the extension sends OSC messages.
-     *
-     * @return The receive host
-     */
+    /** {@inheritDoc} */
+    @Override
     public String getSendHost ()
     {
         return this.sendHost;
     }
 
 
-    /**
-     * Get the port of the host on which the extension sends OSC messages.
-     *
-     * @return The port
-     */
+    /** {@inheritDoc} */
+    @Override
     public int getSendPort ()
     {
         return this.sendPort;
@@ -17,9 +17,9 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.Collections;
 import java.util.LinkedList;
 
 
@@ -30,13 +30,35 @@ import java.util.LinkedList;
  */
 public class KontrolOSCParser extends AbstractOpenSoundControlParser
 {
-    private static final int []                          DOUBLE_TRUE = new int []
+    private static final int []                          DOUBLE_TRUE       = new int []
     {
         1,
         1
     };
 
+    private static final String []                       TRACK_COMMANDS    =
+    {
+        "info",
+        "view",
+        "arm",
+        "mute",
+        "solo",
+        "volume",
+        "pan"
+    };
+
+    // The track commands which are also sent without the track segment in 1.5
+    private static final String []                       TRACK_COMMANDS_15 =
+    {
+        "volume",
+        "pan",
+        "arm",
+        "mute",
+        "solo"
+    };
+
     private final String                                 daw;
+    private final OpenSoundControlRouter                 router            = new OpenSoundControlRouter ();
     private boolean                                      is16;
 
     private DummyControlSurface<KontrolOSCConfiguration> surface;
@@ -61,6 +83,15 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
         this.daw = is16 ? "dawctrl" : "live";
 
         this.model.getCurrentTrackBank ().setIndication (true);
+
+        // The track values are sent most frequently, therefore they get their own routes
+        final String dawRoute = "/" + this.daw;
+        this.router.addPrefix ("/script", match -> this.parseHostCommands (match.getRemainingParts ()));
+        this.router.addPrefix (dawRoute, match -> this.parseDAWCommands (match.getMessage (), match.getRemainingParts (), match.getMessage ().getValues ()));
+        for (final String command: TRACK_COMMANDS)
+            this.router.add (dawRoute + "/track/" + command, match -> this.parseTrackCommands (command, match.getMessage ().getValues ()));
+        for (final String command: TRACK_COMMANDS_15)
+            this.router.add (dawRoute + "/" + command, match -> this.parseTrackCommands (command, match.getMessage ().getValues ()));
     }
 
 
@@ -68,18 +99,9 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
     @Override
     public void handle (final IOpenSoundControlMessage message)
     {
-        final LinkedList<String> oscParts = parseAddress (message.getAddress ());
-        if (oscParts.isEmpty ())
-            return;
-
         this.logMessage (message);
 
-        final String command = oscParts.removeFirst ();
-        if ("script".equals (command))
-            this.parseHostCommands (oscParts);
-        else if (this.daw.equals (command))
-            this.parseDAWCommands (message, oscParts, message.getValues ());
-        else
+        if (!this.router.route (message))
             this.host.println ("Unknown OSC Command: " + message.getAddress ());
     }
 
@@ -500,17 +522,6 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    private static LinkedList<String> parseAddress (final String address)
-    {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, address.split ("/"));
-
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
-    }
-
-
     private static int toIntValue (final Object [] objects)
     {
         return toNumValue (0, objects).intValue ();
@@ -33,14 +33,79 @@ import java.util.List;
  */
 public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
 {
-    private static final List<Object> DOUBLE_TRUE = new ArrayList<> ();
+    private static final List<Object> DOUBLE_TRUE                = new ArrayList<> ();
     static
     {
         Collections.addAll (DOUBLE_TRUE, Integer.valueOf (1), Integer.valueOf (1));
     }
 
-    private final boolean is16;
-    private final String  daw;
+    private static final String []    GLOBAL_PROPERTIES          =
+    {
+        "loop",
+        "undo_redo",
+        "play",
+        "record",
+        "session_record",
+        "metronome",
+        "session_automation_record",
+        "tempo",
+        "automation",
+        "size",
+        "track/view",
+        "track",
+        "track/device/instance-name"
+    };
+
+    private static final int          GLOBAL_LOOP                = 0;
+    private static final int          GLOBAL_UNDO_REDO           = 1;
+    private static final int          GLOBAL_PLAY                = 2;
+    private static final int          GLOBAL_RECORD              = 3;
+    private static final int          GLOBAL_SESSION_RECORD      = 4;
+    private static final int          GLOBAL_METRONOME           = 5;
+    private static final int          GLOBAL_SESSION_AUTO_RECORD = 6;
+    private static final int          GLOBAL_TEMPO               = 7;
+    private static final int          GLOBAL_AUTOMATION          = 8;
+    private static final int          GLOBAL_SIZE                = 9;
+    private static final int          GLOBAL_TRACK_VIEW          = 10;
+    private static final int          GLOBAL_TRACK               = 11;
+    private static final int          GLOBAL_INSTANCE_NAME       = 12;
+
+    // The values of a track which are cached, both meters are sent to the same address
+    private static final String []    TRACK_PROPERTIES           =
+    {
+        "volume",
+        "pan",
+        "meter",
+        "meter",
+        "arm",
+        "mute",
+        "solo",
+        "type",
+        "name"
+    };
+
+    private static final int          TRACK_VOLUME               = 0;
+    private static final int          TRACK_PAN                  = 1;
+    private static final int          TRACK_METER_LEFT           = 2;
+    private static final int          TRACK_METER_RIGHT          = 3;
+    private static final int          TRACK_ARM                  = 4;
+    private static final int          TRACK_MUTE                 = 5;
+    private static final int          TRACK_SOLO                 = 6;
+    private static final int          TRACK_TYPE                 = 7;
+    private static final int          TRACK_NAME                 = 8;
+
+    // The banks for which track values are cached
+    private static final int          BANK_TRACKS                = 0;
+    private static final int          BANK_EFFECT_TRACKS         = 1;
+    private static final int          BANK_MASTER                = 2;
+
+    private final boolean             is16;
+    private final String              daw;
+    private final int []              globalAddresses;
+    private final String []           trackAddresses             = new String [TRACK_PROPERTIES.length];
+    // The indices of the cached track values, first index is the bank, then the track and the
+    // property
+    private final int [] [] []        trackCacheAddresses        = new int [3] [0] [];
 
 
     /**
@@ -58,16 +123,26 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
 
         this.is16 = is16;
         this.daw = is16 ? "/dawctrl/" : "/live/";
+
+        this.globalAddresses = this.addresses.add (this.daw, GLOBAL_PROPERTIES);
+        if (!is16)
+            this.globalAddresses[GLOBAL_INSTANCE_NAME] = this.addresses.add ("/track/device/instance-name");
+
+        final String trackAddress = is16 ? this.daw + "track/" : this.daw;
+        for (int i = 0; i < TRACK_PROPERTIES.length; i++)
+            this.trackAddresses[i] = trackAddress + TRACK_PROPERTIES[i];
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public void flush (final boolean forceDump)
     {
         if (!this.isConnected ())
             return;
 
+        final boolean dump = this.startFlush (forceDump);
+
         final ITransport trans = this.model.getTransport ();
         final ITrackBank tb = this.model.getTrackBank ();
         final IChannelBank tbe = this.model.getEffectTrackBank ();
@@ -78,34 +153,36 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
         // Transport
         //
 
+        final int [] global = this.globalAddresses;
+
         // 1.x
-        this.sendOSC (this.daw + "loop", trans.isLoop (), dump);
-        this.sendOSC (this.daw + "undo_redo", DOUBLE_TRUE, dump);
+        this.sendOSC (global[GLOBAL_LOOP], trans.isLoop (), dump);
+        this.sendOSC (global[GLOBAL_UNDO_REDO], DOUBLE_TRUE, dump);
 
         if (this.is16)
         {
             // 1.6
-            this.sendOSC (this.daw + "play", trans.isPlaying (), dump);
-            this.sendOSC (this.daw + "record", trans.isRecording (), dump);
-            this.sendOSC (this.daw + "session_record", trans.isLauncherOverdub (), dump);
-            this.sendOSC (this.daw + "metronome", trans.isMetronomeOn (), dump);
+            this.sendOSC (global[GLOBAL_PLAY], trans.isPlaying (), dump);
+            this.sendOSC (global[GLOBAL_RECORD], trans.isRecording (), dump);
+            this.sendOSC (global[GLOBAL_SESSION_RECORD], trans.isLauncherOverdub (), dump);
+            this.sendOSC (global[GLOBAL_METRONOME], trans.isMetronomeOn (), dump);
         }
         else
         {
             // 1.5
-            this.sendOSC (this.daw + "play", trans.isPlaying () ? 2 : 1, dump);
-            this.sendOSC (this.daw + "record", trans.isRecording () ? 2 : 1, dump);
-            this.sendOSC (this.daw + "session_record", trans.isLauncherOverdub () ? 2 : 1, dump);
-            this.sendOSC (this.daw + "metronome", Integer.valueOf (trans.isMetronomeOn () ? 2 : 1), dump);
+            this.sendOSC (global[GLOBAL_PLAY], trans.isPlaying () ? 2 : 1, dump);
+            this.sendOSC (global[GLOBAL_RECORD], trans.isRecording () ? 2 : 1, dump);
+            this.sendOSC (global[GLOBAL_SESSION_RECORD], trans.isLauncherOverdub () ? 2 : 1, dump);
+            this.sendOSC (global[GLOBAL_METRONOME], Integer.valueOf (trans.isMetronomeOn () ? 2 : 1), dump);
         }
 
         // 1.5
-        this.sendOSC (this.daw + "session_automation_record", trans.isWritingClipLauncherAutomation (), dump);
-        this.sendOSC (this.daw + "tempo", trans.getTempo (), dump);
+        this.sendOSC (global[GLOBAL_SESSION_AUTO_RECORD], trans.isWritingClipLauncherAutomation (), dump);
+        this.sendOSC (global[GLOBAL_TEMPO], trans.getTempo (), dump);
 
         // 1.6
         if (this.is16)
-            this.sendOSC (this.daw + "automation", trans.isWritingArrangerAutomation (), dump);
+            this.sendOSC (global[GLOBAL_AUTOMATION], trans.isWritingArrangerAutomation (), dump);
 
         //
         // Master-/Track(-commands)
@@ -115,7 +192,7 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
         final int trackCount = tb.getTrackCount ();
         final List<Object> params = new ArrayList<> ();
         Collections.addAll (params, Integer.valueOf (trackCount), Integer.valueOf (sceneBank == null ? 0 : sceneBank.getSceneCount ()), Integer.valueOf (tbe == null ? 0 : tbe.getTrackCount ()));
-        this.sendOSC (this.daw + "size", params, dump);
+        this.sendOSC (global[GLOBAL_SIZE], params, dump);
 
         // 1.x
         ITrack selTrack = tb.getSelectedTrack ();
@@ -127,12 +204,12 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
             if (this.is16)
             {
                 // 1.6
-                this.sendOSC (this.daw + "track/view", ps, dump);
+                this.sendOSC (global[GLOBAL_TRACK_VIEW], ps, dump);
             }
             else
             {
                 // 1.5
-                this.sendOSC (this.daw + "track", ps, dump);
+                this.sendOSC (global[GLOBAL_TRACK], ps, dump);
             }
         }
         if (tbe != null)
@@ -146,13 +223,13 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
                 {
                     // 1.6
                     Collections.addAll (ps, Integer.valueOf (trackType), Integer.valueOf (selTrack.getIndex ()), "");
-                    this.sendOSC (this.daw + "track/view", ps, dump);
+                    this.sendOSC (global[GLOBAL_TRACK_VIEW], ps, dump);
                 }
                 else
                 {
                     // 1.5
                     Collections.addAll (ps, Integer.valueOf (trackType), Integer.valueOf (selTrack.getIndex ()), "");
-                    this.sendOSC (this.daw + "track", ps, dump);
+                    this.sendOSC (global[GLOBAL_TRACK], ps, dump);
                 }
             }
         }
@@ -163,81 +240,89 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
             {
                 // 1.6
                 Collections.addAll (ps, Integer.valueOf (TrackType.MASTER), Integer.valueOf (0), "");
-                this.sendOSC (this.daw + "track/view", ps, dump);
+                this.sendOSC (global[GLOBAL_TRACK_VIEW], ps, dump);
             }
             else
             {
                 // 1.5
                 Collections.addAll (ps, Integer.valueOf (TrackType.MASTER), Integer.valueOf (0), "");
-                this.sendOSC (this.daw + "track", ps, dump);
+                this.sendOSC (global[GLOBAL_TRACK], ps, dump);
             }
         }
 
-        this.sendTrackBank (this.is16, tb, trackCount, dump);
+        this.sendTrackBank (this.is16, BANK_TRACKS, tb, trackCount, dump);
         if (tbe != null)
-            this.sendTrackBank (this.is16, tbe, trackCount, dump);
-        this.sendTrack (this.is16, 0, masterTrack, dump);
+            this.sendTrackBank (this.is16, BANK_EFFECT_TRACKS, tbe, trackCount, dump);
+        this.sendTrack (this.is16, this.getTrackCacheAddresses (BANK_MASTER, 1)[0], 0, masterTrack, dump);
 
-        if (this.is16)
-        {
-            // 1.6
-            this.sendOSC (this.daw + "track/device/instance-name", this.getKompleteInstance (), dump);
-        }
-        else
-        {
-            // 1.5
-            this.sendOSC ("/track/device/instance-name", this.getKompleteInstance (), dump);
-        }
+        // 1.6: /dawctrl/track/device/instance-name, 1.5: /track/device/instance-name
+        this.sendOSC (global[GLOBAL_INSTANCE_NAME], this.getKompleteInstance (), dump);
 
         // Send all collected messages
         this.flush ();
     }
 
 
-    private void sendTrackBank (final boolean is16, final IChannelBank bank, final int trackCount, final boolean dump)
+    private void sendTrackBank (final boolean is16, final int bankIndex, final IChannelBank bank, final int trackCount, final boolean dump)
+    {
+        final int numTracks = Math.min (trackCount, bank.getNumTracks ());
+        final int [] [] cacheAddresses = this.getTrackCacheAddresses (bankIndex, numTracks);
+        for (int i = 0; i < numTracks; i++)
+            this.sendTrack (is16, cacheAddresses[i], i, bank.getTrack (i), dump);
+    }
+
+
+    /**
+     * Get the indices of the cached values of the tracks of a bank. Creates them if the bank
+     * contains more tracks than before.
+     *
+     * @param bankIndex The index of the bank, BANK_TRACKS, BANK_EFFECT_TRACKS or BANK_MASTER
+     * @param numTracks The number of tracks
+     * @return The indices, first index is the track, second the property
+     */
+    private int [] [] getTrackCacheAddresses (final int bankIndex, final int numTracks)
     {
-        for (int i = 0; i < Math.min (trackCount, bank.getNumTracks ()); i++)
-            this.sendTrack (is16, i, bank.getTrack (i), dump);
+        if (this.trackCacheAddresses[bankIndex].length < numTracks)
+        {
+            final int [] [] cacheAddresses = new int [numTracks] [TRACK_PROPERTIES.length];
+            for (int i = 0; i < numTracks; i++)
+            {
+                for (int p = 0; p < TRACK_PROPERTIES.length; p++)
+                    cacheAddresses[i][p] = this.addresses.add (new StringBuilder (this.trackAddresses[p]).append ('/').append (bankIndex).append ('/').append (i).append ('/').append (p).toString ());
+            }
+            this.trackCacheAddresses[bankIndex] = cacheAddresses;
+        }
+        return this.trackCacheAddresses[bankIndex];
     }
 
 
-    private void sendTrack (final boolean is16, final int trackIndex, final ITrack track, final boolean dump)
+    private void sendTrack (final boolean is16, final int [] cacheAddresses, final int trackIndex, final ITrack track, final boolean dump)
     {
         final int trackType = TrackType.toTrackType (track.getType ());
         final IValueChanger valueChanger = this.model.getValueChanger ();
 
+        this.sendTrackOSC (cacheAddresses, TRACK_VOLUME, createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVolume ()))), dump);
+        this.sendTrackOSC (cacheAddresses, TRACK_PAN, createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) (valueChanger.toNormalizedValue (track.getPan ()) * 2.0 - 1.0))), dump);
         if (is16)
         {
             // 1.6
-            this.sendTrackOSC (this.daw + "track/volume", createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVolume ()))), dump);
-            this.sendTrackOSC (this.daw + "track/pan", createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) (valueChanger.toNormalizedValue (track.getPan ()) * 2.0 - 1.0))), dump);
-            this.sendTrackVuOSC (this.daw + "track/meter", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (0), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuLeft ()))), dump);
-            this.sendTrackVuOSC (this.daw + "track/meter", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (1), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuRight ()))), dump);
-            this.sendTrackOSC (this.daw + "track/arm", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isRecArm () ? 1 : 0)), dump);
-            this.sendTrackOSC (this.daw + "track/mute", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isMute () ? 1 : 0)), dump);
-            this.sendTrackOSC (this.daw + "track/solo", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isSolo () ? 1 : 0)), dump);
+            this.sendTrackOSC (cacheAddresses, TRACK_METER_LEFT, createTrackValueParameter (trackType, trackIndex, Integer.valueOf (0), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuLeft ()))), dump);
+            this.sendTrackOSC (cacheAddresses, TRACK_METER_RIGHT, createTrackValueParameter (trackType, trackIndex, Integer.valueOf (1), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuRight ()))), dump);
         }
         else
         {
-            // 1.5
-            this.sendTrackOSC (this.daw + "volume", createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVolume ()))), dump);
-            this.sendTrackOSC (this.daw + "pan", createTrackValueParameter (trackType, trackIndex, Float.valueOf ((float) (valueChanger.toNormalizedValue (track.getPan ()) * 2.0 - 1.0))), dump);
-            // type and index are switched with these 2 messages...
-            this.sendTrackVuOSC (this.daw + "meter", createTrackValueParameter (trackIndex, trackType, Integer.valueOf (0), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuLeft ()))), dump);
-            this.sendTrackVuOSC (this.daw + "meter", createTrackValueParameter (trackIndex, trackType, Integer.valueOf (1), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuRight ()))), dump);
-            this.sendTrackOSC (this.daw + "arm", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isRecArm () ? 1 : 0)), dump);
-            this.sendTrackOSC (this.daw + "mute", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isMute () ? 1 : 0)), dump);
-            this.sendTrackOSC (this.daw + "solo", createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isSolo () ? 1 : 0)), dump);
+            // 1.5: type and index are switched with these 2 messages...
+            this.sendTrackOSC (cacheAddresses, TRACK_METER_LEFT, createTrackValueParameter (trackIndex, trackType, Integer.valueOf (0), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuLeft ()))), dump);
+            this.sendTrackOSC (cacheAddresses, TRACK_METER_RIGHT, createTrackValueParameter (trackIndex, trackType, Integer.valueOf (1), Float.valueOf ((float) valueChanger.toNormalizedValue (track.getVuRight ()))), dump);
         }
+        this.sendTrackOSC (cacheAddresses, TRACK_ARM, createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isRecArm () ? 1 : 0)), dump);
+        this.sendTrackOSC (cacheAddresses, TRACK_MUTE, createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isMute () ? 1 : 0)), dump);
+        this.sendTrackOSC (cacheAddresses, TRACK_SOLO, createTrackValueParameter (trackType, trackIndex, Integer.valueOf (track.isSolo () ? 1 : 0)), dump);
 
         // Track info needs to be used to update the track name but must only be sent in this case
-        final String cacheAddress = new StringBuilder ("/trackname/").append (trackType).append ("/").append (trackIndex).toString ();
-        final String name = track.getName ();
-        if (!compareValues (this.oldValues.get (cacheAddress), name))
-        {
-            this.oldValues.put (cacheAddress, name);
+        final boolean typeChanged = this.updateCache (cacheAddresses[TRACK_TYPE], Integer.valueOf (trackType));
+        if (this.updateCache (cacheAddresses[TRACK_NAME], track.getName ()) || typeChanged)
             this.sendTrackInfo (trackType, trackIndex);
-        }
     }
 
 
@@ -318,19 +403,10 @@ public class KontrolOSCWriter extends AbstractOpenSoundControlWriter
     }
 
 
-    private void sendTrackVuOSC (final String address, final List<Object> values, final boolean dump)
-    {
-        final List<Object> testValues = new ArrayList<> (values);
-        final String cacheAddress = new StringBuilder (address).append ("/").append (testValues.remove (0)).append ("/").append (testValues.remove (0)).append ("/").append (testValues.remove (0)).toString ();
-        this.sendOSC (cacheAddress, address, testValues, values, dump);
-    }
-
-
-    private void sendTrackOSC (final String address, final List<Object> values, final boolean dump)
+    private void sendTrackOSC (final int [] cacheAddresses, final int property, final List<Object> values, final boolean dump)
     {
-        final List<Object> testValues = new ArrayList<> (values);
-        final String cacheAddress = new StringBuilder (address).append ("/").append (testValues.remove (0)).append ("/").append (testValues.remove (0)).toString ();
-        this.sendOSC (cacheAddress, address, testValues, values, dump);
+        // The values contain the track type and index, therefore a changed type is sent as well
+        this.sendOSC (cacheAddresses[property], this.trackAddresses[property], values, values, dump);
     }
 
 
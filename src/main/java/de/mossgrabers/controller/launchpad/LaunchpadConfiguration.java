@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.launchpad;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.configuration.IEnumSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.IValueChanger;
 
@@ -16,7 +17,11 @@ import de.mossgrabers.framework.controller.IValueChanger;
  */
 public class LaunchpadConfiguration extends AbstractConfiguration
 {
-    private final boolean isPro;
+    /** Setting for using the true RGB colors of clips. */
+    public static final Integer TRUE_RGB  = Integer.valueOf (50);
+
+    private final boolean       isPro;
+    private boolean             isTrueRGB = false;
 
 
     /**
@@ -43,6 +48,17 @@ public class LaunchpadConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Send the real clip colors instead of the nearest palette colors?
+     *
+     * @return True if enabled
+     */
+    public boolean isTrueRGB ()
+    {
+        return this.isTrueRGB;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void init (final ISettingsUI settingsUI)
@@ -76,5 +92,25 @@ public class LaunchpadConfiguration extends AbstractConfiguration
         // Pad Sensitivity
 
         this.activateConvertAftertouchSetting (settingsUI);
+
+        ///////////////////////////
+        // Hardware
+
+        this.activateTrueRGBSetting (settingsUI);
+    }
+
+
+    /**
+     * Activate the true RGB setting.
+     *
+     * @param settingsUI The settings
+     */
+    protected void activateTrueRGBSetting (final ISettingsUI settingsUI)
+    {
+        final IEnumSetting trueRGBSetting = settingsUI.getEnumSetting ("True RGB colors", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        trueRGBSetting.addValueObserver (value -> {
+            this.isTrueRGB = "On".equals (value);
+            this.notifyObservers (TRUE_RGB);
+        });
     }
 }
@@ -24,6 +24,7 @@ import de.mossgrabers.controller.launchpad.command.trigger.TrackSelectCommand;
 import de.mossgrabers.controller.launchpad.command.trigger.VolumeCommand;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadColors;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadPadGrid;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadScales;
 import de.mossgrabers.controller.launchpad.mode.Modes;
 import de.mossgrabers.controller.launchpad.mode.MuteMode;
@@ -77,7 +78,6 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.SceneView;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
@@ -159,8 +159,13 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
     @Override
     protected void createObservers ()
     {
-        this.getSurface ().getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.updateIndication ());
+        final LaunchpadControlSurface surface = this.getSurface ();
+        surface.getViewManager ().addViewChangeListener ( (previousViewId, activeViewId) -> this.updateIndication ());
         this.createScaleObservers (this.configuration);
+
+        final LaunchpadPadGrid padGrid = surface.getLaunchpadPadGrid ();
+        this.configuration.addSettingObserver (LaunchpadConfiguration.TRUE_RGB, () -> padGrid.setTrueRGB (this.configuration.isTrueRGB ()));
+        padGrid.setTrueRGB (this.configuration.isTrueRGB ());
     }
 
 
@@ -344,7 +349,7 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
         final int color = track != null && track.doesExist () ? this.colorManager.getColor (DAWColors.getColorIndex (track.getColor ())) : 0;
         if (color != this.frontColor)
         {
-            surface.sendLaunchpadSysEx ("0A 63 " + StringUtils.toHexStr (color));
+            surface.sendLaunchpadSysEx (0x0A, 0x63, color);
             this.frontColor = color;
         }
     }
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -161,17 +162,21 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public static final int     CONTROL_MODE_SOLO             = 4;
     public static final int     CONTROL_MODE_STOP_CLIP        = 5;
 
-    public static final String  LAUNCHPAD_PRO_SYSEX_HEADER    = "F0 00 20 29 02 10 ";
-    public static final String  LAUNCHPAD_PRO_PRG_MODE        = "2C 03";
-    public static final String  LAUNCHPAD_PRO_FADER_MODE      = "2C 02";
-    public static final String  LAUNCHPAD_PRO_PAN_MODE        = LAUNCHPAD_PRO_FADER_MODE;
+    public static final byte [] LAUNCHPAD_PRO_SYSEX_HEADER    = StringUtils.fromHexStr ("F0 00 20 29 02 10");
+    public static final byte [] LAUNCHPAD_PRO_PRG_MODE        = StringUtils.fromHexStr ("2C 03");
+    public static final byte [] LAUNCHPAD_PRO_FADER_MODE      = StringUtils.fromHexStr ("2C 02");
+    public static final byte [] LAUNCHPAD_PRO_PAN_MODE        = LAUNCHPAD_PRO_FADER_MODE;
 
-    public static final String  LAUNCHPAD_MKII_SYSEX_HEADER   = "F0 00 20 29 02 18 ";
-    public static final String  LAUNCHPAD_MKII_PRG_MODE       = "22 00";
-    public static final String  LAUNCHPAD_MKII_FADER_MODE     = "22 04";
-    public static final String  LAUNCHPAD_MKII_PAN_MODE       = "22 05";
+    public static final byte [] LAUNCHPAD_MKII_SYSEX_HEADER   = StringUtils.fromHexStr ("F0 00 20 29 02 18");
+    public static final byte [] LAUNCHPAD_MKII_PRG_MODE       = StringUtils.fromHexStr ("22 00");
+    public static final byte [] LAUNCHPAD_MKII_FADER_MODE     = StringUtils.fromHexStr ("22 04");
+    public static final byte [] LAUNCHPAD_MKII_PAN_MODE       = StringUtils.fromHexStr ("22 05");
+
+    public static final byte [] LAUNCHPAD_STANDALONE_MODE     = StringUtils.fromHexStr ("21 01");
 
     private boolean             isPro;
+    private final byte []       sysexHeader;
+    private final SysexBuilder  sysexBuilder                  = new SysexBuilder (16);
 
 
     /**
@@ -189,6 +194,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         super (host, configuration, colorManager, output, input, isPro ? LAUNCHPAD_PRO_BUTTONS_ALL : LAUNCHPAD_MKII_BUTTONS_ALL);
 
         this.isPro = isPro;
+        this.sysexHeader = isPro ? LAUNCHPAD_PRO_SYSEX_HEADER : LAUNCHPAD_MKII_SYSEX_HEADER;
 
         this.shiftButtonId = LAUNCHPAD_BUTTON_SHIFT;
         this.deleteButtonId = LAUNCHPAD_BUTTON_DELETE;
@@ -221,7 +227,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setLaunchpadToStandalone ()
     {
-        this.sendLaunchpadSysEx ("21 01");
+        this.sendLaunchpadSysEx (LAUNCHPAD_STANDALONE_MODE);
     }
 
 
@@ -266,7 +272,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setupFader (final int number, final int color)
     {
-        this.sendLaunchpadSysEx ("2B 0" + Integer.toString (number) + " 00 " + StringUtils.toHexStr (color) + " 00");
+        this.sysexBuilder.start (this.sysexHeader).add (0x2B).add (number).add (0x00).add (color).add (0x00).send (this.output);
     }
 
 
@@ -278,7 +284,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setupPanFader (final int number, final int color)
     {
-        this.sendLaunchpadSysEx ("2B 0" + Integer.toString (number) + " 01 " + StringUtils.toHexStr (color) + " 00");
+        this.sysexBuilder.start (this.sysexHeader).add (0x2B).add (number).add (0x01).add (color).add (0x00).send (this.output);
     }
 
 
@@ -287,7 +293,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public void shutdown ()
     {
         // Turn off front LED
-        this.sendLaunchpadSysEx ("0A 63 00");
+        this.sendLaunchpadSysEx (0x0A, 0x63, 0x00);
 
         this.pads.turnOff ();
 
@@ -311,14 +317,49 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     }
 
 
+    /**
+     * Get the sysex header of the launchpad model.
+     *
+     * @return The header including the leading F0
+     */
+    public byte [] getSysexHeader ()
+    {
+        return this.sysexHeader;
+    }
+
+
+    /**
+     * Get the pad grid.
+     *
+     * @return The pad grid
+     */
+    public LaunchpadPadGrid getLaunchpadPadGrid ()
+    {
+        return (LaunchpadPadGrid) this.pads;
+    }
+
+
     /**
      * Send sysex data to the launchpad.
      *
      * @param data The data without the header and closing byte
      */
-    public void sendLaunchpadSysEx (final String data)
+    public void sendLaunchpadSysEx (final byte [] data)
+    {
+        this.sysexBuilder.start (this.sysexHeader).add (data).send (this.output);
+    }
+
+
+    /**
+     * Send a sysex command with two data bytes to the launchpad.
+     *
+     * @param command The command byte
+     * @param data1 The first data byte
+     * @param data2 The second data byte
+     */
+    public void sendLaunchpadSysEx (final int command, final int data1, final int data2)
     {
-        this.output.sendSysex ((this.isPro ? LAUNCHPAD_PRO_SYSEX_HEADER : LAUNCHPAD_MKII_SYSEX_HEADER) + data + " F7");
+        this.sysexBuilder.start (this.sysexHeader).add (command).add (data1).add (data2).send (this.output);
     }
 
 
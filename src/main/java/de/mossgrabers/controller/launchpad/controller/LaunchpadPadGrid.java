@@ -6,8 +6,9 @@ package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -89,13 +90,27 @@ public class LaunchpadPadGrid extends PadGridImpl
 
     private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
 
+    /** Sysex command to set the palette color of several LEDs. */
+    private static final int                   SYSEX_SET_LEDS           = 0x0A;
+    /** Sysex command to set the RGB color of several LEDs. */
+    private static final int                   SYSEX_SET_LEDS_RGB       = 0x0B;
+    /** Sysex command to flash a LED. */
+    private static final int                   SYSEX_FLASH_LED          = 0x23;
+    /** Header, command and closing byte of a sysex message. */
+    private static final int                   SYSEX_OVERHEAD           = 8;
+
     static
     {
         for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
             INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
     }
 
-    private final LaunchpadControlSurface surface;
+    private final LaunchpadControlSurface      surface;
+    private final SysexBuilder                 sysexBuilder             = new SysexBuilder (300);
+    private final int []                       dirtyPads                = new int [64];
+    private final int []                       rgbColors                = new int [128];
+    private final int []                       currentRgbColors         = new int [128];
+    private boolean                            isTrueRGB;
 
 
     /**
@@ -108,6 +123,96 @@ public class LaunchpadPadGrid extends PadGridImpl
     {
         super (colorManager, surface.getOutput ());
         this.surface = surface;
+
+        Arrays.fill (this.rgbColors, -1);
+        Arrays.fill (this.currentRgbColors, -1);
+    }
+
+
+    /**
+     * Enable or disable the true RGB mode. If enabled, pads which were set with an RGB color are
+     * sent with that color instead of the nearest palette color.
+     *
+     * @param isTrueRGB True to enable
+     */
+    public void setTrueRGB (final boolean isTrueRGB)
+    {
+        if (this.isTrueRGB == isTrueRGB)
+            return;
+        this.isTrueRGB = isTrueRGB;
+        this.forceFlush ();
+    }
+
+
+    /**
+     * Set the color of a pad by its RGB values. The palette color is used if the true RGB mode is
+     * off.
+     *
+     * @param x The x position of the pad
+     * @param y The y position of the pad
+     * @param rgb The red, green and blue value (0-1) or null to use the palette color
+     * @param color The palette color
+     * @param blinkColor The blink color, -1 for no blinking
+     * @param fast Blink fast or slow
+     */
+    public void lightRGBEx (final int x, final int y, final double [] rgb, final int color, final int blinkColor, final boolean fast)
+    {
+        this.lightEx (x, y, color, blinkColor, fast);
+        if (rgb != null)
+            this.rgbColors[92 + x - 8 * y] = (int) Math.round (rgb[0] * 63) << 12 | (int) Math.round (rgb[1] * 63) << 6 | (int) Math.round (rgb[2] * 63);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setLight (final int index, final int color, final int blinkColor, final boolean fast)
+    {
+        super.setLight (index, color, blinkColor, fast);
+        this.rgbColors[index] = -1;
+    }
+
+
+    /**
+     * Sends all changed pads. The palette colors of the pads are sent as individual note messages
+     * if only some pads have changed, otherwise they are packed into one sysex message. RGB colors
+     * are always sent with one sysex message.
+     */
+    @Override
+    public void flush ()
+    {
+        final int off = this.colorManager.getColor (GRID_OFF);
+
+        int dirty = 0;
+        int rgbCount = 0;
+        for (int i = 36; i < 100; i++)
+        {
+            final int rgb = this.isTrueRGB ? this.rgbColors[i] : -1;
+            final boolean baseChanged = this.currentButtonColors[i] != this.buttonColors[i] || this.currentRgbColors[i] != rgb;
+            // Blinking color needs a base color, therefore base is sent as well
+            if (!baseChanged && this.currentBlinkColors[i] == this.blinkColors[i] && this.currentBlinkFast[i] == this.blinkFast[i])
+                continue;
+
+            this.currentButtonColors[i] = this.buttonColors[i];
+            this.currentRgbColors[i] = rgb;
+            this.currentBlinkColors[i] = this.blinkColors[i];
+            this.currentBlinkFast[i] = this.blinkFast[i];
+            this.dirtyPads[dirty++] = i;
+            if (rgb >= 0)
+                rgbCount++;
+        }
+        if (dirty == 0)
+            return;
+
+        this.sendPaletteColors (dirty, dirty - rgbCount);
+        if (rgbCount > 0)
+            this.sendRGBColors (dirty);
+
+        for (int i = 0; i < dirty; i++)
+        {
+            final int pad = this.dirtyPads[i];
+            if (this.blinkColors[pad] != off)
+                this.sendBlinkState (this.translateToController (pad), this.blinkColors[pad], this.blinkFast[pad]);
+        }
     }
 
 
@@ -115,7 +220,61 @@ public class LaunchpadPadGrid extends PadGridImpl
     @Override
     protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
     {
-        this.surface.sendLaunchpadSysEx ("23 " + StringUtils.toHexStr (note) + " " + StringUtils.toHexStr (blinkColor));
+        this.surface.sendLaunchpadSysEx (SYSEX_FLASH_LED, note, blinkColor);
+    }
+
+
+    /**
+     * Send the palette colors of the dirty pads which have no RGB color. A note message costs 3
+     * bytes per pad, a sysex message 2 bytes per pad plus the overhead. Therefore, one sysex
+     * message is used if it is smaller than the note messages.
+     *
+     * @param dirty The number of dirty pads
+     * @param count The number of dirty pads without an RGB color
+     */
+    private void sendPaletteColors (final int dirty, final int count)
+    {
+        if (count == 0)
+            return;
+
+        if (SYSEX_OVERHEAD + 2 * count >= 3 * count)
+        {
+            for (int i = 0; i < dirty; i++)
+            {
+                final int pad = this.dirtyPads[i];
+                if (this.currentRgbColors[pad] < 0)
+                    this.sendNoteState (this.translateToController (pad), this.currentButtonColors[pad]);
+            }
+            return;
+        }
+
+        this.sysexBuilder.start (this.surface.getSysexHeader ()).add (SYSEX_SET_LEDS);
+        for (int i = 0; i < dirty; i++)
+        {
+            final int pad = this.dirtyPads[i];
+            if (this.currentRgbColors[pad] < 0)
+                this.sysexBuilder.add (this.translateToController (pad)).add (this.currentButtonColors[pad]);
+        }
+        this.sysexBuilder.send (this.output);
+    }
+
+
+    /**
+     * Send the RGB colors of all dirty pads which have one with one sysex message.
+     *
+     * @param dirty The number of dirty pads
+     */
+    private void sendRGBColors (final int dirty)
+    {
+        this.sysexBuilder.start (this.surface.getSysexHeader ()).add (SYSEX_SET_LEDS_RGB);
+        for (int i = 0; i < dirty; i++)
+        {
+            final int pad = this.dirtyPads[i];
+            final int rgb = this.currentRgbColors[pad];
+            if (rgb >= 0)
+                this.sysexBuilder.add (this.translateToController (pad)).add (rgb >> 12 & 0x3F).add (rgb >> 6 & 0x3F).add (rgb & 0x3F);
+        }
+        this.sysexBuilder.send (this.output);
     }
 
 
@@ -11,6 +11,7 @@ import de.mossgrabers.controller.launchpad.mode.Modes;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -160,6 +161,17 @@ public class SessionView extends AbstractSessionView<LaunchpadControlSurface, La
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void drawPad (final ISlot slot, final int x, final int y, final boolean isArmed)
+    {
+        final SessionColor color = this.getPadColor (slot, isArmed);
+        // The clip color is only used as the base color if the clip is not queued
+        final boolean showsClipColor = this.useClipColor && slot.hasContent () && !slot.isRecordingQueued () && !slot.isPlayingQueued ();
+        this.surface.getLaunchpadPadGrid ().lightRGBEx (x, y, showsClipColor ? slot.getColor () : null, color.getColor (), color.getBlink (), color.isFast ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void updateSceneButtons ()
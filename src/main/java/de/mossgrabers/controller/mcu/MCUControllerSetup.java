@@ -66,6 +66,7 @@ import de.mossgrabers.framework.command.trigger.transport.WindCommand;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
+import de.mossgrabers.framework.controller.EncoderAccumulator;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.Relative2ValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
@@ -77,6 +78,7 @@ import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.ITrack;
+import de.mossgrabers.framework.daw.midi.BufferedMidiOutput;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
@@ -102,6 +104,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     /** State for button LED off. */
     public static final int                   MCU_BUTTON_STATE_OFF      = 0;
 
+    /** Roughly the number of bytes a 31.25 kbaud DIN-MIDI port transmits in 40ms. */
+    private static final int                  MIDI_BYTES_PER_FRAME      = 128;
+
     private static final Integer              COMMAND_NOTE_EDITOR       = Integer.valueOf (150);
     private static final Integer              COMMAND_AUTOMATION_EDITOR = Integer.valueOf (151);
     private static final Integer              COMMAND_TOGGLE_DEVICE     = Integer.valueOf (152);
@@ -182,10 +187,10 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     @Override
     public void flush ()
     {
-        this.flushSurfaces ();
-
         this.updateButtons ();
         this.updateMode (this.getSurface ().getModeManager ().getActiveModeId ());
+
+        this.flushSurfaces ();
     }
 
 
@@ -217,14 +222,22 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         for (int i = 0; i < this.numMCUDevices; i++)
         {
-            final IMidiOutput output = midiAccess.createOutput (i);
+            final IMidiOutput output = this.createScheduledOutput (midiAccess.createOutput (i));
             final IMidiInput input = midiAccess.createInput (i, null);
             final MCUControlSurface surface = new MCUControlSurface (this.surfaces, this.model.getHost (), this.colorManager, this.configuration, output, input, 8 * (this.numMCUDevices - i - 1), i == 0);
             this.surfaces.add (surface);
-            surface.setDisplay (new MCUDisplay (this.model.getHost (), output, true, false));
-            surface.setSecondDisplay (new MCUDisplay (this.model.getHost (), output, false, i == 0));
+            surface.setDisplay (new MCUDisplay (this.model.getHost (), output, this.displayScheduler, true, false));
+            surface.setSecondDisplay (new MCUDisplay (this.model.getHost (), output, this.displayScheduler, false, i == 0));
             surface.setSegmentDisplay (new MCUSegmentDisplay (output));
             surface.getModeManager ().setDefaultMode (Modes.MODE_VOLUME);
+
+            // Send the V-Pot steps of a frame at once, the jog wheel needs each step to move the
+            // play position and the crossfade mode of the track mode is clamped at each step
+            final EncoderAccumulator encoderAccumulator = new EncoderAccumulator (this.valueChanger);
+            encoderAccumulator.exclude (Commands.CONT_COMMAND_PLAY_POSITION);
+            final ModeManager modeManager = surface.getModeManager ();
+            encoderAccumulator.exclude (Commands.CONT_COMMAND_KNOB3, () -> modeManager.isActiveMode (Modes.MODE_TRACK) && this.configuration.isDisplayCrossfader ());
+            surface.setEncoderAccumulator (encoderAccumulator);
         }
     }
 
@@ -726,6 +739,32 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /**
+     * Wrap the output of a device into a buffered output which sends at most MIDI_BYTES_PER_FRAME
+     * bytes per flush. Button LEDs are sent first, then the faders and VU meters. Display text is
+     * sent last and spills over into the next frames if the budget is exhausted.
+     *
+     * @param output The output of the device
+     * @return The buffered output
+     */
+    private IMidiOutput createScheduledOutput (final IMidiOutput output)
+    {
+        final BufferedMidiOutput bufferedOutput = this.createBufferedOutput (output);
+        bufferedOutput.setByteBudget (MIDI_BYTES_PER_FRAME);
+        bufferedOutput.setPriority (0x90, 0);
+        bufferedOutput.setPriority (0xB0, 1);
+        bufferedOutput.setPriority (0xE0, 1);
+        bufferedOutput.setPriority (0xD0, 2);
+        bufferedOutput.setPriority (0xF0, 3);
+        // The upper 4 bits of channel aftertouch address the VU meter
+        bufferedOutput.setTargetMask (0xD0, 0xF0);
+        // Header, command and position of a display line, only writes of the same length replace
+        // each other
+        bufferedOutput.setSysexTargetLength (7);
+        return bufferedOutput;
+    }
+
+
     private void updateMode (final Integer mode)
     {
         if (mode == null)
@@ -9,7 +9,8 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.LatestTaskScheduler;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -20,28 +21,16 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractDisplay
 {
-    private static final String    SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
-    private static final String    SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
+    private static final byte [] SYSEX_DISPLAY_HEADER1 = StringUtils.fromHexStr ("F0 00 00 66 14 12");
+    private static final byte [] SYSEX_DISPLAY_HEADER2 = StringUtils.fromHexStr ("F0 00 00 67 15 13");
 
-    private static final String [] SPACES                =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
-    private boolean                isFirst;
-    private int                    charactersOfCell;
-    private boolean                hasMaster;
+    private boolean              isFirst;
+    private int                  charactersOfCell;
+    private boolean              hasMaster;
 
-    private LatestTaskExecutor []  executors             = new LatestTaskExecutor [4];
+    private LatestTaskScheduler  scheduler;
+    private final int []         slots                 = new int [2];
+    private final SysexBuilder   sysexBuilder          = new SysexBuilder (70);
 
 
     /**
@@ -50,38 +39,23 @@ public class MCUDisplay extends AbstractDisplay
      *
      * @param host The host
      * @param output The midi output which addresses the display
+     * @param scheduler The scheduler which sends the rows in the background
      * @param isFirst True if it is the first display, otherwise the second
      * @param hasMaster True if a 9th master cell should be added
      */
-    public MCUDisplay (final IHost host, final IMidiOutput output, final boolean isFirst, final boolean hasMaster)
+    public MCUDisplay (final IHost host, final IMidiOutput output, final LatestTaskScheduler scheduler, final boolean isFirst, final boolean hasMaster)
     {
         super (host, output, 2 /* No of rows */, !isFirst && hasMaster ? 9 : 8 /* No of cells */, 56);
 
         this.isFirst = isFirst;
         this.hasMaster = hasMaster;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
+        // Header, position and end byte
+        this.writeOverhead = SYSEX_DISPLAY_HEADER1.length + 2;
 
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public AbstractDisplay clearRow (final int row)
-    {
-        for (int i = 0; i < this.noOfCells; i++)
-            this.clearCell (row, i);
-        return this;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public MCUDisplay clearCell (final int row, final int cell)
-    {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
-        return this;
+        this.scheduler = scheduler;
+        for (int i = 0; i < 2; i++)
+            this.slots[i] = scheduler.createSlot ();
     }
 
 
@@ -89,17 +63,8 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
-        {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
-        }
-        else
-        {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
-        }
+        final int length = 2 * this.charactersOfCell;
+        this.setChars (row, this.getCellOffset (2 * block), length, value, length);
         return this;
     }
 
@@ -108,7 +73,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell - 1) + " ";
+        this.setChars (row, this.getCellOffset (column), this.charactersOfCell, value, this.charactersOfCell - 1);
         return this;
     }
 
@@ -119,7 +84,7 @@ public class MCUDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell - 1) + " ";
+            this.setChars (row, this.getCellOffset (column), this.charactersOfCell, value, this.charactersOfCell - 1);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -133,7 +98,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        this.executors[row + (this.isFirst ? 0 : 2)].execute ( () -> {
+        this.scheduler.schedule (this.slots[row], () -> {
             String t = text;
             if (!this.isFirst && this.hasMaster)
             {
@@ -142,40 +107,24 @@ public class MCUDisplay extends AbstractDisplay
                 t = "  " + t;
 
             }
-            final int length = t.length ();
-            final int [] array = new int [length];
-            for (int i = 0; i < length; i++)
-                array[i] = t.charAt (i);
-            final StringBuilder code = new StringBuilder ();
-            if (this.isFirst)
-                code.append (SYSEX_DISPLAY_HEADER1);
-            else
-                code.append (SYSEX_DISPLAY_HEADER2);
-            if (row == 0)
-                code.append ("00 ");
-            else
-                code.append ("38 ");
-            this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
+            super.writeLine (row, t);
         });
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void shutdown ()
+    protected void writeText (final int row, final int offset, final String text)
     {
-        this.notify ("Please start " + this.host.getName () + "...", true, false);
+        final byte [] header = this.isFirst ? SYSEX_DISPLAY_HEADER1 : SYSEX_DISPLAY_HEADER2;
+        this.sysexBuilder.start (header).add ((row == 0 ? 0x00 : 0x38) + offset).addText (text).send (this.output);
     }
 
 
-    private static String pad (final String str, final int length)
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
     {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
+        this.notify ("Please start " + this.host.getName () + "...", true, false);
     }
 }
\ No newline at end of file
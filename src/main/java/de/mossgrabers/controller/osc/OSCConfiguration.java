@@ -19,15 +19,18 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlConfiguration;
 public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
 {
     /** ID for receive port setting. */
-    public static final Integer RECEIVE_PORT = Integer.valueOf (50);
+    public static final Integer RECEIVE_PORT          = Integer.valueOf (50);
     /** ID for send host setting. */
-    public static final Integer SEND_HOST    = Integer.valueOf (51);
+    public static final Integer SEND_HOST             = Integer.valueOf (51);
     /** ID for send port setting. */
-    public static final Integer SEND_PORT    = Integer.valueOf (52);
+    public static final Integer SEND_PORT             = Integer.valueOf (52);
 
-    private int                 receivePort  = 8000;
-    private String              sendHost     = DEFAULT_SERVER;
-    private int                 sendPort     = 9000;
+    // Limit the values which change with every flush while playing or during metering
+    private static final String DEFAULT_SEND_POLICIES = "/time/str=10Hz;/beat/str=10Hz;/track/*/vu=15Hz;/master/vu=15Hz;/track/*/volumeStr=25Hz;/master/volumeStr=25Hz";
+
+    private int                 receivePort           = 8000;
+    private String              sendHost              = DEFAULT_SERVER;
+    private int                 sendPort              = 9000;
 
 
     /**
@@ -69,6 +72,9 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        this.activateBundleSettings (settingsUI, "Send to");
+        this.activateSendPoliciesSetting (settingsUI, "Send to", DEFAULT_SEND_POLICIES);
+
         ///////////////////////////
         // Accent
 
@@ -98,22 +104,16 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
     }
 
 
-    /**
-     * Get the host on which the extension sends OSC messages.
-     *
-     * @return The receive host
-     */
+    /** {@inheritDoc} */
+    @Override
     public String getSendHost ()
     {
         return this.sendHost;
     }
 
 
-    /**
-     * Get the port of the host on which the extension sends OSC messages.
-     *
-     * @return The port
-     */
+    /** {@inheritDoc} */
+    @Override
     public int getSendPort ()
     {
         return this.sendPort;
@@ -25,11 +25,10 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlMatch;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 
-import java.util.Collections;
 import java.util.LinkedList;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 
 /**
@@ -39,15 +38,50 @@ import java.util.regex.Pattern;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private static final String  PART_INDICATE     = "indicate";
-    private static final String  PART_VOLUME       = "volume";
-    private static final String  PART_RESET        = "reset";
-    private static final String  PART_TOUCH        = "touched";
+    private static final String          PART_INDICATE      = "indicate";
+    private static final String          PART_VOLUME        = "volume";
+    private static final String          PART_RESET         = "reset";
+    private static final String          PART_TOUCH         = "touched";
 
-    private static final Pattern RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+    private static final String []       TRANSPORT_COMMANDS =
+    {
+        "play",
+        "stop",
+        "restart",
+        "record",
+        "overdub",
+        "repeat",
+        "punchIn",
+        "punchOut",
+        "click",
+        "quantize",
+        "tempo",
+        "time",
+        "position",
+        "crossfade",
+        "autowrite",
+        "automationWriteMode",
+        "preroll"
+    };
+
+    private static final String []       GLOBAL_COMMANDS    =
+    {
+        "refresh",
+        "undo",
+        "redo"
+    };
 
-    private final Display        display;
-    private final KeyManager     keyManager;
+    private static final String []       PANEL_COMMANDS     =
+    {
+        "layout",
+        "panel",
+        "arranger",
+        "mixer"
+    };
+
+    private final Display                display;
+    private final KeyManager             keyManager;
+    private final OpenSoundControlRouter router             = new OpenSoundControlRouter ();
 
 
     /**
@@ -69,6 +103,8 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.keyManager.updateNoteMapping ();
+
+        this.addRoutes ();
     }
 
 
@@ -78,258 +114,303 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
-        final LinkedList<String> oscParts = parseAddress (message);
-        if (oscParts.isEmpty ())
+        if (this.router.route (message))
             return;
 
         final Object [] values = message.getValues ();
         final Object value = values == null || values.length == 0 ? null : values[0];
-        final int numValue = value == null || !(value instanceof Number) ? -1 : ((Number) value).intValue ();
+        this.host.println ("Unknown OSC Command: " + message.getAddress () + " " + value);
+    }
 
-        final String command = oscParts.removeFirst ();
 
-        if (this.parseTransportCommands (command, oscParts, value, numValue))
-            return;
+    /**
+     * Register the handlers for all OSC addresses. The frequently sent values (e.g. volume, pan and
+     * parameter changes as well as notes) have their own routes, which do not need to split the
+     * address, all other commands are parsed by the handler of their prefix.
+     */
+    private void addRoutes ()
+    {
+        for (final String command: TRANSPORT_COMMANDS)
+            this.router.addPrefix ("/" + command, match -> this.parseTransportCommands (command, match.getRemainingParts (), match.getValue (), match.getIntValue ()));
+        for (final String command: GLOBAL_COMMANDS)
+            this.router.addPrefix ("/" + command, match -> this.parseGlobalCommands (command));
+        for (final String command: PANEL_COMMANDS)
+            this.router.addPrefix ("/" + command, match -> this.parsePanelCommands (command, match.getRemainingParts (), match.getValue () == null ? null : match.getValue ().toString ()));
 
-        if (this.parseGlobalCommands (command))
-            return;
+        this.router.addPrefix ("/project", match -> this.parseProject (match.getRemainingParts (), match.getIntValue ()));
+
+        this.router.addPrefix ("/scene", match -> this.parseScene (match.getRemainingParts (), match.getValue (), match.getIntValue ()));
+        this.router.add ("/scene/#/launch", match -> this.model.getCurrentTrackBank ().launchScene (match.getIndex (0) - 1));
+
+        this.router.addPrefix ("/track", match -> this.parseTrackCommands (match.getRemainingParts (), match.getValue (), match.getIntValue ()));
+        this.router.addPrefix ("/track/#", match -> this.parseTrackValue (this.getTrack (match), match.getRemainingParts (), match.getValue ()));
+        this.router.add ("/track/#/volume", match -> this.getTrack (match).setVolume (match.getDoubleValue ()));
+        this.router.add ("/track/#/pan", match -> this.getTrack (match).setPan (match.getDoubleValue ()));
+        this.router.add ("/track/#/send/#/volume", match -> setSendValue (this.getTrack (match), match.getIndex (1) - 1, match.getDoubleValue ()));
+
+        this.router.addPrefix ("/master", match -> this.parseTrackValue (this.masterTrack, match.getRemainingParts (), match.getValue ()));
+        this.router.add ("/master/volume", match -> this.masterTrack.setVolume (match.getDoubleValue ()));
+        this.router.add ("/master/pan", match -> this.masterTrack.setPan (match.getDoubleValue ()));
+
+        this.addDeviceRoutes ("/device", this.model.getCursorDevice ());
+        this.addDeviceRoutes ("/primary", this.model.getPrimaryDevice ());
 
-        if (this.parsePanelCommands (command, oscParts, value == null ? null : value.toString ()))
+        this.router.addPrefix ("/browser", match -> this.parseBrowser (match.getRemainingParts ()));
+
+        this.router.addPrefix ("/vkb_midi", match -> this.parseMidi (match.getRemainingParts (), match.getValue ()));
+        this.router.add ("/vkb_midi/#/note/#", match -> this.playNote (match.getIndex (0), match.getIndex (1), match.getIntValue ()));
+
+        this.router.addPrefix ("/action", match -> this.parseAction (match.getRemainingParts ()));
+
+        this.router.add ("/client/register", this::registerClient);
+        this.router.add ("/client/unregister", this::unregisterClient);
+    }
+
+
+    private void addDeviceRoutes (final String route, final ICursorDevice cursorDevice)
+    {
+        this.router.addPrefix (route, match -> this.parseDeviceValue (cursorDevice, match.getRemainingParts (), match.getValue ()));
+        this.router.add (route + "/param/#/value", match -> {
+            if (match.getValue () != null)
+                cursorDevice.setParameter (match.getIndex (0) - 1, match.getIntValue ());
+        });
+        this.router.add (route + "/layer/#/volume", match -> cursorDevice.setLayerOrDrumPadVolume (match.getIndex (0) - 1, match.getIntValue ()));
+        this.router.add (route + "/layer/#/pan", match -> cursorDevice.setLayerOrDrumPadPan (match.getIndex (0) - 1, match.getIntValue ()));
+    }
+
+
+    private ITrack getTrack (final OpenSoundControlMatch match)
+    {
+        return this.model.getCurrentTrackBank ().getTrack (match.getIndex (0) - 1);
+    }
+
+
+    /**
+     * Register a client which receives the messages in addition to the configured host. The values
+     * of the message are the host and port of the client followed by optional address patterns to
+     * subscribe to, e.g. "/track/*&#47;volume". The sender of the message is not known, therefore
+     * only the configured host and the local computer can be registered. Otherwise, anybody could
+     * direct the state dumps to any other computer.
+     *
+     * @param match The match of the registration message
+     */
+    private void registerClient (final OpenSoundControlMatch match)
+    {
+        final Object [] values = match.getMessage ().getValues ();
+        if (!this.isValidClient (values))
             return;
+        final String [] subscriptions = new String [values.length - 2];
+        for (int i = 0; i < subscriptions.length; i++)
+            subscriptions[i] = String.valueOf (values[i + 2]);
+        this.writer.addClient ((String) values[0], ((Number) values[1]).intValue (), subscriptions);
+    }
 
-        switch (command)
+
+    private void unregisterClient (final OpenSoundControlMatch match)
+    {
+        final Object [] values = match.getMessage ().getValues ();
+        if (this.isValidClient (values))
+            this.writer.removeClient ((String) values[0], ((Number) values[1]).intValue ());
+    }
+
+
+    /**
+     * Check the host and port of a client (un-)registration message.
+     *
+     * @param values The values of the message
+     * @return True if the first value is an allowed host and the second a valid port
+     */
+    private boolean isValidClient (final Object [] values)
+    {
+        if (values == null || values.length < 2 || !(values[0] instanceof String) || !(values[1] instanceof Number))
         {
-            //
-            // Project
-            //
+            this.host.error ("Missing host and port of the OSC client.");
+            return false;
+        }
 
-            case "project":
-                if (oscParts.isEmpty ())
-                {
-                    this.host.error ("Missing Project subcommand.");
-                    return;
-                }
-                final String subCommand = oscParts.get (0);
-                switch (subCommand)
-                {
-                    case "+":
-                        this.model.getProject ().next ();
-                        break;
-                    case "-":
-                        this.model.getProject ().previous ();
-                        break;
-                    case "engine":
-                        if (numValue >= 0)
-                            this.model.getApplication ().setEngineActive (numValue > 0);
-                        else
-                            this.model.getApplication ().toggleEngineActive ();
-                        break;
-                    default:
-                        this.host.error ("Unknown Project subcommand: " + subCommand);
-                        break;
-                }
+        final String clientHost = (String) values[0];
+        final int port = ((Number) values[1]).intValue ();
+        if (port < 1 || port > 65535)
+        {
+            this.host.error ("Invalid port of the OSC client: " + values[1]);
+            return false;
+        }
+        if (!clientHost.equalsIgnoreCase (this.configuration.getSendHost ()) && !isLocalHost (clientHost))
+        {
+            this.host.error ("OSC clients can only be registered on the configured host or the local computer: " + clientHost);
+            return false;
+        }
+        return true;
+    }
+
+
+    private static boolean isLocalHost (final String clientHost)
+    {
+        return "localhost".equalsIgnoreCase (clientHost) || "::1".equals (clientHost) || clientHost.matches ("127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}");
+    }
+
+
+    private void parseProject (final LinkedList<String> parts, final int numValue)
+    {
+        if (parts.isEmpty ())
+        {
+            this.host.error ("Missing Project subcommand.");
+            return;
+        }
+        final String subCommand = parts.get (0);
+        switch (subCommand)
+        {
+            case "+":
+                this.model.getProject ().next ();
+                break;
+            case "-":
+                this.model.getProject ().previous ();
                 break;
+            case "engine":
+                if (numValue >= 0)
+                    this.model.getApplication ().setEngineActive (numValue > 0);
+                else
+                    this.model.getApplication ().toggleEngineActive ();
+                break;
+            default:
+                this.host.error ("Unknown Project subcommand: " + subCommand);
+                break;
+        }
+    }
 
-            //
-            // Scenes
-            //
 
-            case "scene":
-                final String p = oscParts.removeFirst ();
-                switch (p)
+    private void parseScene (final LinkedList<String> parts, final Object value, final int numValue)
+    {
+        final String p = parts.removeFirst ();
+        switch (p)
+        {
+            case "bank":
+                if (parts.isEmpty ())
+                {
+                    this.host.error ("Missing Scene subcommand.");
+                    return;
+                }
+                final String subCommand2 = parts.get (0);
+                switch (subCommand2)
                 {
-                    case "bank":
-                        if (oscParts.isEmpty ())
-                        {
-                            this.host.error ("Missing Scene subcommand.");
-                            return;
-                        }
-                        final String subCommand2 = oscParts.get (0);
-                        switch (subCommand2)
-                        {
-                            case "+":
-                                if (value == null || numValue > 0)
-                                    this.model.getCurrentTrackBank ().scrollScenesPageDown ();
-                                break;
-                            case "-":
-                                if (value == null || numValue > 0)
-                                    this.model.getCurrentTrackBank ().scrollScenesPageUp ();
-                                break;
-                            default:
-                                this.host.error ("Unknown Scene subcommand: " + subCommand2);
-                                break;
-                        }
-                        break;
                     case "+":
                         if (value == null || numValue > 0)
-                            this.model.getCurrentTrackBank ().scrollScenesDown ();
+                            this.model.getCurrentTrackBank ().scrollScenesPageDown ();
                         break;
                     case "-":
                         if (value == null || numValue > 0)
-                            this.model.getCurrentTrackBank ().scrollScenesUp ();
-                        break;
-                    case "create":
-                        this.model.getProject ().createSceneFromPlayingLauncherClips ();
+                            this.model.getCurrentTrackBank ().scrollScenesPageUp ();
                         break;
                     default:
-                        if (oscParts.isEmpty ())
-                        {
-                            this.host.error ("Missing Scene index.");
-                            return;
-                        }
-                        final int scene = Integer.parseInt (p);
-                        final String sceneCommand = oscParts.removeFirst ();
-                        switch (sceneCommand)
-                        {
-                            case "launch":
-                                this.model.getCurrentTrackBank ().launchScene (scene - 1);
-                                break;
-                            default:
-                                this.host.error ("Unknown Scene subcommand: " + sceneCommand);
-                                break;
-                        }
+                        this.host.error ("Unknown Scene subcommand: " + subCommand2);
                         break;
                 }
                 break;
-
-            //
-            // Master-/Track(-commands)
-            //
-
-            case "track":
-                if (oscParts.isEmpty ())
-                {
-                    this.host.error ("Missing Track index or command.");
-                    return;
-                }
-                try
-                {
-                    final int trackNo = Integer.parseInt (oscParts.get (0));
-                    oscParts.removeFirst ();
-                    this.parseTrackValue (this.model.getCurrentTrackBank ().getTrack (trackNo - 1), oscParts, value);
-                }
-                catch (final NumberFormatException ex)
-                {
-                    this.parseTrackCommands (oscParts, value, numValue);
-                }
-                break;
-
-            case "master":
-                this.parseTrackValue (this.masterTrack, oscParts, value);
-                break;
-
-            //
-            // Device
-            //
-
-            case "device":
-            {
-                final ICursorDevice cd = this.model.getCursorDevice ();
-                this.parseDeviceValue (cd, oscParts, value);
+            case "+":
+                if (value == null || numValue > 0)
+                    this.model.getCurrentTrackBank ().scrollScenesDown ();
                 break;
-            }
-
-            case "primary":
-                this.parseDeviceValue (this.model.getPrimaryDevice (), oscParts, value);
+            case "-":
+                if (value == null || numValue > 0)
+                    this.model.getCurrentTrackBank ().scrollScenesUp ();
                 break;
-
-            //
-            // Browser
-            //
-
-            case "browser":
-                this.parseBrowser (oscParts);
+            case "create":
+                this.model.getProject ().createSceneFromPlayingLauncherClips ();
                 break;
-
-            //
-            // Keyboard
-            //
-
-            case "vkb_midi":
-                this.parseMidi (oscParts, value);
-                break;
-
-            //
-            // Actions
-            //
-
-            case "action":
-                if (oscParts.isEmpty ())
+            default:
+                if (parts.isEmpty ())
                 {
-                    this.host.error ("Missing Action command ID.");
+                    this.host.error ("Missing Scene index.");
                     return;
                 }
-                final String cmd = oscParts.get (0).replace ('-', ' ');
-                try
-                {
-                    this.model.getApplication ().invokeAction (cmd);
-                }
-                catch (final RuntimeException ex)
+                final int scene = Integer.parseInt (p);
+                final String sceneCommand = parts.removeFirst ();
+                switch (sceneCommand)
                 {
-                    this.host.error ("Could not execute action: " + cmd);
+                    case "launch":
+                        this.model.getCurrentTrackBank ().launchScene (scene - 1);
+                        break;
+                    default:
+                        this.host.error ("Unknown Scene subcommand: " + sceneCommand);
+                        break;
                 }
                 break;
+        }
+    }
 
-            default:
-                this.host.println ("Unknown OSC Command: " + message.getAddress () + " " + value);
-                break;
+
+    private void parseAction (final LinkedList<String> parts)
+    {
+        if (parts.isEmpty ())
+        {
+            this.host.error ("Missing Action command ID.");
+            return;
+        }
+        final String cmd = parts.get (0).replace ('-', ' ');
+        try
+        {
+            this.model.getApplication ().invokeAction (cmd);
+        }
+        catch (final RuntimeException ex)
+        {
+            this.host.error ("Could not execute action: " + cmd);
         }
     }
 
 
-    private boolean parseTransportCommands (final String command, final LinkedList<String> oscParts, final Object value, final int numValue)
+    private void parseTransportCommands (final String command, final LinkedList<String> oscParts, final Object value, final int numValue)
     {
         switch (command)
         {
             case "play":
                 if (value == null || numValue > 0 && !this.transport.isPlaying ())
                     this.transport.play ();
-                return true;
+                break;
 
             case "stop":
                 if (value == null || numValue > 0 && this.transport.isPlaying ())
                     this.transport.play ();
-                return true;
+                break;
 
             case "restart":
                 if (value == null || numValue > 0)
                     this.transport.restart ();
-                return true;
+                break;
 
             case "record":
                 if (value == null || numValue > 0)
                     this.transport.record ();
-                return true;
+                break;
 
             case "overdub":
                 if (value != null && numValue == 0)
-                    return true;
+                    return;
                 if (!oscParts.isEmpty () && "launcher".equals (oscParts.get (0)))
                     this.transport.toggleLauncherOverdub ();
                 else
                     this.transport.toggleOverdub ();
-                return true;
+                break;
 
             case "repeat":
                 if (value == null)
                     this.transport.toggleLoop ();
                 else
                     this.transport.setLoop (numValue > 0);
-                return true;
+                break;
 
             case "punchIn":
                 if (value == null)
                     this.transport.togglePunchIn ();
                 else
                     this.transport.setPunchIn (numValue > 0);
-                return true;
+                break;
 
             case "punchOut":
                 if (value == null)
                     this.transport.togglePunchOut ();
                 else
                     this.transport.setPunchOut (numValue > 0);
-                return true;
+                break;
 
             case "click":
                 if (oscParts.isEmpty ())
@@ -338,7 +419,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
                         this.transport.toggleMetronome ();
                     else
                         this.transport.setMetronome (numValue > 0);
-                    return true;
+                    return;
                 }
                 final String cmd = oscParts.get (0);
                 switch (cmd)
@@ -358,11 +439,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
                         this.host.error ("Unknown Click subcommand: " + cmd);
                         break;
                 }
-                return true;
+                break;
 
             case "quantize":
                 this.clip.quantize (1);
-                return true;
+                break;
 
             case "tempo":
                 final String tempoCommand = oscParts.get (0);
@@ -371,11 +452,11 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     case "raw":
                         if (value instanceof Number)
                             this.transport.setTempo (((Number) value).doubleValue ());
-                        return true;
+                        return;
                     case "tap":
                         if (value == null || numValue > 0)
                             this.transport.tapTempo ();
-                        return true;
+                        return;
                     case "+":
                         if (value == null || numValue > 0)
                         {
@@ -383,7 +464,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
                             if (value instanceof Number)
                                 this.transport.setTempo (this.transport.getTempo () + v);
                         }
-                        return true;
+                        return;
                     case "-":
                         if (value == null || numValue > 0)
                         {
@@ -391,112 +472,106 @@ public class OSCParser extends AbstractOpenSoundControlParser
                             if (value instanceof Number)
                                 this.transport.setTempo (this.transport.getTempo () - v2);
                         }
-                        return true;
+                        return;
                     default:
                         this.host.error ("Unknown Tempo subcommand: " + tempoCommand);
                 }
-                return true;
+                break;
 
             case "time":
                 if (value instanceof Number)
                     this.transport.setPosition (((Number) value).doubleValue ());
-                return true;
+                break;
 
             case "position":
                 if (oscParts.isEmpty ())
                 {
                     if (value != null)
                         this.transport.changePosition (numValue >= 0, Math.abs (numValue) <= 1);
-                    return true;
+                    return;
                 }
                 final String positionCommand = oscParts.get (0);
                 switch (positionCommand)
                 {
                     case "+":
                         this.transport.changePosition (true, true);
-                        return true;
+                        return;
                     case "-":
                         this.transport.changePosition (false, true);
-                        return true;
+                        return;
                     case "++":
                         this.transport.changePosition (true, false);
-                        return true;
+                        return;
                     case "--":
                         this.transport.changePosition (false, false);
-                        return true;
+                        return;
                     case "start":
                         this.transport.setPosition (0);
-                        return true;
+                        return;
                     default:
                         this.host.error ("Unknown Position subcommand: " + positionCommand);
                 }
-                return true;
+                break;
 
             case "crossfade":
                 if (numValue >= 0)
                     this.transport.setCrossfade (numValue);
-                return true;
+                break;
 
             case "autowrite":
                 if (value != null && numValue == 0)
-                    return true;
+                    return;
                 if (!oscParts.isEmpty () && "launcher".equals (oscParts.get (0)))
                     this.transport.toggleWriteClipLauncherAutomation ();
                 else
                     this.transport.toggleWriteArrangerAutomation ();
-                return true;
+                break;
 
             case "automationWriteMode":
                 if (value != null)
                     this.transport.setAutomationWriteMode (value.toString ());
-                return true;
+                break;
 
             case "preroll":
                 this.transport.setPrerollAsBars (numValue);
-                return true;
-
-            default:
-                return false;
+                break;
         }
     }
 
 
-    private boolean parseGlobalCommands (final String command)
+    private void parseGlobalCommands (final String command)
     {
         switch (command)
         {
             case "refresh":
                 this.writer.flush (true);
-                return true;
+                break;
 
             case "undo":
                 this.model.getApplication ().undo ();
-                return true;
+                break;
 
             case "redo":
                 this.model.getApplication ().redo ();
-                return true;
-
-            default:
-                return false;
+                break;
         }
     }
 
 
-    private boolean parsePanelCommands (final String command, final LinkedList<String> oscParts, final String value)
+    private void parsePanelCommands (final String command, final LinkedList<String> oscParts, final String value)
     {
         switch (command)
         {
             case "layout":
                 if (value != null)
                     this.model.getApplication ().setPanelLayout (value.toUpperCase ());
-                return true;
+                break;
 
             case "panel":
                 if (oscParts.isEmpty ())
                 {
                     this.host.error ("Missing Panel subcommand.");
-                    return true;
+                    return;
                 }
                 final IApplication app = this.model.getApplication ();
                 final String subCommand = oscParts.get (0);
@@ -520,13 +595,13 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     default:
                         this.host.error ("Unknown Panel subcommand: " + subCommand);
                 }
-                return true;
+                break;
 
             case "arranger":
                 if (oscParts.isEmpty ())
                 {
                     this.host.error ("Missing Arranger subcommand.");
-                    return true;
+                    return;
                 }
                 final IArranger arrange = this.model.getArranger ();
                 final String subCommand2 = oscParts.get (0);
@@ -556,13 +631,13 @@ public class OSCParser extends AbstractOpenSoundControlParser
                     default:
                         this.host.error ("Unknown Arranger subcommand: " + subCommand2);
                 }
-                return true;
+                break;
 
             case "mixer":
                 if (oscParts.isEmpty ())
                 {
                     this.host.error ("Missing Mixer subcommand.");
-                    return true;
+                    return;
                 }
                 final IMixer mix = this.model.getMixer ();
                 final String subCommand3 = oscParts.get (0);
@@ -590,10 +665,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
                         this.host.error ("Unknown Mixer subcommand: " + subCommand3);
                         break;
                 }
-                return true;
-
-            default:
-                return false;
+                break;
         }
     }
 
@@ -916,13 +988,9 @@ public class OSCParser extends AbstractOpenSoundControlParser
                             slot.record ();
                             break;
                         case "color":
-                            final Matcher matcher = RGB_COLOR_PATTERN.matcher (value.toString ());
-                            if (!matcher.matches ())
-                                return;
-                            final int count = matcher.groupCount ();
-                            if (count != 7)
-                                return;
-                            slot.setColor (Double.parseDouble (matcher.group (2)) / 255.0, Double.parseDouble (matcher.group (4)) / 255.0, Double.parseDouble (matcher.group (6)) / 255.0);
+                            final double [] color = parseColor (value);
+                            if (color != null)
+                                slot.setColor (color[0], color[1], color[2]);
                             break;
                         default:
                             this.host.println ("Unknown Clip subcommand: " + clipCommand);
@@ -956,12 +1024,9 @@ public class OSCParser extends AbstractOpenSoundControlParser
                 break;
 
             case "color":
-                final Matcher matcher = RGB_COLOR_PATTERN.matcher (value.toString ());
-                if (!matcher.matches ())
-                    return;
-                final int count = matcher.groupCount ();
-                if (count == 7)
-                    track.setColor (Double.parseDouble (matcher.group (2)) / 255.0, Double.parseDouble (matcher.group (4)) / 255.0, Double.parseDouble (matcher.group (6)) / 255.0);
+                final double [] color = parseColor (value);
+                if (color != null)
+                    track.setColor (color[0], color[1], color[2]);
                 break;
 
             default:
@@ -989,7 +1054,7 @@ public class OSCParser extends AbstractOpenSoundControlParser
                 if (send != null)
                 {
                     if (parts.isEmpty ())
-                        send.setValue (numValue);
+                        setSendValue (track, sendIndex, numValue);
                     else if (PART_INDICATE.equals (parts.get (0)))
                         send.setIndication (numValue > 0);
                     else if (PART_TOUCH.equals (parts.get (0)))
@@ -1534,20 +1599,8 @@ public class OSCParser extends AbstractOpenSoundControlParser
                         break;
 
                     default:
-                        final int note = Integer.parseInt (n);
-                        if (numValue > 0)
-                            numValue = conf.isAccentActive () ? conf.getFixedAccentValue () : numValue;
-                        final int data0 = this.keyManager.getKeyTranslationMatrix ()[note];
-                        if (data0 >= 0)
-                            this.midiInput.sendRawMidiEvent (0x90 + midiChannel, data0, numValue);
-
-                        // Mark selected notes
-                        final int [] keyTranslationMatrix = this.keyManager.getKeyTranslationMatrix ();
-                        for (int i = 0; i < 128; i++)
-                        {
-                            if (keyTranslationMatrix[note] == keyTranslationMatrix[i])
-                                this.keyManager.setKeyPressed (i, numValue);
-                        }
+                        this.playNote (midiChannel, Integer.parseInt (n), numValue);
+                        break;
                 }
                 break;
 
@@ -1622,13 +1675,82 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
-    private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
+    private void playNote (final int midiChannel, final int note, final int velocity)
+    {
+        final OSCConfiguration conf = (OSCConfiguration) this.configuration;
+        final int numValue = velocity > 0 && conf.isAccentActive () ? conf.getFixedAccentValue () : velocity;
+        final int [] keyTranslationMatrix = this.keyManager.getKeyTranslationMatrix ();
+        final int data0 = keyTranslationMatrix[note];
+        if (data0 >= 0)
+            this.midiInput.sendRawMidiEvent (0x90 + midiChannel, data0, numValue);
+
+        // Mark selected notes
+        for (int i = 0; i < 128; i++)
+        {
+            if (data0 == keyTranslationMatrix[i])
+                this.keyManager.setKeyPressed (i, numValue);
+        }
+    }
+
+
+    private static void setSendValue (final ITrack track, final int sendIndex, final double value)
+    {
+        final ISend send = track.getSend (sendIndex);
+        if (send != null)
+            send.setValue (value);
+    }
+
+
+    /**
+     * Parse a color in the format "rgb(r,g,b)" or "RGB(r,g,b)" with components in the range of
+     * 0..255.
+     *
+     * @param value The value to parse
+     * @return The red, green and blue components in the range of 0..1 or null if the value is not a
+     *         color
+     */
+    private static double [] parseColor (final Object value)
+    {
+        if (value == null)
+            return null;
+        final String text = value.toString ();
+        final int length = text.length ();
+        if (!text.startsWith ("rgb(") && !text.startsWith ("RGB(") || text.charAt (length - 1) != ')')
+            return null;
+
+        final double [] color = new double [3];
+        int start = 4;
+        for (int i = 0; i < color.length; i++)
+        {
+            final int end = i == color.length - 1 ? length - 1 : text.indexOf (',', start);
+            if (end < 0 || !isDecimal (text, start, end))
+                return null;
+            color[i] = Double.parseDouble (text.substring (start, end)) / 255.0;
+            start = end + 1;
+        }
+        return color;
+    }
+
+
+    private static boolean isDecimal (final String text, final int start, final int end)
     {
-        final LinkedList<String> oscParts = new LinkedList<> ();
-        Collections.addAll (oscParts, message.getAddress ().split ("/"));
+        final int dot = text.indexOf ('.', start);
+        if (dot < 0 || dot >= end)
+            return isDigits (text, start, end);
+        return isDigits (text, start, dot) && isDigits (text, dot + 1, end);
+    }
+
 
-        // Remove first empty element
-        oscParts.removeFirst ();
-        return oscParts;
+    private static boolean isDigits (final String text, final int start, final int end)
+    {
+        if (start >= end)
+            return false;
+        for (int i = start; i < end; i++)
+        {
+            final char c = text.charAt (i);
+            if (c < '0' || c > '9')
+                return false;
+        }
+        return true;
     }
 }
\ No newline at end of file
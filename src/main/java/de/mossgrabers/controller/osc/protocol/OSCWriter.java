@@ -6,6 +6,8 @@ package de.mossgrabers.controller.osc.protocol;
 
 import de.mossgrabers.controller.osc.OSCColors;
 import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.framework.configuration.AbstractConfiguration;
+import de.mossgrabers.framework.daw.ChangeObservable;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IBrowser;
@@ -22,7 +24,6 @@ import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.IScene;
-import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
@@ -30,6 +31,9 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
 import de.mossgrabers.framework.scale.Scales;
 
+import java.util.ArrayList;
+import java.util.List;
+
 
 /**
  * Writes the changed DAW stati as OSC messages.
@@ -38,7 +42,212 @@ import de.mossgrabers.framework.scale.Scales;
  */
 public class OSCWriter extends AbstractOpenSoundControlWriter
 {
-    private KeyManager keyManager;
+    private static final String [] TRACK_PROPERTIES          =
+    {
+        "exists",
+        "type",
+        "activated",
+        "selected",
+        "isGroup",
+        "name",
+        "volumeStr",
+        "volume",
+        "panStr",
+        "pan",
+        "mute",
+        "solo",
+        "recarm",
+        "monitor",
+        "autoMonitor",
+        "canHoldNotes",
+        "canHoldAudioData",
+        "position",
+        "color",
+        "crossfadeMode/A",
+        "crossfadeMode/B",
+        "crossfadeMode/AB",
+        "vu"
+    };
+
+    private static final int       TRACK_EXISTS              = 0;
+    private static final int       TRACK_TYPE                = 1;
+    private static final int       TRACK_ACTIVATED           = 2;
+    private static final int       TRACK_SELECTED            = 3;
+    private static final int       TRACK_IS_GROUP            = 4;
+    private static final int       TRACK_NAME                = 5;
+    private static final int       TRACK_VOLUME_STR          = 6;
+    private static final int       TRACK_VOLUME              = 7;
+    private static final int       TRACK_PAN_STR             = 8;
+    private static final int       TRACK_PAN                 = 9;
+    private static final int       TRACK_MUTE                = 10;
+    private static final int       TRACK_SOLO                = 11;
+    private static final int       TRACK_RECARM              = 12;
+    private static final int       TRACK_MONITOR             = 13;
+    private static final int       TRACK_AUTO_MONITOR        = 14;
+    private static final int       TRACK_CAN_HOLD_NOTES      = 15;
+    private static final int       TRACK_CAN_HOLD_AUDIO_DATA = 16;
+    private static final int       TRACK_POSITION            = 17;
+    private static final int       TRACK_COLOR               = 18;
+    private static final int       TRACK_CROSSFADE_MODE_A    = 19;
+    private static final int       TRACK_CROSSFADE_MODE_B    = 20;
+    private static final int       TRACK_CROSSFADE_MODE_AB   = 21;
+    private static final int       TRACK_VU                  = 22;
+
+    private static final String [] CLIP_PROPERTIES           =
+    {
+        "name",
+        "isSelected",
+        "hasContent",
+        "isPlaying",
+        "isRecording",
+        "isPlayingQueued",
+        "isRecordingQueued",
+        "isStopQueued",
+        "color"
+    };
+
+    private static final int       CLIP_NAME                 = 0;
+    private static final int       CLIP_IS_SELECTED          = 1;
+    private static final int       CLIP_HAS_CONTENT          = 2;
+    private static final int       CLIP_IS_PLAYING           = 3;
+    private static final int       CLIP_IS_RECORDING         = 4;
+    private static final int       CLIP_IS_PLAYING_QUEUED    = 5;
+    private static final int       CLIP_IS_RECORDING_QUEUED  = 6;
+    private static final int       CLIP_IS_STOP_QUEUED       = 7;
+    private static final int       CLIP_COLOR                = 8;
+
+    private static final String [] PARAMETER_PROPERTIES      =
+    {
+        "name",
+        "valueStr",
+        "value",
+        "modulatedValue"
+    };
+
+    private static final String [] SEND_PROPERTIES           =
+    {
+        "name",
+        "volumeStr",
+        "volume",
+        "modulatedValue"
+    };
+
+    private static final int       PARAMETER_NAME            = 0;
+    private static final int       PARAMETER_VALUE_STR       = 1;
+    private static final int       PARAMETER_VALUE           = 2;
+    private static final int       PARAMETER_MODULATED_VALUE = 3;
+
+    private static final String [] SCENE_PROPERTIES          =
+    {
+        "exists",
+        "name",
+        "selected"
+    };
+
+    private static final int       SCENE_EXISTS              = 0;
+    private static final int       SCENE_NAME                = 1;
+    private static final int       SCENE_SELECTED            = 2;
+
+    private static final String [] DEVICE_PROPERTIES         =
+    {
+        "exists",
+        "name",
+        "bypass",
+        "expand",
+        "window",
+        "page/selected/name"
+    };
+
+    private static final int       DEVICE_EXISTS             = 0;
+    private static final int       DEVICE_NAME               = 1;
+    private static final int       DEVICE_BYPASS             = 2;
+    private static final int       DEVICE_EXPAND             = 3;
+    private static final int       DEVICE_WINDOW             = 4;
+    private static final int       DEVICE_SELECTED_PAGE_NAME = 5;
+
+    // Sibling devices and parameter pages
+    private static final String [] ENTRY_PROPERTIES          =
+    {
+        "name",
+        "selected"
+    };
+
+    private static final String [] PAGE_PROPERTIES           =
+    {
+        "",
+        "selected"
+    };
+
+    private static final int       ENTRY_NAME                = 0;
+    private static final int       ENTRY_SELECTED            = 1;
+
+    private static final String [] BROWSER_PROPERTIES        =
+    {
+        "isActive",
+        "tab"
+    };
+
+    private static final int       BROWSER_IS_ACTIVE         = 0;
+    private static final int       BROWSER_TAB               = 1;
+
+    private static final String [] FILTER_PROPERTIES         =
+    {
+        "exists",
+        "name",
+        "wildcard"
+    };
+
+    private static final int       FILTER_EXISTS             = 0;
+    private static final int       FILTER_NAME               = 1;
+    private static final int       FILTER_WILDCARD           = 2;
+
+    private static final String [] ITEM_PROPERTIES           =
+    {
+        "exists",
+        "name",
+        "hits",
+        "isSelected"
+    };
+
+    private static final int       ITEM_EXISTS               = 0;
+    private static final int       ITEM_NAME                 = 1;
+    private static final int       ITEM_HITS                 = 2;
+    private static final int       ITEM_IS_SELECTED          = 3;
+
+    private static final int       NUM_NOTES                 = 127;
+    private static final int       NUM_PAGES                 = 8;
+
+    private KeyManager             keyManager;
+
+    // The indices of the addresses, first index is the entity (e.g. the track), the last one is
+    // the property. Rebuilt if the size of a bank changes, except for the tracks, which are created
+    // once. The tracks contain the master and the selected track at the end.
+    private int [] []              trackAddresses            = new int [0] [];
+    private int [] [] []           sendAddresses             = new int [0] [] [];
+    private int [] [] []           clipAddresses             = new int [0] [] [];
+    private String []              trackPrefixes             = new String [0];
+    private int [] []              sceneAddresses            = new int [0] [];
+    private final int [] []        deviceAddresses           = new int [2] [];
+    private final int [] [] []     siblingAddresses          = new int [2] [] [];
+    private final int [] [] []     deviceParameterAddresses  = new int [2] [] [];
+    private final int [] [] []     pageAddresses             = new int [2] [] [];
+    private int [] []              drumPadAddresses          = new int [0] [];
+    private int [] [] []           drumPadSendAddresses      = new int [0] [] [];
+    private int [] []              layerAddresses            = new int [0] [];
+    private int [] [] []           layerSendAddresses        = new int [0] [] [];
+    private final int []           browserAddresses;
+    private int [] []              filterAddresses           = new int [0] [];
+    private int [] [] []           filterItemAddresses       = new int [0] [] [];
+    private int [] []              resultAddresses           = new int [0] [];
+    private final int []           noteAddresses             = new int [NUM_NOTES];
+
+    // The entities for skipping unchanged data, the track entities contain the master at the end
+    private final int              transportEntity;
+    private final int []           deviceEntities            = new int [2];
+    private int []                 trackEntities             = new int [0];
+    private List<IChannelBank>     observedTrackBanks        = new ArrayList<> ();
+    private IChannelBank           flushedTrackBank;
+    private ITrack                 flushedSelectedTrack;
 
 
     /**
@@ -54,42 +263,38 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         super (host, model, oscServer, configuration);
         this.keyManager = keyManager;
+
+        this.transportEntity = this.createEntity ();
+        this.observe (this.transportEntity, model.getTransport ());
+        this.createDeviceAddresses (0, "/device/");
+        this.createDeviceAddresses (1, "/primary/");
+        this.observe (this.deviceEntities[0], model.getCursorDevice ());
+        this.observe (this.deviceEntities[1], model.getPrimaryDevice ());
+        final IChannelBank effectTrackBank = model.getEffectTrackBank ();
+        this.createTrackAddresses (Math.max (model.getTrackBank ().getNumTracks (), effectTrackBank == null ? 0 : effectTrackBank.getNumTracks ()));
+        this.browserAddresses = this.addresses.add ("/browser/", BROWSER_PROPERTIES);
+        for (int i = 0; i < NUM_NOTES; i++)
+            this.noteAddresses[i] = this.addresses.add ("/vkb_midi/note/" + i + "/color");
+
+        configuration.addSettingObserver (AbstractConfiguration.ENABLE_VU_METERS, this::markAllDirty);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void flush (final boolean dump)
+    public void flush (final boolean forceDump)
     {
         if (!this.isConnected ())
             return;
 
+        final boolean dump = this.startFlush (forceDump);
+
         //
         // Transport
         //
 
-        final ITransport trans = this.model.getTransport ();
-        this.sendOSC ("/play", trans.isPlaying (), dump);
-        this.sendOSC ("/record", trans.isRecording (), dump);
-        this.sendOSC ("/overdub", trans.isArrangerOverdub (), dump);
-        this.sendOSC ("/overdub/launcher", trans.isLauncherOverdub (), dump);
-        this.sendOSC ("/repeat", trans.isLoop (), dump);
-        this.sendOSC ("/punchIn", trans.isPunchInEnabled (), dump);
-        this.sendOSC ("/punchOut", trans.isPunchOutEnabled (), dump);
-        this.sendOSC ("/click", trans.isMetronomeOn (), dump);
-        this.sendOSC ("/click/ticks", trans.isMetronomeTicksOn (), dump);
-        this.sendOSC ("/click/volume", trans.getMetronomeVolume (), dump);
-        this.sendOSC ("/click/volumeStr", trans.getMetronomeVolumeStr (), dump);
-        this.sendOSC ("/click/preroll", trans.isPrerollMetronomeEnabled (), dump);
-        this.sendOSC ("/preroll", trans.getPrerollAsBars (), dump);
-        this.sendOSC ("/tempo/raw", trans.getTempo (), dump);
-        this.sendOSC ("/crossfade", trans.getCrossfade (), dump);
-        this.sendOSC ("/autowrite", trans.isWritingArrangerAutomation (), dump);
-        this.sendOSC ("/autowrite/launcher", trans.isWritingClipLauncherAutomation (), dump);
-        this.sendOSC ("/automationWriteMode", trans.getAutomationWriteMode (), dump);
-        this.sendOSC ("/time/str", trans.getPositionText (), dump);
-        this.sendOSC ("/time/signature", trans.getNumerator () + " / " + trans.getDenominator (), dump);
-        this.sendOSC ("/beat/str", trans.getBeatText (), dump);
+        if (this.needsFlush (this.transportEntity, dump))
+            this.flushTransport (this.model.getTransport (), dump);
 
         //
         // Frames
@@ -127,11 +332,34 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         //
 
         final IChannelBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getNumTracks (); i++)
-            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getTrack (i), dump);
-        this.flushTrack ("/master/", this.model.getMasterTrack (), dump);
-        final ITrack selectedTrack = trackBank.getSelectedTrack ();
-        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
+        final int masterIndex = this.trackEntities.length - 1;
+        final int numTracks = Math.min (trackBank.getNumTracks (), masterIndex);
+        if (trackBank != this.flushedTrackBank)
+        {
+            this.flushedTrackBank = trackBank;
+            this.observeTrackBank (trackBank);
+            this.markAllDirty ();
+        }
+
+        // The selected track is also one of the bank, flush it if it is a different one or its
+        // entity in the bank changed
+        final ITrack selTrack = trackBank.getSelectedTrack ();
+        final ITrack selectedTrack = selTrack == null ? EmptyTrackData.INSTANCE : selTrack;
+        boolean flushSelectedTrack = dump || selectedTrack != this.flushedSelectedTrack || !(selectedTrack instanceof ChangeObservable);
+        this.flushedSelectedTrack = selectedTrack;
+        for (int i = 0; i < numTracks; i++)
+        {
+            if (!this.needsFlush (this.trackEntities[i], dump))
+                continue;
+            final ITrack track = trackBank.getTrack (i);
+            this.flushTrack (i, track, dump);
+            if (track == selectedTrack)
+                flushSelectedTrack = true;
+        }
+        if (this.needsFlush (this.trackEntities[masterIndex], dump))
+            this.flushTrack (masterIndex, this.model.getMasterTrack (), dump);
+        if (flushSelectedTrack)
+            this.flushTrack (masterIndex + 1, selectedTrack, dump);
         this.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
 
         //
@@ -141,203 +369,342 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         final ISceneBank sceneBank = this.model.getSceneBank ();
         if (sceneBank != null)
         {
-            for (int i = 0; i < sceneBank.getNumScenes (); i++)
-                this.flushScene ("/scene/" + (i + 1) + "/", sceneBank.getScene (i), dump);
+            final int numScenes = sceneBank.getNumScenes ();
+            if (this.sceneAddresses.length != numScenes)
+                this.sceneAddresses = this.addresses.add ("/scene/", numScenes, SCENE_PROPERTIES);
+            for (int i = 0; i < numScenes; i++)
+                this.flushScene (this.sceneAddresses[i], sceneBank.getScene (i), dump);
         }
 
         //
         // Device / Primary Device
         //
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice ("/device/", cd, dump);
+        if (this.needsFlush (this.deviceEntities[0], dump))
+            this.flushDevice (0, "/device/", cd, dump);
         if (cd.hasDrumPads ())
         {
-            for (int i = 0; i < cd.getNumDrumPads (); i++)
-                this.flushDeviceLayers ("/device/drumpad/" + (i + 1) + "/", cd.getLayerOrDrumPad (i), dump);
+            final int numDrumPads = cd.getNumDrumPads ();
+            if (this.drumPadAddresses.length != numDrumPads)
+            {
+                this.drumPadAddresses = this.addresses.add ("/device/drumpad/", numDrumPads, TRACK_PROPERTIES);
+                this.drumPadSendAddresses = new int [numDrumPads] [0] [];
+            }
+            for (int i = 0; i < numDrumPads; i++)
+                this.flushDeviceLayers ("/device/drumpad/", i, this.drumPadAddresses[i], this.drumPadSendAddresses, cd.getLayerOrDrumPad (i), dump);
+        }
+        final int numLayers = cd.getNumLayers ();
+        if (this.layerAddresses.length != numLayers)
+        {
+            this.layerAddresses = this.addresses.add ("/device/layer/", numLayers, TRACK_PROPERTIES);
+            this.layerSendAddresses = new int [numLayers] [0] [];
         }
-        for (int i = 0; i < cd.getNumLayers (); i++)
-            this.flushDeviceLayers ("/device/layer/" + (i + 1) + "/", cd.getLayerOrDrumPad (i), dump);
-        this.flushDevice ("/primary/", this.model.getPrimaryDevice (), dump);
+        for (int i = 0; i < numLayers; i++)
+            this.flushDeviceLayers ("/device/layer/", i, this.layerAddresses[i], this.layerSendAddresses, cd.getLayerOrDrumPad (i), dump);
+        if (this.needsFlush (this.deviceEntities[1], dump))
+            this.flushDevice (1, "/primary/", this.model.getPrimaryDevice (), dump);
 
         //
         // Browser
         //
 
-        this.flushBrowser ("/browser/", this.model.getBrowser (), dump);
+        this.flushBrowser (this.model.getBrowser (), dump);
 
         //
         // Notes
         //
 
-        this.flushNotes ("/vkb_midi/note/", dump);
+        this.flushNotes (dump);
 
         this.flush ();
     }
 
 
+    /**
+     * Flush all data of the transport.
+     *
+     * @param trans The transport
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushTransport (final ITransport trans, final boolean dump)
+    {
+        this.sendOSC ("/play", trans.isPlaying (), dump);
+        this.sendOSC ("/record", trans.isRecording (), dump);
+        this.sendOSC ("/overdub", trans.isArrangerOverdub (), dump);
+        this.sendOSC ("/overdub/launcher", trans.isLauncherOverdub (), dump);
+        this.sendOSC ("/repeat", trans.isLoop (), dump);
+        this.sendOSC ("/punchIn", trans.isPunchInEnabled (), dump);
+        this.sendOSC ("/punchOut", trans.isPunchOutEnabled (), dump);
+        this.sendOSC ("/click", trans.isMetronomeOn (), dump);
+        this.sendOSC ("/click/ticks", trans.isMetronomeTicksOn (), dump);
+        this.sendOSC ("/click/volume", trans.getMetronomeVolume (), dump);
+        this.sendOSC ("/click/volumeStr", trans.getMetronomeVolumeStr (), dump);
+        this.sendOSC ("/click/preroll", trans.isPrerollMetronomeEnabled (), dump);
+        this.sendOSC ("/preroll", trans.getPrerollAsBars (), dump);
+        this.sendOSC ("/tempo/raw", trans.getTempo (), dump);
+        this.sendOSC ("/crossfade", trans.getCrossfade (), dump);
+        this.sendOSC ("/autowrite", trans.isWritingArrangerAutomation (), dump);
+        this.sendOSC ("/autowrite/launcher", trans.isWritingClipLauncherAutomation (), dump);
+        this.sendOSC ("/automationWriteMode", trans.getAutomationWriteMode (), dump);
+        this.sendOSC ("/time/str", trans.getPositionText (), dump);
+        this.sendOSC ("/time/signature", trans.getNumerator () + " / " + trans.getDenominator (), dump);
+        this.sendOSC ("/beat/str", trans.getBeatText (), dump);
+    }
+
+
+    /**
+     * Create the addresses and entities of the tracks, the master and the selected track. They are
+     * created only once for the larger of the track banks, since the observers of the entities
+     * cannot be removed.
+     *
+     * @param numTracks The number of tracks of the larger track bank
+     */
+    private void createTrackAddresses (final int numTracks)
+    {
+        this.trackPrefixes = new String [numTracks + 2];
+        for (int i = 0; i < numTracks; i++)
+            this.trackPrefixes[i] = "/track/" + (i + 1) + "/";
+        this.trackPrefixes[numTracks] = "/master/";
+        this.trackPrefixes[numTracks + 1] = "/track/selected/";
+
+        this.trackAddresses = new int [this.trackPrefixes.length] [];
+        for (int i = 0; i < this.trackPrefixes.length; i++)
+            this.trackAddresses[i] = this.addresses.add (this.trackPrefixes[i], TRACK_PROPERTIES);
+        this.sendAddresses = new int [this.trackPrefixes.length] [0] [];
+        this.clipAddresses = new int [this.trackPrefixes.length] [0] [];
+
+        this.trackEntities = new int [numTracks + 1];
+        for (int i = 0; i < this.trackEntities.length; i++)
+            this.trackEntities[i] = this.createEntity ();
+        this.observe (this.trackEntities[numTracks], this.model.getMasterTrack ());
+    }
+
+
+    /**
+     * Register the tracks of a bank at the track entities. Each bank is registered only once.
+     *
+     * @param trackBank The track bank
+     */
+    private void observeTrackBank (final IChannelBank trackBank)
+    {
+        if (this.observedTrackBanks.contains (trackBank))
+            return;
+        this.observedTrackBanks.add (trackBank);
+        final int numTracks = Math.min (trackBank.getNumTracks (), this.trackEntities.length - 1);
+        for (int i = 0; i < numTracks; i++)
+            this.observe (this.trackEntities[i], trackBank.getTrack (i));
+    }
+
+
+    /**
+     * Create the addresses of a device, the addresses of siblings and parameters are added when
+     * the device is flushed.
+     *
+     * @param index 0 for the cursor device, 1 for the primary device
+     * @param deviceAddress The start address for the device
+     */
+    private void createDeviceAddresses (final int index, final String deviceAddress)
+    {
+        this.deviceEntities[index] = this.createEntity ();
+        this.deviceAddresses[index] = this.addresses.add (deviceAddress, DEVICE_PROPERTIES);
+        this.siblingAddresses[index] = new int [0] [];
+        this.deviceParameterAddresses[index] = new int [0] [];
+        this.pageAddresses[index] = this.addresses.add (deviceAddress + "page/", NUM_PAGES, PAGE_PROPERTIES);
+    }
+
+
     /**
      * Flush all data of a track.
      *
-     * @param trackAddress The start address for the track
+     * @param index The index of the track addresses
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final int index, final ITrack track, final boolean dump)
     {
-        this.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        final int [] trackAddress = this.trackAddresses[index];
+        this.sendOSC (trackAddress[TRACK_EXISTS], track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        this.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        this.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        this.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        this.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        this.sendOSC (trackAddress + "name", track.getName (), dump);
-        this.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        this.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        this.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        this.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        this.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        this.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        this.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        this.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        this.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        this.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        this.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        this.sendOSC (trackAddress + "position", track.getPosition (), dump);
-
-        for (int i = 0; i < track.getNumSends (); i++)
-            this.flushParameterData (trackAddress + "send/" + (i + 1) + "/", track.getSend (i), dump);
-
-        for (int i = 0; i < track.getNumSlots (); i++)
+        this.sendOSC (trackAddress[TRACK_TYPE], type == null ? null : type.name ().toLowerCase (), dump);
+        this.sendOSC (trackAddress[TRACK_ACTIVATED], track.isActivated (), dump);
+        this.sendOSC (trackAddress[TRACK_SELECTED], track.isSelected (), dump);
+        this.sendOSC (trackAddress[TRACK_IS_GROUP], track.isGroup (), dump);
+        this.sendOSC (trackAddress[TRACK_NAME], track.getName (), dump);
+        this.sendOSC (trackAddress[TRACK_VOLUME_STR], track.getVolumeStr (), dump);
+        this.sendOSC (trackAddress[TRACK_VOLUME], track.getVolume (), dump);
+        this.sendOSC (trackAddress[TRACK_PAN_STR], track.getPanStr (), dump);
+        this.sendOSC (trackAddress[TRACK_PAN], track.getPan (), dump);
+        this.sendOSC (trackAddress[TRACK_MUTE], track.isMute (), dump);
+        this.sendOSC (trackAddress[TRACK_SOLO], track.isSolo (), dump);
+        this.sendOSC (trackAddress[TRACK_RECARM], track.isRecArm (), dump);
+        this.sendOSC (trackAddress[TRACK_MONITOR], track.isMonitor (), dump);
+        this.sendOSC (trackAddress[TRACK_AUTO_MONITOR], track.isAutoMonitor (), dump);
+        this.sendOSC (trackAddress[TRACK_CAN_HOLD_NOTES], track.canHoldNotes (), dump);
+        this.sendOSC (trackAddress[TRACK_CAN_HOLD_AUDIO_DATA], track.canHoldAudioData (), dump);
+        this.sendOSC (trackAddress[TRACK_POSITION], track.getPosition (), dump);
+
+        final int numSends = track.getNumSends ();
+        if (this.sendAddresses[index].length < numSends)
+            this.sendAddresses[index] = this.addresses.add (this.trackPrefixes[index] + "send/", numSends, SEND_PROPERTIES);
+        for (int i = 0; i < numSends; i++)
+            this.flushParameterData (this.sendAddresses[index][i], track.getSend (i), dump);
+
+        final int numSlots = track.getNumSlots ();
+        if (this.clipAddresses[index].length < numSlots)
+            this.clipAddresses[index] = this.addresses.add (this.trackPrefixes[index] + "clip/", numSlots, CLIP_PROPERTIES);
+        for (int i = 0; i < numSlots; i++)
         {
             final ISlot slot = track.getSlot (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            this.sendOSC (clipAddress + "name", slot.getName (), dump);
-            this.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            this.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            this.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            this.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            this.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            this.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            this.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final int [] clipAddress = this.clipAddresses[index][i];
+            this.sendOSC (clipAddress[CLIP_NAME], slot.getName (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_SELECTED], slot.isSelected (), dump);
+            this.sendOSC (clipAddress[CLIP_HAS_CONTENT], slot.hasContent (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_PLAYING], slot.isPlaying (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_RECORDING], slot.isRecording (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_PLAYING_QUEUED], slot.isPlayingQueued (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_RECORDING_QUEUED], slot.isRecordingQueued (), dump);
+            this.sendOSC (clipAddress[CLIP_IS_STOP_QUEUED], slot.isStopQueued (), dump);
 
             final double [] color = slot.getColor ();
-            this.sendOSCColor (clipAddress + "color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (clipAddress[CLIP_COLOR], color[0], color[1], color[2], dump);
         }
 
         final double [] color = track.getColor ();
-        this.sendOSCColor (trackAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (trackAddress[TRACK_COLOR], color[0], color[1], color[2], dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
-        this.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress[TRACK_CROSSFADE_MODE_A], "A".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress[TRACK_CROSSFADE_MODE_B], "B".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress[TRACK_CROSSFADE_MODE_AB], "AB".equals (crossfadeMode), dump);
 
-        this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+        this.sendOSC (trackAddress[TRACK_VU], ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
     }
 
 
     /**
      * Flush all data of a scene.
      *
-     * @param sceneAddress The start address for the scene
+     * @param sceneAddress The addresses of the scene
      * @param scene The scene
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushScene (final String sceneAddress, final IScene scene, final boolean dump)
+    private void flushScene (final int [] sceneAddress, final IScene scene, final boolean dump)
     {
-        this.sendOSC (sceneAddress + "exists", scene.doesExist (), dump);
-        this.sendOSC (sceneAddress + "name", scene.getName (), dump);
-        this.sendOSC (sceneAddress + "selected", scene.isSelected (), dump);
+        this.sendOSC (sceneAddress[SCENE_EXISTS], scene.doesExist (), dump);
+        this.sendOSC (sceneAddress[SCENE_NAME], scene.getName (), dump);
+        this.sendOSC (sceneAddress[SCENE_SELECTED], scene.isSelected (), dump);
     }
 
 
     /**
      * Flush all data of a device.
      *
+     * @param index 0 for the cursor device, 1 for the primary device
      * @param deviceAddress The start address for the device
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private void flushDevice (final int index, final String deviceAddress, final ICursorDevice device, final boolean dump)
     {
-        this.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        this.sendOSC (deviceAddress + "name", device.getName (), dump);
-        this.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        this.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        this.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
-        final int positionInBank = device.getPositionInBank ();
-        for (int i = 0; i < device.getNumDevices (); i++)
-        {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", device.getSiblingDeviceName (i), dump);
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+        final int [] address = this.deviceAddresses[index];
+        this.sendOSC (address[DEVICE_EXISTS], device.doesExist (), dump);
+        this.sendOSC (address[DEVICE_NAME], device.getName (), dump);
+        this.sendOSC (address[DEVICE_BYPASS], !device.isEnabled (), dump);
+        this.sendOSC (address[DEVICE_EXPAND], device.isExpanded (), dump);
+        this.sendOSC (address[DEVICE_WINDOW], device.isWindowOpen (), dump);
 
-        }
-        for (int i = 0; i < device.getNumParameters (); i++)
+        final int positionInBank = device.getPositionInBank ();
+        final int numDevices = device.getNumDevices ();
+        if (this.siblingAddresses[index].length < numDevices)
+            this.siblingAddresses[index] = this.addresses.add (deviceAddress + "sibling/", numDevices, ENTRY_PROPERTIES);
+        for (int i = 0; i < numDevices; i++)
         {
-            final int oneplus = i + 1;
-            this.flushParameterData (deviceAddress + "param/" + oneplus + "/", device.getFXParam (i), dump);
+            final int [] siblingAddress = this.siblingAddresses[index][i];
+            this.sendOSC (siblingAddress[ENTRY_NAME], device.getSiblingDeviceName (i), dump);
+            this.sendOSC (siblingAddress[ENTRY_SELECTED], i == positionInBank, dump);
         }
+
+        final int numParameters = device.getNumParameters ();
+        if (this.deviceParameterAddresses[index].length < numParameters)
+            this.deviceParameterAddresses[index] = this.addresses.add (deviceAddress + "param/", numParameters, PARAMETER_PROPERTIES);
+        for (int i = 0; i < numParameters; i++)
+            this.flushParameterData (this.deviceParameterAddresses[index][i], device.getFXParam (i), dump);
+
         final String [] parameterPageNames = device.getParameterPageNames ();
         final int selectedParameterPage = device.getSelectedParameterPage ();
 
         final int page = Math.min (Math.max (0, selectedParameterPage), parameterPageNames.length - 1);
-        final int start = page / 8 * 8;
+        final int start = page / NUM_PAGES * NUM_PAGES;
 
-        for (int i = 0; i < 8; i++)
+        for (int i = 0; i < NUM_PAGES; i++)
         {
-            final int index = start + i;
-            final String pageName = index < parameterPageNames.length ? parameterPageNames[index] : "";
+            final int pageIndex = start + i;
+            final String pageName = pageIndex < parameterPageNames.length ? parameterPageNames[pageIndex] : "";
 
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/", pageName, dump);
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/selected", page == index, dump);
+            final int [] pageAddress = this.pageAddresses[index][i];
+            this.sendOSC (pageAddress[ENTRY_NAME], pageName, dump);
+            this.sendOSC (pageAddress[ENTRY_SELECTED], page == pageIndex, dump);
         }
-        final int sel = page % 8;
-        this.sendOSC (deviceAddress + "page/selected/name", sel >= 0 && sel < 8 ? parameterPageNames[sel] : "", dump);
+        final int sel = page % NUM_PAGES;
+        this.sendOSC (address[DEVICE_SELECTED_PAGE_NAME], sel >= 0 && sel < NUM_PAGES ? parameterPageNames[sel] : "", dump);
     }
 
 
     /**
      * Flush all data of the browser.
      *
-     * @param browserAddress The start address for the browser
      * @param browser The browser
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushBrowser (final String browserAddress, final IBrowser browser, final boolean dump)
+    private void flushBrowser (final IBrowser browser, final boolean dump)
     {
-        this.sendOSC (browserAddress + "isActive", browser.isActive (), dump);
-        this.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.sendOSC (this.browserAddresses[BROWSER_IS_ACTIVE], browser.isActive (), dump);
+        this.sendOSC (this.browserAddresses[BROWSER_TAB], browser.getSelectedContentType (), dump);
 
-        IBrowserColumn column;
         // Filter Columns
-        for (int i = 0; i < browser.getFilterColumnCount (); i++)
+        final int numFilters = browser.getFilterColumnCount ();
+        if (this.filterAddresses.length != numFilters)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
-            column = browser.getFilterColumn (i);
-            this.sendOSC (filterAddress + "exists", column.doesExist (), dump);
-            this.sendOSC (filterAddress + "name", column.getName (), dump);
-            this.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.filterAddresses = this.addresses.add ("/browser/filter/", numFilters, FILTER_PROPERTIES);
+            this.filterItemAddresses = new int [numFilters] [0] [];
+        }
+        for (int i = 0; i < numFilters; i++)
+        {
+            final int [] filterAddress = this.filterAddresses[i];
+            final IBrowserColumn column = browser.getFilterColumn (i);
+            this.sendOSC (filterAddress[FILTER_EXISTS], column.doesExist (), dump);
+            this.sendOSC (filterAddress[FILTER_NAME], column.getName (), dump);
+            this.sendOSC (filterAddress[FILTER_WILDCARD], column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
-            for (int j = 0; j < items.length; j++)
-            {
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/exists", items[j].doesExist (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/name", items[j].getName (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/hits", items[j].getHitCount (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/isSelected", items[j].isSelected (), dump);
-            }
+            if (this.filterItemAddresses[i].length < items.length)
+                this.filterItemAddresses[i] = this.addresses.add ("/browser/filter/" + (i + 1) + "/item/", items.length, ITEM_PROPERTIES);
+            this.flushBrowserItems (this.filterItemAddresses[i], items, dump);
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
+        if (this.resultAddresses.length < items.length)
+            this.resultAddresses = this.addresses.add ("/browser/result/", items.length, ITEM_PROPERTIES);
+        this.flushBrowserItems (this.resultAddresses, items, dump);
+    }
+
+
+    /**
+     * Flush all data of the items of a browser column.
+     *
+     * @param itemAddresses The addresses of the items
+     * @param items The items
+     * @param dump Forces a flush if true otherwise only changed values are flushed
+     */
+    private void flushBrowserItems (final int [] [] itemAddresses, final IBrowserColumnItem [] items, final boolean dump)
+    {
         for (int i = 0; i < items.length; i++)
         {
-            this.sendOSC (presetAddress + (i + 1) + "/exists", items[i].doesExist (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/name", items[i].getName (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/hits", items[i].getHitCount (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/isSelected", items[i].isSelected (), dump);
+            final int [] itemAddress = itemAddresses[i];
+            this.sendOSC (itemAddress[ITEM_EXISTS], items[i].doesExist (), dump);
+            this.sendOSC (itemAddress[ITEM_NAME], items[i].getName (), dump);
+            this.sendOSC (itemAddress[ITEM_HITS], items[i].getHitCount (), dump);
+            this.sendOSC (itemAddress[ITEM_IS_SELECTED], items[i].isSelected (), dump);
         }
     }
 
@@ -345,67 +712,70 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     /**
      * Flush all data of a device layer.
      *
-     * @param deviceAddress The start address for the device
+     * @param layersAddress The start address for the layers
+     * @param index The index of the layer
+     * @param layerAddress The addresses of the layer
+     * @param sendAddresses The addresses of the sends of all layers
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayers (final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayers (final String layersAddress, final int index, final int [] layerAddress, final int [] [] [] sendAddresses, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        this.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        this.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        this.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        this.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        this.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        this.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        this.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        this.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        this.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        this.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
-
-        for (int i = 0; i < channel.getNumSends (); i++)
-            this.flushParameterData (deviceAddress + "send/" + (i + 1) + "/", channel.getSend (i), dump);
+        this.sendOSC (layerAddress[TRACK_EXISTS], channel.doesExist (), dump);
+        this.sendOSC (layerAddress[TRACK_ACTIVATED], channel.isActivated (), dump);
+        this.sendOSC (layerAddress[TRACK_SELECTED], channel.isSelected (), dump);
+        this.sendOSC (layerAddress[TRACK_NAME], channel.getName (), dump);
+        this.sendOSC (layerAddress[TRACK_VOLUME_STR], channel.getVolumeStr (), dump);
+        this.sendOSC (layerAddress[TRACK_VOLUME], channel.getVolume (), dump);
+        this.sendOSC (layerAddress[TRACK_PAN_STR], channel.getPanStr (), dump);
+        this.sendOSC (layerAddress[TRACK_PAN], channel.getPan (), dump);
+        this.sendOSC (layerAddress[TRACK_MUTE], channel.isMute (), dump);
+        this.sendOSC (layerAddress[TRACK_SOLO], channel.isSolo (), dump);
+
+        final int numSends = channel.getNumSends ();
+        if (sendAddresses[index].length < numSends)
+            sendAddresses[index] = this.addresses.add (layersAddress + (index + 1) + "/send/", numSends, SEND_PROPERTIES);
+        for (int i = 0; i < numSends; i++)
+            this.flushParameterData (sendAddresses[index][i], channel.getSend (i), dump);
 
         if (((OSCConfiguration) this.configuration).isEnableVUMeters ())
-            this.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            this.sendOSC (layerAddress[TRACK_VU], channel.getVu (), dump);
 
         final double [] color = channel.getColor ();
-        this.sendOSCColor (deviceAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (layerAddress[TRACK_COLOR], color[0], color[1], color[2], dump);
     }
 
 
     /**
      * Flush all data of a parameter.
      *
-     * @param fxAddress The start address for the effect
+     * @param fxAddress The addresses of the parameter
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushParameterData (final String fxAddress, final IParameter fxParam, final boolean dump)
+    private void flushParameterData (final int [] fxAddress, final IParameter fxParam, final boolean dump)
     {
-        final boolean isSend = fxParam instanceof ISend;
-
-        this.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        this.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        this.sendOSC (fxAddress[PARAMETER_NAME], fxParam.getName (), dump);
+        this.sendOSC (fxAddress[PARAMETER_VALUE_STR], fxParam.getDisplayedValue (), dump);
+        this.sendOSC (fxAddress[PARAMETER_VALUE], fxParam.getValue (), dump);
+        this.sendOSC (fxAddress[PARAMETER_MODULATED_VALUE], fxParam.getModulatedValue (), dump);
     }
 
 
     /**
      * Flush all notes.
      *
-     * @param noteAddress The start address for the note
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushNotes (final String noteAddress, final boolean dump)
+    private void flushNotes (final boolean dump)
     {
-        for (int i = 0; i < 127; i++)
+        for (int i = 0; i < NUM_NOTES; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (this.noteAddresses[i], color[0], color[1], color[2], dump);
         }
     }
 
@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.push;
 
 import de.mossgrabers.controller.push.controller.PushControlSurface;
+import de.mossgrabers.controller.push.controller.PushDisplay;
 import de.mossgrabers.controller.push.mode.Modes;
 import de.mossgrabers.controller.push.view.Views;
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
@@ -63,6 +64,10 @@ public class PushConfiguration extends AbstractConfiguration
     public static final Integer    DEBUG_MODE                      = Integer.valueOf (41);
     /** Push 2 display debug window. */
     public static final Integer    DEBUG_WINDOW                    = Integer.valueOf (42);
+    /** Push 2 display keep alive interval. */
+    public static final Integer    DISPLAY_KEEP_ALIVE              = Integer.valueOf (43);
+    /** Push 2 display transport. */
+    public static final Integer    DISPLAY_TRANSPORT               = Integer.valueOf (44);
     /** Background color of an element. */
     public static final Integer    COLOR_BACKGROUND                = Integer.valueOf (50);
     /** Border color of an element. */
@@ -103,6 +108,13 @@ public class PushConfiguration extends AbstractConfiguration
 
     private static final String    CATEGORY_RIBBON                 = "Ribbon";
 
+    private static final String [] DISPLAY_TRANSPORT_VALUES        =
+    {
+        "UDP",
+        "Shared Memory",
+        "Shared Memory (Polling)"
+    };
+
     private static final String [] RIBBON_MODE_VALUES              =
     {
         "Pitch",
@@ -131,6 +143,8 @@ public class PushConfiguration extends AbstractConfiguration
     private int                    padSensitivity                  = 5;
     private int                    padGain                         = 5;
     private int                    padDynamics                     = 5;
+    private int                    displayKeepAlive                = 1000;
+    private int                    displayTransport                = PushDisplay.TRANSPORT_UDP;
 
     private final IHost            host;
     private final boolean          isPush2;
@@ -592,6 +606,29 @@ public class PushConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Get the interval in which an unchanged frame is sent again to the Push 2 display process.
+     *
+     * @return The interval in milliseconds, 0 to never resend an unchanged frame
+     */
+    public int getDisplayKeepAlive ()
+    {
+        return this.displayKeepAlive;
+    }
+
+
+    /**
+     * Get how the frames are handed to the Push 2 display process.
+     *
+     * @return PushDisplay.TRANSPORT_UDP, PushDisplay.TRANSPORT_SHARED_MEMORY or
+     *         PushDisplay.TRANSPORT_SHARED_MEMORY_POLLING
+     */
+    public int getDisplayTransport ()
+    {
+        return this.displayTransport;
+    }
+
+
     /**
      * Set the send port
      *
@@ -773,6 +810,22 @@ public class PushConfiguration extends AbstractConfiguration
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        final IIntegerSetting displayKeepAliveSetting = settingsUI.getRangeSetting ("Display Keep Alive", CATEGORY_HARDWARE_SETUP, 0, 10000, 100, "ms", 1000);
+        displayKeepAliveSetting.addValueObserver (value -> {
+            this.displayKeepAlive = value.intValue ();
+            this.notifyObservers (DISPLAY_KEEP_ALIVE);
+        });
+
+        final IEnumSetting displayTransportSetting = settingsUI.getEnumSetting ("Display Transport", CATEGORY_HARDWARE_SETUP, DISPLAY_TRANSPORT_VALUES, DISPLAY_TRANSPORT_VALUES[0]);
+        displayTransportSetting.addValueObserver (value -> {
+            for (int i = 0; i < DISPLAY_TRANSPORT_VALUES.length; i++)
+            {
+                if (DISPLAY_TRANSPORT_VALUES[i].equals (value))
+                    this.displayTransport = i;
+            }
+            this.notifyObservers (DISPLAY_TRANSPORT);
+        });
     }
 
 
@@ -219,6 +219,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     {
         final PushDisplay display = new PushDisplay (this.model.getHost (), this.isPush2, this.valueChanger.getUpperBound (), output);
         display.setCommunicationPort (this.configuration.getSendPort ());
+        display.setKeepAliveInterval (this.configuration.getDisplayKeepAlive ());
+        display.setTransport (this.configuration.getDisplayTransport ());
         return display;
     }
 
@@ -344,6 +346,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         this.configuration.addSettingObserver (PushConfiguration.RIBBON_MODE, this::updateRibbonMode);
         this.configuration.addSettingObserver (PushConfiguration.SEND_PORT, () -> ((PushDisplay) surface.getDisplay ()).setCommunicationPort (this.configuration.getSendPort ()));
+        this.configuration.addSettingObserver (PushConfiguration.DISPLAY_KEEP_ALIVE, () -> ((PushDisplay) surface.getDisplay ()).setKeepAliveInterval (this.configuration.getDisplayKeepAlive ()));
+        this.configuration.addSettingObserver (PushConfiguration.DISPLAY_TRANSPORT, () -> ((PushDisplay) surface.getDisplay ()).setTransport (this.configuration.getDisplayTransport ()));
         this.configuration.addSettingObserver (PushConfiguration.DEBUG_MODE, () -> {
             final ModeManager modeManager = surface.getModeManager ();
             final Integer debugMode = this.configuration.getDebugMode ();
@@ -0,0 +1,52 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * Sends the frames of the Push 2 display as UDP datagrams to the display process on the local
+ * host.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DatagramDisplayTransport implements IDisplayTransport
+{
+    /** The address of the display process. */
+    public static final String LOCALHOST = "127.0.0.1";
+
+    private final IHost        host;
+    private final int          port;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param port The port of the display process
+     */
+    public DatagramDisplayTransport (final IHost host, final int port)
+    {
+        this.host = host;
+        this.port = port;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void send (final byte [] data)
+    {
+        this.host.sendDatagramPacket (LOCALHOST, this.port, data);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        // Intentionally empty
+    }
+}
@@ -6,41 +6,57 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 
 /**
- * Communication message to talk to the display process.
+ * Communication message to talk to the display process. The elements are encoded directly into a
+ * growing byte buffer. A message can be reused for the next frame by calling reset.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class DisplayMessage
 {
     /** Display only a channel name for selection. */
-    public static final int GRID_ELEMENT_CHANNEL_SELECTION  = 0;
+    public static final int        GRID_ELEMENT_CHANNEL_SELECTION  = 0;
     /** Display a channel, edit volume. */
-    public static final int GRID_ELEMENT_CHANNEL_VOLUME     = 1;
+    public static final int        GRID_ELEMENT_CHANNEL_VOLUME     = 1;
     /** Display a channel, edit panorama. */
-    public static final int GRID_ELEMENT_CHANNEL_PAN        = 2;
+    public static final int        GRID_ELEMENT_CHANNEL_PAN        = 2;
     /** Display a channel, edit crossfader. */
-    public static final int GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
+    public static final int        GRID_ELEMENT_CHANNEL_CROSSFADER = 3;
     /** Display a channel sends. */
-    public static final int GRID_ELEMENT_CHANNEL_SENDS      = 4;
+    public static final int        GRID_ELEMENT_CHANNEL_SENDS      = 4;
     /** Display a channel, edit all parameters. */
-    public static final int GRID_ELEMENT_CHANNEL_ALL        = 5;
+    public static final int        GRID_ELEMENT_CHANNEL_ALL        = 5;
     /** Display a parameter with name and value. */
-    public static final int GRID_ELEMENT_PARAMETERS         = 6;
+    public static final int        GRID_ELEMENT_PARAMETERS         = 6;
     /** Display options on top and bottom. */
-    public static final int GRID_ELEMENT_OPTIONS            = 7;
+    public static final int        GRID_ELEMENT_OPTIONS            = 7;
     /** Display a list. */
-    public static final int GRID_ELEMENT_LIST               = 8;
+    public static final int        GRID_ELEMENT_LIST               = 8;
 
     /** The grid command. */
-    public static final int DISPLAY_COMMAND_GRID            = 10;
+    public static final int        DISPLAY_COMMAND_GRID            = 10;
+    /** Notifies that a frame is available in shared memory. */
+    public static final int        DISPLAY_COMMAND_FRAME_READY     = 11;
 
-    private int             command;
-    private List<Integer>   array;
+    private static final int       SYSEX_START                     = 0xF0;
+    private static final int       SYSEX_END                       = 0xF7;
+    // Marks a non-ASCII character which is followed by its 14 bit code
+    private static final int       ESCAPE                          = 0xFF;
+
+    private static final String [] CHANNEL_TYPES                   = new String [ChannelType.values ().length];
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            CHANNEL_TYPES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private final int              command;
+    private byte []                buffer                          = new byte [1024];
+    private int                    position;
+    private byte []                data                            = new byte [0];
 
 
     /**
@@ -60,25 +76,35 @@ public class DisplayMessage
     public DisplayMessage (final int command)
     {
         this.command = command;
-        this.array = new ArrayList<> ();
+        this.reset ();
     }
 
 
     /**
-     * Get the message as a byte array.
+     * Removes all elements to reuse the message for the next frame.
+     */
+    public void reset ()
+    {
+        this.buffer[0] = (byte) SYSEX_START;
+        this.buffer[1] = (byte) this.command;
+        this.position = 2;
+    }
+
+
+    /**
+     * Get the message as a byte array. The array is reused by the next call if the length of the
+     * message is the same, therefore it must not be kept.
      *
      * @return The data of the message
      */
     public byte [] getData ()
     {
-        final int size = this.array.size ();
-        final byte [] data = new byte [3 + size];
-        data[0] = -16; // -16 = 0xF0
-        data[1] = (byte) this.command;
-        for (int i = 0; i < size; i++)
-            data[2 + i] = this.array.get (i).byteValue ();
-        data[size + 2] = -9; // -9 = 0xF7
-        return data;
+        final int length = this.position + 1;
+        if (this.data.length != length)
+            this.data = new byte [length];
+        System.arraycopy (this.buffer, 0, this.data, 0, this.position);
+        this.data[this.position] = (byte) SYSEX_END;
+        return this.data;
     }
 
 
@@ -126,7 +152,7 @@ public class DisplayMessage
 
         // Bottom Menu
         this.addString (bottomMenu);
-        this.addString (type == null ? null : type.name ().toLowerCase ());
+        this.addString (type == null ? null : CHANNEL_TYPES[type.ordinal ()]);
         this.addColor (bottomMenuColor);
         this.addBoolean (isBottomMenuOn);
     }
@@ -191,7 +217,7 @@ public class DisplayMessage
 
         // Bottom Menu
         this.addString (bottomMenu);
-        this.addString (type == null ? null : type.name ().toLowerCase ());
+        this.addString (type == null ? null : CHANNEL_TYPES[type.ordinal ()]);
         this.addColor (bottomMenuColor);
         this.addBoolean (isBottomMenuOn);
 
@@ -236,7 +262,7 @@ public class DisplayMessage
 
         // Bottom Menu
         this.addString (bottomMenu);
-        this.addString (type == null ? null : type.name ().toLowerCase ());
+        this.addString (type == null ? null : CHANNEL_TYPES[type.ordinal ()]);
         this.addColor (bottomMenuColor);
         this.addBoolean (isBottomMenuOn);
 
@@ -293,7 +319,7 @@ public class DisplayMessage
 
         // Bottom Menu
         this.addString (bottomMenu);
-        this.addString (type == null ? null : type.name ().toLowerCase ());
+        this.addString (type == null ? null : CHANNEL_TYPES[type.ordinal ()]);
         this.addColor (bottomMenuColor);
         this.addBoolean (isBottomMenuOn);
 
@@ -381,20 +407,25 @@ public class DisplayMessage
     {
         if (text != null)
         {
-            for (int i = 0; i < text.length (); i++)
+            final int length = text.length ();
+            // Non-ASCII characters need 3 bytes, plus the terminating zero
+            this.ensureCapacity (3 * length + 1);
+            for (int i = 0; i < length; i++)
             {
                 final char character = text.charAt (i);
                 if (character < 128)
-                    this.array.add (Integer.valueOf (character));
+                    this.buffer[this.position++] = (byte) character;
                 else
                 {
                     // Split up non-ASII characters into 3 bytes
-                    this.array.add (Integer.valueOf (-1));
-                    this.addInteger (character);
+                    this.buffer[this.position++] = (byte) ESCAPE;
+                    this.writeInteger (character);
                 }
             }
         }
-        this.array.add (Integer.valueOf (0));
+        else
+            this.ensureCapacity (1);
+        this.buffer[this.position++] = 0;
     }
 
 
@@ -405,8 +436,8 @@ public class DisplayMessage
      */
     private void addInteger (final int value)
     {
-        this.array.add (Integer.valueOf (value & 0x7F));
-        this.array.add (Integer.valueOf (value >> 7 & 0x7F));
+        this.ensureCapacity (2);
+        this.writeInteger (value);
     }
 
 
@@ -417,7 +448,7 @@ public class DisplayMessage
      */
     private void addBoolean (final boolean value)
     {
-        this.array.add (Integer.valueOf (value ? 1 : 0));
+        this.addByte (value ? 1 : 0);
     }
 
 
@@ -428,20 +459,17 @@ public class DisplayMessage
      */
     private void addColor (final double [] color)
     {
+        this.ensureCapacity (6);
         if (color != null)
         {
-            this.addInteger ((int) Math.round (color[0] * 255));
-            this.addInteger ((int) Math.round (color[1] * 255));
-            this.addInteger ((int) Math.round (color[2] * 255));
+            this.writeInteger ((int) Math.round (color[0] * 255));
+            this.writeInteger ((int) Math.round (color[1] * 255));
+            this.writeInteger ((int) Math.round (color[2] * 255));
         }
         else
         {
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
+            Arrays.fill (this.buffer, this.position, this.position + 6, (byte) 0);
+            this.position += 6;
         }
     }
 
@@ -453,6 +481,33 @@ public class DisplayMessage
      */
     private void addByte (final int value)
     {
-        this.array.add (Integer.valueOf (value));
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) value;
+    }
+
+
+    /**
+     * Writes the lower 14 bit of an integer as 2 bytes with 7 bit. The capacity must have been
+     * ensured.
+     *
+     * @param value The value to write
+     */
+    private void writeInteger (final int value)
+    {
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        this.buffer[this.position++] = (byte) (value >> 7 & 0x7F);
+    }
+
+
+    /**
+     * Grows the buffer if the given number of bytes does not fit. Keeps space for the end byte.
+     *
+     * @param size The number of bytes to add
+     */
+    private void ensureCapacity (final int size)
+    {
+        final int required = this.position + size + 1;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, 2 * this.buffer.length));
     }
-}
\ No newline at end of file
+}
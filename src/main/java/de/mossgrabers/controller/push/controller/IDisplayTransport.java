@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+/**
+ * Interface for handing the frames of the Push 2 display to the display process.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface IDisplayTransport
+{
+    /**
+     * Send a frame to the display process.
+     *
+     * @param data The encoded frame, might be reused by the caller after the call
+     */
+    void send (byte [] data);
+
+
+    /**
+     * Release all resources.
+     */
+    void close ();
+}
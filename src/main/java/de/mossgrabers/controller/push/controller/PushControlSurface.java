@@ -11,6 +11,8 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.daw.midi.SysexMessage;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.util.Arrays;
@@ -549,6 +551,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     private static final int       PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
     private static final int       NUM_VELOCITY_CURVE_ENTRIES    = 128;
 
+    private static final byte []   PUSH2_SYSEX_HEADER            = StringUtils.fromHexStr ("F0 00 21 1D 01 01");
+    private static final byte []   SYSEX_NON_REALTIME            = StringUtils.fromHexStr ("F0 7E");
+
+    private final SysexBuilder     sysexBuilder                  = new SysexBuilder (32);
     private int                    ribbonMode                    = -1;
     private int                    ribbonValue                   = -1;
 
@@ -584,7 +590,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
         this.pads = new PadGridImpl (colorManager, output);
 
-        this.input.setSysexCallback (this::handleSysEx);
+        // The identity reply
+        this.addSysexHandler (SYSEX_NON_REALTIME, this::handleSysEx);
     }
 
 
@@ -912,25 +919,25 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPush2SysEx (final int [] parameters)
     {
-        this.output.sendSysex ("F0 00 21 1D 01 01 " + StringUtils.toHexStr (parameters) + "F7");
+        this.sysexBuilder.start (PUSH2_SYSEX_HEADER).add (parameters).send (this.output);
     }
 
 
-    private void handleSysEx (final String data)
+    private void handleSysEx (final SysexMessage data)
     {
         if (this.configuration.isPush2 ())
         {
-            final int byteLength = data.length () / 2;
+            final int byteLength = data.getLength ();
             if (byteLength < PUSH2_IDENTITY_MIN_LENGTH)
             {
                 this.errorln ("Wrong Push 2 identifier length " + byteLength + " but must be " + PUSH2_IDENTITY_MIN_LENGTH);
-                this.errorln (data);
+                this.errorln (data.toString ());
                 return;
             }
 
             for (int i = 0; i < PUSH2_ID.length; i++)
             {
-                final int value = hexByteAt (data, i);
+                final int value = data.get (i);
                 if (value != PUSH2_ID[i])
                 {
                     this.errorln ("Wrong identifier value at index " + i + ": " + value + " : " + PUSH2_ID[i]);
@@ -938,15 +945,15 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                 }
             }
 
-            this.majorVersion = hexByteAt (data, 12);
-            this.minorVersion = hexByteAt (data, 13);
-            this.buildNumber = hexByteAt (data, 14) + (hexByteAt (data, 15) << 7);
-            this.serialNumber = hexByteAt (data, 16) + (hexByteAt (data, 17) << 7) + (hexByteAt (data, 18) << 14) + (hexByteAt (data, 19) << 21) + (hexByteAt (data, 20) << 28);
-            this.boardRevision = byteLength > 21 ? hexByteAt (data, 21) : 0;
+            this.majorVersion = data.get (12);
+            this.minorVersion = data.get (13);
+            this.buildNumber = data.get (14) + (data.get (15) << 7);
+            this.serialNumber = data.get (16) + (data.get (17) << 7) + (data.get (18) << 14) + (data.get (19) << 21) + (data.get (20) << 28);
+            this.boardRevision = byteLength > 21 ? data.get (21) : 0;
         }
         else
         {
-            final int byteLength = data.length () / 2;
+            final int byteLength = data.getLength ();
             if (byteLength < PUSH1_IDENTITY_MIN_LENGTH)
             {
                 this.errorln ("Wrong Push 1 identifier length " + byteLength + " but must be " + PUSH1_IDENTITY_MIN_LENGTH);
@@ -955,7 +962,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
             for (int i = 0; i < PUSH1_ID.length; i++)
             {
-                final int value = hexByteAt (data, i);
+                final int value = data.get (i);
                 if (value != PUSH1_ID[i])
                 {
                     this.errorln ("Wrong identifier value at index " + i + ": " + value + " : " + PUSH1_ID[i]);
@@ -963,8 +970,8 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                 }
             }
 
-            this.majorVersion = hexByteAt (data, 10);
-            this.minorVersion = hexByteAt (data, 12) + hexByteAt (data, 11) * 10;
+            this.majorVersion = data.get (10);
+            this.minorVersion = data.get (12) + data.get (11) * 10;
             this.buildNumber = 0;
             this.serialNumber = 0;
             this.boardRevision = 0;
@@ -972,13 +979,6 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     }
 
 
-    private static int hexByteAt (final String data, final int index)
-    {
-        final int pos = index * 2;
-        return Integer.parseInt (data.substring (pos, pos + 2), 16);
-    }
-
-
     /**
      * Get the major hardware version.
      *
@@ -8,6 +8,11 @@ import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
 
 
 /**
@@ -17,20 +22,21 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
  */
 public class PushDisplay extends AbstractDisplay
 {
+    private static final char      CHAR_NON                        = 6;
+    private static final char      CHAR_ONE                        = 3;
+    private static final char      CHAR_TWO                        = 5;
+    private static final char      CHAR_ONE_L                      = 4;
+
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String     BARS_NON                        = Character.toString (CHAR_NON);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String     BARS_ONE                        = Character.toString (CHAR_ONE);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
-    /** Push character codes for value bars - one bar to the left. */
-    private static final String    BARS_ONE_L    = Character.toString ((char) 4);
-    /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    public static final String     BARS_TWO                        = Character.toString (CHAR_TWO);
     /** Push character codes for value bars - the right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 127);
+    public static final String     RIGHT_ARROW                     = Character.toString ((char) 127);
 
-    private static final String [] SPACES        =
+    private static final String [] SPACES                          =
     {
         "",
         " ",
@@ -48,7 +54,7 @@ public class PushDisplay extends AbstractDisplay
         "             "
     };
 
-    private static final String [] DASHES        =
+    private static final String [] DASHES                          =
     {
         "",
         BARS_NON,
@@ -62,16 +68,29 @@ public class PushDisplay extends AbstractDisplay
         BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
     };
 
-    private static final String [] SYSEX_MESSAGE =
-    {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
-    };
-
+    private static final byte []   SYSEX_MESSAGE                   = StringUtils.fromHexStr ("F0 47 7F 15");
+    private static final int       SYSEX_ROW1                      = 0x18;
+
+    /** Send the frames as UDP datagrams. */
+    public static final int        TRANSPORT_UDP                   = 0;
+    /** Write the frames to shared memory and notify the display process with a datagram. */
+    public static final int        TRANSPORT_SHARED_MEMORY         = 1;
+    /** Write the frames to shared memory which is polled by the display process. */
+    public static final int        TRANSPORT_SHARED_MEMORY_POLLING = 2;
+
+    private final SysexBuilder     sysexBuilder                    = new SysexBuilder (80);
+    private final DisplayMessage   message                         = new DisplayMessage ();
+    private byte []                lastFrame                       = new byte [0];
+    private int                    lastFrameHash;
+    private long                   lastFrameTime;
+    private boolean                isResendRequired                = true;
+    private int                    keepAliveInterval               = 1000;
+    private long                   sentFrames;
+    private long                   skippedFrames;
     private int                    maxParameterValue;
     private int                    port;
+    private int                    transportType                   = TRANSPORT_UDP;
+    private IDisplayTransport      transport;
     private boolean                isPush2;
 
 
@@ -89,6 +108,11 @@ public class PushDisplay extends AbstractDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
         this.maxParameterValue = maxParameterValue;
         this.isPush2 = isPush2;
+
+        this.setCellWidths (9, 8, 9, 8, 9, 8, 9, 8);
+
+        // Header, row, length, position and end byte
+        this.writeOverhead = SYSEX_MESSAGE.length + 5;
     }
 
 
@@ -100,50 +124,123 @@ public class PushDisplay extends AbstractDisplay
     public void setCommunicationPort (final int port)
     {
         this.port = port;
+        this.createTransport ();
     }
 
 
     /**
-     * Create a message.
+     * Set how the frames are handed to the Push 2 display process.
+     *
+     * @param transportType TRANSPORT_UDP, TRANSPORT_SHARED_MEMORY or
+     *            TRANSPORT_SHARED_MEMORY_POLLING
+     */
+    public void setTransport (final int transportType)
+    {
+        this.transportType = transportType;
+        this.createTransport ();
+    }
+
+
+    /**
+     * Set the interval in which an unchanged frame is sent again, e.g. to update a restarted
+     * display process.
+     *
+     * @param keepAliveInterval The interval in milliseconds, 0 to never resend an unchanged frame
+     */
+    public void setKeepAliveInterval (final int keepAliveInterval)
+    {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
+
+    /**
+     * Get the number of frames which were sent to the display process.
+     *
+     * @return The number of frames
+     */
+    public long getSentFrames ()
+    {
+        return this.sentFrames;
+    }
+
+
+    /**
+     * Get the number of frames which were not sent since they were identical to the previous one.
+     *
+     * @return The number of frames
+     */
+    public long getSkippedFrames ()
+    {
+        return this.skippedFrames;
+    }
+
+
+    /**
+     * Create a message. The message is recycled, therefore send it before creating the next one.
      *
      * @return The message
      */
     public DisplayMessage createMessage ()
     {
-        return new DisplayMessage ();
+        this.message.reset ();
+        return this.message;
     }
 
 
     /**
-     * Send a message to the display.
+     * Send a message to the display. The message is not sent if it is identical to the previous
+     * one, unless the keep alive interval is over or a flush was forced.
      *
      * @param message The message to send
      */
     public void send (final DisplayMessage message)
     {
-        if (this.port < 1)
+        if (this.transport == null)
+            return;
+
+        final byte [] data = message.getData ();
+        final int hash = Arrays.hashCode (data);
+        final long now = System.currentTimeMillis ();
+        final boolean isKeepAliveDue = this.keepAliveInterval > 0 && now - this.lastFrameTime >= this.keepAliveInterval;
+        if (!this.isResendRequired && !isKeepAliveDue && hash == this.lastFrameHash && Arrays.equals (data, this.lastFrame))
+        {
+            this.skippedFrames++;
             return;
-        this.host.sendDatagramPacket ("127.0.0.1", this.port, message.getData ());
+        }
+
+        if (this.lastFrame.length != data.length)
+            this.lastFrame = new byte [data.length];
+        System.arraycopy (data, 0, this.lastFrame, 0, data.length);
+        this.lastFrameHash = hash;
+        this.lastFrameTime = now;
+        this.isResendRequired = false;
+        this.sentFrames++;
+
+        this.transport.send (data);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void shutdown ()
+    public void forceFlush ()
     {
-        if (this.isPush2)
-            this.send (this.createMessage ().setMessage (3, "Please start " + this.host.getName () + " to play..."));
-        else
-            this.clear ().setBlock (1, 1, "     Please start").setBlock (1, 2, this.host.getName () + " to play...").allDone ().flush ();
+        super.forceFlush ();
+        this.isResendRequired = true;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public PushDisplay clearCell (final int row, final int cell)
+    public void shutdown ()
     {
-        this.cells[row * 8 + cell] = cell % 2 == 0 ? "         " : "        ";
-        return this;
+        if (this.isPush2)
+        {
+            this.send (this.createMessage ().setMessage (3, "Please start " + this.host.getName () + " to play..."));
+            if (this.transport != null)
+                this.transport.close ();
+        }
+        else
+            this.clear ().setBlock (1, 1, "     Please start").setBlock (1, 2, this.host.getName () + " to play...").allDone ().flush ();
     }
 
 
@@ -152,16 +249,8 @@ public class PushDisplay extends AbstractDisplay
     public PushDisplay setBlock (final int row, final int block, final String value)
     {
         final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8, " ");
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = pad (value, 9, " ");
-            this.clearCell (row, cell + 1);
-        }
+        final int length = this.getCellWidth (cell) + this.getCellWidth (cell + 1);
+        this.setChars (row, this.getCellOffset (cell), length, value, length);
         return this;
     }
 
@@ -170,7 +259,22 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final int value, final Format format)
     {
-        return this.setCell (row, cell, formatStr (value, format, this.maxParameterValue));
+        final int offset = this.getCellOffset (cell);
+        final int length = this.getCellWidth (cell);
+        switch (format)
+        {
+            case FORMAT_VALUE:
+                this.setValueBars (this.rows[row], offset, value);
+                break;
+            case FORMAT_PAN:
+                this.setPanBars (this.rows[row], offset, value);
+                break;
+            default:
+                this.setChars (row, offset, length, value, 8);
+                return this;
+        }
+        Arrays.fill (this.rows[row], offset + 8, offset + length, ' ');
+        return this;
     }
 
 
@@ -178,19 +282,17 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = pad (value, 8, " ") + (cell % 2 == 0 ? " " : "");
+        this.setChars (row, this.getCellOffset (cell), this.getCellWidth (cell), value, 8);
         return this;
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void writeLine (final int row, final String text)
+    protected void writeText (final int row, final int offset, final String text)
     {
-        final int [] array = new int [text.length ()];
-        for (int i = 0; i < text.length (); i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (PushDisplay.SYSEX_MESSAGE[row] + toHexStr (array) + "F7");
+        // The length includes the position byte
+        this.sysexBuilder.start (SYSEX_MESSAGE).add (SYSEX_ROW1 + row).add (0).add (text.length () + 1).add (offset).addText (text).send (this.output);
     }
 
 
@@ -205,47 +307,96 @@ public class PushDisplay extends AbstractDisplay
     }
 
 
-    private static String formatStr (final int value, final Format format, final int maxParam)
+    private void createTransport ()
     {
-        switch (format)
+        if (this.transport != null)
+            this.transport.close ();
+        this.transport = null;
+        // The Push 1 display is controlled via sysex
+        if (!this.isPush2 || this.port < 1)
+            return;
+
+        // Send the current frame with the new transport
+        this.isResendRequired = true;
+
+        if (this.transportType != TRANSPORT_UDP)
         {
-            case FORMAT_VALUE:
-                return formatValue (value, maxParam);
-            case FORMAT_PAN:
-                return formatPan (value, maxParam);
-            default:
-                return Integer.toString (value);
+            try
+            {
+                this.transport = new SharedMemoryDisplayTransport (this.host, this.port, this.transportType == TRANSPORT_SHARED_MEMORY);
+                return;
+            }
+            catch (final IOException ex)
+            {
+                this.host.error ("Could not create the shared memory for the Push 2 display, using UDP instead.", ex);
+            }
         }
+        this.transport = new DatagramDisplayTransport (this.host, this.port);
     }
 
 
-    private static String formatValue (final int value, final int maxParam)
+    /**
+     * Write 8 characters which display the value as a bar.
+     *
+     * @param chars The characters of the row
+     * @param offset The position of the first character
+     * @param value The value
+     */
+    private void setValueBars (final char [] chars, final int offset, final int value)
     {
-        final int noOfBars = (int) Math.round (16.0 * value / maxParam);
-        final StringBuilder n = new StringBuilder ();
-        for (int j = 0; j < noOfBars / 2; j++)
-            n.append (PushDisplay.BARS_TWO);
-        if (noOfBars % 2 == 1)
-            n.append (PushDisplay.BARS_ONE);
-        return pad (n.toString (), 8, PushDisplay.BARS_NON);
+        final int noOfBars = (int) Math.round (16.0 * value / this.maxParameterValue);
+        for (int i = 0; i < 8; i++)
+            chars[offset + i] = getBar (i, noOfBars, CHAR_ONE);
     }
 
 
-    private static String formatPan (final int pan, final int maxParam)
+    /**
+     * Write 8 characters which display the panorama as a bar starting from the middle.
+     *
+     * @param chars The characters of the row
+     * @param offset The position of the first character
+     * @param pan The panorama value
+     */
+    private void setPanBars (final char [] chars, final int offset, final int pan)
     {
-        final int middle = maxParam / 2;
+        final int middle = this.maxParameterValue / 2;
         if (pan == middle)
-            return PushDisplay.NON_4 + PushDisplay.NON_4;
+        {
+            Arrays.fill (chars, offset, offset + 8, CHAR_NON);
+            return;
+        }
         final boolean isLeft = pan < middle;
         final int pos = isLeft ? middle - pan : pan - middle;
-        final int noOfBars = 16 * pos / maxParam;
-        StringBuilder n = new StringBuilder ();
-        for (int i = 0; i < noOfBars / 2; i++)
-            n.append (BARS_TWO);
-        if (noOfBars % 2 == 1)
-            n.append (isLeft ? PushDisplay.BARS_ONE_L : PushDisplay.BARS_ONE);
-        n = new StringBuilder (PushDisplay.NON_4).append (pad (n.toString (), 4, PushDisplay.BARS_NON));
-        return isLeft ? n.reverse ().toString () : n.toString ();
+        final int noOfBars = 16 * pos / this.maxParameterValue;
+        for (int i = 0; i < 4; i++)
+        {
+            if (isLeft)
+            {
+                chars[offset + 3 - i] = getBar (i, noOfBars, CHAR_ONE_L);
+                chars[offset + 4 + i] = CHAR_NON;
+            }
+            else
+            {
+                chars[offset + i] = CHAR_NON;
+                chars[offset + 4 + i] = getBar (i, noOfBars, CHAR_ONE);
+            }
+        }
+    }
+
+
+    /**
+     * Get the character at the given position of a bar. Each character displays 2 bars.
+     *
+     * @param index The position in the bar
+     * @param noOfBars The number of bars to display
+     * @param oneBar The character to use for a single bar
+     * @return The character
+     */
+    private static char getBar (final int index, final int noOfBars, final char oneBar)
+    {
+        if (index < noOfBars / 2)
+            return CHAR_TWO;
+        return index == noOfBars / 2 && noOfBars % 2 == 1 ? oneBar : CHAR_NON;
     }
 
 
@@ -267,18 +418,4 @@ public class PushDisplay extends AbstractDisplay
             return text + (" ".equals (character) ? PushDisplay.SPACES[diff] : PushDisplay.DASHES[diff]);
         return text;
     }
-
-
-    private static String toHexStr (final int [] data)
-    {
-        final StringBuilder sysex = new StringBuilder ();
-        for (final int d: data)
-        {
-            final String v = Integer.toHexString (d).toUpperCase ();
-            if (v.length () < 2)
-                sysex.append ('0');
-            sysex.append (v).append (' ');
-        }
-        return sysex.toString ();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+
+
+/**
+ * Hands the frames of the Push 2 display to the display process via a memory mapped file which
+ * contains a ring buffer of frame slots. All numbers are stored in little endian.
+ *
+ * The file starts with a header of 64 bytes: the magic number 0x44424D32 ("DBM2"), the version,
+ * the number of slots and the size of a slot (4 integers), followed by the sequence number of the
+ * latest complete frame (long). The slots follow the header. Each slot starts with the sequence
+ * number of its frame (long) and the length of the frame (integer, 4 bytes padding), followed by
+ * the frame data. The frame of sequence number n is stored in slot n % number of slots. The first
+ * frame has the sequence number 1.
+ *
+ * The display process either polls the sequence number in the header or waits for a notification
+ * datagram (F0 0B, 4 bytes with the lower 28 bits of the sequence number, F7) on the display port.
+ * It should check that the sequence number of the slot matches and still matches after copying the
+ * frame, otherwise the slot was overwritten in the meantime. The sequence numbers are only written
+ * after a store fence, therefore the frame data is visible before its sequence number.
+ *
+ * The file is created in a folder of the temporary folder which only the current user can access
+ * and deleted when the transport is closed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SharedMemoryDisplayTransport implements IDisplayTransport
+{
+    /** The magic number at the start of the file. */
+    public static final int                       MAGIC             = 0x44424D32;
+    /** The version of the file layout. */
+    public static final int                       VERSION           = 1;
+    /** The number of frame slots. */
+    public static final int                       NUMBER_OF_SLOTS   = 4;
+    /** The maximum size of a frame. */
+    public static final int                       SLOT_SIZE         = 128 * 1024;
+
+    private static final int                      HEADER_SIZE       = 64;
+    private static final int                      SLOT_HEADER_SIZE  = 16;
+    private static final int                      SEQUENCE_POSITION = 16;
+
+    private static final Set<PosixFilePermission> OWNER_ONLY        = PosixFilePermissions.fromString ("rwx------");
+
+    private final IHost                           host;
+    private final int                             port;
+    private final boolean                         notify;
+    private final File                            file;
+    private final FileChannel                     channel;
+    private final MappedByteBuffer                buffer;
+    private final byte []                         notification      = new byte [7];
+    private final Object                          unsafe;
+    private final Method                          storeFenceMethod;
+    private long                                  sequence;
+
+
+    /**
+     * Constructor. Creates the file, a file which was left over is replaced.
+     *
+     * @param host The host
+     * @param port The port of the display process, used for the notification and to name the file
+     * @param notify True to send a notification datagram after each frame, false if the display
+     *            process polls
+     * @throws IOException Could not create the file
+     */
+    public SharedMemoryDisplayTransport (final IHost host, final int port, final boolean notify) throws IOException
+    {
+        this.host = host;
+        this.port = port;
+        this.notify = notify;
+
+        // There is no public API for memory fences in Java 8
+        try
+        {
+            final Class<?> unsafeClass = Class.forName ("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField ("theUnsafe");
+            field.setAccessible (true);
+            this.unsafe = field.get (null);
+            this.storeFenceMethod = unsafeClass.getMethod ("storeFence");
+        }
+        catch (final ReflectiveOperationException | RuntimeException ex)
+        {
+            throw new IOException ("Store fences are not supported.", ex);
+        }
+
+        this.file = getFile (port);
+        this.channel = FileChannel.open (createFile (this.file.toPath ()), StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS);
+        this.buffer = this.channel.map (FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) NUMBER_OF_SLOTS * (SLOT_HEADER_SIZE + SLOT_SIZE));
+        this.buffer.order (ByteOrder.LITTLE_ENDIAN);
+
+        this.buffer.putInt (0, MAGIC);
+        this.buffer.putInt (4, VERSION);
+        this.buffer.putInt (8, NUMBER_OF_SLOTS);
+        this.buffer.putInt (12, SLOT_SIZE);
+        this.buffer.putLong (SEQUENCE_POSITION, 0);
+
+        this.notification[0] = (byte) 0xF0;
+        this.notification[1] = (byte) DisplayMessage.DISPLAY_COMMAND_FRAME_READY;
+        this.notification[6] = (byte) 0xF7;
+    }
+
+
+    /**
+     * Get the file which is used for a display port.
+     *
+     * @param port The port of the display process
+     * @return The file in the folder of the current user in the temporary folder
+     */
+    public static File getFile (final int port)
+    {
+        final File folder = new File (System.getProperty ("java.io.tmpdir"), "DrivenByMoss-" + System.getProperty ("user.name"));
+        return new File (folder, "DrivenByMoss-Push2-" + port + ".display");
+    }
+
+
+    /**
+     * Create the folder of the file if it does not exist and remove a file which was left over,
+     * e.g. after a crash. On POSIX systems the folder must only be accessible by the owner. Since a
+     * folder of another user with these permissions cannot be written to, no other user can
+     * replace the file, e.g. with a link to another file.
+     *
+     * @param file The file
+     * @return The file
+     * @throws IOException The folder could not be created or is accessible by other users
+     */
+    private static Path createFile (final Path file) throws IOException
+    {
+        final Path folder = file.getParent ();
+        final boolean isPosix = FileSystems.getDefault ().supportedFileAttributeViews ().contains ("posix");
+        if (!Files.exists (folder, LinkOption.NOFOLLOW_LINKS))
+        {
+            if (isPosix)
+                Files.createDirectory (folder, PosixFilePermissions.asFileAttribute (OWNER_ONLY));
+            else
+                Files.createDirectory (folder);
+        }
+        if (!Files.isDirectory (folder, LinkOption.NOFOLLOW_LINKS))
+            throw new IOException (folder + " is not a folder.");
+        if (isPosix && !Files.getPosixFilePermissions (folder, LinkOption.NOFOLLOW_LINKS).equals (OWNER_ONLY))
+            throw new IOException (folder + " must only be accessible by its owner.");
+
+        Files.deleteIfExists (file);
+        return file;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void send (final byte [] data)
+    {
+        if (data.length > SLOT_SIZE)
+        {
+            this.host.error ("Push 2 display frame is too large: " + data.length + " bytes");
+            return;
+        }
+
+        this.sequence++;
+        final int slot = HEADER_SIZE + (int) (this.sequence % NUMBER_OF_SLOTS) * (SLOT_HEADER_SIZE + SLOT_SIZE);
+
+        // Invalidate the slot while it is written
+        this.buffer.putLong (slot, 0);
+        this.storeFence ();
+        this.buffer.putInt (slot + 8, data.length);
+        this.buffer.position (slot + SLOT_HEADER_SIZE);
+        this.buffer.put (data);
+        // Publish the frame after its data was written
+        this.storeFence ();
+        this.buffer.putLong (slot, this.sequence);
+        this.buffer.putLong (SEQUENCE_POSITION, this.sequence);
+
+        if (!this.notify)
+            return;
+        final int value = (int) this.sequence;
+        for (int i = 0; i < 4; i++)
+            this.notification[2 + i] = (byte) (value >> 7 * i & 0x7F);
+        this.host.sendDatagramPacket (DatagramDisplayTransport.LOCALHOST, this.port, this.notification);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void close ()
+    {
+        try
+        {
+            this.channel.close ();
+            Files.deleteIfExists (this.file.toPath ());
+        }
+        catch (final IOException ex)
+        {
+            this.host.error ("Could not close " + this.file, ex);
+        }
+    }
+
+
+    /**
+     * Prevents that the writes before the fence become visible after the writes following it.
+     */
+    private void storeFence ()
+    {
+        try
+        {
+            this.storeFenceMethod.invoke (this.unsafe);
+        }
+        catch (final IllegalAccessException | InvocationTargetException ex)
+        {
+            this.host.error ("Could not execute store fence.", ex);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+
+
+/**
+ * Renders the grid messages of the Push 2 display into a frame buffer in process. There is no USB
+ * output to the device yet, therefore the display transports still hand the messages to the
+ * external display process and the renderer is only used headless. The display is divided into 8
+ * columns, one for each grid element.
+ * The encoded elements of the previous frame are kept and only the columns whose element has
+ * changed are painted again and handed to the sink as changed rectangles. Since the header texts
+ * of options elements can reach into the next columns, all columns are painted if something
+ * changes while options elements are displayed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayRenderer
+{
+    private static final int         NUMBER_OF_COLUMNS = 8;
+    private static final int         NO_ELEMENT        = -1;
+
+    private final FrameBuffer        frameBuffer       = new FrameBuffer ();
+    private final GridElementReader  reader            = new GridElementReader ();
+    private final GridElementPainter painter;
+    private final IFrameSink         sink;
+
+    // The start positions of the elements in the data, the last one is the end of the last element
+    private final int []             starts            = new int [NUMBER_OF_COLUMNS + 1];
+    private final int []             types             = new int [NUMBER_OF_COLUMNS];
+    private final boolean []         dirtyColumns      = new boolean [NUMBER_OF_COLUMNS];
+    private byte []                  previous          = new byte [0];
+    private final int []             previousStarts    = new int [NUMBER_OF_COLUMNS + 1];
+    private boolean                  hadOptions;
+    private boolean                  isInvalid         = true;
+    private long                     renderedFrames;
+    private long                     renderedColumns;
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxValue The upper bound of the values, e.g. of volume and parameters
+     * @param sink Receives the changed parts of the frame buffer
+     */
+    public DisplayRenderer (final int maxValue, final IFrameSink sink)
+    {
+        this.painter = new GridElementPainter (maxValue);
+        this.sink = sink;
+    }
+
+
+    /**
+     * Get the frame buffer.
+     *
+     * @return The frame buffer
+     */
+    public FrameBuffer getFrameBuffer ()
+    {
+        return this.frameBuffer;
+    }
+
+
+    /**
+     * Paint all columns with the next frame.
+     */
+    public void invalidate ()
+    {
+        this.isInvalid = true;
+    }
+
+
+    /**
+     * Get the number of frames which changed at least one column.
+     *
+     * @return The number of frames
+     */
+    public long getRenderedFrames ()
+    {
+        return this.renderedFrames;
+    }
+
+
+    /**
+     * Get the number of columns which were painted.
+     *
+     * @return The number of columns
+     */
+    public long getRenderedColumns ()
+    {
+        return this.renderedColumns;
+    }
+
+
+    /**
+     * Render a message.
+     *
+     * @param data The encoded display message, see DisplayMessage, other commands than the grid
+     *            command are ignored
+     */
+    public void render (final byte [] data)
+    {
+        if (data.length < 3 || data[1] != DisplayMessage.DISPLAY_COMMAND_GRID)
+            return;
+
+        final boolean hasOptions = this.parse (data);
+
+        boolean isDirty = false;
+        for (int i = 0; i < NUMBER_OF_COLUMNS; i++)
+        {
+            this.dirtyColumns[i] = this.isInvalid || this.hasChanged (data, i);
+            isDirty |= this.dirtyColumns[i];
+        }
+        if (!isDirty)
+            return;
+        if (hasOptions || this.hadOptions)
+        {
+            for (int i = 0; i < NUMBER_OF_COLUMNS; i++)
+                this.dirtyColumns[i] = true;
+        }
+
+        this.paint (data, hasOptions);
+        this.notifySink ();
+
+        if (this.previous.length < data.length)
+            this.previous = new byte [data.length];
+        System.arraycopy (data, 0, this.previous, 0, data.length);
+        System.arraycopy (this.starts, 0, this.previousStarts, 0, this.starts.length);
+        this.hadOptions = hasOptions;
+        this.isInvalid = false;
+        this.renderedFrames++;
+    }
+
+
+    /**
+     * Find the start positions of the elements. Columns without an element or with a malformed
+     * one are empty.
+     *
+     * @param data The encoded message
+     * @return True if the message contains an options element
+     */
+    private boolean parse (final byte [] data)
+    {
+        // Skip the sysex start and the command, the last byte is the sysex end
+        this.reader.set (data, 2, data.length - 1);
+
+        boolean hasOptions = false;
+        int count = 0;
+        while (count < NUMBER_OF_COLUMNS && !this.reader.isAtEnd ())
+        {
+            final int start = this.reader.getPosition ();
+            final int type = this.reader.readByte ();
+            if (!this.reader.skipElement (type) || this.reader.isMalformed ())
+            {
+                this.reader.setPosition (start);
+                break;
+            }
+            this.starts[count] = start;
+            this.types[count] = type;
+            hasOptions |= type == DisplayMessage.GRID_ELEMENT_OPTIONS;
+            count++;
+        }
+
+        final int end = this.reader.getPosition ();
+        for (int i = count; i < NUMBER_OF_COLUMNS; i++)
+        {
+            this.starts[i] = end;
+            this.types[i] = NO_ELEMENT;
+        }
+        this.starts[NUMBER_OF_COLUMNS] = end;
+        return hasOptions;
+    }
+
+
+    private boolean hasChanged (final byte [] data, final int column)
+    {
+        final int start = this.starts[column];
+        final int length = this.starts[column + 1] - start;
+        final int previousStart = this.previousStarts[column];
+        if (length != this.previousStarts[column + 1] - previousStart)
+            return true;
+        for (int i = 0; i < length; i++)
+        {
+            if (data[start + i] != this.previous[previousStart + i])
+                return true;
+        }
+        return false;
+    }
+
+
+    private void paint (final byte [] data, final boolean hasOptions)
+    {
+        for (int i = 0; i < NUMBER_OF_COLUMNS; i++)
+        {
+            if (!this.dirtyColumns[i])
+                continue;
+            final int x = i * GridElementPainter.COLUMN_WIDTH;
+            this.frameBuffer.setClip (x, 0, GridElementPainter.COLUMN_WIDTH, FrameBuffer.HEIGHT);
+            if (this.types[i] == NO_ELEMENT)
+                this.painter.paintEmpty (this.frameBuffer, x);
+            else
+            {
+                // Skip the type
+                this.reader.set (data, this.starts[i] + 1, this.starts[i + 1]);
+                this.painter.paint (this.frameBuffer, this.reader, this.types[i], x);
+            }
+            this.renderedColumns++;
+        }
+        this.frameBuffer.resetClip ();
+
+        if (!hasOptions)
+            return;
+        // All columns are painted in this case, the headers are painted on top
+        for (int i = 0; i < NUMBER_OF_COLUMNS; i++)
+        {
+            if (this.types[i] != DisplayMessage.GRID_ELEMENT_OPTIONS)
+                continue;
+            this.reader.set (data, this.starts[i] + 1, this.starts[i + 1]);
+            this.painter.paintHeaders (this.frameBuffer, this.reader, i * GridElementPainter.COLUMN_WIDTH);
+        }
+    }
+
+
+    // Hand adjacent changed columns as one rectangle to the sink
+    private void notifySink ()
+    {
+        int i = 0;
+        while (i < NUMBER_OF_COLUMNS)
+        {
+            if (!this.dirtyColumns[i])
+            {
+                i++;
+                continue;
+            }
+            final int first = i;
+            while (i < NUMBER_OF_COLUMNS && this.dirtyColumns[i])
+                i++;
+            this.sink.update (this.frameBuffer, first * GridElementPainter.COLUMN_WIDTH, 0, (i - first) * GridElementPainter.COLUMN_WIDTH, FrameBuffer.HEIGHT);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+/**
+ * The pixels of the Push 2 display in the BGR565 format of the device: blue in the upper 5 bits,
+ * green in the middle 6 bits and red in the lower 5 bits. All drawing operations are limited to
+ * the clip rectangle. Colors are given as 24 bit RGB integers.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class FrameBuffer
+{
+    /** The width of the display. */
+    public static final int WIDTH  = 960;
+    /** The height of the display. */
+    public static final int HEIGHT = 160;
+
+    private final short []  pixels = new short [WIDTH * HEIGHT];
+    private int             clipLeft;
+    private int             clipTop;
+    private int             clipRight;
+    private int             clipBottom;
+
+
+    /**
+     * Constructor.
+     */
+    public FrameBuffer ()
+    {
+        this.resetClip ();
+    }
+
+
+    /**
+     * Get the pixels, row by row.
+     *
+     * @return The pixels in BGR565
+     */
+    public short [] getPixels ()
+    {
+        return this.pixels;
+    }
+
+
+    /**
+     * Limit the drawing operations to a rectangle.
+     *
+     * @param x The left edge
+     * @param y The top edge
+     * @param width The width
+     * @param height The height
+     */
+    public void setClip (final int x, final int y, final int width, final int height)
+    {
+        this.clipLeft = Math.max (0, x);
+        this.clipTop = Math.max (0, y);
+        this.clipRight = Math.min (WIDTH, x + width);
+        this.clipBottom = Math.min (HEIGHT, y + height);
+    }
+
+
+    /**
+     * Allow drawing on the whole display.
+     */
+    public void resetClip ()
+    {
+        this.setClip (0, 0, WIDTH, HEIGHT);
+    }
+
+
+    /**
+     * Fill a rectangle.
+     *
+     * @param x The left edge
+     * @param y The top edge
+     * @param width The width
+     * @param height The height
+     * @param rgb The color
+     */
+    public void fillRect (final int x, final int y, final int width, final int height, final int rgb)
+    {
+        final int left = Math.max (x, this.clipLeft);
+        final int right = Math.min (x + width, this.clipRight);
+        final int top = Math.max (y, this.clipTop);
+        final int bottom = Math.min (y + height, this.clipBottom);
+        if (left >= right)
+            return;
+        final short color = toBGR565 (rgb);
+        for (int row = top; row < bottom; row++)
+        {
+            final int offset = row * WIDTH;
+            for (int column = left; column < right; column++)
+                this.pixels[offset + column] = color;
+        }
+    }
+
+
+    /**
+     * Draw the outline of a rectangle with a width of 1 pixel.
+     *
+     * @param x The left edge
+     * @param y The top edge
+     * @param width The width
+     * @param height The height
+     * @param rgb The color
+     */
+    public void drawRect (final int x, final int y, final int width, final int height, final int rgb)
+    {
+        this.fillRect (x, y, width, 1, rgb);
+        this.fillRect (x, y + height - 1, width, 1, rgb);
+        this.fillRect (x, y, 1, height, rgb);
+        this.fillRect (x + width - 1, y, 1, height, rgb);
+    }
+
+
+    /**
+     * Draw a text which is vertically centered in a rectangle. The text is cut at the right edge of
+     * the rectangle.
+     *
+     * @param atlas The glyphs of the font to use
+     * @param text The text, nothing is drawn if null
+     * @param x The left edge of the rectangle
+     * @param y The top edge of the rectangle
+     * @param width The width of the rectangle
+     * @param height The height of the rectangle
+     * @param rgb The color of the text
+     * @param isCentered True to center the text horizontally, otherwise it is left aligned
+     */
+    public void drawText (final GlyphAtlas atlas, final String text, final int x, final int y, final int width, final int height, final int rgb, final boolean isCentered)
+    {
+        if (text == null || text.isEmpty ())
+            return;
+
+        final int textWidth = atlas.getWidth (text);
+        int left = isCentered ? x + Math.max (0, (width - textWidth) / 2) : x;
+        final int top = y + (height - atlas.getHeight ()) / 2;
+
+        final int oldClipLeft = this.clipLeft;
+        final int oldClipTop = this.clipTop;
+        final int oldClipRight = this.clipRight;
+        final int oldClipBottom = this.clipBottom;
+        this.clipLeft = Math.max (this.clipLeft, x);
+        this.clipTop = Math.max (this.clipTop, y);
+        this.clipRight = Math.min (this.clipRight, x + width);
+        this.clipBottom = Math.min (this.clipBottom, y + height);
+
+        for (int i = 0; i < text.length () && left < this.clipRight; i++)
+        {
+            final char character = text.charAt (i);
+            this.drawGlyph (atlas, character, left, top, rgb);
+            left += atlas.getWidth (character);
+        }
+
+        this.clipLeft = oldClipLeft;
+        this.clipTop = oldClipTop;
+        this.clipRight = oldClipRight;
+        this.clipBottom = oldClipBottom;
+    }
+
+
+    /**
+     * Convert a color to the format of the display.
+     *
+     * @param rgb The color as 24 bit RGB
+     * @return The color in BGR565
+     */
+    public static short toBGR565 (final int rgb)
+    {
+        final int red = rgb >> 16 & 0xFF;
+        final int green = rgb >> 8 & 0xFF;
+        final int blue = rgb & 0xFF;
+        return (short) ((blue >> 3) << 11 | (green >> 2) << 5 | red >> 3);
+    }
+
+
+    /**
+     * Convert a color of the display to 24 bit RGB.
+     *
+     * @param bgr565 The color in BGR565
+     * @return The color as 24 bit RGB
+     */
+    public static int toRGB (final short bgr565)
+    {
+        final int red = (bgr565 & 0x1F) << 3;
+        final int green = (bgr565 >> 5 & 0x3F) << 2;
+        final int blue = (bgr565 >> 11 & 0x1F) << 3;
+        return red << 16 | green << 8 | blue;
+    }
+
+
+    private void drawGlyph (final GlyphAtlas atlas, final char character, final int x, final int y, final int rgb)
+    {
+        final byte [] mask = atlas.getMask (character);
+        final int offset = atlas.getOffset (character);
+        final int stride = atlas.getStride (character);
+        final int glyphWidth = atlas.getWidth (character);
+        final int glyphHeight = atlas.getHeight ();
+
+        final int left = Math.max (x, this.clipLeft);
+        final int right = Math.min (x + glyphWidth, this.clipRight);
+        final int top = Math.max (y, this.clipTop);
+        final int bottom = Math.min (y + glyphHeight, this.clipBottom);
+        for (int row = top; row < bottom; row++)
+        {
+            final int maskOffset = (row - y) * stride + offset - x;
+            final int pixelOffset = row * WIDTH;
+            for (int column = left; column < right; column++)
+            {
+                final int alpha = mask[maskOffset + column] & 0xFF;
+                if (alpha == 0)
+                    continue;
+                final int index = pixelOffset + column;
+                this.pixels[index] = alpha == 0xFF ? toBGR565 (rgb) : toBGR565 (blend (toRGB (this.pixels[index]), rgb, alpha));
+            }
+        }
+    }
+
+
+    private static int blend (final int background, final int foreground, final int alpha)
+    {
+        final int inverse = 255 - alpha;
+        final int red = ((foreground >> 16 & 0xFF) * alpha + (background >> 16 & 0xFF) * inverse) / 255;
+        final int green = ((foreground >> 8 & 0xFF) * alpha + (background >> 8 & 0xFF) * inverse) / 255;
+        final int blue = ((foreground & 0xFF) * alpha + (background & 0xFF) * inverse) / 255;
+        return red << 16 | green << 8 | blue;
+    }
+}
@@ -0,0 +1,204 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Anti-aliased glyphs of a font as alpha masks (0-255). The printable ASCII characters are
+ * rendered once into a single strip, all other characters are rendered on first use and cached.
+ * Control characters are drawn as spaces. The glyphs are rendered with AWT, which also works
+ * headless.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GlyphAtlas
+{
+    private static final char                     FIRST_CHARACTER = ' ';
+    private static final char                     LAST_CHARACTER  = '~';
+
+    private static final Map<Integer, GlyphAtlas> ATLASES         = new HashMap<> ();
+
+    private final Font                            font;
+    private final int                             ascent;
+    private final int                             height;
+
+    // The strip of the ASCII characters
+    private final byte []                         strip;
+    private final int                             stripWidth;
+    private final int []                          offsets         = new int [LAST_CHARACTER + 1];
+    private final int []                          widths          = new int [LAST_CHARACTER + 1];
+
+    // All other characters
+    private final Map<Character, byte []>         masks           = new HashMap<> ();
+
+
+    /**
+     * Get the atlas for a font size. Atlases are created on first use and shared.
+     *
+     * @param size The size of the font in pixels
+     * @return The atlas
+     */
+    public static synchronized GlyphAtlas get (final int size)
+    {
+        return ATLASES.computeIfAbsent (Integer.valueOf (size), key -> new GlyphAtlas (new Font (Font.SANS_SERIF, Font.PLAIN, key.intValue ())));
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param font The font to render
+     */
+    private GlyphAtlas (final Font font)
+    {
+        this.font = font;
+
+        final BufferedImage probe = new BufferedImage (1, 1, BufferedImage.TYPE_BYTE_GRAY);
+        final Graphics2D probeGraphics = probe.createGraphics ();
+        final FontMetrics metrics = probeGraphics.getFontMetrics (font);
+        this.ascent = metrics.getAscent ();
+        this.height = metrics.getAscent () + metrics.getDescent ();
+
+        int width = 0;
+        for (char c = FIRST_CHARACTER; c <= LAST_CHARACTER; c++)
+        {
+            this.offsets[c] = width;
+            this.widths[c] = Math.max (1, metrics.charWidth (c));
+            width += this.widths[c];
+        }
+        probeGraphics.dispose ();
+        this.stripWidth = width;
+
+        final BufferedImage image = new BufferedImage (this.stripWidth, this.height, BufferedImage.TYPE_BYTE_GRAY);
+        final Graphics2D g = this.createGraphics (image);
+        for (char c = FIRST_CHARACTER; c <= LAST_CHARACTER; c++)
+        {
+            // Keep each glyph inside of its slot
+            g.setClip (this.offsets[c], 0, this.widths[c], this.height);
+            g.drawString (Character.toString (c), this.offsets[c], this.ascent);
+        }
+        g.dispose ();
+        this.strip = ((DataBufferByte) image.getRaster ().getDataBuffer ()).getData ();
+    }
+
+
+    /**
+     * Get the height of a line.
+     *
+     * @return The height in pixels
+     */
+    public int getHeight ()
+    {
+        return this.height;
+    }
+
+
+    /**
+     * Get the width of a text.
+     *
+     * @param text The text
+     * @return The width in pixels
+     */
+    public int getWidth (final String text)
+    {
+        int width = 0;
+        for (int i = 0; i < text.length (); i++)
+            width += this.getWidth (text.charAt (i));
+        return width;
+    }
+
+
+    /**
+     * Get the width of a character.
+     *
+     * @param character The character
+     * @return The width in pixels
+     */
+    public int getWidth (final char character)
+    {
+        if (character < FIRST_CHARACTER)
+            return this.widths[FIRST_CHARACTER];
+        if (character <= LAST_CHARACTER)
+            return this.widths[character];
+        return this.getOtherMask (character).length / this.height;
+    }
+
+
+    /**
+     * Get the array which contains the alpha mask of a character.
+     *
+     * @param character The character
+     * @return The array, use getOffset and getStride to find the mask of the character in it
+     */
+    public byte [] getMask (final char character)
+    {
+        if (character <= LAST_CHARACTER)
+            return this.strip;
+        return this.getOtherMask (character);
+    }
+
+
+    /**
+     * Get the horizontal offset of the mask of a character in its array.
+     *
+     * @param character The character
+     * @return The offset
+     */
+    public int getOffset (final char character)
+    {
+        if (character < FIRST_CHARACTER)
+            return this.offsets[FIRST_CHARACTER];
+        return character <= LAST_CHARACTER ? this.offsets[character] : 0;
+    }
+
+
+    /**
+     * Get the length of a row in the array of the mask of a character.
+     *
+     * @param character The character
+     * @return The length of a row
+     */
+    public int getStride (final char character)
+    {
+        return character <= LAST_CHARACTER ? this.stripWidth : this.getWidth (character);
+    }
+
+
+    private synchronized byte [] getOtherMask (final char character)
+    {
+        return this.masks.computeIfAbsent (Character.valueOf (character), key -> {
+            final BufferedImage probe = new BufferedImage (1, 1, BufferedImage.TYPE_BYTE_GRAY);
+            final Graphics2D probeGraphics = probe.createGraphics ();
+            final int width = Math.max (1, probeGraphics.getFontMetrics (this.font).charWidth (character));
+            probeGraphics.dispose ();
+
+            final BufferedImage image = new BufferedImage (width, this.height, BufferedImage.TYPE_BYTE_GRAY);
+            final Graphics2D g = this.createGraphics (image);
+            g.drawString (key.toString (), 0, this.ascent);
+            g.dispose ();
+            return ((DataBufferByte) image.getRaster ().getDataBuffer ()).getData ();
+        });
+    }
+
+
+    private Graphics2D createGraphics (final BufferedImage image)
+    {
+        final Graphics2D g = image.createGraphics ();
+        g.setRenderingHint (RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setFont (this.font);
+        g.setColor (Color.WHITE);
+        return g;
+    }
+}
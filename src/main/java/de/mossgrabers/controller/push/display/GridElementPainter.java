@@ -0,0 +1,337 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+
+
+/**
+ * Paints the grid elements of a display message into a column of the frame buffer. The values of
+ * the element are read from a grid element reader which is positioned after the type of the
+ * element.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GridElementPainter
+{
+    /** The width of a column. */
+    public static final int        COLUMN_WIDTH             = FrameBuffer.WIDTH / 8;
+
+    private static final int       HEIGHT                   = FrameBuffer.HEIGHT;
+    private static final int       MENU_HEIGHT              = 20;
+    private static final int       SMALL_MENU_HEIGHT        = 14;
+    private static final int       BOTTOM_MENU_TOP          = HEIGHT - MENU_HEIGHT;
+    private static final int       COLOR_STRIP_HEIGHT       = 4;
+    private static final int       CONTENT_TOP              = MENU_HEIGHT + 2;
+    private static final int       CONTENT_BOTTOM           = BOTTOM_MENU_TOP - COLOR_STRIP_HEIGHT - 2;
+    private static final int       PADDING                  = 4;
+    private static final int       TEXT_HEIGHT              = 16;
+    private static final int       LIST_ITEMS               = 6;
+
+    private static final int       COLOR_BACKGROUND         = 0x535353;
+    private static final int       COLOR_BORDER             = 0x000000;
+    private static final int       COLOR_TEXT               = 0x000000;
+    private static final int       COLOR_FADER              = 0x452C13;
+    private static final int       COLOR_VU                 = 0x00FF00;
+    private static final int       COLOR_EDIT               = 0xF07F11;
+    private static final int       COLOR_RECORD             = 0xFF0000;
+    private static final int       COLOR_SOLO               = 0xFFFF00;
+    private static final int       COLOR_MUTE               = 0xF58111;
+    private static final int       COLOR_BACKGROUND_DARKER  = 0x272727;
+    private static final int       COLOR_BACKGROUND_LIGHTER = 0x767676;
+
+    private static final String [] CROSSFADE_MODES          =
+    {
+        "A",
+        "AB",
+        "B"
+    };
+
+    private final int              maxValue;
+    private final GlyphAtlas       font                     = GlyphAtlas.get (12);
+    private final GlyphAtlas       smallFont                = GlyphAtlas.get (10);
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxValue The upper bound of the values, e.g. of volume and parameters
+     */
+    public GridElementPainter (final int maxValue)
+    {
+        this.maxValue = Math.max (1, maxValue);
+    }
+
+
+    /**
+     * Paint an empty column.
+     *
+     * @param frameBuffer Where to paint
+     * @param x The left edge of the column
+     */
+    public void paintEmpty (final FrameBuffer frameBuffer, final int x)
+    {
+        frameBuffer.fillRect (x, 0, COLUMN_WIDTH, HEIGHT, COLOR_BACKGROUND);
+    }
+
+
+    /**
+     * Paint a grid element. The header texts of options elements are painted by paintHeaders
+     * since they might reach into the next columns.
+     *
+     * @param frameBuffer Where to paint
+     * @param reader The reader positioned at the values of the element
+     * @param type The type of the element, one of the DisplayMessage.GRID_ELEMENT_* constants
+     * @param x The left edge of the column
+     */
+    public void paint (final FrameBuffer frameBuffer, final GridElementReader reader, final int type, final int x)
+    {
+        this.paintEmpty (frameBuffer, x);
+
+        switch (type)
+        {
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_SELECTION:
+                this.paintMenus (frameBuffer, reader, x);
+                break;
+
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_VOLUME:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_PAN:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_CROSSFADER:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_ALL:
+                this.paintMenus (frameBuffer, reader, x);
+                this.paintChannel (frameBuffer, reader, type, x);
+                break;
+
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_SENDS:
+                this.paintMenus (frameBuffer, reader, x);
+                this.paintSends (frameBuffer, reader, x);
+                break;
+
+            case DisplayMessage.GRID_ELEMENT_PARAMETERS:
+                this.paintMenus (frameBuffer, reader, x);
+                this.paintParameter (frameBuffer, reader, x);
+                break;
+
+            case DisplayMessage.GRID_ELEMENT_OPTIONS:
+                this.paintOptions (frameBuffer, reader, x);
+                break;
+
+            case DisplayMessage.GRID_ELEMENT_LIST:
+                this.paintList (frameBuffer, reader, x);
+                break;
+
+            default:
+                // Unknown elements stay empty
+                break;
+        }
+    }
+
+
+    /**
+     * Paint the header texts of an options element. They are not limited to the column.
+     *
+     * @param frameBuffer Where to paint
+     * @param reader The reader positioned at the values of the element
+     * @param x The left edge of the column
+     */
+    public void paintHeaders (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        final String headerTop = reader.readString ();
+        reader.skipString ();
+        reader.readBoolean ();
+        final String headerBottom = reader.readString ();
+
+        final int width = FrameBuffer.WIDTH - x - PADDING;
+        frameBuffer.drawText (this.font, headerTop, x + PADDING, CONTENT_TOP, width, TEXT_HEIGHT, COLOR_TEXT, false);
+        frameBuffer.drawText (this.font, headerBottom, x + PADDING, CONTENT_BOTTOM - TEXT_HEIGHT, width, TEXT_HEIGHT, COLOR_TEXT, false);
+    }
+
+
+    // Top menu, bottom menu with the channel color
+    private void paintMenus (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        final String topMenu = reader.readString ();
+        final boolean isTopMenuOn = reader.readBoolean ();
+        final String bottomMenu = reader.readString ();
+        // The channel type is not displayed
+        reader.skipString ();
+        final int color = reader.readColor ();
+        final boolean isBottomMenuOn = reader.readBoolean ();
+
+        this.paintMenu (frameBuffer, x, 0, MENU_HEIGHT, topMenu, isTopMenuOn);
+        if (!bottomMenu.isEmpty ())
+            frameBuffer.fillRect (x, BOTTOM_MENU_TOP - COLOR_STRIP_HEIGHT, COLUMN_WIDTH, COLOR_STRIP_HEIGHT, color);
+        this.paintMenu (frameBuffer, x, BOTTOM_MENU_TOP, MENU_HEIGHT, bottomMenu, isBottomMenuOn);
+    }
+
+
+    private void paintMenu (final FrameBuffer frameBuffer, final int x, final int y, final int height, final String text, final boolean isOn)
+    {
+        if (text.isEmpty ())
+            return;
+        if (isOn)
+            frameBuffer.fillRect (x, y, COLUMN_WIDTH, height, COLOR_TEXT);
+        frameBuffer.drawText (this.font, text, x + PADDING, y, COLUMN_WIDTH - 2 * PADDING, height, isOn ? COLOR_BACKGROUND : COLOR_TEXT, true);
+    }
+
+
+    private void paintChannel (final FrameBuffer frameBuffer, final GridElementReader reader, final int type, final int x)
+    {
+        final int volume = reader.readInteger ();
+        final int modulatedVolume = reader.readInteger ();
+        final String volumeStr = reader.readString ();
+        final int pan = reader.readInteger ();
+        final int modulatedPan = reader.readInteger ();
+        final String panStr = reader.readString ();
+        final int vu = reader.readInteger ();
+        final boolean mute = reader.readBoolean ();
+        final boolean solo = reader.readBoolean ();
+        final boolean recarm = reader.readBoolean ();
+        final int crossfadeMode = reader.readByte ();
+
+        // Volume fader and VU meter on the left
+        final int faderX = x + PADDING;
+        final int faderHeight = CONTENT_BOTTOM - CONTENT_TOP;
+        this.paintVerticalBar (frameBuffer, faderX, 16, faderHeight, volume, modulatedVolume, type == DisplayMessage.GRID_ELEMENT_CHANNEL_VOLUME);
+        final int vuHeight = this.scale (vu, faderHeight - 2);
+        frameBuffer.fillRect (faderX + 18, CONTENT_TOP, 6, faderHeight, COLOR_BACKGROUND_DARKER);
+        frameBuffer.fillRect (faderX + 18, CONTENT_BOTTOM - vuHeight, 6, vuHeight, COLOR_VU);
+
+        // Panorama and the texts on the right
+        final int right = x + 32;
+        final int rightWidth = COLUMN_WIDTH - 32 - PADDING;
+        final boolean isPanEdited = type == DisplayMessage.GRID_ELEMENT_CHANNEL_PAN;
+        frameBuffer.drawRect (right, CONTENT_TOP, rightWidth, 10, isPanEdited ? COLOR_EDIT : COLOR_BORDER);
+        final int center = right + rightWidth / 2;
+        final int panPosition = right + 1 + this.scale (pan, rightWidth - 2);
+        frameBuffer.fillRect (Math.min (center, panPosition), CONTENT_TOP + 1, Math.abs (panPosition - center) + 1, 8, COLOR_FADER);
+        if (modulatedPan != pan)
+            frameBuffer.fillRect (right + 1 + this.scale (modulatedPan, rightWidth - 2), CONTENT_TOP + 1, 2, 8, COLOR_EDIT);
+        frameBuffer.drawText (this.smallFont, volumeStr, right, CONTENT_TOP + 12, rightWidth, TEXT_HEIGHT, COLOR_TEXT, true);
+        frameBuffer.drawText (this.smallFont, panStr, right, CONTENT_TOP + 12 + TEXT_HEIGHT, rightWidth, TEXT_HEIGHT, COLOR_TEXT, true);
+
+        // Crossfader assignment
+        final int buttonWidth = rightWidth / 3;
+        if (crossfadeMode >= 0 && crossfadeMode < CROSSFADE_MODES.length)
+        {
+            final int crossfadeY = CONTENT_BOTTOM - 40;
+            final boolean isCrossfadeEdited = type == DisplayMessage.GRID_ELEMENT_CHANNEL_CROSSFADER;
+            for (int i = 0; i < CROSSFADE_MODES.length; i++)
+            {
+                final int buttonX = right + i * buttonWidth;
+                if (i == crossfadeMode)
+                    frameBuffer.fillRect (buttonX, crossfadeY, buttonWidth - 2, TEXT_HEIGHT, isCrossfadeEdited ? COLOR_EDIT : COLOR_BACKGROUND_LIGHTER);
+                frameBuffer.drawText (this.smallFont, CROSSFADE_MODES[i], buttonX, crossfadeY, buttonWidth - 2, TEXT_HEIGHT, COLOR_TEXT, true);
+            }
+        }
+
+        // Mute, solo and record arm
+        final int buttonY = CONTENT_BOTTOM - 18;
+        this.paintButton (frameBuffer, right, buttonY, buttonWidth - 2, "M", mute ? COLOR_MUTE : COLOR_BACKGROUND_DARKER);
+        this.paintButton (frameBuffer, right + buttonWidth, buttonY, buttonWidth - 2, "S", solo ? COLOR_SOLO : COLOR_BACKGROUND_DARKER);
+        this.paintButton (frameBuffer, right + 2 * buttonWidth, buttonY, buttonWidth - 2, "R", recarm ? COLOR_RECORD : COLOR_BACKGROUND_DARKER);
+    }
+
+
+    private void paintSends (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        final int rowHeight = (CONTENT_BOTTOM - CONTENT_TOP) / 4;
+        final int width = COLUMN_WIDTH - 2 * PADDING;
+        for (int i = 0; i < 4; i++)
+        {
+            final String name = reader.readString ();
+            final String valueStr = reader.readString ();
+            final int value = reader.readInteger ();
+            final int modulatedValue = reader.readInteger ();
+            final boolean isSelected = reader.readByte () != 0;
+
+            final int y = CONTENT_TOP + i * rowHeight;
+            frameBuffer.drawText (this.smallFont, valueStr.isEmpty () ? name : valueStr, x + PADDING, y, width, TEXT_HEIGHT, COLOR_TEXT, false);
+            if (!name.isEmpty ())
+                this.paintHorizontalBar (frameBuffer, x + PADDING, y + TEXT_HEIGHT, width, 8, value, modulatedValue, isSelected);
+        }
+        // Track mode or send mode is not displayed
+        reader.readBoolean ();
+    }
+
+
+    private void paintParameter (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        final String name = reader.readString ();
+        final int value = reader.readInteger ();
+        final String valueStr = reader.readString ();
+        final boolean isActive = reader.readBoolean ();
+        final int modulatedValue = reader.readInteger ();
+
+        if (name.isEmpty ())
+            return;
+        final int width = COLUMN_WIDTH - 2 * PADDING;
+        frameBuffer.drawText (this.font, name, x + PADDING, CONTENT_TOP, width, TEXT_HEIGHT, COLOR_TEXT, true);
+        this.paintHorizontalBar (frameBuffer, x + PADDING, CONTENT_TOP + TEXT_HEIGHT + 4, width, 12, value, modulatedValue, isActive);
+        frameBuffer.drawText (this.smallFont, valueStr, x + PADDING, CONTENT_TOP + TEXT_HEIGHT + 20, width, TEXT_HEIGHT, COLOR_TEXT, true);
+    }
+
+
+    private void paintOptions (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        reader.skipString ();
+        final String menuTop = reader.readString ();
+        final boolean isMenuTopSelected = reader.readBoolean ();
+        reader.skipString ();
+        final String menuBottom = reader.readString ();
+        final boolean isMenuBottomSelected = reader.readBoolean ();
+        final boolean useSmallTopMenu = reader.readBoolean ();
+
+        this.paintMenu (frameBuffer, x, 0, useSmallTopMenu ? SMALL_MENU_HEIGHT : MENU_HEIGHT, menuTop, isMenuTopSelected);
+        this.paintMenu (frameBuffer, x, BOTTOM_MENU_TOP, MENU_HEIGHT, menuBottom, isMenuBottomSelected);
+    }
+
+
+    private void paintList (final FrameBuffer frameBuffer, final GridElementReader reader, final int x)
+    {
+        final int itemHeight = HEIGHT / LIST_ITEMS;
+        for (int i = 0; i < LIST_ITEMS; i++)
+        {
+            final String item = reader.readString ();
+            final boolean isSelected = reader.readBoolean ();
+            final int y = i * itemHeight;
+            if (isSelected)
+                frameBuffer.fillRect (x, y, COLUMN_WIDTH, itemHeight, COLOR_TEXT);
+            frameBuffer.drawText (this.font, item, x + PADDING, y, COLUMN_WIDTH - 2 * PADDING, itemHeight, isSelected ? COLOR_BACKGROUND : COLOR_TEXT, false);
+        }
+    }
+
+
+    private void paintVerticalBar (final FrameBuffer frameBuffer, final int x, final int width, final int height, final int value, final int modulatedValue, final boolean isEdited)
+    {
+        frameBuffer.drawRect (x, CONTENT_TOP, width, height, isEdited ? COLOR_EDIT : COLOR_BORDER);
+        final int barHeight = this.scale (value, height - 2);
+        frameBuffer.fillRect (x + 1, CONTENT_TOP + height - 1 - barHeight, width - 2, barHeight, COLOR_FADER);
+        if (modulatedValue != value)
+            frameBuffer.fillRect (x + 1, CONTENT_TOP + height - 1 - this.scale (modulatedValue, height - 2), width - 2, 2, COLOR_EDIT);
+    }
+
+
+    private void paintHorizontalBar (final FrameBuffer frameBuffer, final int x, final int y, final int width, final int height, final int value, final int modulatedValue, final boolean isEdited)
+    {
+        frameBuffer.drawRect (x, y, width, height, isEdited ? COLOR_EDIT : COLOR_BORDER);
+        frameBuffer.fillRect (x + 1, y + 1, this.scale (value, width - 2), height - 2, COLOR_FADER);
+        if (modulatedValue != value)
+            frameBuffer.fillRect (x + 1 + this.scale (modulatedValue, width - 2), y + 1, 2, height - 2, COLOR_EDIT);
+    }
+
+
+    private void paintButton (final FrameBuffer frameBuffer, final int x, final int y, final int width, final String label, final int color)
+    {
+        frameBuffer.fillRect (x, y, width, 18, color);
+        frameBuffer.drawText (this.smallFont, label, x, y, width, 18, COLOR_TEXT, true);
+    }
+
+
+    private int scale (final int value, final int size)
+    {
+        return Math.max (0, Math.min (size, value * size / this.maxValue));
+    }
+}
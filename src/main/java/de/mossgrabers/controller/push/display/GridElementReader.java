@@ -0,0 +1,266 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+
+
+/**
+ * Decodes the values of the grid elements in a display message, the counterpart of the encoding in
+ * DisplayMessage. Reading beyond the end of the data returns zero values and marks the data as
+ * malformed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class GridElementReader
+{
+    // Marks a non-ASCII character which is followed by its 14 bit code
+    private static final int    ESCAPE  = 0xFF;
+
+    private final StringBuilder builder = new StringBuilder ();
+    private byte []             data    = new byte [0];
+    private int                 position;
+    private int                 end;
+    private boolean             isMalformed;
+
+
+    /**
+     * Set the data to read.
+     *
+     * @param data The data
+     * @param position The position of the first byte to read
+     * @param end The position after the last byte to read
+     */
+    public void set (final byte [] data, final int position, final int end)
+    {
+        this.data = data;
+        this.position = position;
+        this.end = end;
+        this.isMalformed = false;
+    }
+
+
+    /**
+     * Get the position of the next byte to read.
+     *
+     * @return The position
+     */
+    public int getPosition ()
+    {
+        return this.position;
+    }
+
+
+    /**
+     * Move to a position.
+     *
+     * @param position The position of the next byte to read
+     */
+    public void setPosition (final int position)
+    {
+        this.position = position;
+    }
+
+
+    /**
+     * Check if all data has been read.
+     *
+     * @return True if there is no more data
+     */
+    public boolean isAtEnd ()
+    {
+        return this.position >= this.end;
+    }
+
+
+    /**
+     * Check if there was an attempt to read beyond the end of the data.
+     *
+     * @return True if the data is malformed
+     */
+    public boolean isMalformed ()
+    {
+        return this.isMalformed;
+    }
+
+
+    /**
+     * Read a byte.
+     *
+     * @return The byte, -1 is returned for the byte value 0xFF
+     */
+    public int readByte ()
+    {
+        if (this.position >= this.end)
+        {
+            this.isMalformed = true;
+            return 0;
+        }
+        return this.data[this.position++];
+    }
+
+
+    /**
+     * Read a boolean.
+     *
+     * @return The boolean
+     */
+    public boolean readBoolean ()
+    {
+        return this.readByte () != 0;
+    }
+
+
+    /**
+     * Read a 14 bit integer which is stored as 2 bytes with 7 bit.
+     *
+     * @return The integer
+     */
+    public int readInteger ()
+    {
+        final int low = this.readByte () & 0x7F;
+        return low | (this.readByte () & 0x7F) << 7;
+    }
+
+
+    /**
+     * Read a color which is stored as 3 integers.
+     *
+     * @return The color as 24 bit RGB
+     */
+    public int readColor ()
+    {
+        final int red = this.readInteger () & 0xFF;
+        final int green = this.readInteger () & 0xFF;
+        final int blue = this.readInteger () & 0xFF;
+        return red << 16 | green << 8 | blue;
+    }
+
+
+    /**
+     * Read a zero terminated string.
+     *
+     * @return The string
+     */
+    public String readString ()
+    {
+        this.builder.setLength (0);
+        while (true)
+        {
+            final int value = this.readByte () & 0xFF;
+            if (value == 0)
+                break;
+            this.builder.append ((char) (value == ESCAPE ? this.readInteger () : value));
+        }
+        return this.builder.toString ();
+    }
+
+
+    /**
+     * Skip a zero terminated string.
+     */
+    public void skipString ()
+    {
+        while (true)
+        {
+            final int value = this.readByte () & 0xFF;
+            if (value == 0)
+                break;
+            if (value == ESCAPE)
+                this.readInteger ();
+        }
+    }
+
+
+    /**
+     * Skip the values of a grid element.
+     *
+     * @param type The type of the grid element, one of the DisplayMessage.GRID_ELEMENT_*
+     *            constants
+     * @return False if the type is unknown
+     */
+    public boolean skipElement (final int type)
+    {
+        switch (type)
+        {
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_SELECTION:
+                this.skipMenus ();
+                return true;
+
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_VOLUME:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_PAN:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_CROSSFADER:
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_ALL:
+                this.skipMenus ();
+                this.skip (4);
+                this.skipString ();
+                this.skip (4);
+                this.skipString ();
+                this.skip (6);
+                return true;
+
+            case DisplayMessage.GRID_ELEMENT_CHANNEL_SENDS:
+                this.skipMenus ();
+                for (int i = 0; i < 4; i++)
+                {
+                    this.skipString ();
+                    this.skipString ();
+                    this.skip (5);
+                }
+                this.skip (1);
+                return true;
+
+            case DisplayMessage.GRID_ELEMENT_PARAMETERS:
+                this.skipMenus ();
+                this.skipString ();
+                this.skip (2);
+                this.skipString ();
+                this.skip (3);
+                return true;
+
+            case DisplayMessage.GRID_ELEMENT_OPTIONS:
+                this.skipString ();
+                this.skipString ();
+                this.skip (1);
+                this.skipString ();
+                this.skipString ();
+                this.skip (2);
+                return true;
+
+            case DisplayMessage.GRID_ELEMENT_LIST:
+                for (int i = 0; i < 6; i++)
+                {
+                    this.skipString ();
+                    this.skip (1);
+                }
+                return true;
+
+            default:
+                return false;
+        }
+    }
+
+
+    // Top menu, its state, bottom menu, channel type, color and bottom menu state
+    private void skipMenus ()
+    {
+        this.skipString ();
+        this.skip (1);
+        this.skipString ();
+        this.skipString ();
+        this.skip (7);
+    }
+
+
+    private void skip (final int length)
+    {
+        this.position += length;
+        if (this.position > this.end)
+        {
+            this.isMalformed = true;
+            this.position = this.end;
+        }
+    }
+}
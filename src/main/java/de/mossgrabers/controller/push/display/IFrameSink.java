@@ -0,0 +1,26 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.controller.push.display;
+
+/**
+ * Receives the rendered frames of the Push 2 display, e.g. to write them to a file or to the
+ * device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IFrameSink
+{
+    /**
+     * A part of the frame buffer was rendered.
+     *
+     * @param frameBuffer The frame buffer, only valid during the call
+     * @param x The left edge of the changed rectangle
+     * @param y The top edge of the changed rectangle
+     * @param width The width of the changed rectangle
+     * @param height The height of the changed rectangle
+     */
+    void update (FrameBuffer frameBuffer, int x, int y, int width, int height);
+}
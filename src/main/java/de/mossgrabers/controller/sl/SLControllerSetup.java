@@ -189,7 +189,7 @@ public class SLControllerSetup extends AbstractControllerSetup<SLControlSurface,
     protected void createSurface ()
     {
         final IMidiAccess midiAccess = this.factory.createMidiAccess ();
-        final IMidiOutput output = midiAccess.createOutput ();
+        final IMidiOutput output = this.createBufferedOutput (midiAccess.createOutput ());
         final IMidiInput input = midiAccess.createInput (this.isMkII ? "Novation SL MkII (Drumpads)" : "Novation SL MkI (Drumpads)", "90????", "80????");
         midiAccess.createInput (1, this.isMkII ? "Novation SL MkII (Keyboard)" : "Novation SL MkI (Keyboard)", "80????", "90????", "B0????", "D0????", "E0????");
         final IHost hostProxy = this.model.getHost ();
@@ -9,6 +9,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexBuilder;
 import de.mossgrabers.framework.utils.StringUtils;
 
 
@@ -20,21 +21,11 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractDisplay
 {
     /** The right arrow. */
-    public static final String     RIGHT_ARROW = ">";
+    public static final String   RIGHT_ARROW  = ">";
 
-    private static final String [] SPACES      =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
+    private static final byte [] SYSEX_LINE   = StringUtils.fromHexStr (SLControlSurface.SYSEX_HEADER + "02 01");
+
+    private final SysexBuilder   sysexBuilder = new SysexBuilder (90);
 
 
     /**
@@ -47,15 +38,11 @@ public class SLDisplay extends AbstractDisplay
     public SLDisplay (final IHost host, final IMidiOutput output)
     {
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8);
-    }
 
+        this.setCellWidths (9, 9, 9, 9, 9, 9, 9, 9);
 
-    /** {@inheritDoc} */
-    @Override
-    public SLDisplay clearCell (final int row, final int cell)
-    {
-        this.cells[row * this.noOfCells + cell] = "         ";
-        return this;
+        // Header, position, row, text command and the 2 end bytes
+        this.writeOverhead = SYSEX_LINE.length + 5;
     }
 
 
@@ -63,17 +50,8 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8) + " ";
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        // The last character of the block is always a space
+        this.setChars (row, this.getCellOffset (2 * block), 18, value, 17);
         return this;
     }
 
@@ -82,7 +60,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), 8) + " ";
+        this.setChars (row, this.getCellOffset (column), 9, value, 8);
         return this;
     }
 
@@ -93,7 +71,7 @@ public class SLDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, 8) + " ";
+            this.setChars (row, this.getCellOffset (column), 9, value, 8);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -105,13 +83,9 @@ public class SLDisplay extends AbstractDisplay
 
     /** {@inheritDoc} */
     @Override
-    public void writeLine (final int row, final String text)
+    protected void writeText (final int row, final int offset, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (row + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        this.sysexBuilder.start (SYSEX_LINE).add (offset).add (row + 1).add (0x04).addText (text).add (0x00).send (this.output);
     }
 
 
@@ -121,24 +95,4 @@ public class SLDisplay extends AbstractDisplay
     {
         this.notify ("Please start " + this.host.getName () + " to play...");
     }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
-
-
-    private static String uint7ToHex (final int x)
-    {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
-    }
 }
\ No newline at end of file
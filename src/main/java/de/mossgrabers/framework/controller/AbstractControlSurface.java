@@ -12,6 +12,8 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysexDispatcher;
+import de.mossgrabers.framework.daw.midi.SysexHandler;
 import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.View;
@@ -19,9 +21,7 @@ import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -33,45 +33,50 @@ import java.util.Map;
  */
 public abstract class AbstractControlSurface<C extends Configuration> implements IControlSurface<C>
 {
-    protected static final int                    BUTTON_STATE_INTERVAL = 400;
+    protected static final int BUTTON_STATE_INTERVAL = 400;
 
-    protected IHost                               host;
-    protected C                                   configuration;
-    protected ColorManager                        colorManager;
-    protected IMidiOutput                         output;
-    protected IMidiInput                          input;
+    protected IHost            host;
+    protected C                configuration;
+    protected ColorManager     colorManager;
+    protected IMidiOutput      output;
+    protected IMidiInput       input;
 
-    protected ViewManager                         viewManager           = new ViewManager ();
-    protected ModeManager                         modeManager           = new ModeManager ();
+    protected ViewManager      viewManager           = new ViewManager ();
+    protected ModeManager      modeManager           = new ModeManager ();
 
-    protected int                                 selectButtonId        = -1;
-    protected int                                 shiftButtonId         = -1;
-    protected int                                 deleteButtonId        = -1;
-    protected int                                 soloButtonId          = -1;
-    protected int                                 muteButtonId          = -1;
-    protected int                                 leftButtonId          = -1;
-    protected int                                 rightButtonId         = -1;
-    protected int                                 upButtonId            = -1;
-    protected int                                 downButtonId          = -1;
+    protected int              selectButtonId        = -1;
+    protected int              shiftButtonId         = -1;
+    protected int              deleteButtonId        = -1;
+    protected int              soloButtonId          = -1;
+    protected int              muteButtonId          = -1;
+    protected int              leftButtonId          = -1;
+    protected int              rightButtonId         = -1;
+    protected int              upButtonId            = -1;
+    protected int              downButtonId          = -1;
 
-    private int []                                buttons;
-    protected ButtonEvent []                      buttonStates;
-    private int []                                noteVelocities;
-    protected boolean []                          buttonConsumed;
+    private int []             buttons;
+    protected ButtonEvent []   buttonStates;
+    private int []             noteVelocities;
+    protected boolean []       buttonConsumed;
 
-    private List<int []>                          buttonCache;
+    private List<int []>       buttonCache;
 
-    protected int []                              gridNotes;
+    protected int []           gridNotes;
 
-    protected Display                             display;
-    protected PadGridImpl                         pads;
-    protected Map<Integer, Map<Integer, Integer>> triggerCommands       = new HashMap<> ();
-    protected Map<Integer, Map<Integer, Integer>> continuousCommands    = new HashMap<> ();
-    protected Map<Integer, Integer>               noteCommands          = new HashMap<> ();
+    protected Display          display;
+    protected PadGridImpl      pads;
+    protected Integer []       triggerCommands       = new Integer [16 * 128];
+    protected Integer []       continuousCommands    = new Integer [16 * 128];
+    protected Integer []       noteCommands          = new Integer [128];
 
-    private boolean []                            gridNoteConsumed;
-    private ButtonEvent []                        gridNoteStates;
-    private int []                                gridNoteVelocities;
+    private boolean []         gridNoteConsumed;
+    private ButtonEvent []     gridNoteStates;
+    private int []             gridNoteVelocities;
+
+    private LongPressTracker   buttonLongPressTracker;
+    private LongPressTracker   gridNoteLongPressTracker;
+    private EncoderAccumulator encoderAccumulator;
+    private SysexDispatcher    sysexDispatcher;
 
 
     /**
@@ -95,6 +100,10 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (this.input != null)
             this.input.setMidiCallback (this::handleMidi);
 
+        // Summed up encoder values must reach the mode and view which received them
+        this.modeManager.addBeforeModeChangeListener (this::flushEncoders);
+        this.viewManager.addBeforeViewChangeListener (this::flushEncoders);
+
         this.gridNotes = new int [64];
 
         // Button related
@@ -110,6 +119,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             }
         }
 
+        this.buttonLongPressTracker = new LongPressTracker (host, 128, BUTTON_STATE_INTERVAL, this::checkButtonState);
+        this.gridNoteLongPressTracker = new LongPressTracker (host, 128, BUTTON_STATE_INTERVAL, this::checkGridNoteState);
+
         // Optimisation for button LED updates, cache 128 possible note values on
         // all 16 midi channels
         this.buttonCache = new ArrayList<> (128);
@@ -189,6 +201,39 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /**
+     * Register a handler for the system exclusive messages of the input, which start with the
+     * given bytes.
+     *
+     * @param prefix The start of the messages, at least F0 and the first byte of the manufacturer
+     *            ID
+     * @param handler The handler
+     */
+    protected void addSysexHandler (final byte [] prefix, final SysexHandler handler)
+    {
+        if (this.sysexDispatcher == null)
+        {
+            this.sysexDispatcher = new SysexDispatcher ();
+            if (this.input != null)
+                this.input.setSysexCallback (this.sysexDispatcher);
+        }
+        this.sysexDispatcher.register (prefix, handler);
+    }
+
+
+    /**
+     * Set an accumulator to sum up the values of relative encoders, which are then sent once per
+     * flush to their continuous commands. They are also sent before the active mode or view
+     * changes.
+     *
+     * @param encoderAccumulator The accumulator, null to send each value immediately
+     */
+    public void setEncoderAccumulator (final EncoderAccumulator encoderAccumulator)
+    {
+        this.encoderAccumulator = encoderAccumulator;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public PadGrid getPadGrid ()
@@ -217,13 +262,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignTriggerCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.triggerCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        checkCommandSlot (midiCC, midiChannel, commandID);
+        this.triggerCommands[getCommandSlot (midiCC, midiChannel)] = commandID;
     }
 
 
@@ -239,8 +279,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getTriggerCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return isValidCommandSlot (midiCC, midiChannel) ? this.triggerCommands[getCommandSlot (midiCC, midiChannel)] : null;
     }
 
 
@@ -256,13 +295,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignContinuousCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.continuousCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        checkCommandSlot (midiCC, midiChannel, commandID);
+        this.continuousCommands[getCommandSlot (midiCC, midiChannel)] = commandID;
     }
 
 
@@ -278,8 +312,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getContinuousCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return isValidCommandSlot (midiCC, midiChannel) ? this.continuousCommands[getCommandSlot (midiCC, midiChannel)] : null;
     }
 
 
@@ -287,7 +320,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignNoteCommand (final int midiNote, final Integer commandID)
     {
-        this.noteCommands.put (Integer.valueOf (midiNote), commandID);
+        if (midiNote < 0 || midiNote >= this.noteCommands.length)
+            throw new IllegalArgumentException ("Midi note " + midiNote + " of command " + commandID + " is out of range.");
+        this.noteCommands[midiNote] = commandID;
     }
 
 
@@ -295,7 +330,41 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getNoteCommand (final int midiNote)
     {
-        return this.noteCommands.get (Integer.valueOf (midiNote));
+        return midiNote >= 0 && midiNote < this.noteCommands.length ? this.noteCommands[midiNote] : null;
+    }
+
+
+    /**
+     * Get the index of a midi CC on a midi channel in the command tables.
+     *
+     * @param midiCC The midi CC
+     * @param midiChannel The midi channel
+     * @return The index
+     */
+    private static int getCommandSlot (final int midiCC, final int midiChannel)
+    {
+        return midiChannel * 128 + midiCC;
+    }
+
+
+    private static boolean isValidCommandSlot (final int midiCC, final int midiChannel)
+    {
+        return midiCC >= 0 && midiCC < 128 && midiChannel >= 0 && midiChannel < 16;
+    }
+
+
+    /**
+     * Check that a midi CC and channel can be assigned. Otherwise, the command would silently end up
+     * on a different CC or channel.
+     *
+     * @param midiCC The midi CC
+     * @param midiChannel The midi channel
+     * @param commandID The ID of the command to assign
+     */
+    private static void checkCommandSlot (final int midiCC, final int midiChannel, final Integer commandID)
+    {
+        if (!isValidCommandSlot (midiCC, midiChannel))
+            throw new IllegalArgumentException ("Midi CC " + midiCC + " on channel " + midiChannel + " of command " + commandID + " is out of range.");
     }
 
 
@@ -567,11 +636,25 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void flush ()
     {
+        this.flushEncoders ();
         this.scheduledFlush ();
         this.redrawGrid ();
     }
 
 
+    /**
+     * Send the summed up values of the relative encoders to the active view.
+     */
+    private void flushEncoders ()
+    {
+        if (this.encoderAccumulator == null)
+            return;
+        final View view = this.viewManager.getActiveView ();
+        if (view != null)
+            this.encoderAccumulator.flush (view);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -681,7 +764,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (velocity > 0)
             this.gridNoteVelocities[note] = velocity;
         if (this.gridNoteStates[note] == ButtonEvent.DOWN)
-            this.scheduleTask ( () -> this.checkGridNoteState (note), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+            this.gridNoteLongPressTracker.press (note);
+        else
+            this.gridNoteLongPressTracker.release (note);
 
         // If consumed flag is set ignore the UP event
         if (this.gridNoteStates[note] == ButtonEvent.UP && this.gridNoteConsumed[note])
@@ -758,7 +843,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.buttonStates[cc] = value > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
 
             if (this.buttonStates[cc] == ButtonEvent.DOWN)
-                this.scheduleTask ( () -> this.checkButtonState (cc), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+                this.buttonLongPressTracker.press (cc);
+            else
+                this.buttonLongPressTracker.release (cc);
 
             // If consumed flag is set ignore the UP event
             if (this.buttonStates[cc] == ButtonEvent.UP && this.buttonConsumed[cc])
@@ -821,7 +908,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         commandID = this.getContinuousCommand (cc, channel);
         if (commandID != null)
         {
-            view.executeContinuousCommand (commandID, value);
+            if (this.encoderAccumulator == null || !this.encoderAccumulator.add (commandID, value))
+                view.executeContinuousCommand (commandID, value);
             return;
         }
 
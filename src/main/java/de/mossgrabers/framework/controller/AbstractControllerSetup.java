@@ -12,7 +12,10 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.midi.BufferedMidiOutput;
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.scale.Scales;
+import de.mossgrabers.framework.utils.LatestTaskScheduler;
 import de.mossgrabers.framework.view.View;
 
 import java.util.ArrayList;
@@ -29,16 +32,18 @@ import java.util.List;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup
 {
-    protected final List<S>       surfaces = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   settings;
-    protected final ISetupFactory factory;
+    protected final List<S>                  surfaces        = new ArrayList<> ();
+    protected final List<BufferedMidiOutput> bufferedOutputs = new ArrayList<> ();
+    protected final LatestTaskScheduler      displayScheduler;
+    protected final IHost                    host;
+    protected final ISettingsUI              settings;
+    protected final ISetupFactory            factory;
 
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
+    protected Scales                         scales;
+    protected IModel                         model;
+    protected C                              configuration;
+    protected ColorManager                   colorManager;
+    protected IValueChanger                  valueChanger;
 
 
     /**
@@ -53,6 +58,8 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.factory = factory;
         this.host = host;
         this.settings = settings;
+
+        this.displayScheduler = new LatestTaskScheduler (host, this.getClass ().getSimpleName () + " display output", 64);
     }
 
 
@@ -121,17 +128,39 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.configuration.clearSettingObservers ();
         for (final S surface: this.surfaces)
             surface.shutdown ();
+        // Send the pending display updates
+        this.displayScheduler.shutdown ();
+        for (final BufferedMidiOutput output: this.bufferedOutputs)
+            output.flushAll ();
         this.host.println ("Exited.");
     }
 
 
     /**
-     * Flush all surfaces.
+     * Flush all surfaces and send the collected messages of all buffered outputs.
      */
     public void flushSurfaces ()
     {
         for (final S surface: this.surfaces)
             surface.flush ();
+        for (final BufferedMidiOutput output: this.bufferedOutputs)
+            output.flush ();
+    }
+
+
+    /**
+     * Wrap a midi output into a buffered output which collects all messages of a frame. The
+     * collected messages are sent at the end of flushSurfaces. Repeated messages to the same note or
+     * CC are only sent once with the last value.
+     *
+     * @param output The output to wrap
+     * @return The buffered output
+     */
+    protected BufferedMidiOutput createBufferedOutput (final IMidiOutput output)
+    {
+        final BufferedMidiOutput bufferedOutput = new BufferedMidiOutput (output);
+        this.bufferedOutputs.add (bufferedOutput);
+        return bufferedOutput;
     }
 
 
@@ -88,6 +88,14 @@ public class DefaultValueChanger implements IValueChanger
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public int encodeKnobSpeed (final int steps)
+    {
+        return steps >= 0 ? Math.min (steps, 61) : 128 + Math.max (steps, -66);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int changeValue (final int control, final int value)
@@ -0,0 +1,145 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.view.View;
+
+import java.util.Arrays;
+import java.util.function.BooleanSupplier;
+
+
+/**
+ * Sums up the values of relative encoders which arrive between two flushes. On flush the continuous
+ * command of each turned encoder is executed once with the sum of the steps instead of once for
+ * each step. Commands which need to see each step (e.g. if the value is clamped at each step or only
+ * the direction is evaluated) can be excluded, either always or only while a condition is met, e.g.
+ * a certain mode is active. The surface also flushes the accumulator before the active mode or view
+ * changes, so that the steps are applied to the parameter which was turned.
+ *
+ * There is no separate trigger when an encoder stops, since the surface is flushed after each
+ * batch of midi input anyway. Therefore, the steps are applied at the latest one frame after the
+ * last one arrived.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class EncoderAccumulator
+{
+    private final IValueChanger valueChanger;
+
+    // Indexed by the command ID
+    private BooleanSupplier []  exclusions      = new BooleanSupplier [0];
+    private int []              steps           = new int [0];
+    private boolean []          isPending       = new boolean [0];
+    private Integer []          pendingCommands = new Integer [0];
+    private int                 numberOfPending;
+    private boolean             isFlushing;
+
+
+    /**
+     * Constructor.
+     *
+     * @param valueChanger The value changer to decode and encode the relative values
+     */
+    public EncoderAccumulator (final IValueChanger valueChanger)
+    {
+        this.valueChanger = valueChanger;
+    }
+
+
+    /**
+     * Exclude a command from accumulation. It is executed for each incoming value.
+     *
+     * @param commandID The ID of the command
+     */
+    public void exclude (final Integer commandID)
+    {
+        this.exclude (commandID, () -> true);
+    }
+
+
+    /**
+     * Exclude a command from accumulation while a condition is met. It is then executed for each
+     * incoming value.
+     *
+     * @param commandID The ID of the command
+     * @param condition Returns true while the command is excluded
+     */
+    public void exclude (final Integer commandID, final BooleanSupplier condition)
+    {
+        final int index = commandID.intValue ();
+        this.ensureSize (index);
+        this.exclusions[index] = condition;
+    }
+
+
+    /**
+     * Add the value of a relative encoder.
+     *
+     * @param commandID The ID of the command which is assigned to the encoder
+     * @param value The relative value
+     * @return False if the command is excluded and needs to be executed immediately
+     */
+    public boolean add (final Integer commandID, final int value)
+    {
+        final int index = commandID.intValue ();
+        this.ensureSize (index);
+        final BooleanSupplier exclusion = this.exclusions[index];
+        if (exclusion != null && exclusion.getAsBoolean ())
+            return false;
+
+        if (!this.isPending[index])
+        {
+            this.isPending[index] = true;
+            this.pendingCommands[this.numberOfPending++] = commandID;
+        }
+        this.steps[index] += (int) this.valueChanger.calcKnobSpeed (value, 1);
+        return true;
+    }
+
+
+    /**
+     * Execute the commands of all turned encoders with the sum of their steps. If the sum exceeds
+     * the range of a relative value, the command is executed several times.
+     *
+     * @param view The view to which to send the commands
+     */
+    public void flush (final View view)
+    {
+        // A command might change the mode, which flushes again
+        if (this.isFlushing)
+            return;
+        this.isFlushing = true;
+
+        for (int i = 0; i < this.numberOfPending; i++)
+        {
+            final Integer commandID = this.pendingCommands[i];
+            this.pendingCommands[i] = null;
+            final int index = commandID.intValue ();
+            int remaining = this.steps[index];
+            this.steps[index] = 0;
+            this.isPending[index] = false;
+            while (remaining != 0)
+            {
+                final int value = this.valueChanger.encodeKnobSpeed (remaining);
+                view.executeContinuousCommand (commandID, value);
+                remaining -= (int) this.valueChanger.calcKnobSpeed (value, 1);
+            }
+        }
+        this.numberOfPending = 0;
+        this.isFlushing = false;
+    }
+
+
+    private void ensureSize (final int index)
+    {
+        if (index < this.steps.length)
+            return;
+        final int length = index + 1;
+        this.exclusions = Arrays.copyOf (this.exclusions, length);
+        this.steps = Arrays.copyOf (this.steps, length);
+        this.isPending = Arrays.copyOf (this.isPending, length);
+        this.pendingCommands = Arrays.copyOf (this.pendingCommands, length);
+    }
+}
@@ -72,6 +72,17 @@ public interface IValueChanger
     double calcKnobSpeed (int control, double fractionValue);
 
 
+    /**
+     * Encode a number of steps into the control speed of the hardware controller. This is the
+     * inverse of calcKnobSpeed with a fraction value of 1. If the number of steps exceeds the range
+     * of the control speed, the maximum speed in that direction is returned.
+     *
+     * @param steps The number of steps, negative values for decreasing
+     * @return The control speed, depending on the specific hardware controller
+     */
+    int encodeKnobSpeed (int steps);
+
+
     /**
      * Change a value by the amount of the control speed. Uses the default fraction values
      * (depending on the slow setting) and upper bound. The lower bound is 0.
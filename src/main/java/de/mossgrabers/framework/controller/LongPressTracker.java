@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+
+/**
+ * Detects long presses of buttons or pads with a timer wheel. Instead of scheduling a task for each
+ * press, one task is scheduled for each tick as long as a key is held down. A pressed key is put in
+ * the slot of the wheel which is reached when the long press interval is over. On release it is
+ * removed again. The timing has the precision of one tick.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LongPressTracker
+{
+    /** The interval of the timer tick in ms. */
+    public static final int   TICK_INTERVAL = 50;
+
+    private final IHost       host;
+    private final IntConsumer listener;
+    private final Runnable    tickTask      = this::tick;
+
+    // Double linked lists of the keys in each slot of the wheel, -1 marks the end
+    private final int []      next;
+    private final int []      previous;
+    private final int []      slotOfKey;
+    private final int []      expiredKeys;
+    private final int []      wheel;
+    private final int         longPressTicks;
+    private int               position;
+    private int               numberOfArmedKeys;
+    private boolean           isTicking;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param numberOfKeys The number of keys to track, e.g. 128 for all midi notes
+     * @param longPressInterval The time in ms after which a held down key is a long press
+     * @param listener Is called with the key on a long press
+     */
+    public LongPressTracker (final IHost host, final int numberOfKeys, final int longPressInterval, final IntConsumer listener)
+    {
+        this.host = host;
+        this.listener = listener;
+
+        this.next = new int [numberOfKeys];
+        this.previous = new int [numberOfKeys];
+        this.slotOfKey = new int [numberOfKeys];
+        this.expiredKeys = new int [numberOfKeys];
+        Arrays.fill (this.slotOfKey, -1);
+
+        // The wheel must be larger than the interval so that no slot is reached twice
+        this.longPressTicks = Math.max (1, (longPressInterval + TICK_INTERVAL - 1) / TICK_INTERVAL);
+        this.wheel = new int [this.longPressTicks + 1];
+        Arrays.fill (this.wheel, -1);
+    }
+
+
+    /**
+     * A key was pressed. Starts the long press timer of the key, a running one is restarted.
+     *
+     * @param key The key
+     */
+    public void press (final int key)
+    {
+        this.disarm (key);
+        this.arm (key);
+    }
+
+
+    /**
+     * A key was released. Cancels the long press timer of the key.
+     *
+     * @param key The key
+     */
+    public void release (final int key)
+    {
+        this.disarm (key);
+    }
+
+
+    /**
+     * Check if the timer of a key is running.
+     *
+     * @param key The key
+     * @return True if the key is pressed and waits for a long press
+     */
+    public boolean isArmed (final int key)
+    {
+        return this.slotOfKey[key] >= 0;
+    }
+
+
+    private void tick ()
+    {
+        this.position = (this.position + 1) % this.wheel.length;
+
+        // Collect the expired keys first since the listener might press or release keys
+        int count = 0;
+        int key = this.wheel[this.position];
+        while (key >= 0)
+        {
+            this.expiredKeys[count++] = key;
+            this.slotOfKey[key] = -1;
+            key = this.next[key];
+        }
+        this.wheel[this.position] = -1;
+        this.numberOfArmedKeys -= count;
+
+        for (int i = 0; i < count; i++)
+            this.listener.accept (this.expiredKeys[i]);
+
+        if (this.numberOfArmedKeys > 0)
+            this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+        else
+            this.isTicking = false;
+    }
+
+
+    private void arm (final int key)
+    {
+        final int slot = (this.position + this.longPressTicks) % this.wheel.length;
+        final int head = this.wheel[slot];
+        this.next[key] = head;
+        this.previous[key] = -1;
+        if (head >= 0)
+            this.previous[head] = key;
+        this.wheel[slot] = key;
+        this.slotOfKey[key] = slot;
+        this.numberOfArmedKeys++;
+
+        if (this.isTicking)
+            return;
+        this.isTicking = true;
+        this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+    }
+
+
+    private void disarm (final int key)
+    {
+        final int slot = this.slotOfKey[key];
+        if (slot < 0)
+            return;
+
+        final int prev = this.previous[key];
+        final int nxt = this.next[key];
+        if (prev >= 0)
+            this.next[prev] = nxt;
+        else
+            this.wheel[slot] = nxt;
+        if (nxt >= 0)
+            this.previous[nxt] = prev;
+        this.slotOfKey[key] = -1;
+        this.numberOfArmedKeys--;
+    }
+}
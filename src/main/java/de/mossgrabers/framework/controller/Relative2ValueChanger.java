@@ -30,4 +30,12 @@ public class Relative2ValueChanger extends DefaultValueChanger
     {
         return (control < 0x41 ? control : 0x40 - control) * fractionValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int encodeKnobSpeed (final int steps)
+    {
+        return steps >= 0 ? Math.min (steps, 0x40) : 0x40 - Math.max (steps, -0x3F);
+    }
 }
@@ -30,4 +30,12 @@ public class Relative3ValueChanger extends DefaultValueChanger
     {
         return (control - 64) * fractionValue;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int encodeKnobSpeed (final int steps)
+    {
+        return 64 + Math.max (Math.min (steps, 63), -64);
+    }
 }
@@ -7,31 +7,41 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
- * Abstract implementation of a display.
+ * Abstract implementation of a display. Each row is a fixed character array into which the cells
+ * are written in place. When editing of a row is done, it is compared with the text which was
+ * previously done and only marked as changed if a character differs. The text of a row is only
+ * created when it is sent to the display.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public abstract class AbstractDisplay implements Display
 {
     /** Time to keep a notification displayed in ms. */
-    public static final int NOTIFICATION_TIME = 1000;
+    public static final int  NOTIFICATION_TIME = 1000;
+
+    protected IHost          host;
+    protected IMidiOutput    output;
 
-    protected IHost         host;
-    protected IMidiOutput   output;
+    protected int            noOfLines;
+    protected int            noOfCells;
+    protected int            noOfCharacters;
 
-    protected int           noOfLines;
-    protected int           noOfCells;
-    protected int           noOfCharacters;
+    protected final String   emptyLine;
+    protected String         notificationMessage;
+    protected boolean        isNotificationActive;
 
-    protected final String  emptyLine;
-    protected String        notificationMessage;
-    protected boolean       isNotificationActive;
+    protected char [] []     rows;
+    protected int            writeOverhead;
 
-    protected String []     currentMessage;
-    protected String []     message;
-    protected String []     cells;
+    private int []           cellOffsets;
+    private char [] []       message;
+    private final boolean [] isRowDirty;
+    private final char [] [] displayedRows;
+    private final char []    digits            = new char [11];
 
 
     /**
@@ -59,18 +69,127 @@ public abstract class AbstractDisplay implements Display
         this.notificationMessage = this.emptyLine;
         this.isNotificationActive = false;
 
-        this.currentMessage = new String [this.noOfLines];
+        this.isRowDirty = new boolean [this.noOfLines];
+        this.displayedRows = new char [this.noOfLines] [];
 
-        this.message = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+        final int [] cellWidths = new int [this.noOfCells];
+        Arrays.fill (cellWidths, this.noOfCharacters / this.noOfCells);
+        this.setCellWidths (cellWidths);
     }
 
 
-    /** {@inheritDoc} */
+    /**
+     * Set the number of characters of each cell. The length of a row is the sum of all cells. All
+     * rows are cleared.
+     *
+     * @param cellWidths The number of characters of each cell
+     */
+    protected final void setCellWidths (final int... cellWidths)
+    {
+        this.cellOffsets = new int [cellWidths.length + 1];
+        for (int i = 0; i < cellWidths.length; i++)
+            this.cellOffsets[i + 1] = this.cellOffsets[i] + cellWidths[i];
+
+        final int length = this.cellOffsets[cellWidths.length];
+        this.rows = new char [this.noOfLines] [length];
+        for (final char [] row: this.rows)
+            Arrays.fill (row, ' ');
+        this.message = new char [this.noOfLines] [];
+    }
+
+
+    /**
+     * Get the position of the first character of a cell in its row.
+     *
+     * @param cell The cell
+     * @return The position
+     */
+    protected int getCellOffset (final int cell)
+    {
+        return this.cellOffsets[cell];
+    }
+
+
+    /**
+     * Get the number of characters of a cell.
+     *
+     * @param cell The cell
+     * @return The number of characters
+     */
+    protected int getCellWidth (final int cell)
+    {
+        return this.cellOffsets[cell + 1] - this.cellOffsets[cell];
+    }
+
+
+    /**
+     * Write a text into a range of a row. The text is cut off after the maximum number of
+     * characters, the rest of the range is filled with spaces.
+     *
+     * @param row The row
+     * @param offset The position of the first character of the range
+     * @param length The length of the range
+     * @param text The text to write, null is treated like an empty text
+     * @param maxLength The maximum number of characters of the text to write
+     */
+    protected void setChars (final int row, final int offset, final int length, final String text, final int maxLength)
+    {
+        final int count = text == null ? 0 : Math.min (text.length (), Math.min (maxLength, length));
+        if (count > 0)
+            text.getChars (0, count, this.rows[row], offset);
+        Arrays.fill (this.rows[row], offset + count, offset + length, ' ');
+    }
+
+
+    /**
+     * Write a number into a range of a row without creating a text. The number is cut off after
+     * the maximum number of characters, the rest of the range is filled with spaces.
+     *
+     * @param row The row
+     * @param offset The position of the first character of the range
+     * @param length The length of the range
+     * @param value The number to write
+     * @param maxLength The maximum number of characters of the number to write
+     */
+    protected void setChars (final int row, final int offset, final int length, final int value, final int maxLength)
+    {
+        long v = Math.abs ((long) value);
+        int start = this.digits.length;
+        do
+        {
+            this.digits[--start] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        if (value < 0)
+            this.digits[--start] = '-';
+
+        final int count = Math.min (this.digits.length - start, Math.min (maxLength, length));
+        System.arraycopy (this.digits, start, this.rows[row], offset, count);
+        Arrays.fill (this.rows[row], offset + count, offset + length, ' ');
+    }
+
+
+    /**
+     * Sets the text of a row directly, the cells of the row are not changed. The text is cut off
+     * or padded with spaces to the length of the row.
+     *
+     * @param row The row to set
+     * @param str The text to set
+     * @return The instance for concatenated calls
+     */
     @Override
     public AbstractDisplay setRow (final int row, final String str)
     {
-        this.message[row] = str;
+        final char [] chars = this.getMessage (row);
+        final int length = str.length ();
+        for (int i = 0; i < chars.length; i++)
+        {
+            final char c = i < length ? str.charAt (i) : ' ';
+            if (chars[i] == c)
+                continue;
+            chars[i] = c;
+            this.isRowDirty[row] = true;
+        }
         return this;
     }
 
@@ -89,8 +208,7 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay clearRow (final int row)
     {
-        for (int i = 0; i < 4; i++)
-            this.clearBlock (row, i);
+        Arrays.fill (this.rows[row], ' ');
         return this;
     }
 
@@ -106,6 +224,15 @@ public abstract class AbstractDisplay implements Display
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public AbstractDisplay clearCell (final int row, final int cell)
+    {
+        Arrays.fill (this.rows[row], this.cellOffsets[cell], this.cellOffsets[cell + 1], ' ');
+        return this;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public AbstractDisplay clearColumn (final int column)
@@ -120,10 +247,11 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay done (final int row)
     {
-        final int index = row * this.noOfCells;
-        this.message[row] = "";
-        for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+        final char [] chars = this.getMessage (row);
+        if (Arrays.equals (chars, this.rows[row]))
+            return this;
+        System.arraycopy (this.rows[row], 0, chars, 0, chars.length);
+        this.isRowDirty[row] = true;
         return this;
     }
 
@@ -138,6 +266,64 @@ public abstract class AbstractDisplay implements Display
     }
 
 
+    /**
+     * Sends only the ranges of the row which differ from the text which is currently displayed.
+     * Ranges which are separated by less unchanged characters than the overhead of a write are
+     * merged, since sending these characters again is cheaper than sending another message.
+     * Displays might call this from a background thread, therefore the displayed text is guarded
+     * by a lock which is shared with forceFlush.
+     *
+     * @param row The row to which to send the text
+     * @param text The text to send
+     */
+    @Override
+    public void writeLine (final int row, final String text)
+    {
+        synchronized (this.displayedRows)
+        {
+            final int length = text.length ();
+            char [] displayed = this.displayedRows[row];
+            if (displayed == null || displayed.length != length)
+            {
+                displayed = text.toCharArray ();
+                this.displayedRows[row] = displayed;
+                this.writeText (row, 0, text);
+                return;
+            }
+
+            int start = -1;
+            int end = 0;
+            for (int i = 0; i < length; i++)
+            {
+                final char c = text.charAt (i);
+                if (displayed[i] == c)
+                    continue;
+                displayed[i] = c;
+                if (start < 0)
+                    start = i;
+                else if (i - end > this.writeOverhead)
+                {
+                    this.writeText (row, start, text.substring (start, end));
+                    start = i;
+                }
+                end = i + 1;
+            }
+            if (start >= 0)
+                this.writeText (row, start, text.substring (start, end));
+        }
+    }
+
+
+    /**
+     * Send a part of a row to the display.
+     *
+     * @param row The row to which to send the text
+     * @param offset The position of the first character in the row
+     * @param text The text to send
+     */
+    protected abstract void writeText (int row, int offset, String text);
+
+
     /** {@inheritDoc} */
     @Override
     public void notify (final String message)
@@ -186,11 +372,10 @@ public abstract class AbstractDisplay implements Display
         for (int row = 0; row < this.noOfLines; row++)
         {
             // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            if (!this.isRowDirty[row] || this.message[row] == null)
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
+            this.isRowDirty[row] = false;
+            this.writeLine (row, new String (this.message[row]));
         }
     }
 
@@ -199,7 +384,31 @@ public abstract class AbstractDisplay implements Display
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        synchronized (this.displayedRows)
+        {
+            for (int row = 0; row < this.noOfLines; row++)
+            {
+                this.isRowDirty[row] = true;
+                this.displayedRows[row] = null;
+            }
+        }
+    }
+
+
+    /**
+     * Get the text of a row which was done. It is created with the length of the row if the row was
+     * not done yet.
+     *
+     * @param row The row
+     * @return The characters of the row
+     */
+    private char [] getMessage (final int row)
+    {
+        if (this.message[row] == null)
+        {
+            this.message[row] = new char [this.rows[row].length];
+            this.isRowDirty[row] = true;
+        }
+        return this.message[row];
     }
 }
\ No newline at end of file
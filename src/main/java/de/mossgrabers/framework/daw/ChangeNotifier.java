@@ -0,0 +1,37 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Manages the change observers of a data object. Since it is an observer itself, it can be
+ * registered at contained objects (e.g. the volume parameter of a track) to forward their changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ChangeNotifier implements ChangeObservable, ChangeObserver
+{
+    private final List<ChangeObserver> observers = new ArrayList<> ();
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addChangeObserver (final ChangeObserver observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void changed ()
+    {
+        for (int i = 0; i < this.observers.size (); i++)
+            this.observers.get (i).changed ();
+    }
+}
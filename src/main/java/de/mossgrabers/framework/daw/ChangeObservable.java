@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Implemented by data objects which publish the changes of their values. Objects which do not
+ * implement this interface need to be polled to detect changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public interface ChangeObservable
+{
+    /**
+     * Add an observer which is notified if one of the values of the object has changed.
+     *
+     * @param observer The observer
+     */
+    void addChangeObserver (ChangeObserver observer);
+}
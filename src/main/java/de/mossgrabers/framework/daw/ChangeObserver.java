@@ -0,0 +1,19 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Callback interface for observing changes of a data object, e.g. a track.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface ChangeObserver
+{
+    /**
+     * Called if one of the values of the observed object has changed.
+     */
+    void changed ();
+}
@@ -0,0 +1,552 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * A midi output which collects all messages of a frame and sends them to the wrapped output when
+ * the frame is flushed. Messages to the same target are coalesced, only the last value is sent. The
+ * target of a short message is its status and the first data byte. For pitchbend and channel
+ * aftertouch only the status is used since both data bytes contain the value, this can be changed
+ * with target masks. System exclusive messages are not coalesced unless a target length is set.
+ * The messages are sent in the order of their first occurrence unless priorities are set for the
+ * message types.
+ *
+ * Optionally, a byte budget limits the number of bytes which are sent per frame. If the budget is
+ * exhausted the remaining messages stay queued for the next frame, where they can still be replaced
+ * by newer values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class BufferedMidiOutput implements IMidiOutput
+{
+    private static final int   STATUS_SYSEX   = 0xF0;
+    private static final int   INITIAL_SIZE   = 256;
+
+    private final IMidiOutput  output;
+    private final int []       keyIndex       = new int [(STATUS_SYSEX - 0x80) * 128];
+    private final int []       priorities     = new int [16];
+    private final int []       targetMasks    = new int [16];
+
+    private int []             status         = new int [INITIAL_SIZE];
+    private int []             data1          = new int [INITIAL_SIZE];
+    private int []             data2          = new int [INITIAL_SIZE];
+    private int []             keys           = new int [INITIAL_SIZE];
+    private byte [] []         sysex          = new byte [INITIAL_SIZE] [];
+    private int []             order          = new int [INITIAL_SIZE];
+    private int                size;
+    private boolean            hasPriorities;
+    private int                byteBudget     = Integer.MAX_VALUE;
+    private int                sysexTargetLength;
+
+    private int                frameMessages;
+    private int                frameBytes;
+    private int                frameCoalesced;
+    private int                frameDeferred;
+    private long               totalMessages;
+    private long               totalBytes;
+    private long               totalCoalesced;
+    private long               totalDeferred;
+
+
+    /**
+     * Constructor.
+     *
+     * @param output The output to which the messages are sent when flushed
+     */
+    public BufferedMidiOutput (final IMidiOutput output)
+    {
+        this.output = output;
+
+        Arrays.fill (this.targetMasks, 0x7F);
+        this.targetMasks[0xD] = 0;
+        this.targetMasks[0xE] = 0;
+    }
+
+
+    /**
+     * Set the priority of a message type. Messages with a lower priority value are sent first.
+     * Messages with the same priority are sent in the order of their first occurrence. All message
+     * types have a priority of 0 by default.
+     *
+     * @param statusType The type of the message, e.g. 0x90 for notes, 0xB0 for CCs and 0xF0 for
+     *            system exclusive messages
+     * @param priority The priority
+     */
+    public synchronized void setPriority (final int statusType, final int priority)
+    {
+        this.priorities[statusType >> 4 & 0x0F] = priority;
+
+        this.hasPriorities = false;
+        for (final int p: this.priorities)
+        {
+            if (p != 0)
+                this.hasPriorities = true;
+        }
+    }
+
+
+    /**
+     * Set the maximum number of bytes to send with one flush. At least one message is sent per
+     * flush, even if it is larger than the budget.
+     *
+     * @param byteBudget The number of bytes
+     */
+    public synchronized void setByteBudget (final int byteBudget)
+    {
+        this.byteBudget = byteBudget;
+    }
+
+
+    /**
+     * Set the bits of the first data byte which identify the target of a message type. E.g. the
+     * Mackie Control uses the upper 4 bits of channel aftertouch to address the VU meter of a
+     * channel. By default all bits are used for notes and CCs and none for pitchbend and channel
+     * aftertouch.
+     *
+     * @param statusType The type of the message, e.g. 0xD0 for channel aftertouch
+     * @param mask The bit mask to apply to the first data byte
+     */
+    public synchronized void setTargetMask (final int statusType, final int mask)
+    {
+        this.targetMasks[statusType >> 4 & 0x0F] = mask;
+    }
+
+
+    /**
+     * Set the number of bytes at the start of a system exclusive message which identify its
+     * target, e.g. the header and the position of a display line. A queued message with the same
+     * target and the same length is removed and the new one is appended to the queue, since other
+     * queued messages might overlap with it (e.g. text which was written at a different position).
+     * Messages with a different length are never coalesced, since a shorter one (e.g. a part of a
+     * display line) does not cover all bytes of a longer one. By default (0) system exclusive
+     * messages are not coalesced.
+     *
+     * @param sysexTargetLength The number of bytes
+     */
+    public synchronized void setSysexTargetLength (final int sysexTargetLength)
+    {
+        this.sysexTargetLength = sysexTargetLength;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCC (final int cc, final int value)
+    {
+        this.queue (0xB0, cc, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCCEx (final int channel, final int cc, final int value)
+    {
+        this.queue (0xB0 + channel, cc, value);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNote (final int note, final int velocity)
+    {
+        this.queue (0x90, note, velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNoteEx (final int channel, final int note, final int velocity)
+    {
+        this.queue (0x90 + channel, note, velocity);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int data1, final int data2)
+    {
+        this.queue (0xD0, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
+    {
+        this.queue (0xD0 + channel, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int data1, final int data2)
+    {
+        this.queue (0xE0, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int channel, final int data1, final int data2)
+    {
+        this.queue (0xE0 + channel, data1, data2);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        // The data might be reused by the caller, e.g. by the sysex builder
+        this.queueSysex (data.clone ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        this.queueSysex (StringUtils.fromHexStr (data));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendIdentityRequest ()
+    {
+        this.sendSysex ("F0 7E 7F 06 01 F7");
+    }
+
+
+    /**
+     * Send the collected messages of the frame to the wrapped output and start a new frame. If the
+     * byte budget is exhausted the remaining messages are kept for the next frame.
+     */
+    public synchronized void flush ()
+    {
+        this.send (this.byteBudget);
+    }
+
+
+    /**
+     * Send all collected messages to the wrapped output, ignoring the byte budget.
+     */
+    public synchronized void flushAll ()
+    {
+        this.send (Integer.MAX_VALUE);
+    }
+
+
+    /**
+     * Get the number of messages which were sent with the last flush.
+     *
+     * @return The number of messages
+     */
+    public int getFrameMessages ()
+    {
+        return this.frameMessages;
+    }
+
+
+    /**
+     * Get the number of bytes which were sent with the last flush.
+     *
+     * @return The number of bytes
+     */
+    public int getFrameBytes ()
+    {
+        return this.frameBytes;
+    }
+
+
+    /**
+     * Get the number of messages which were deferred to the next frame by the last flush, because
+     * the byte budget was exhausted.
+     *
+     * @return The number of messages
+     */
+    public int getFrameDeferred ()
+    {
+        return this.frameDeferred;
+    }
+
+
+    /**
+     * Get the number of messages which are currently queued for the next flush.
+     *
+     * @return The number of messages
+     */
+    public synchronized int getPendingMessages ()
+    {
+        int count = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.status[i] != 0)
+                count++;
+        }
+        return count;
+    }
+
+
+    /**
+     * Get the number of messages which were sent since the creation of the output.
+     *
+     * @return The number of messages
+     */
+    public long getTotalMessages ()
+    {
+        return this.totalMessages;
+    }
+
+
+    /**
+     * Get the number of bytes which were sent since the creation of the output.
+     *
+     * @return The number of bytes
+     */
+    public long getTotalBytes ()
+    {
+        return this.totalBytes;
+    }
+
+
+    /**
+     * Get the number of messages which were dropped since the creation of the output, because they
+     * were replaced by a later message to the same target before they were sent.
+     *
+     * @return The number of messages
+     */
+    public long getTotalCoalesced ()
+    {
+        return this.totalCoalesced;
+    }
+
+
+    /**
+     * Get the number of times a message was deferred to the next frame since the creation of the
+     * output.
+     *
+     * @return The number of deferrals
+     */
+    public long getTotalDeferred ()
+    {
+        return this.totalDeferred;
+    }
+
+
+    private synchronized void queue (final int s, final int d1, final int d2)
+    {
+        final int key = (s - 0x80) * 128 + (d1 & this.targetMasks[s >> 4 & 0x0F]);
+        final int pos = this.keyIndex[key];
+        if (pos > 0)
+        {
+            this.data1[pos - 1] = d1;
+            this.data2[pos - 1] = d2;
+            this.frameCoalesced++;
+            return;
+        }
+
+        final int index = this.add (s, d1, d2);
+        this.keys[index] = key;
+        this.keyIndex[key] = index + 1;
+    }
+
+
+    private synchronized void queueSysex (final byte [] data)
+    {
+        if (this.sysexTargetLength > 0 && data.length >= this.sysexTargetLength)
+        {
+            for (int i = 0; i < this.size; i++)
+            {
+                if (this.status[i] == STATUS_SYSEX && this.sysex[i].length == data.length && isSameTarget (this.sysex[i], data, this.sysexTargetLength))
+                {
+                    this.status[i] = 0;
+                    this.sysex[i] = null;
+                    this.frameCoalesced++;
+                    break;
+                }
+            }
+        }
+
+        final int index = this.add (STATUS_SYSEX, 0, 0);
+        this.keys[index] = -1;
+        this.sysex[index] = data;
+    }
+
+
+    private int add (final int s, final int d1, final int d2)
+    {
+        if (this.size == this.status.length)
+        {
+            final int length = this.size * 2;
+            this.status = Arrays.copyOf (this.status, length);
+            this.data1 = Arrays.copyOf (this.data1, length);
+            this.data2 = Arrays.copyOf (this.data2, length);
+            this.keys = Arrays.copyOf (this.keys, length);
+            this.sysex = Arrays.copyOf (this.sysex, length);
+            this.order = Arrays.copyOf (this.order, length);
+        }
+
+        final int index = this.size;
+        this.status[index] = s;
+        this.data1[index] = d1;
+        this.data2[index] = d2;
+        this.size++;
+        return index;
+    }
+
+
+    private void send (final int budget)
+    {
+        this.frameMessages = 0;
+        this.frameBytes = 0;
+        this.frameDeferred = 0;
+
+        if (this.hasPriorities)
+            this.sortByPriority ();
+
+        boolean isExhausted = false;
+        for (int i = 0; i < this.size; i++)
+        {
+            final int index = this.hasPriorities ? this.order[i] : i;
+            final int s = this.status[index];
+            // Removed by a newer message for the same target
+            if (s == 0)
+                continue;
+            final int length = s == STATUS_SYSEX ? this.sysex[index].length : getShortMessageLength (s);
+
+            // Lower priorities must not overtake higher ones, therefore stop on the first message
+            // which does not fit, but always send at least one message
+            if (isExhausted || this.frameMessages > 0 && this.frameBytes + length > budget)
+            {
+                isExhausted = true;
+                this.frameDeferred++;
+                continue;
+            }
+
+            if (s == STATUS_SYSEX)
+            {
+                this.output.sendSysex (this.sysex[index]);
+                this.sysex[index] = null;
+            }
+            else
+            {
+                this.sendShortMessage (s, this.data1[index], this.data2[index]);
+                this.keyIndex[this.keys[index]] = 0;
+            }
+            this.status[index] = 0;
+            this.frameMessages++;
+            this.frameBytes += length;
+        }
+
+        if (this.frameDeferred > 0)
+            this.compact ();
+        else
+            this.size = 0;
+
+        this.totalMessages += this.frameMessages;
+        this.totalBytes += this.frameBytes;
+        this.totalCoalesced += this.frameCoalesced;
+        this.totalDeferred += this.frameDeferred;
+        this.frameCoalesced = 0;
+    }
+
+
+    /**
+     * Move the deferred messages to the start of the queue, keeping their order.
+     */
+    private void compact ()
+    {
+        int pos = 0;
+        for (int i = 0; i < this.size; i++)
+        {
+            if (this.status[i] == 0)
+                continue;
+            this.status[pos] = this.status[i];
+            this.data1[pos] = this.data1[i];
+            this.data2[pos] = this.data2[i];
+            this.keys[pos] = this.keys[i];
+            this.sysex[pos] = this.sysex[i];
+            if (this.keys[pos] >= 0)
+                this.keyIndex[this.keys[pos]] = pos + 1;
+            pos++;
+        }
+        for (int i = pos; i < this.size; i++)
+            this.sysex[i] = null;
+        this.size = pos;
+    }
+
+
+    private void sendShortMessage (final int s, final int d1, final int d2)
+    {
+        final int channel = s & 0x0F;
+        switch (s & 0xF0)
+        {
+            case 0x90:
+                this.output.sendNoteEx (channel, d1, d2);
+                break;
+            case 0xB0:
+                this.output.sendCCEx (channel, d1, d2);
+                break;
+            case 0xD0:
+                this.output.sendChannelAftertouch (channel, d1, d2);
+                break;
+            case 0xE0:
+                this.output.sendPitchbend (channel, d1, d2);
+                break;
+            default:
+                // Not supported
+                break;
+        }
+    }
+
+
+    /**
+     * Get the number of bytes of a short message on the wire.
+     *
+     * @param s The status byte
+     * @return Program change and channel aftertouch have only one data byte, all others two
+     */
+    private static int getShortMessageLength (final int s)
+    {
+        final int type = s & 0xF0;
+        return type == 0xC0 || type == 0xD0 ? 2 : 3;
+    }
+
+
+    /**
+     * Stable insertion sort of the message indices by the priority of their type.
+     */
+    private void sortByPriority ()
+    {
+        for (int i = 0; i < this.size; i++)
+        {
+            final int priority = this.priorities[this.status[i] >> 4 & 0x0F];
+            int j = i;
+            while (j > 0 && this.priorities[this.status[this.order[j - 1]] >> 4 & 0x0F] > priority)
+            {
+                this.order[j] = this.order[j - 1];
+                j--;
+            }
+            this.order[j] = i;
+        }
+    }
+
+
+    private static boolean isSameTarget (final byte [] data1, final byte [] data2, final int length)
+    {
+        for (int i = 0; i < length; i++)
+        {
+            if (data1[i] != data2[i])
+                return false;
+        }
+        return true;
+    }
+}
@@ -88,7 +88,8 @@ public interface IMidiOutput
 
 
     /**
-     * Send a system exclusive message to the output.
+     * Send a system exclusive message to the output. The array might be reused by the caller after
+     * the call, implementations which keep the message need to copy it.
      *
      * @param data The data to send
      */
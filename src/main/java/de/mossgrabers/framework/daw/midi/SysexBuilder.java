@@ -0,0 +1,147 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Builds system exclusive messages without allocating memory for each message. The message is
+ * written into a buffer which is copied into a pooled array of the exact message length when sent.
+ * Therefore, the array handed to the output is reused for the next message of the same length.
+ * Since displays and pads send messages of the same length over and over again, no garbage is
+ * created. A builder must only be used by one thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexBuilder
+{
+    private static final int SYSEX_END = 0xF7;
+
+    private byte []          buffer;
+    private int              position;
+    private byte [] []       pool      = new byte [0] [];
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The initial capacity of the buffer, grows if necessary
+     */
+    public SysexBuilder (final int capacity)
+    {
+        this.buffer = new byte [capacity];
+    }
+
+
+    /**
+     * Start a new message.
+     *
+     * @param header The header of the message including the leading F0
+     * @return The builder for chaining
+     */
+    public SysexBuilder start (final byte [] header)
+    {
+        this.position = 0;
+        return this.add (header);
+    }
+
+
+    /**
+     * Add a byte to the message.
+     *
+     * @param value The value to add, must be in the range of 0-127
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int value)
+    {
+        this.ensureCapacity (1);
+        this.buffer[this.position++] = (byte) value;
+        return this;
+    }
+
+
+    /**
+     * Add several bytes to the message.
+     *
+     * @param data The bytes to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final byte [] data)
+    {
+        this.ensureCapacity (data.length);
+        System.arraycopy (data, 0, this.buffer, this.position, data.length);
+        this.position += data.length;
+        return this;
+    }
+
+
+    /**
+     * Add several values to the message.
+     *
+     * @param data The values to add, each must be in the range of 0-127
+     * @return The builder for chaining
+     */
+    public SysexBuilder add (final int [] data)
+    {
+        this.ensureCapacity (data.length);
+        for (final int d: data)
+            this.buffer[this.position++] = (byte) d;
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text to the message. Each character is added as one byte.
+     *
+     * @param text The text to add
+     * @return The builder for chaining
+     */
+    public SysexBuilder addText (final String text)
+    {
+        final int length = text.length ();
+        this.ensureCapacity (length);
+        for (int i = 0; i < length; i++)
+            this.buffer[this.position++] = (byte) text.charAt (i);
+        return this;
+    }
+
+
+    /**
+     * Close the message and send it to the output. The sent array is reused for the next message
+     * with the same length.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        this.add (SYSEX_END);
+        output.sendSysex (this.getMessage ());
+    }
+
+
+    private byte [] getMessage ()
+    {
+        final int length = this.position;
+        if (length >= this.pool.length)
+            this.pool = Arrays.copyOf (this.pool, length + 1);
+        byte [] message = this.pool[length];
+        if (message == null)
+        {
+            message = new byte [length];
+            this.pool[length] = message;
+        }
+        System.arraycopy (this.buffer, 0, message, 0, length);
+        return message;
+    }
+
+
+    private void ensureCapacity (final int size)
+    {
+        final int required = this.position + size;
+        if (required > this.buffer.length)
+            this.buffer = Arrays.copyOf (this.buffer, Math.max (required, this.buffer.length * 2));
+    }
+}
@@ -0,0 +1,122 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import java.util.Arrays;
+
+
+/**
+ * Decodes received system exclusive messages, which are formatted in hex, into a reusable byte
+ * buffer and sends them to the handler which is registered for the start of the message (e.g. the
+ * manufacturer ID and a command). The handlers are looked up in a table indexed by the first byte
+ * after F0 (the manufacturer or universal ID). If several prefixes match, the longest one wins.
+ * Messages without a matching handler are ignored.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexDispatcher implements MidiSysExCallback
+{
+    private final byte [] [] []      prefixes = new byte [128] [] [];
+    private final SysexHandler [] [] handlers = new SysexHandler [128] [];
+    private final SysexMessage       message  = new SysexMessage ();
+    private byte []                  buffer   = new byte [64];
+
+
+    /**
+     * Register a handler for all messages which start with the given bytes.
+     *
+     * @param prefix The start of the messages including F0 and at least the first byte of the
+     *            manufacturer ID, e.g. F0 7E for universal non-realtime messages
+     * @param handler The handler
+     */
+    public void register (final byte [] prefix, final SysexHandler handler)
+    {
+        if (prefix.length < 2 || (prefix[0] & 0xFF) != 0xF0)
+            throw new IllegalArgumentException ("The prefix must start with F0 and the manufacturer ID.");
+
+        final int id = prefix[1] & 0x7F;
+        byte [] [] idPrefixes = this.prefixes[id];
+        SysexHandler [] idHandlers = this.handlers[id];
+        if (idPrefixes == null)
+        {
+            idPrefixes = new byte [0] [];
+            idHandlers = new SysexHandler [0];
+        }
+
+        // Keep the longest prefixes first
+        int pos = 0;
+        while (pos < idPrefixes.length && idPrefixes[pos].length >= prefix.length)
+            pos++;
+
+        final int length = idPrefixes.length + 1;
+        final byte [] [] newPrefixes = Arrays.copyOf (idPrefixes, length);
+        final SysexHandler [] newHandlers = Arrays.copyOf (idHandlers, length);
+        System.arraycopy (idPrefixes, pos, newPrefixes, pos + 1, idPrefixes.length - pos);
+        System.arraycopy (idHandlers, pos, newHandlers, pos + 1, idHandlers.length - pos);
+        newPrefixes[pos] = prefix.clone ();
+        newHandlers[pos] = handler;
+        this.prefixes[id] = newPrefixes;
+        this.handlers[id] = newHandlers;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void handleMidi (final String data)
+    {
+        final int length = this.decode (data);
+        if (length < 2)
+            return;
+
+        final int id = this.buffer[1] & 0x7F;
+        final byte [] [] idPrefixes = this.prefixes[id];
+        if (idPrefixes == null)
+            return;
+
+        this.message.set (this.buffer, length);
+        for (int i = 0; i < idPrefixes.length; i++)
+        {
+            if (this.message.startsWith (idPrefixes[i]))
+            {
+                this.handlers[id][i].handleSysex (this.message);
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Decode the hex formatted message into the buffer. Whitespace is ignored.
+     *
+     * @param data The hex formatted message
+     * @return The number of decoded bytes, -1 if the data contains an invalid character
+     */
+    private int decode (final String data)
+    {
+        final int maxLength = data.length () / 2;
+        if (maxLength > this.buffer.length)
+            this.buffer = new byte [maxLength];
+
+        int length = 0;
+        int high = -1;
+        for (int i = 0; i < data.length (); i++)
+        {
+            final char c = data.charAt (i);
+            if (Character.isWhitespace (c))
+                continue;
+            final int nibble = Character.digit (c, 16);
+            if (nibble < 0)
+                return -1;
+            if (high < 0)
+                high = nibble;
+            else
+            {
+                this.buffer[length++] = (byte) (high << 4 | nibble);
+                high = -1;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,21 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Handler for decoded MIDI System exclusive messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface SysexHandler
+{
+    /**
+     * Handle a received sysex message.
+     *
+     * @param message The message, only valid during the call
+     */
+    void handleSysex (SysexMessage message);
+}
@@ -0,0 +1,98 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import java.util.Arrays;
+
+
+/**
+ * Read-only view on a received system exclusive message. The underlying buffer is reused for the
+ * next message, therefore the data must be read or copied during the call of the handler.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysexMessage
+{
+    private byte [] data;
+    private int     length;
+
+
+    /**
+     * Set the data of the message.
+     *
+     * @param data The buffer which contains the message
+     * @param length The number of bytes of the message in the buffer
+     */
+    void set (final byte [] data, final int length)
+    {
+        this.data = data;
+        this.length = length;
+    }
+
+
+    /**
+     * Get the number of bytes of the message including the start and end bytes.
+     *
+     * @return The number of bytes
+     */
+    public int getLength ()
+    {
+        return this.length;
+    }
+
+
+    /**
+     * Get a byte of the message.
+     *
+     * @param index The index of the byte, 0 is the start byte F0
+     * @return The value of the byte in the range of 0-255
+     */
+    public int get (final int index)
+    {
+        if (index >= this.length)
+            throw new ArrayIndexOutOfBoundsException (index);
+        return this.data[index] & 0xFF;
+    }
+
+
+    /**
+     * Check if the message starts with the given bytes.
+     *
+     * @param prefix The bytes
+     * @return True if the message starts with the bytes
+     */
+    public boolean startsWith (final byte [] prefix)
+    {
+        if (prefix.length > this.length)
+            return false;
+        for (int i = 0; i < prefix.length; i++)
+        {
+            if (this.data[i] != prefix[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Copy the message.
+     *
+     * @return The bytes of the message
+     */
+    public byte [] toByteArray ()
+    {
+        return Arrays.copyOf (this.data, this.length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return StringUtils.toHexStr (this.toByteArray ());
+    }
+}
@@ -17,13 +17,14 @@ import java.util.Map;
  */
 public class ModeManager
 {
-    private final Map<Integer, Mode>       modes               = new HashMap<> ();
-    private final List<ModeChangeListener> modeChangeListeners = new ArrayList<> ();
+    private final Map<Integer, Mode>       modes                 = new HashMap<> ();
+    private final List<ModeChangeListener> modeChangeListeners   = new ArrayList<> ();
+    private final List<Runnable>           beforeChangeListeners = new ArrayList<> ();
 
-    private Integer                        activeModeId        = null;
-    private Integer                        previousModeId      = null;
-    private Integer                        temporaryModeId     = null;
-    private Integer                        defaultModeId       = null;
+    private Integer                        activeModeId          = null;
+    private Integer                        previousModeId        = null;
+    private Integer                        temporaryModeId       = null;
+    private Integer                        defaultModeId         = null;
 
 
     /**
@@ -64,6 +65,8 @@ public class ModeManager
         if (this.isActiveMode (id))
             return;
 
+        this.notifyBeforeChange ();
+
         // Deactivate the current temporary or active mode
         if (this.temporaryModeId != null)
         {
@@ -147,6 +150,9 @@ public class ModeManager
      */
     public void restoreMode ()
     {
+        if (this.temporaryModeId != null || this.previousModeId != null)
+            this.notifyBeforeChange ();
+
         // Deactivate the current temporary or active mode
         Integer oldModeId = null;
         if (this.temporaryModeId != null)
@@ -203,6 +209,28 @@ public class ModeManager
     }
 
 
+    /**
+     * Register a listener which gets notified before the active mode changes, e.g. to send pending
+     * values to the mode which is still active.
+     *
+     * @param listener The listener to register
+     */
+    public void addBeforeModeChangeListener (final Runnable listener)
+    {
+        this.beforeChangeListeners.add (listener);
+    }
+
+
+    /**
+     * Notify all listeners which need to know about an upcoming mode change.
+     */
+    private void notifyBeforeChange ()
+    {
+        for (final Runnable listener: this.beforeChangeListeners)
+            listener.run ();
+    }
+
+
     /**
      * Notify all mode change observers.
      *
@@ -6,7 +6,9 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.IStringSetting;
 import de.mossgrabers.framework.controller.IValueChanger;
 
 
@@ -23,12 +25,22 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (41);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (42);
+    /** ID for the maximum bundle size setting. */
+    public static final Integer   MAX_BUNDLE_SIZE           = Integer.valueOf (43);
+    /** ID for the time tags setting. */
+    public static final Integer   TIME_TAGS                 = Integer.valueOf (44);
+    /** ID for the send policies setting. */
+    public static final Integer   SEND_POLICIES             = Integer.valueOf (45);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    // Bundles to localhost do not need to fit into the MTU of the network
+    private int                   maxBundleSize             = 8192;
+    private boolean               useTimeTags               = false;
+    private String                sendPolicies              = "";
 
 
     /**
@@ -67,6 +79,47 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the bundle settings.
+     *
+     * @param settingsUI The settings
+     * @param category The category to display the settings in
+     */
+    protected void activateBundleSettings (final ISettingsUI settingsUI, final String category)
+    {
+        // The default fits into the MTU of Ethernet and Wi-Fi
+        final IIntegerSetting maxBundleSizeSetting = settingsUI.getRangeSetting ("Max. bundle size", category, 512, 65507, 1, "Bytes", 1400);
+        maxBundleSizeSetting.addValueObserver (value -> {
+            this.maxBundleSize = value.intValue ();
+            this.notifyObservers (MAX_BUNDLE_SIZE);
+        });
+
+        final IEnumSetting timeTagsSetting = settingsUI.getEnumSetting ("Time tags", category, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]);
+        timeTagsSetting.addValueObserver (value -> {
+            this.useTimeTags = "On".equals (value);
+            this.notifyObservers (TIME_TAGS);
+        });
+    }
+
+
+    /**
+     * Activate the send policies setting.
+     *
+     * @param settingsUI The settings
+     * @param category The category to display the setting in
+     * @param defaultPolicies The initial policies, see OpenSoundControlSendPolicy.parse for the
+     *            format
+     */
+    protected void activateSendPoliciesSetting (final ISettingsUI settingsUI, final String category, final String defaultPolicies)
+    {
+        final IStringSetting sendPoliciesSetting = settingsUI.getStringSetting ("Send policies", category, -1, defaultPolicies);
+        sendPoliciesSetting.addValueObserver (value -> {
+            this.sendPolicies = value;
+            this.notifyObservers (SEND_POLICIES);
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -89,4 +142,28 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxBundleSize ()
+    {
+        return this.maxBundleSize;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean useTimeTags ()
+    {
+        return this.useTimeTags;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getSendPolicies ()
+    {
+        return this.sendPolicies;
+    }
 }
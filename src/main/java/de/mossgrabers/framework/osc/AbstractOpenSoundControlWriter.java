@@ -4,16 +4,16 @@
 
 package de.mossgrabers.framework.osc;
 
+import de.mossgrabers.framework.daw.ChangeObservable;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -28,9 +28,24 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlServer        oscServer;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
-
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    protected final OpenSoundControlAddresses      addresses        = new OpenSoundControlAddresses ();
+
+    private final OpenSoundControlClients          clients;
+    private final OpenSoundControlThrottle         throttle         = new OpenSoundControlThrottle ();
+    private final IOpenSoundControlQueue           queue            = (addressIndex, address, value) -> this.addMessage (addressIndex, address, value, true);
+    private final List<IOpenSoundControlMessage>   messages         = new ArrayList<> ();
+    // The address index of each collected message (-1 if not indexed), if its value has changed
+    // and its encoded size
+    private int []                                 messageAddresses = new int [0];
+    private boolean []                             messageChanges   = new boolean [0];
+    private int []                                 messageSizes     = new int [0];
+    // The last sent values, indexed by the address index
+    private Object []                              oldValues        = new Object [0];
+    // Entities (e.g. a track) whose data objects publish their changes and the ones which changed
+    // since their last flush
+    private boolean []                             observedEntities = new boolean [0];
+    private boolean []                             dirtyEntities    = new boolean [0];
+    private int                                    numEntities;
 
 
     /**
@@ -47,25 +62,157 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         this.model = model;
         this.oscServer = oscServer;
         this.configuration = configuration;
+
+        this.clients = new OpenSoundControlClients (host, configuration);
+        if (oscServer != null)
+            this.clients.add (new OpenSoundControlClient (configuration.getSendHost (), configuration.getSendPort (), oscServer, new String [0]));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addClient (final String clientHost, final int port, final String [] subscriptions)
+    {
+        this.clients.add (new OpenSoundControlClient (clientHost, port, null, subscriptions));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void removeClient (final String clientHost, final int port)
+    {
+        if (!this.clients.remove (clientHost, port))
+            this.host.error ("Unknown OSC client: " + clientHost + ":" + port);
     }
 
 
     /**
-     * Send all collected messages.
+     * Get the clients, e.g. to query the sending statistics.
+     *
+     * @return The clients
      */
-    public void flush ()
+    public OpenSoundControlClients getClients ()
+    {
+        return this.clients;
+    }
+
+
+    /**
+     * Get the throttle which applies the send policies, e.g. to query the number of suppressed
+     * messages.
+     *
+     * @return The throttle
+     */
+    public OpenSoundControlThrottle getThrottle ()
+    {
+        return this.throttle;
+    }
+
+
+    /**
+     * Call at the start of a flush.
+     *
+     * @param dump True if all values need to be sent to all clients
+     * @return True if all values need to be sent since at least one client waits for them, e.g.
+     *         because it has just connected
+     */
+    protected boolean startFlush (final boolean dump)
     {
         try
         {
-            this.logMessages (this.messages);
-            this.oscServer.sendBundle (this.messages);
+            this.throttle.setPolicies (this.configuration.getSendPolicies ());
         }
-        catch (final IOException ex)
+        catch (final IllegalArgumentException ex)
         {
-            this.model.getHost ().error ("Could not send UDP message.", ex);
+            this.host.error (ex.getMessage ());
         }
+        return this.clients.startFlush (dump) || dump;
+    }
 
-        this.messages.clear ();
+
+    /**
+     * Create an entity for change tracking, e.g. for a track. The data objects of an entity are
+     * registered with observe.
+     *
+     * @return The index of the entity
+     */
+    protected int createEntity ()
+    {
+        if (this.numEntities == this.dirtyEntities.length)
+        {
+            final int length = Math.max (16, 2 * this.numEntities);
+            this.observedEntities = Arrays.copyOf (this.observedEntities, length);
+            this.dirtyEntities = Arrays.copyOf (this.dirtyEntities, length);
+        }
+        this.dirtyEntities[this.numEntities] = true;
+        return this.numEntities++;
+    }
+
+
+    /**
+     * Register a data object of an entity. If the object publishes its changes, the entity only
+     * needs to be flushed after a change, otherwise it is flushed (polled) every time. Since
+     * observers cannot be removed, register an object only once for an entity.
+     *
+     * @param entity The index of the entity
+     * @param item The data object
+     */
+    protected void observe (final int entity, final Object item)
+    {
+        if (!(item instanceof ChangeObservable))
+            return;
+        ((ChangeObservable) item).addChangeObserver ( () -> this.dirtyEntities[entity] = true);
+        this.observedEntities[entity] = true;
+        this.dirtyEntities[entity] = true;
+    }
+
+
+    /**
+     * Check if an entity needs to be flushed and clear its change flag.
+     *
+     * @param entity The index of the entity
+     * @param dump True if all data needs to be flushed
+     * @return True if the entity is dumped, not observed or has changed since the last flush
+     */
+    protected boolean needsFlush (final int entity, final boolean dump)
+    {
+        final boolean isDirty = this.dirtyEntities[entity];
+        this.dirtyEntities[entity] = false;
+        return dump || isDirty || !this.observedEntities[entity];
+    }
+
+
+    /**
+     * Flush all entities on the next flush, e.g. if a setting has changed which influences the sent
+     * values.
+     */
+    protected void markAllDirty ()
+    {
+        Arrays.fill (this.dirtyEntities, true);
+    }
+
+
+    /**
+     * Send all collected messages.
+     */
+    public void flush ()
+    {
+        this.throttle.releasePending (this.queue);
+
+        synchronized (this.messages)
+        {
+            try
+            {
+                this.logMessages (this.messages);
+                this.clients.send (this.messages, this.messageAddresses, this.messageChanges, this.messageSizes);
+            }
+            catch (final IOException ex)
+            {
+                this.model.getHost ().error ("Could not send UDP message.", ex);
+            }
+
+            this.messages.clear ();
+        }
     }
 
 
@@ -90,12 +237,22 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
+        // Only update the cache if the address is also sent by flush
+        final int index = this.addresses.indexOf (address);
+        if (index >= 0)
+            this.updateCache (index, parameters);
+        this.addMessage (index, address, parameters, true);
         this.flush ();
     }
 
 
     protected void sendOSCColor (final String address, final double red, final double green, final double blue, final boolean dump)
+    {
+        this.sendOSCColor (this.addresses.add (address), red, green, blue, dump);
+    }
+
+
+    protected void sendOSCColor (final int address, final double red, final double green, final double blue, final boolean dump)
     {
         final int r = (int) Math.round (red * 255.0);
         final int g = (int) Math.round (green * 255.0);
@@ -106,63 +263,133 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void sendOSC (final String address, final boolean value, final boolean dump)
     {
-        this.sendOSC (address, Boolean.valueOf (value), dump);
+        this.sendOSC (this.addresses.add (address), Boolean.valueOf (value), dump);
     }
 
 
     protected void sendOSC (final String address, final double value, final boolean dump)
+    {
+        this.sendOSC (this.addresses.add (address), value, dump);
+    }
+
+
+    protected void sendOSC (final String address, final int value, final boolean dump)
+    {
+        this.sendOSC (this.addresses.add (address), Integer.valueOf (value), dump);
+    }
+
+
+    protected void sendOSC (final String address, final String value, final boolean dump)
+    {
+        this.sendOSC (this.addresses.add (address), value, dump);
+    }
+
+
+    protected void sendOSC (final String address, final Object value, final boolean dump)
+    {
+        this.sendOSC (this.addresses.add (address), value, dump);
+    }
+
+
+    protected void sendOSC (final int address, final boolean value, final boolean dump)
+    {
+        this.sendOSC (address, Boolean.valueOf (value), dump);
+    }
+
+
+    protected void sendOSC (final int address, final double value, final boolean dump)
     {
         // Using float here since Double seems to be always received as 0 in Max.
         this.sendOSC (address, Float.valueOf ((float) value), dump);
     }
 
 
-    protected void sendOSC (final String address, final int value, final boolean dump)
+    protected void sendOSC (final int address, final int value, final boolean dump)
     {
         this.sendOSC (address, Integer.valueOf (value), dump);
     }
 
 
-    protected void sendOSC (final String address, final String value, final boolean dump)
+    protected void sendOSC (final int address, final String value, final boolean dump)
     {
         this.sendOSC (address, (Object) StringUtils.fixASCII (value), dump);
     }
 
 
-    protected void sendOSC (final String address, final Object value, final boolean dump)
+    protected void sendOSC (final int address, final Object value, final boolean dump)
     {
-        this.sendOSC (address, address, value, value, dump);
+        this.sendOSC (address, this.addresses.get (address), value, value, dump);
     }
 
 
     /**
      * Tests if the vlaue(s) of given message is identical to that of the cache. If this is not the
      * case or if dump is true, the message is added to the messages list.The message will be sent
-     * when flush gets called.
+     * when flush gets called. A changed value might be held back by the send policy of its address
+     * and is sent with a later flush.
      *
-     * @param cacheAddress The address under which to cache the message
+     * @param cacheIndex The index of the address under which to cache the message
      * @param address The address of the OSC message
      * @param testValue The value(s) to use for testing
      * @param value The value(s) of the OSC message
      * @param dump True to dump (ignore cache)
      */
-    @SuppressWarnings("unchecked")
-    protected void sendOSC (final String cacheAddress, final String address, final Object testValue, final Object value, final boolean dump)
+    protected void sendOSC (final int cacheIndex, final String address, final Object testValue, final Object value, final boolean dump)
     {
-        if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
+        final boolean hasChanged = this.updateCache (cacheIndex, testValue);
+        if (dump)
+            this.throttle.sent (cacheIndex, testValue);
+        else if (!hasChanged || this.throttle.isSuppressed (cacheIndex, address, testValue, value))
             return;
-        this.oldValues.put (cacheAddress, testValue);
+        this.addMessage (cacheIndex, address, value, hasChanged);
+    }
+
+
+    /**
+     * Stores the value in the cache.
+     *
+     * @param cacheIndex The index of the address under which to cache the value
+     * @param value The value
+     * @return True if the value is different from the cached one
+     */
+    protected boolean updateCache (final int cacheIndex, final Object value)
+    {
+        if (cacheIndex >= this.oldValues.length)
+            this.oldValues = Arrays.copyOf (this.oldValues, Math.max (cacheIndex + 1, this.addresses.size ()));
+        if (compareValues (this.oldValues[cacheIndex], value))
+            return false;
+        this.oldValues[cacheIndex] = value;
+        return true;
+    }
+
+
+    @SuppressWarnings("unchecked")
+    private void addMessage (final int addressIndex, final String address, final Object value, final boolean hasChanged)
+    {
         synchronized (this.messages)
         {
+            final int size = this.messages.size ();
+            if (size == this.messageAddresses.length)
+            {
+                final int length = Math.max (64, 2 * size);
+                this.messageAddresses = Arrays.copyOf (this.messageAddresses, length);
+                this.messageChanges = Arrays.copyOf (this.messageChanges, length);
+                this.messageSizes = Arrays.copyOf (this.messageSizes, length);
+            }
+
             final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            final IOpenSoundControlMessage message = this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted));
+            this.messages.add (message);
+            this.messageAddresses[size] = addressIndex;
+            this.messageChanges[size] = hasChanged;
+            this.messageSizes[size] = OpenSoundControlEncoder.getSize (message);
         }
     }
 
 
     protected boolean isConnected ()
     {
-        return this.oscServer != null;
+        return !this.clients.isEmpty ();
     }
 
 
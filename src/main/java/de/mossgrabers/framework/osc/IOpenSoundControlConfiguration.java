@@ -33,4 +33,44 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the host on which the extension sends OSC messages.
+     *
+     * @return The send host
+     */
+    String getSendHost ();
+
+
+    /**
+     * Get the port of the host on which the extension sends OSC messages.
+     *
+     * @return The port
+     */
+    int getSendPort ();
+
+
+    /**
+     * Get the maximum size of a bundle. Larger bundles are split.
+     *
+     * @return The size in bytes
+     */
+    int getMaxBundleSize ();
+
+
+    /**
+     * Get if bundles carry the time of sending as their time tag instead of "immediately".
+     *
+     * @return True to send time tags
+     */
+    boolean useTimeTags ();
+
+
+    /**
+     * Get the policies which limit how often the values of high frequency addresses are sent.
+     *
+     * @return The policies, see OpenSoundControlSendPolicy.parse for the format
+     */
+    String getSendPolicies ();
 }
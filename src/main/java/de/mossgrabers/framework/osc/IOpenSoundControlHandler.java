@@ -0,0 +1,22 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Interface for a handler of an OSC route.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOpenSoundControlHandler
+{
+    /**
+     * Handle a message which matched the route of the handler.
+     *
+     * @param match The match, gives access to the message, the numbers of the index segments and
+     *            the segments after the route
+     */
+    void handle (OpenSoundControlMatch match);
+}
@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Interface for queueing OSC messages which are sent with the next flush.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOpenSoundControlQueue
+{
+    /**
+     * Queue a message.
+     *
+     * @param addressIndex The index of the address
+     * @param address The address
+     * @param value The value of the message
+     */
+    void queue (int addressIndex, String address, Object value);
+}
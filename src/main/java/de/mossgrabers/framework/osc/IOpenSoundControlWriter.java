@@ -34,4 +34,25 @@ public interface IOpenSoundControlWriter
      * @param address The OSC address
      */
     void fastSendOSC (String address);
+
+
+    /**
+     * Add a client which receives the messages as UDP datagrams. The client gets all values with
+     * the next flush. A client with the same host and port is replaced.
+     *
+     * @param clientHost The host of the client
+     * @param port The port of the client
+     * @param subscriptions The address patterns the client is interested in, e.g.
+     *            "/track/*&#47;volume", all addresses if empty
+     */
+    void addClient (String clientHost, int port, String [] subscriptions);
+
+
+    /**
+     * Remove a client.
+     *
+     * @param clientHost The host of the client
+     * @param port The port of the client
+     */
+    void removeClient (String clientHost, int port);
 }
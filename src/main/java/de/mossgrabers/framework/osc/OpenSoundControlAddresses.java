@@ -0,0 +1,118 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Interns OSC addresses and assigns a fixed index to each of them. Writers build the addresses of
+ * their values once, e.g. all properties of all tracks of a bank, and afterwards only use the
+ * indices to look up the address and the last sent value. Adding an address which is already
+ * present returns the existing index, therefore rebuilding the addresses when the size of a bank
+ * changes does not grow the table.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddresses
+{
+    private final Map<String, Integer> indices   = new HashMap<> ();
+    private volatile String []         addresses = new String [256];
+    private int                        size;
+
+
+    /**
+     * Add an address.
+     *
+     * @param address The address
+     * @return The index of the address
+     */
+    public synchronized int add (final String address)
+    {
+        final Integer index = this.indices.get (address);
+        if (index != null)
+            return index.intValue ();
+
+        if (this.size == this.addresses.length)
+            this.addresses = Arrays.copyOf (this.addresses, this.size * 2);
+        this.addresses[this.size] = address;
+        this.indices.put (address, Integer.valueOf (this.size));
+        return this.size++;
+    }
+
+
+    /**
+     * Add the addresses of all properties of an entity, e.g. a track.
+     *
+     * @param prefix The address of the entity, e.g. "/track/1/"
+     * @param properties The names of the properties which are appended to the prefix
+     * @return The indices of the addresses in the order of the properties
+     */
+    public int [] add (final String prefix, final String [] properties)
+    {
+        final int [] result = new int [properties.length];
+        for (int i = 0; i < properties.length; i++)
+            result[i] = this.add (prefix + properties[i]);
+        return result;
+    }
+
+
+    /**
+     * Add the addresses of all properties of a numbered list of entities, e.g. all tracks of a
+     * bank. The address of each entity is the prefix followed by the number of the entity (starting
+     * with 1) and a slash.
+     *
+     * @param prefix The address of the list, e.g. "/track/"
+     * @param count The number of entities
+     * @param properties The names of the properties which are appended to the address of each
+     *            entity
+     * @return The indices of the addresses, first index is the entity, second is the property
+     */
+    public int [] [] add (final String prefix, final int count, final String [] properties)
+    {
+        final int [] [] result = new int [count] [];
+        for (int i = 0; i < count; i++)
+            result[i] = this.add (prefix + (i + 1) + "/", properties);
+        return result;
+    }
+
+
+    /**
+     * Get the index of an address, if present.
+     *
+     * @param address The address
+     * @return The index or -1 if the address was not added
+     */
+    public synchronized int indexOf (final String address)
+    {
+        final Integer index = this.indices.get (address);
+        return index == null ? -1 : index.intValue ();
+    }
+
+
+    /**
+     * Get the address with the given index.
+     *
+     * @param index The index
+     * @return The address
+     */
+    public String get (final int index)
+    {
+        return this.addresses[index];
+    }
+
+
+    /**
+     * Get the number of addresses.
+     *
+     * @return The number of addresses
+     */
+    public synchronized int size ()
+    {
+        return this.size;
+    }
+}
@@ -0,0 +1,141 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * A client which receives the OSC messages of a writer. The client receives only the messages
+ * whose address matches one of its subscriptions (see OpenSoundControlPattern). A client without
+ * subscriptions receives all messages.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlClient
+{
+    private static final byte                UNKNOWN  = 0;
+    private static final byte                MATCH    = 1;
+    private static final byte                NO_MATCH = 2;
+
+    private final String                     host;
+    private final int                        port;
+    private final IOpenSoundControlServer    server;
+    private final OpenSoundControlPattern [] subscriptions;
+    // The subscription test results, indexed by the address index
+    private byte []                          matches  = new byte [0];
+    private boolean                          needsDump;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host of the client
+     * @param port The port of the client
+     * @param server The server to send the messages to, if null the messages are sent as UDP
+     *            datagrams to host and port
+     * @param subscriptions The address patterns to subscribe to, all addresses if empty
+     */
+    public OpenSoundControlClient (final String host, final int port, final IOpenSoundControlServer server, final String [] subscriptions)
+    {
+        this.host = host;
+        this.port = port;
+        this.server = server;
+        this.subscriptions = new OpenSoundControlPattern [subscriptions.length];
+        for (int i = 0; i < subscriptions.length; i++)
+            this.subscriptions[i] = new OpenSoundControlPattern (subscriptions[i]);
+        this.needsDump = true;
+    }
+
+
+    /**
+     * Get the host of the client.
+     *
+     * @return The host
+     */
+    public String getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Get the port of the client.
+     *
+     * @return The port
+     */
+    public int getPort ()
+    {
+        return this.port;
+    }
+
+
+    /**
+     * Get the server to send the messages to.
+     *
+     * @return The server or null if the messages are sent as UDP datagrams
+     */
+    public IOpenSoundControlServer getServer ()
+    {
+        return this.server;
+    }
+
+
+    /**
+     * Check if the client is subscribed to an address.
+     *
+     * @param addressIndex The index of the address to cache the result, -1 if the address is not
+     *            indexed
+     * @param address The address
+     * @return True if subscribed
+     */
+    public boolean isSubscribed (final int addressIndex, final String address)
+    {
+        if (this.subscriptions.length == 0)
+            return true;
+        if (addressIndex < 0)
+            return this.matches (address);
+
+        if (addressIndex >= this.matches.length)
+            this.matches = Arrays.copyOf (this.matches, Math.max (addressIndex + 1, 2 * this.matches.length));
+        if (this.matches[addressIndex] == UNKNOWN)
+            this.matches[addressIndex] = this.matches (address) ? MATCH : NO_MATCH;
+        return this.matches[addressIndex] == MATCH;
+    }
+
+
+    /**
+     * Check if the client waits for all values.
+     *
+     * @return True if the client needs all values with the next flush
+     */
+    public boolean needsDump ()
+    {
+        return this.needsDump;
+    }
+
+
+    /**
+     * Set if the client waits for all values.
+     *
+     * @param needsDump True if the client needs all values with the next flush
+     */
+    public void setNeedsDump (final boolean needsDump)
+    {
+        this.needsDump = needsDump;
+    }
+
+
+    private boolean matches (final String address)
+    {
+        final String [] segments = OpenSoundControlPattern.split (address);
+        for (final OpenSoundControlPattern subscription: this.subscriptions)
+        {
+            if (subscription.matches (segments))
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,257 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The clients of an OSC writer. The writer collects the messages of a flush once, the clients only
+ * differ in which of these messages they receive. A client receives a message if it is subscribed
+ * to its address and if the value has changed or the client waits for a dump, e.g. because it has
+ * just connected. The clients which are added at runtime are sent UDP datagrams, all of them share
+ * the encoding of a message. The messages are packed into bundles up to the configured size, so
+ * that e.g. a bundle to a tablet fits into one network packet.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlClients
+{
+    // The maximum payload of a UDP datagram
+    private static final int                     MAX_DATAGRAM_SIZE = 65507;
+
+    private final IHost                          host;
+    private final IOpenSoundControlConfiguration configuration;
+    private final List<OpenSoundControlClient>   clients           = new ArrayList<> ();
+    private final List<IOpenSoundControlMessage> selectedMessages  = new ArrayList<> ();
+    private final List<byte []>                  datagramElements  = new ArrayList<> ();
+    private byte [] []                           encodedMessages   = new byte [0] [];
+    private boolean                              isDumping;
+    private long                                 timeTag;
+    private long                                 sentBundles;
+    private long                                 sentBytes;
+    private long                                 oversizeMessages;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param configuration The OSC configuration
+     */
+    public OpenSoundControlClients (final IHost host, final IOpenSoundControlConfiguration configuration)
+    {
+        this.host = host;
+        this.configuration = configuration;
+    }
+
+
+    /**
+     * Add a client. A client with the same host and port is replaced.
+     *
+     * @param client The client
+     */
+    public synchronized void add (final OpenSoundControlClient client)
+    {
+        this.remove (client.getHost (), client.getPort ());
+        this.clients.add (client);
+    }
+
+
+    /**
+     * Remove a client.
+     *
+     * @param clientHost The host of the client
+     * @param port The port of the client
+     * @return True if the client was found
+     */
+    public synchronized boolean remove (final String clientHost, final int port)
+    {
+        return this.clients.removeIf (client -> client.getPort () == port && client.getHost ().equals (clientHost));
+    }
+
+
+    /**
+     * Check if there are no clients.
+     *
+     * @return True if there are no clients
+     */
+    public synchronized boolean isEmpty ()
+    {
+        return this.clients.isEmpty ();
+    }
+
+
+    /**
+     * Get the number of clients.
+     *
+     * @return The number of clients
+     */
+    public synchronized int size ()
+    {
+        return this.clients.size ();
+    }
+
+
+    /**
+     * Starts a flush of all values of the writer.
+     *
+     * @param dump True if all clients need all values
+     * @return True if the flush needs to send all values since at least one client waits for them
+     */
+    public synchronized boolean startFlush (final boolean dump)
+    {
+        this.isDumping = false;
+        for (final OpenSoundControlClient client: this.clients)
+        {
+            if (dump)
+                client.setNeedsDump (true);
+            this.isDumping |= client.needsDump ();
+        }
+        return this.isDumping;
+    }
+
+
+    /**
+     * Send the collected messages of a flush to all clients. The messages are packed into bundles
+     * which do not exceed the maximum bundle size of the configuration. A message which is larger
+     * than that is sent in its own bundle.
+     *
+     * @param messages The messages
+     * @param addressIndices The indices of the addresses of the messages, -1 if not indexed
+     * @param changed True for each message whose value has changed since the last flush
+     * @param sizes The encoded size of each message
+     * @throws IOException Could not send the messages to one of the clients, the other clients
+     *             were still served
+     */
+    public synchronized void send (final List<IOpenSoundControlMessage> messages, final int [] addressIndices, final boolean [] changed, final int [] sizes) throws IOException
+    {
+        final int size = messages.size ();
+        if (this.encodedMessages.length < size)
+            this.encodedMessages = new byte [Math.max (size, 2 * this.encodedMessages.length)] [];
+
+        final int maxBundleSize = Math.min (this.configuration.getMaxBundleSize (), MAX_DATAGRAM_SIZE);
+        this.timeTag = this.configuration.useTimeTags () ? OpenSoundControlEncoder.createTimeTag (System.currentTimeMillis ()) : OpenSoundControlEncoder.IMMEDIATELY;
+
+        IOException error = null;
+        for (final OpenSoundControlClient client: this.clients)
+        {
+            final boolean needsDump = client.needsDump ();
+            try
+            {
+                int bundleSize = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+                for (int i = 0; i < size; i++)
+                {
+                    final IOpenSoundControlMessage message = messages.get (i);
+                    if (!changed[i] && !needsDump || !client.isSubscribed (addressIndices[i], message.getAddress ()))
+                        continue;
+
+                    final int elementSize = OpenSoundControlEncoder.ELEMENT_PREFIX_SIZE + sizes[i];
+                    if (OpenSoundControlEncoder.BUNDLE_HEADER_SIZE + elementSize > maxBundleSize)
+                        this.oversizeMessages++;
+                    if (bundleSize > OpenSoundControlEncoder.BUNDLE_HEADER_SIZE && bundleSize + elementSize > maxBundleSize)
+                    {
+                        this.sendBundle (client, bundleSize);
+                        bundleSize = OpenSoundControlEncoder.BUNDLE_HEADER_SIZE;
+                    }
+
+                    if (client.getServer () != null)
+                        this.selectedMessages.add (message);
+                    else
+                    {
+                        if (this.encodedMessages[i] == null)
+                            this.encodedMessages[i] = OpenSoundControlEncoder.encodeMessage (message);
+                        this.datagramElements.add (this.encodedMessages[i]);
+                    }
+                    bundleSize += elementSize;
+                }
+                if (bundleSize > OpenSoundControlEncoder.BUNDLE_HEADER_SIZE)
+                    this.sendBundle (client, bundleSize);
+            }
+            catch (final IOException ex)
+            {
+                error = ex;
+            }
+            finally
+            {
+                this.selectedMessages.clear ();
+                this.datagramElements.clear ();
+            }
+
+            if (this.isDumping)
+                client.setNeedsDump (false);
+        }
+
+        this.isDumping = false;
+        Arrays.fill (this.encodedMessages, 0, size, null);
+        if (error != null)
+            throw error;
+    }
+
+
+    /**
+     * Get the number of sent bundles.
+     *
+     * @return The number of bundles
+     */
+    public synchronized long getSentBundles ()
+    {
+        return this.sentBundles;
+    }
+
+
+    /**
+     * Get the number of sent bytes. The size of the bundles sent to an OSC server is calculated
+     * from the messages.
+     *
+     * @return The number of bytes
+     */
+    public synchronized long getSentBytes ()
+    {
+        return this.sentBytes;
+    }
+
+
+    /**
+     * Get the number of messages which did not fit into a bundle of the maximum size and were sent
+     * in a larger bundle.
+     *
+     * @return The number of messages
+     */
+    public synchronized long getOversizeMessages ()
+    {
+        return this.oversizeMessages;
+    }
+
+
+    /**
+     * Send the selected messages of a client as one bundle.
+     *
+     * @param client The client to send to
+     * @param bundleSize The size of the bundle
+     * @throws IOException Could not send the bundle
+     */
+    private void sendBundle (final OpenSoundControlClient client, final int bundleSize) throws IOException
+    {
+        if (client.getServer () != null)
+        {
+            client.getServer ().sendBundle (this.selectedMessages);
+            this.selectedMessages.clear ();
+        }
+        else
+        {
+            this.host.sendDatagramPacket (client.getHost (), client.getPort (), OpenSoundControlEncoder.encodeBundle (this.datagramElements, this.timeTag));
+            this.datagramElements.clear ();
+        }
+
+        this.sentBundles++;
+        this.sentBytes += bundleSize;
+    }
+}
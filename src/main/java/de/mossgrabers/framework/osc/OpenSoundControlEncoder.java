@@ -0,0 +1,233 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/**
+ * Encodes OSC messages and bundles into their binary format for sending them as UDP datagrams.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlEncoder
+{
+    /** The size of the header of a bundle ("#bundle" and the time tag). */
+    public static final int      BUNDLE_HEADER_SIZE   = 16;
+    /** The size of the length prefix of a bundle element. */
+    public static final int      ELEMENT_PREFIX_SIZE  = 4;
+
+    /** The time tag which means "immediately". */
+    public static final long     IMMEDIATELY          = 1;
+
+    private static final byte [] BUNDLE_TAG           = "#bundle".getBytes (StandardCharsets.US_ASCII);
+    // Seconds from 1900 (start of the OSC time) to 1970 (start of the Java time)
+    private static final long    SECONDS_1900_TO_1970 = 2208988800L;
+
+
+    /**
+     * Constructor, private due to helper class.
+     */
+    private OpenSoundControlEncoder ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Encode a message. Integer values are sent as int32, floating point values as float32,
+     * booleans as True/False and null as Nil. All other values are sent as strings.
+     *
+     * @param message The message
+     * @return The encoded message
+     */
+    public static byte [] encodeMessage (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        final StringBuilder types = new StringBuilder (values.length + 1).append (',');
+        for (final Object value: values)
+            types.append (getType (value));
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream (getSize (message));
+        writeString (out, message.getAddress ());
+        writeString (out, types.toString ());
+        for (final Object value: values)
+            writeValue (out, value);
+        return out.toByteArray ();
+    }
+
+
+    /**
+     * Calculate the size of an encoded message without encoding it.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    public static int getSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // The type tags start with a comma
+        int size = getStringSize (message.getAddress ()) + getPaddedSize (values.length + 1);
+        for (final Object value: values)
+        {
+            switch (getType (value))
+            {
+                case 'i':
+                case 'f':
+                    size += 4;
+                    break;
+                case 'h':
+                    size += 8;
+                    break;
+                case 's':
+                    size += getStringSize (value.toString ());
+                    break;
+                default:
+                    // Nil, True and False have no data
+                    break;
+            }
+        }
+        return size;
+    }
+
+
+    /**
+     * Create a time tag from a Java time.
+     *
+     * @param millis The milliseconds since 1970
+     * @return The time tag, the seconds since 1900 in the upper 32 bits and the fraction of a
+     *         second in the lower 32 bits
+     */
+    public static long createTimeTag (final long millis)
+    {
+        final long seconds = millis / 1000 + SECONDS_1900_TO_1970;
+        final long fraction = (millis % 1000 << 32) / 1000;
+        return seconds << 32 | fraction;
+    }
+
+
+    /**
+     * Encode a bundle of already encoded messages.
+     *
+     * @param elements The encoded messages
+     * @param timeTag The time tag of the bundle, IMMEDIATELY to execute it on arrival
+     * @return The encoded bundle
+     */
+    public static byte [] encodeBundle (final List<byte []> elements, final long timeTag)
+    {
+        int size = BUNDLE_HEADER_SIZE;
+        for (final byte [] element: elements)
+            size += ELEMENT_PREFIX_SIZE + element.length;
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream (size);
+        out.write (BUNDLE_TAG, 0, BUNDLE_TAG.length);
+        out.write (0);
+        writeLong (out, timeTag);
+        for (final byte [] element: elements)
+        {
+            writeInt (out, element.length);
+            out.write (element, 0, element.length);
+        }
+        return out.toByteArray ();
+    }
+
+
+    private static char getType (final Object value)
+    {
+        if (value == null)
+            return 'N';
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return 'i';
+        if (value instanceof Long)
+            return 'h';
+        if (value instanceof Float || value instanceof Double)
+            return 'f';
+        if (value instanceof Boolean)
+            return ((Boolean) value).booleanValue () ? 'T' : 'F';
+        return 's';
+    }
+
+
+    private static void writeValue (final ByteArrayOutputStream out, final Object value)
+    {
+        switch (getType (value))
+        {
+            case 'i':
+                writeInt (out, ((Number) value).intValue ());
+                break;
+            case 'h':
+                writeLong (out, ((Long) value).longValue ());
+                break;
+            case 'f':
+                writeInt (out, Float.floatToIntBits (((Number) value).floatValue ()));
+                break;
+            case 's':
+                writeString (out, value.toString ());
+                break;
+            default:
+                // Nil, True and False have no data
+                break;
+        }
+    }
+
+
+    private static int getStringSize (final String text)
+    {
+        // The length of the UTF-8 encoding
+        int length = 0;
+        for (int i = 0; i < text.length (); i++)
+        {
+            final char c = text.charAt (i);
+            if (c < 0x80)
+                length++;
+            else if (c < 0x800)
+                length += 2;
+            else if (Character.isSurrogate (c))
+                length += 2;
+            else
+                length += 3;
+        }
+        return getPaddedSize (length);
+    }
+
+
+    /**
+     * Add the terminating zero and pad to a multiple of 4.
+     *
+     * @param length The length of a string
+     * @return The padded length
+     */
+    private static int getPaddedSize (final int length)
+    {
+        return length + 4 & ~3;
+    }
+
+
+    private static void writeString (final ByteArrayOutputStream out, final String text)
+    {
+        final byte [] data = text.getBytes (StandardCharsets.UTF_8);
+        out.write (data, 0, data.length);
+        for (int i = data.length; i < getPaddedSize (data.length); i++)
+            out.write (0);
+    }
+
+
+    private static void writeInt (final ByteArrayOutputStream out, final int value)
+    {
+        out.write (value >>> 24);
+        out.write (value >>> 16);
+        out.write (value >>> 8);
+        out.write (value);
+    }
+
+
+    private static void writeLong (final ByteArrayOutputStream out, final long value)
+    {
+        writeInt (out, (int) (value >>> 32));
+        writeInt (out, (int) value);
+    }
+}
@@ -0,0 +1,167 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Collections;
+import java.util.LinkedList;
+
+
+/**
+ * The result of routing an OSC message. The instance is reused by the router for each message,
+ * therefore do not keep it after the handler has returned.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlMatch
+{
+    /** The maximum number of index segments in a route. */
+    public static final int          MAX_INDICES = 8;
+
+    private final int []             indices     = new int [MAX_INDICES];
+    private IOpenSoundControlMessage message;
+    private String                   address;
+    private Object                   value;
+    private int                      numIndices;
+    private int                      remainderStart;
+
+
+    /**
+     * Get the matched message.
+     *
+     * @return The message
+     */
+    public IOpenSoundControlMessage getMessage ()
+    {
+        return this.message;
+    }
+
+
+    /**
+     * Get the address of the matched message.
+     *
+     * @return The address
+     */
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /**
+     * Get the first value of the message.
+     *
+     * @return The value or null if the message has no values
+     */
+    public Object getValue ()
+    {
+        return this.value;
+    }
+
+
+    /**
+     * Get the first value of the message as an integer.
+     *
+     * @return The value or -1 if it is not a number
+     */
+    public int getIntValue ()
+    {
+        return this.value instanceof Number ? ((Number) this.value).intValue () : -1;
+    }
+
+
+    /**
+     * Get the first value of the message as a double.
+     *
+     * @return The value or -1 if it is not a number
+     */
+    public double getDoubleValue ()
+    {
+        return this.value instanceof Number ? ((Number) this.value).doubleValue () : -1;
+    }
+
+
+    /**
+     * Get the number of an index segment of the address, e.g. 3 for "/track/3/volume".
+     *
+     * @param position The position of the index segment in the route, starting with 0
+     * @return The number
+     */
+    public int getIndex (final int position)
+    {
+        if (position >= this.numIndices)
+            throw new IndexOutOfBoundsException ("The route has only " + this.numIndices + " index segments.");
+        return this.indices[position];
+    }
+
+
+    /**
+     * Get the segments of the address which follow the matched route. Used by prefix routes which
+     * parse their sub-commands themselves.
+     *
+     * @return The segments, empty if the whole address was matched
+     */
+    public LinkedList<String> getRemainingParts ()
+    {
+        final LinkedList<String> parts = new LinkedList<> ();
+        if (this.remainderStart < this.address.length ())
+            Collections.addAll (parts, this.address.substring (this.remainderStart).split ("/"));
+        return parts;
+    }
+
+
+    /**
+     * Start matching a message.
+     *
+     * @param message The message
+     */
+    void reset (final IOpenSoundControlMessage message)
+    {
+        this.message = message;
+        this.address = message.getAddress ();
+        final Object [] values = message.getValues ();
+        this.value = values == null || values.length == 0 ? null : values[0];
+        this.numIndices = 0;
+        this.remainderStart = this.address.length ();
+    }
+
+
+    /**
+     * Add the number of a matched index segment.
+     *
+     * @param index The number
+     * @return False if the maximum number of index segments is reached
+     */
+    boolean addIndex (final int index)
+    {
+        if (this.numIndices == MAX_INDICES)
+            return false;
+        this.indices[this.numIndices++] = index;
+        return true;
+    }
+
+
+    /**
+     * Get the number of matched index segments.
+     *
+     * @return The number of index segments
+     */
+    int getNumIndices ()
+    {
+        return this.numIndices;
+    }
+
+
+    /**
+     * Set the end of the match.
+     *
+     * @param numIndices The number of index segments which belong to the matched route
+     * @param remainderStart The position in the address at which the remaining segments start
+     */
+    void setEnd (final int numIndices, final int remainderStart)
+    {
+        this.numIndices = numIndices;
+        this.remainderStart = remainderStart;
+    }
+}
@@ -0,0 +1,83 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * A pattern for OSC addresses. The segments of the pattern must match the first segments of the
+ * address, a "*" segment matches any segment, e.g. "/track/*&#47;volume" matches "/track/1/volume"
+ * and "/track/1/volume/indicate" but not "/track/1/volumeStr".
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlPattern
+{
+    private static final String WILDCARD = "*";
+
+    private final String        pattern;
+    private final String []     segments;
+
+
+    /**
+     * Constructor.
+     *
+     * @param pattern The pattern
+     */
+    public OpenSoundControlPattern (final String pattern)
+    {
+        this.pattern = pattern;
+        this.segments = split (pattern);
+    }
+
+
+    /**
+     * Test if an address matches the pattern.
+     *
+     * @param address The address
+     * @return True if it matches
+     */
+    public boolean matches (final String address)
+    {
+        return this.matches (split (address));
+    }
+
+
+    /**
+     * Test if an address matches the pattern.
+     *
+     * @param addressSegments The segments of the address
+     * @return True if it matches
+     */
+    public boolean matches (final String [] addressSegments)
+    {
+        if (this.segments.length > addressSegments.length)
+            return false;
+        for (int i = 0; i < this.segments.length; i++)
+        {
+            if (!WILDCARD.equals (this.segments[i]) && !this.segments[i].equals (addressSegments[i]))
+                return false;
+        }
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        return this.pattern;
+    }
+
+
+    /**
+     * Split an address into its segments.
+     *
+     * @param address The address
+     * @return The segments
+     */
+    public static String [] split (final String address)
+    {
+        return address.startsWith ("/") ? address.substring (1).split ("/") : address.split ("/");
+    }
+}
@@ -0,0 +1,136 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * A node of the routing tree, represents one segment of an OSC address.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+class OpenSoundControlRouteNode
+{
+    private String []                    names    = new String [0];
+    private OpenSoundControlRouteNode [] children = new OpenSoundControlRouteNode [0];
+    private OpenSoundControlRouteNode    indexChild;
+    private IOpenSoundControlHandler     handler;
+    private IOpenSoundControlHandler     prefixHandler;
+
+
+    /**
+     * Get the child for a segment name, creates it if not present.
+     *
+     * @param name The name of the segment
+     * @return The child
+     */
+    OpenSoundControlRouteNode addChild (final String name)
+    {
+        for (int i = 0; i < this.names.length; i++)
+        {
+            if (this.names[i].equals (name))
+                return this.children[i];
+        }
+
+        final int length = this.names.length;
+        this.names = Arrays.copyOf (this.names, length + 1);
+        this.children = Arrays.copyOf (this.children, length + 1);
+        this.names[length] = name;
+        this.children[length] = new OpenSoundControlRouteNode ();
+        return this.children[length];
+    }
+
+
+    /**
+     * Get the child for numeric segments, creates it if not present.
+     *
+     * @return The child
+     */
+    OpenSoundControlRouteNode addIndexChild ()
+    {
+        if (this.indexChild == null)
+            this.indexChild = new OpenSoundControlRouteNode ();
+        return this.indexChild;
+    }
+
+
+    /**
+     * Get the child for a segment of an address without creating a sub-string.
+     *
+     * @param address The address
+     * @param start The start of the segment in the address
+     * @param end The end of the segment (exclusive)
+     * @return The child or null if there is none for the segment
+     */
+    OpenSoundControlRouteNode getChild (final String address, final int start, final int end)
+    {
+        final int length = end - start;
+        for (int i = 0; i < this.names.length; i++)
+        {
+            final String name = this.names[i];
+            if (name.length () == length && address.regionMatches (start, name, 0, length))
+                return this.children[i];
+        }
+        return null;
+    }
+
+
+    /**
+     * Get the child for numeric segments.
+     *
+     * @return The child or null if there is none
+     */
+    OpenSoundControlRouteNode getIndexChild ()
+    {
+        return this.indexChild;
+    }
+
+
+    /**
+     * Get the handler for addresses which end at this node.
+     *
+     * @return The handler or null
+     */
+    IOpenSoundControlHandler getHandler ()
+    {
+        return this.handler;
+    }
+
+
+    /**
+     * Set the handler for addresses which end at this node.
+     *
+     * @param handler The handler
+     */
+    void setHandler (final IOpenSoundControlHandler handler)
+    {
+        this.handler = handler;
+    }
+
+
+    /**
+     * Get the handler for addresses which pass this node and are not matched by a more specific
+     * route.
+     *
+     * @return The handler or null
+     */
+    IOpenSoundControlHandler getPrefixHandler ()
+    {
+        return this.prefixHandler;
+    }
+
+
+    /**
+     * Set the handler for addresses which pass this node and are not matched by a more specific
+     * route.
+     *
+     * @param prefixHandler The handler
+     */
+    void setPrefixHandler (final IOpenSoundControlHandler prefixHandler)
+    {
+        this.prefixHandler = prefixHandler;
+    }
+}
@@ -0,0 +1,163 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Routes OSC messages to their handlers with a tree of the address segments, which is built once
+ * when the handlers are registered. A segment "#" in a route matches a numeric segment of an
+ * address, e.g. "/track/#/volume" matches "/track/3/volume". The numbers are parsed while walking
+ * the address and can be retrieved with OpenSoundControlMatch.getIndex. Literal segments take
+ * precedence over numeric ones.
+ *
+ * A handler registered with add is only called if the whole address matches its route. A handler
+ * registered with addPrefix is called if no more specific route matches and parses the remaining
+ * segments itself.
+ *
+ * Routing does not create any objects and is not thread-safe, the match is reused for each message.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRouter
+{
+    /** The segment of a route which matches numeric segments. */
+    public static final String              INDEX            = "#";
+
+    private static final int                MAX_INDEX_DIGITS = 9;
+
+    private final OpenSoundControlRouteNode root             = new OpenSoundControlRouteNode ();
+    private final OpenSoundControlMatch     match            = new OpenSoundControlMatch ();
+
+
+    /**
+     * Register a handler for all addresses which match the route.
+     *
+     * @param route The route, e.g. "/track/#/volume"
+     * @param handler The handler
+     */
+    public void add (final String route, final IOpenSoundControlHandler handler)
+    {
+        final OpenSoundControlRouteNode node = this.createNode (route);
+        if (node.getHandler () != null)
+            throw new IllegalArgumentException ("Route is already registered: " + route);
+        node.setHandler (handler);
+    }
+
+
+    /**
+     * Register a handler for all addresses which start with the route and are not matched by a more
+     * specific route.
+     *
+     * @param route The route, e.g. "/track/#"
+     * @param handler The handler
+     */
+    public void addPrefix (final String route, final IOpenSoundControlHandler handler)
+    {
+        final OpenSoundControlRouteNode node = this.createNode (route);
+        if (node.getPrefixHandler () != null)
+            throw new IllegalArgumentException ("Prefix route is already registered: " + route);
+        node.setPrefixHandler (handler);
+    }
+
+
+    /**
+     * Route a message to the handler of the matching route.
+     *
+     * @param message The message
+     * @return False if no route matches the address of the message
+     */
+    public boolean route (final IOpenSoundControlMessage message)
+    {
+        this.match.reset (message);
+        final String address = this.match.getAddress ();
+        final int length = address.length ();
+        if (length == 0 || address.charAt (0) != '/')
+            return false;
+
+        OpenSoundControlRouteNode node = this.root;
+        IOpenSoundControlHandler prefixHandler = null;
+        int prefixIndices = 0;
+        int prefixEnd = length;
+
+        int start = 1;
+        while (start < length)
+        {
+            int end = address.indexOf ('/', start);
+            if (end < 0)
+                end = length;
+
+            OpenSoundControlRouteNode child = node.getChild (address, start, end);
+            if (child == null)
+            {
+                child = node.getIndexChild ();
+                if (child == null)
+                    break;
+                final int index = parseIndex (address, start, end);
+                if (index < 0 || !this.match.addIndex (index))
+                    break;
+            }
+
+            node = child;
+            start = end + 1;
+
+            if (node.getPrefixHandler () != null)
+            {
+                prefixHandler = node.getPrefixHandler ();
+                prefixIndices = this.match.getNumIndices ();
+                prefixEnd = Math.min (start, length);
+            }
+        }
+
+        if (start >= length && node.getHandler () != null)
+        {
+            this.match.setEnd (this.match.getNumIndices (), length);
+            node.getHandler ().handle (this.match);
+            return true;
+        }
+
+        if (prefixHandler == null)
+            return false;
+        this.match.setEnd (prefixIndices, prefixEnd);
+        prefixHandler.handle (this.match);
+        return true;
+    }
+
+
+    private OpenSoundControlRouteNode createNode (final String route)
+    {
+        if (!route.startsWith ("/"))
+            throw new IllegalArgumentException ("Route must start with a slash: " + route);
+
+        OpenSoundControlRouteNode node = this.root;
+        for (final String segment: route.substring (1).split ("/"))
+            node = INDEX.equals (segment) ? node.addIndexChild () : node.addChild (segment);
+        return node;
+    }
+
+
+    /**
+     * Parse a numeric segment without creating a sub-string.
+     *
+     * @param address The address
+     * @param start The start of the segment
+     * @param end The end of the segment (exclusive)
+     * @return The number or -1 if the segment is not a number
+     */
+    private static int parseIndex (final String address, final int start, final int end)
+    {
+        final int length = end - start;
+        if (length == 0 || length > MAX_INDEX_DIGITS)
+            return -1;
+
+        int index = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            index = index * 10 + c - '0';
+        }
+        return index;
+    }
+}
@@ -0,0 +1,137 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * A policy which limits how often the values of the matching addresses are sent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlSendPolicy
+{
+    private static final String           OPTION_RATE    = "Hz";
+    private static final String           OPTION_RELEASE = "release";
+
+    private final OpenSoundControlPattern pattern;
+    private final int                     minInterval;
+    private final double                  deadband;
+    private final boolean                 sendOnRelease;
+
+
+    /**
+     * Constructor.
+     *
+     * @param pattern The pattern of the addresses to which the policy applies
+     * @param maxRate The maximum number of messages per second for an address, 0 for no limit
+     * @param deadband Changes of numeric values which are smaller than this are not sent until the
+     *            value settles, 0 to send all changes
+     * @param sendOnRelease If true, a value is only sent after it has settled, e.g. a text which
+     *            is updated while a fader is moved
+     */
+    public OpenSoundControlSendPolicy (final String pattern, final double maxRate, final double deadband, final boolean sendOnRelease)
+    {
+        this.pattern = new OpenSoundControlPattern (pattern);
+        this.minInterval = maxRate > 0 ? (int) Math.round (1000.0 / maxRate) : 0;
+        this.deadband = deadband;
+        this.sendOnRelease = sendOnRelease;
+    }
+
+
+    /**
+     * Test if the policy applies to an address.
+     *
+     * @param address The address
+     * @return True if it applies
+     */
+    public boolean matches (final String address)
+    {
+        return this.pattern.matches (address);
+    }
+
+
+    /**
+     * Get the minimum time between two messages of an address.
+     *
+     * @return The time in milliseconds, 0 if not limited
+     */
+    public int getMinInterval ()
+    {
+        return this.minInterval;
+    }
+
+
+    /**
+     * Get the deadband for numeric values.
+     *
+     * @return The deadband, 0 if not used
+     */
+    public double getDeadband ()
+    {
+        return this.deadband;
+    }
+
+
+    /**
+     * Get if values are only sent after they have settled.
+     *
+     * @return True if sent on release
+     */
+    public boolean isSendOnRelease ()
+    {
+        return this.sendOnRelease;
+    }
+
+
+    /**
+     * Parse policies from a text. The policies are separated by semicolons. Each one consists of an
+     * address pattern, an equal sign and comma separated options. An option is a rate (e.g.
+     * "10Hz"), a deadband (e.g. "2") or "release". Example:
+     * "/time/str=10Hz;/track/*&#47;volume=25Hz,2;/track/*&#47;volumeStr=release".
+     *
+     * @param text The text to parse
+     * @return The policies in the order of the text
+     * @throws IllegalArgumentException If the text contains an invalid policy
+     */
+    public static List<OpenSoundControlSendPolicy> parse (final String text)
+    {
+        final List<OpenSoundControlSendPolicy> policies = new ArrayList<> ();
+        for (final String definition: text.split (";"))
+        {
+            if (definition.trim ().isEmpty ())
+                continue;
+
+            final String [] parts = definition.split ("=");
+            if (parts.length != 2 || parts[0].trim ().isEmpty ())
+                throw new IllegalArgumentException ("Invalid send policy: " + definition);
+
+            double maxRate = 0;
+            double deadband = 0;
+            boolean sendOnRelease = false;
+            for (final String o: parts[1].split (","))
+            {
+                final String option = o.trim ();
+                try
+                {
+                    if (OPTION_RELEASE.equalsIgnoreCase (option))
+                        sendOnRelease = true;
+                    else if (option.endsWith (OPTION_RATE))
+                        maxRate = Double.parseDouble (option.substring (0, option.length () - OPTION_RATE.length ()));
+                    else
+                        deadband = Double.parseDouble (option);
+                }
+                catch (final NumberFormatException ex)
+                {
+                    throw new IllegalArgumentException ("Invalid option in send policy: " + definition);
+                }
+            }
+            policies.add (new OpenSoundControlSendPolicy (parts[0].trim (), maxRate, deadband, sendOnRelease));
+        }
+        return policies;
+    }
+}
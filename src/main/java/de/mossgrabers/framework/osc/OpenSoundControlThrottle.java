@@ -0,0 +1,246 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Applies send policies to the values of the addresses. A value which is suppressed by a policy is
+ * kept as pending. The latest pending value of an address is sent with a later flush when the rate
+ * interval is over or, for deadband and release policies, when the value did not change since the
+ * previous flush. Therefore, the last value always reaches the clients.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlThrottle
+{
+    private static final int                 POLICY_UNKNOWN   = 0;
+    private static final int                 POLICY_NONE      = -1;
+
+    private String                           policiesText     = "";
+    private List<OpenSoundControlSendPolicy> policies         = Collections.emptyList ();
+
+    // Indexed by the address index. The policy of an address is stored as index + 1.
+    private int []                           policyOfAddress  = new int [0];
+    private long []                          lastSendTime     = new long [0];
+    private double []                        lastSentValue    = new double [0];
+    private boolean []                       hasSentValue     = new boolean [0];
+    private String []                        pendingAddress   = new String [0];
+    private Object []                        pendingTestValue = new Object [0];
+    private Object []                        pendingValue     = new Object [0];
+    private boolean []                       waitForSettle    = new boolean [0];
+    private boolean []                       hasChanged       = new boolean [0];
+    private boolean []                       isListed         = new boolean [0];
+
+    // The indices of the addresses which have a pending value
+    private int []                           pending          = new int [0];
+    private int                              numPending;
+    private long                             suppressedMessages;
+
+
+    /**
+     * Set the policies. Does nothing if the text did not change.
+     *
+     * @param text The policies, see OpenSoundControlSendPolicy.parse for the format
+     * @throws IllegalArgumentException If the text contains an invalid policy, no policies are
+     *             applied in that case
+     */
+    public void setPolicies (final String text)
+    {
+        if (this.policiesText.equals (text))
+            return;
+        this.policiesText = text;
+
+        // Pending values are not dropped but sent with the next flush
+        Arrays.fill (this.policyOfAddress, POLICY_UNKNOWN);
+        Arrays.fill (this.waitForSettle, false);
+        Arrays.fill (this.lastSendTime, 0);
+        // Stays empty if parsing fails
+        this.policies = Collections.emptyList ();
+        this.policies = OpenSoundControlSendPolicy.parse (text);
+    }
+
+
+    /**
+     * Test if a changed value must not be sent now. If not suppressed, the value is recorded as
+     * sent.
+     *
+     * @param addressIndex The index of the address
+     * @param address The address
+     * @param testValue The value to compare, numeric values are checked against the deadband
+     * @param value The value to send
+     * @return True if the value is suppressed and kept as pending
+     */
+    public boolean isSuppressed (final int addressIndex, final String address, final Object testValue, final Object value)
+    {
+        if (this.policies.isEmpty ())
+            return false;
+        final OpenSoundControlSendPolicy policy = this.getPolicy (addressIndex, address);
+        if (policy == null)
+            return false;
+
+        final long now = System.currentTimeMillis ();
+        final boolean isNumber = testValue instanceof Number;
+        final double number = isNumber ? ((Number) testValue).doubleValue () : 0;
+
+        boolean settle = policy.isSendOnRelease ();
+        if (!settle && isNumber && policy.getDeadband () > 0 && this.hasSentValue[addressIndex])
+            settle = Math.abs (number - this.lastSentValue[addressIndex]) < policy.getDeadband ();
+        if (!settle && now - this.lastSendTime[addressIndex] >= policy.getMinInterval ())
+        {
+            this.recordSent (addressIndex, testValue, now);
+            return false;
+        }
+
+        if (!this.isListed[addressIndex])
+        {
+            this.isListed[addressIndex] = true;
+            this.pending[this.numPending++] = addressIndex;
+        }
+        this.pendingAddress[addressIndex] = address;
+        this.pendingTestValue[addressIndex] = testValue;
+        this.pendingValue[addressIndex] = value;
+        this.waitForSettle[addressIndex] = settle;
+        this.hasChanged[addressIndex] = true;
+        this.suppressedMessages++;
+        return true;
+    }
+
+
+    /**
+     * Record that a value was sent without checking the policies, e.g. in a dump.
+     *
+     * @param addressIndex The index of the address
+     * @param testValue The value
+     */
+    public void sent (final int addressIndex, final Object testValue)
+    {
+        if (this.policies.isEmpty () && this.numPending == 0 || addressIndex >= this.policyOfAddress.length)
+            return;
+        this.recordSent (addressIndex, testValue, System.currentTimeMillis ());
+    }
+
+
+    /**
+     * Queue the pending values which are due. Call once before each flush.
+     *
+     * @param queue Where to queue the values
+     */
+    public void releasePending (final IOpenSoundControlQueue queue)
+    {
+        if (this.numPending == 0)
+            return;
+
+        final long now = System.currentTimeMillis ();
+        int count = 0;
+        for (int i = 0; i < this.numPending; i++)
+        {
+            final int addressIndex = this.pending[i];
+            final String address = this.pendingAddress[addressIndex];
+            if (address == null)
+            {
+                // Was sent in the meantime, e.g. by a dump
+                this.isListed[addressIndex] = false;
+                continue;
+            }
+
+            final boolean isSettled = !this.hasChanged[addressIndex];
+            this.hasChanged[addressIndex] = false;
+
+            final OpenSoundControlSendPolicy policy = this.getPolicy (addressIndex, address);
+            final boolean isIntervalOver = policy == null || now - this.lastSendTime[addressIndex] >= policy.getMinInterval ();
+            if (isIntervalOver && (isSettled || !this.waitForSettle[addressIndex] || policy == null))
+            {
+                final Object value = this.pendingValue[addressIndex];
+                this.recordSent (addressIndex, this.pendingTestValue[addressIndex], now);
+                this.isListed[addressIndex] = false;
+                queue.queue (addressIndex, address, value);
+            }
+            else
+                this.pending[count++] = addressIndex;
+        }
+        this.numPending = count;
+    }
+
+
+    /**
+     * Get the number of values which were not sent immediately.
+     *
+     * @return The number of values
+     */
+    public long getSuppressedMessages ()
+    {
+        return this.suppressedMessages;
+    }
+
+
+    /**
+     * Get the number of values which wait to be sent.
+     *
+     * @return The number of values
+     */
+    public int getPendingMessages ()
+    {
+        return this.numPending;
+    }
+
+
+    private void recordSent (final int addressIndex, final Object testValue, final long now)
+    {
+        this.lastSendTime[addressIndex] = now;
+        final boolean isNumber = testValue instanceof Number;
+        this.hasSentValue[addressIndex] = isNumber;
+        if (isNumber)
+            this.lastSentValue[addressIndex] = ((Number) testValue).doubleValue ();
+        // Stays in the list of pending indices until the next release
+        this.pendingAddress[addressIndex] = null;
+        this.pendingTestValue[addressIndex] = null;
+        this.pendingValue[addressIndex] = null;
+    }
+
+
+    private OpenSoundControlSendPolicy getPolicy (final int addressIndex, final String address)
+    {
+        this.ensureCapacity (addressIndex + 1);
+
+        int policy = this.policyOfAddress[addressIndex];
+        if (policy == POLICY_UNKNOWN)
+        {
+            policy = POLICY_NONE;
+            for (int i = 0; i < this.policies.size (); i++)
+            {
+                if (this.policies.get (i).matches (address))
+                {
+                    policy = i + 1;
+                    break;
+                }
+            }
+            this.policyOfAddress[addressIndex] = policy;
+        }
+        return policy == POLICY_NONE ? null : this.policies.get (policy - 1);
+    }
+
+
+    private void ensureCapacity (final int size)
+    {
+        if (size <= this.policyOfAddress.length)
+            return;
+        final int length = Math.max (size, this.policyOfAddress.length * 2);
+        this.policyOfAddress = Arrays.copyOf (this.policyOfAddress, length);
+        this.lastSendTime = Arrays.copyOf (this.lastSendTime, length);
+        this.lastSentValue = Arrays.copyOf (this.lastSentValue, length);
+        this.hasSentValue = Arrays.copyOf (this.hasSentValue, length);
+        this.pendingAddress = Arrays.copyOf (this.pendingAddress, length);
+        this.pendingTestValue = Arrays.copyOf (this.pendingTestValue, length);
+        this.pendingValue = Arrays.copyOf (this.pendingValue, length);
+        this.waitForSettle = Arrays.copyOf (this.waitForSettle, length);
+        this.hasChanged = Arrays.copyOf (this.hasChanged, length);
+        this.isListed = Arrays.copyOf (this.isListed, length);
+        this.pending = Arrays.copyOf (this.pending, length);
+    }
+}
@@ -0,0 +1,182 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * Executes tasks on one shared background thread. Each task is scheduled for a slot, e.g. a row of
+ * a display. Each slot stores only one task, if a new task arrives for a slot before the previous
+ * one was executed, only the latest one is executed. Therefore, the number of queued tasks is
+ * limited by the number of slots. The thread is started when the first task is scheduled. Errors
+ * of a task are logged and do not stop the thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LatestTaskScheduler
+{
+    private static final long SHUTDOWN_TIMEOUT = 1000;
+
+    private final IHost       host;
+    private final String      name;
+    private final Runnable [] tasks;
+    private final int []      queue;
+    private int               queueStart;
+    private int               queueSize;
+    private int               numberOfSlots;
+    private long              supersededTasks;
+    private Thread            thread;
+    private boolean           isShutdown;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host for logging errors of tasks
+     * @param name The name of the thread
+     * @param capacity The maximum number of slots
+     */
+    public LatestTaskScheduler (final IHost host, final String name, final int capacity)
+    {
+        this.host = host;
+        this.name = name;
+        this.tasks = new Runnable [capacity];
+        this.queue = new int [capacity];
+    }
+
+
+    /**
+     * Create a new slot.
+     *
+     * @return The index of the slot to use with schedule
+     */
+    public synchronized int createSlot ()
+    {
+        if (this.numberOfSlots == this.tasks.length)
+            throw new IllegalStateException ("No more slots available in " + this.name + ".");
+        return this.numberOfSlots++;
+    }
+
+
+    /**
+     * Schedule a task for execution. A task which is still waiting for execution in the same slot is
+     * replaced. Tasks scheduled after shutdown are ignored.
+     *
+     * @param slot The slot, created with createSlot
+     * @param task The task to execute
+     */
+    public synchronized void schedule (final int slot, final Runnable task)
+    {
+        if (this.isShutdown)
+            return;
+
+        if (this.tasks[slot] == null)
+        {
+            this.queue[(this.queueStart + this.queueSize) % this.queue.length] = slot;
+            this.queueSize++;
+        }
+        else
+            this.supersededTasks++;
+        this.tasks[slot] = task;
+
+        if (this.thread == null)
+        {
+            this.thread = new Thread (this::run, this.name);
+            this.thread.setDaemon (true);
+            this.thread.start ();
+        }
+        this.notifyAll ();
+    }
+
+
+    /**
+     * Get the number of tasks which were replaced by a newer task before they were executed.
+     *
+     * @return The number of tasks
+     */
+    public synchronized long getSupersededTasks ()
+    {
+        return this.supersededTasks;
+    }
+
+
+    /**
+     * Get the number of tasks which wait for execution.
+     *
+     * @return The number of tasks
+     */
+    public synchronized int getQueuedTasks ()
+    {
+        return this.queueSize;
+    }
+
+
+    /**
+     * Executes all queued tasks and stops the thread. Waits at maximum for one second.
+     */
+    public void shutdown ()
+    {
+        final Thread t;
+        synchronized (this)
+        {
+            this.isShutdown = true;
+            this.notifyAll ();
+            t = this.thread;
+        }
+        if (t == null)
+            return;
+        try
+        {
+            t.join (SHUTDOWN_TIMEOUT);
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread ().interrupt ();
+        }
+    }
+
+
+    private void run ()
+    {
+        Runnable task;
+        while ((task = this.take ()) != null)
+        {
+            try
+            {
+                task.run ();
+            }
+            catch (final RuntimeException ex)
+            {
+                this.host.error ("Could not execute task of " + this.name + ".", ex);
+            }
+        }
+    }
+
+
+    private synchronized Runnable take ()
+    {
+        while (this.queueSize == 0)
+        {
+            if (this.isShutdown)
+                return null;
+            try
+            {
+                this.wait ();
+            }
+            catch (final InterruptedException ex)
+            {
+                return null;
+            }
+        }
+
+        final int slot = this.queue[this.queueStart];
+        this.queueStart = (this.queueStart + 1) % this.queue.length;
+        this.queueSize--;
+        final Runnable task = this.tasks[slot];
+        this.tasks[slot] = null;
+        return task;
+    }
+}
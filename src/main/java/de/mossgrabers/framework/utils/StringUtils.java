@@ -175,6 +175,22 @@ public class StringUtils
     }
 
 
+    /**
+     * Convert a hex string to bytes, e.g. "F0 7E 7F 06 01 F7".
+     *
+     * @param hex The hex string with 2 digits per byte separated by spaces
+     * @return The bytes
+     */
+    public static byte [] fromHexStr (final String hex)
+    {
+        final String [] values = hex.trim ().split (" +");
+        final byte [] data = new byte [values.length];
+        for (int i = 0; i < values.length; i++)
+            data[i] = (byte) Integer.parseInt (values[i], 16);
+        return data;
+    }
+
+
     /**
      * Format the given time as measure.quarters.eights.
      *
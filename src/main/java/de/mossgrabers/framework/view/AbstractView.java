@@ -17,8 +17,7 @@ import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 
 
 /**
@@ -31,26 +30,27 @@ import java.util.Map;
  */
 public abstract class AbstractView<S extends IControlSurface<C>, C extends Configuration> implements View
 {
-    private static final int []                   EMPTY_TABLE        = Scales.getEmptyMatrix ();
+    private static final int []  EMPTY_TABLE        = Scales.getEmptyMatrix ();
 
-    protected S                                   surface;
-    protected IModel                              model;
-    private AftertouchCommand                     aftertouchCommand;
-    private PitchbendCommand                      pitchbendCommand;
+    protected S                  surface;
+    protected IModel             model;
+    private AftertouchCommand    aftertouchCommand;
+    private PitchbendCommand     pitchbendCommand;
 
-    private final Map<Integer, TriggerCommand>    triggerCommands    = new HashMap<> ();
-    private final Map<Integer, TriggerCommand>    noteCommands       = new HashMap<> ();
-    private final Map<Integer, ContinuousCommand> continuousCommands = new HashMap<> ();
+    // Indexed by the command ID
+    private TriggerCommand []    triggerCommands    = new TriggerCommand [0];
+    private TriggerCommand []    noteCommands       = new TriggerCommand [0];
+    private ContinuousCommand [] continuousCommands = new ContinuousCommand [0];
 
-    protected boolean                             canScrollLeft;
-    protected boolean                             canScrollRight;
-    protected boolean                             canScrollUp;
-    protected boolean                             canScrollDown;
+    protected boolean            canScrollLeft;
+    protected boolean            canScrollRight;
+    protected boolean            canScrollUp;
+    protected boolean            canScrollDown;
 
-    protected Scales                              scales;
-    protected int []                              noteMap;
+    protected Scales             scales;
+    protected int []             noteMap;
 
-    private final String                          name;
+    private final String         name;
 
 
     /**
@@ -187,7 +187,9 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerTriggerCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.triggerCommands.put (commandID, command);
+        final int index = commandID.intValue ();
+        this.triggerCommands = ensureSize (this.triggerCommands, index);
+        this.triggerCommands[index] = command;
     }
 
 
@@ -195,7 +197,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeTriggerCommand (final Integer commandID, final ButtonEvent event)
     {
-        final TriggerCommand triggerCommand = this.triggerCommands.get (commandID);
+        final TriggerCommand triggerCommand = lookup (this.triggerCommands, commandID);
         if (triggerCommand != null)
             triggerCommand.execute (event);
     }
@@ -205,7 +207,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getTriggerCommand (final Integer commandID)
     {
-        return this.triggerCommands.get (commandID);
+        return lookup (this.triggerCommands, commandID);
     }
 
 
@@ -213,7 +215,9 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerContinuousCommand (final Integer commandID, final ContinuousCommand command)
     {
-        this.continuousCommands.put (commandID, command);
+        final int index = commandID.intValue ();
+        this.continuousCommands = ensureSize (this.continuousCommands, index);
+        this.continuousCommands[index] = command;
     }
 
 
@@ -221,7 +225,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public ContinuousCommand getContinuousCommand (final Integer commandID)
     {
-        return this.continuousCommands.get (commandID);
+        return lookup (this.continuousCommands, commandID);
     }
 
 
@@ -229,7 +233,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeContinuousCommand (final Integer commandID, final int value)
     {
-        final ContinuousCommand continuousCommand = this.continuousCommands.get (commandID);
+        final ContinuousCommand continuousCommand = lookup (this.continuousCommands, commandID);
         if (continuousCommand != null)
             continuousCommand.execute (value);
     }
@@ -239,7 +243,9 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerNoteCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.noteCommands.put (commandID, command);
+        final int index = commandID.intValue ();
+        this.noteCommands = ensureSize (this.noteCommands, index);
+        this.noteCommands[index] = command;
     }
 
 
@@ -247,7 +253,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeNoteCommand (final Integer commandID, final int value)
     {
-        final TriggerCommand command = this.noteCommands.get (commandID);
+        final TriggerCommand command = lookup (this.noteCommands, commandID);
         if (command != null)
             command.execute (value == 0 ? ButtonEvent.UP : ButtonEvent.DOWN);
     }
@@ -257,7 +263,20 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getNoteCommand (final Integer commandID)
     {
-        return this.noteCommands.get (commandID);
+        return lookup (this.noteCommands, commandID);
+    }
+
+
+    private static <T> T [] ensureSize (final T [] commands, final int index)
+    {
+        return index < commands.length ? commands : Arrays.copyOf (commands, index + 1);
+    }
+
+
+    private static <T> T lookup (final T [] commands, final Integer commandID)
+    {
+        final int index = commandID.intValue ();
+        return index >= 0 && index < commands.length ? commands[index] : null;
     }
 
 
@@ -22,12 +22,13 @@ import java.util.Map;
  */
 public class ViewManager
 {
-    private final Map<Integer, View>       views               = new HashMap<> ();
-    private final List<ViewChangeListener> viewChangeListeners = new ArrayList<> ();
-    private final Map<Integer, Integer>    preferredViews      = new HashMap<> ();
+    private final Map<Integer, View>       views                 = new HashMap<> ();
+    private final List<ViewChangeListener> viewChangeListeners   = new ArrayList<> ();
+    private final List<Runnable>           beforeChangeListeners = new ArrayList<> ();
+    private final Map<Integer, Integer>    preferredViews        = new HashMap<> ();
 
-    private Integer                        activeViewId        = Integer.valueOf (-1);
-    private Integer                        previousViewId      = Integer.valueOf (-1);
+    private Integer                        activeViewId          = Integer.valueOf (-1);
+    private Integer                        previousViewId        = Integer.valueOf (-1);
 
 
     /**
@@ -64,6 +65,9 @@ public class ViewManager
      */
     public void setActiveView (final Integer viewId)
     {
+        for (final Runnable listener: this.beforeChangeListeners)
+            listener.run ();
+
         // Deactivate current view
         View view = this.getActiveView ();
         if (view != null)
@@ -162,6 +166,18 @@ public class ViewManager
     }
 
 
+    /**
+     * Register a listener which gets notified before the active view changes, e.g. to send pending
+     * values to the view which is still active.
+     *
+     * @param listener The listener to register
+     */
+    public void addBeforeViewChangeListener (final Runnable listener)
+    {
+        this.beforeChangeListeners.add (listener);
+    }
+
+
     /**
      * Register a (global) trigger command for all views.
      *